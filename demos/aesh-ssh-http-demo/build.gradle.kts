@@ -13,6 +13,7 @@ demo {
 dependencies {
     implementation(projects.tambouiToolkit)
     implementation(projects.tambouiAeshBackend)
+    implementation(projects.tambouiWebBackend)
     implementation(libs.aesh.terminal.ssh)
     implementation(libs.aesh.terminal.http)
     
@@ -1,5 +1,6 @@
 //DEPS dev.tamboui:tamboui-toolkit:LATEST
 //DEPS dev.tamboui:tamboui-aesh-backend:LATEST
+//DEPS dev.tamboui:tamboui-web-backend:LATEST
 //DEPS org.aesh:terminal-ssh:3.1
 //DEPS org.aesh:terminal-http:3.1
 //DEPS org.apache.sshd:sshd-core:2.14.0
@@ -20,6 +21,8 @@ import org.aesh.terminal.http.netty.NettyWebsocketTtyBootstrap;
 import org.aesh.terminal.ssh.netty.NettySshTtyBootstrap;
 
 import dev.tamboui.backend.aesh.AeshBackend;
+import dev.tamboui.backend.web.WebBackend;
+import dev.tamboui.backend.web.WebSocketServer;
 import dev.tamboui.style.Color;
 import dev.tamboui.toolkit.app.ToolkitApp;
 import dev.tamboui.toolkit.app.ToolkitRunner;
@@ -39,6 +42,7 @@ import static dev.tamboui.toolkit.Toolkit.*;
  * <ul>
  *   <li>An SSH server on port 2222</li>
  *   <li>An HTTP/WebSocket server on port 8080</li>
+ *   <li>A browser viewer on port 8081, streaming binary cell diffs instead of ANSI</li>
  * </ul>
  * <p>
  * Connect via SSH:
@@ -46,6 +50,9 @@ import static dev.tamboui.toolkit.Toolkit.*;
  * <p>
  * Connect via WebSocket:
  * Open http://localhost:8080 in a browser with WebSocket terminal support
+ * <p>
+ * Connect via the binary browser viewer:
+ * Open http://localhost:8081 in a browser
  */
 public class AeshSshHttpDemo implements java.util.function.Consumer<Connection> {
 
@@ -59,10 +66,12 @@ public class AeshSshHttpDemo implements java.util.function.Consumer<Connection>
 
     private static final int SSH_PORT = 2222;
     private static final int HTTP_PORT = 8080;
+    private static final int WEB_PORT = 8081;
 
     // ==================== Shared State ====================
 
     private final ExecutorService executor = Executors.newCachedThreadPool();
+    private WebSocketServer webServer;
 
     // ==================== Main Entry Point ====================
 
@@ -79,6 +88,7 @@ public class AeshSshHttpDemo implements java.util.function.Consumer<Connection>
             System.out.println("TamboUI SSH/HTTP Demo started:");
             System.out.println("  SSH: ssh -p " + SSH_PORT + " user@localhost");
             System.out.println("  HTTP: http://localhost:" + HTTP_PORT);
+            System.out.println("  Web:  http://localhost:" + WEB_PORT);
             System.out.println("\nPress Ctrl+C to stop...");
             
             // Keep running until interrupted
@@ -95,6 +105,7 @@ public class AeshSshHttpDemo implements java.util.function.Consumer<Connection>
     private void start() throws Exception {
         startSshServer();
         startHttpServer();
+        startWebServer();
     }
 
     // ==================== SSH-Specific Server Setup ====================
@@ -135,6 +146,22 @@ public class AeshSshHttpDemo implements java.util.function.Consumer<Connection>
         }
     }
 
+    // ==================== Browser Viewer Setup ====================
+
+    /**
+     * Starts the embedded server of the web backend, which streams binary
+     * cell diffs to its bundled canvas renderer instead of ANSI text.
+     */
+    private void startWebServer() {
+        try {
+            webServer = WebSocketServer.start("localhost", WEB_PORT, this::runBrowserApp);
+            System.out.println("Web server started on port " + WEB_PORT);
+        } catch (Exception e) {
+            System.err.println("Could not start web server: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
     // ==================== Shared Connection Handling ====================
 
     /**
@@ -182,9 +209,30 @@ public class AeshSshHttpDemo implements java.util.function.Consumer<Connection>
         }
     }
 
+    /**
+     * Runs the TUI application for a browser viewer session.
+     */
+    private void runBrowserApp(WebBackend backend) {
+        TuiConfig config = TuiConfig.builder()
+            .backend(backend)
+            .mouseCapture(true)
+            .build();
+        try (ToolkitRunner runner = ToolkitRunner.create(config)) {
+            backend.onDisconnect(runner::quit);
+            var app = new DemoApp();
+            runner.run(() -> app.render());
+        } catch (Exception e) {
+            System.err.println("Error running TUI app: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
     // ==================== Shared Cleanup ====================
 
     private void stop() {
+        if (webServer != null) {
+            webServer.close();
+        }
         // Shutdown executor - servers will be stopped when JVM exits
         executor.shutdown();
         try {
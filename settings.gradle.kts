@@ -9,8 +9,10 @@ val modules = listOf(
     "tamboui-jline3-backend",
     "tamboui-panama-backend",
     "tamboui-aesh-backend",
+    "tamboui-web-backend",
     "tamboui-tui",
     "tamboui-picocli",
+    "tamboui-jfr",
     "tamboui-toolkit",
     "tamboui-annotations",
     "tamboui-processor",
@@ -18,6 +20,7 @@ val modules = listOf(
     "tamboui-tfx-tui",
     "tamboui-tfx-toolkit",
     "tamboui-demos",
+    "tamboui-benchmarks",
     "docs"
 )
 
@@ -7,9 +7,10 @@ package dev.tamboui.backend.aesh;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.aesh.terminal.Connection;
 import org.aesh.terminal.tty.Point;
@@ -18,26 +19,51 @@ import org.aesh.terminal.tty.TerminalConnection;
 import dev.tamboui.layout.Position;
 import dev.tamboui.layout.Size;
 import dev.tamboui.terminal.AbstractBackend;
-import dev.tamboui.terminal.Mode2027Status;
+import dev.tamboui.terminal.BackpressureAware;
+import dev.tamboui.terminal.IntRingBuffer;
 import dev.tamboui.terminal.Mode2027Support;
+import dev.tamboui.terminal.OutputStatistics;
+import dev.tamboui.terminal.TerminalCapabilities;
+import dev.tamboui.terminal.TerminalProbe;
 
 /**
  * Aesh Readline based backend for terminal operations.
  * <p>
  * This backend uses the aesh-readline library's TerminalConnection abstraction
  * for terminal I/O operations.
+ * <p>
+ * Input code points are kept in a primitive ring buffer, so keystrokes, pastes
+ * and mouse reports are never boxed. Output is accumulated per frame and handed
+ * to the connection in a single {@link Connection#write(String)} call on
+ * {@link #flush()}.
+ * <p>
+ * Flushed frames are written by a dedicated writer thread, so a slow SSH or
+ * WebSocket client never blocks the render thread. The backend reports the
+ * output still in flight through {@link BackpressureAware}, which lets the
+ * runner drop intermediate frames until the connection catches up.
+ * The total output handed to the connection is reported through
+ * {@link OutputStatistics}.
  */
-public class AeshBackend extends AbstractBackend {
+public class AeshBackend extends AbstractBackend implements BackpressureAware, OutputStatistics {
 
     private static final String ESC = "\033";
     private static final String CSI = ESC + "[";
+    private static final long CLOSE_DRAIN_TIMEOUT_MS = 2000;
 
     private final Connection connection;
     private final StringBuilder outputBuffer;
-    private final BlockingQueue<Integer> inputQueue;
+    private final IntRingBuffer inputBuffer;
+    private final ExecutorService writer;
+    private final AtomicLong bytesInFlight;
+    private volatile long lastWriteLatencyNanos;
+    private volatile long bytesWritten;
+    private volatile long writeCount;
+    private volatile RuntimeException writeFailure;
+    private volatile Runnable drainListener;
     private boolean inAlternateScreen;
     private boolean mouseEnabled;
     private boolean mode2027Enabled;
+    private volatile TerminalCapabilities capabilities = TerminalCapabilities.NONE;
     private Runnable resizeHandler;
 
     /**
@@ -61,17 +87,19 @@ public class AeshBackend extends AbstractBackend {
         this.connection = Objects.requireNonNull(connection, "connection cannot be null");
         this.connection.openNonBlocking();
         this.outputBuffer = new StringBuilder();
-        this.inputQueue = new LinkedBlockingQueue<>();
+        this.inputBuffer = new IntRingBuffer();
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "aesh-backend-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.bytesInFlight = new AtomicLong();
         this.inAlternateScreen = false;
         this.mouseEnabled = false;
         this.mode2027Enabled = false;
 
         // Set up input handler to queue characters
-        connection.setStdinHandler(ints -> {
-            for (int codePoint : ints) {
-                inputQueue.offer(codePoint);
-            }
-        });
+        connection.setStdinHandler(inputBuffer::offer);
 
         // Set up resize handler
         connection.setSizeHandler(size -> {
@@ -81,12 +109,95 @@ public class AeshBackend extends AbstractBackend {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The queued output is handed to the writer thread as a single
+     * {@link Connection#write(String)} call; this method does not wait
+     * for the connection to accept it.
+     *
+     * @throws IOException if a previous write to the connection failed
+     */
     @Override
     public void flush() throws IOException {
-        if (outputBuffer.length() > 0) {
-            connection.write(outputBuffer.toString());
-            outputBuffer.setLength(0);
+        RuntimeException failure = writeFailure;
+        if (failure != null) {
+            throw new IOException("Failed to write to connection", failure);
         }
+        if (outputBuffer.length() == 0) {
+            return;
+        }
+        String data = outputBuffer.toString();
+        outputBuffer.setLength(0);
+        long bytes = utf8Length(data);
+        bytesWritten += bytes;
+        writeCount++;
+        if (writer.isShutdown()) {
+            connection.write(data);
+            return;
+        }
+        bytesInFlight.addAndGet(bytes);
+        writer.execute(() -> write(data, bytes));
+    }
+
+    private void write(String data, long bytes) {
+        long start = System.nanoTime();
+        try {
+            connection.write(data);
+        } catch (RuntimeException e) {
+            writeFailure = e;
+        } finally {
+            lastWriteLatencyNanos = System.nanoTime() - start;
+        }
+        if (bytesInFlight.addAndGet(-bytes) == 0) {
+            Runnable listener = drainListener;
+            if (listener != null) {
+                listener.run();
+            }
+        }
+    }
+
+    private static long utf8Length(String s) {
+        long length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public long bytesInFlight() {
+        return bytesInFlight.get();
+    }
+
+    @Override
+    public long lastWriteLatencyNanos() {
+        return lastWriteLatencyNanos;
+    }
+
+    @Override
+    public void onDrain(Runnable listener) {
+        this.drainListener = listener;
+    }
+
+    @Override
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public long writeCount() {
+        return writeCount;
     }
 
     @Override
@@ -106,16 +217,36 @@ public class AeshBackend extends AbstractBackend {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When frame output is already queued, the sequence is sent together with
+     * it on the next {@link #flush()} so the frame still reaches the connection
+     * in a single write.
+     */
     @Override
     public void showCursor() throws IOException {
-        outputBuffer.append(CSI).append("?25h");
-        flush();
+        appendCursorControl("?25h");
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When frame output is already queued, the sequence is sent together with
+     * it on the next {@link #flush()} so the frame still reaches the connection
+     * in a single write.
+     */
     @Override
     public void hideCursor() throws IOException {
-        outputBuffer.append(CSI).append("?25l");
-        flush();
+        appendCursorControl("?25l");
+    }
+
+    private void appendCursorControl(String sequence) throws IOException {
+        boolean standalone = outputBuffer.length() == 0;
+        outputBuffer.append(CSI).append(sequence);
+        if (standalone) {
+            flush();
+        }
     }
 
     @Override
@@ -148,9 +279,11 @@ public class AeshBackend extends AbstractBackend {
     @Override
     public void enableRawMode() throws IOException {
         connection.enterRawMode();
-        // Query and enable Mode 2027 (grapheme cluster mode) after entering raw mode
-        Mode2027Status status = Mode2027Support.query(this, 500);
-        if (status.isSupported()) {
+        // Probe the remote terminal after entering raw mode; the on-disk cache
+        // and the process-wide capabilities describe the local terminal, so
+        // the result is only kept on this backend
+        capabilities = TerminalProbe.probeWithoutCache(this, 500);
+        if (capabilities.mode2027().isSupported()) {
             Mode2027Support.enable(this);
             mode2027Enabled = true;
         }
@@ -277,32 +410,21 @@ public class AeshBackend extends AbstractBackend {
     @Override
     public int read(int timeoutMs) throws IOException {
         try {
-            Integer ch = null;
-            if (timeoutMs < 0) {
-                // Blocking read
-                ch = inputQueue.take();
-            } else if (timeoutMs == 0) {
-                // Non-blocking read
-                ch = inputQueue.poll();
-            } else {
-                // Timeout read
-                ch = inputQueue.poll(timeoutMs, TimeUnit.MILLISECONDS);
-            }
-
-            if (ch == null) {
-                return -2;  // Timeout
-            }
-            return ch;
+            return inputBuffer.poll(timeoutMs);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            return -2;
+            return IntRingBuffer.TIMEOUT;
         }
     }
 
     @Override
     public int peek(int timeoutMs) throws IOException {
-        Integer val = inputQueue.peek(); // TODO: we just return if nothing in the queue - do we need to wait?
-        return val == null ? -2 : val;
+        try {
+            return inputBuffer.peek(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return IntRingBuffer.TIMEOUT;
+        }
     }
 
     @Override
@@ -324,6 +446,12 @@ public class AeshBackend extends AbstractBackend {
 
             flush();
         } finally {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(CLOSE_DRAIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
             connection.close();
         }
     }
@@ -336,4 +464,14 @@ public class AeshBackend extends AbstractBackend {
     public Connection terminalConnection() {
         return connection;
     }
+
+    /**
+     * Returns the capabilities of the remote terminal, probed when raw mode
+     * is enabled.
+     *
+     * @return the capabilities, or {@link TerminalCapabilities#NONE} before raw mode is enabled
+     */
+    public TerminalCapabilities capabilities() {
+        return capabilities;
+    }
 }
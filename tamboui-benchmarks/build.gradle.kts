@@ -0,0 +1,107 @@
+plugins {
+    id("dev.tamboui.java-base")
+}
+
+description = "JMH benchmarks for the TamboUI render pipeline"
+
+dependencies {
+    implementation(projects.tambouiCore)
+    implementation(testFixtures(projects.tambouiCore))
+    implementation(projects.tambouiWidgets)
+    implementation(projects.tambouiCss)
+    implementation(projects.tambouiTui)
+    implementation(projects.tambouiToolkit)
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator.annprocess)
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    // Sources generated by the JMH annotation processor are not lint-clean
+    options.compilerArgs.remove("-Werror")
+}
+
+tasks.withType<Javadoc>().configureEach {
+    // Benchmarks are not published
+    enabled = false
+}
+
+/*
+ * Runs the benchmarks and writes machine-readable results to
+ * build/reports/jmh/results.json, which can be compared across commits.
+ *
+ *   ./gradlew :tamboui-benchmarks:jmh
+ *   ./gradlew :tamboui-benchmarks:jmh -Pjmh.includes=Buffer -Pjmh.args="-f 1 -wi 2 -i 3"
+ */
+val jmhResults = layout.buildDirectory.file("reports/jmh/results.json")
+val jmhIncludes = providers.gradleProperty("jmh.includes").orElse(".*")
+val jmhArgs = providers.gradleProperty("jmh.args").orElse("")
+
+tasks.register<JavaExec>("jmh") {
+    description = "Runs the JMH benchmarks"
+    group = "benchmark"
+    mainClass = "org.openjdk.jmh.Main"
+    classpath = sourceSets.main.get().runtimeClasspath
+    outputs.file(jmhResults)
+    outputs.upToDateWhen { false }
+    argumentProviders.add(CommandLineArgumentProvider {
+        val results = jmhResults.get().asFile
+        results.parentFile.mkdirs()
+        listOf(jmhIncludes.get(), "-rf", "json", "-rff", results.absolutePath) +
+            jmhArgs.get().split(" ").filter { it.isNotBlank() }
+    })
+}
+
+/*
+ * Replays the tapes of tapes/ headlessly against their demo and prints
+ * frames per second, frame time percentiles, bytes written and allocation rate.
+ *
+ *   ./gradlew :tamboui-benchmarks:tapeBenchmarks
+ *   ./gradlew :tamboui-benchmarks:tapeBenchmarkJtop -Ptape.args="--size 200x60 --warmup 5"
+ */
+val tapeDemos by configurations.creating {
+    isCanBeResolved = true
+    isCanBeConsumed = false
+    attributes {
+        val runtimeClasspath = configurations.runtimeClasspath.get()
+        runtimeClasspath.attributes.keySet().forEach {
+            val key: Attribute<Any> = it as Attribute<Any>
+            // Demos target a newer Java version than the benchmarks
+            if (!TargetJvmVersion.TARGET_JVM_VERSION_ATTRIBUTE.equals(key)) {
+                attribute(key, runtimeClasspath.attributes.getAttribute(it)!!)
+            }
+        }
+    }
+}
+
+val tapes = mapOf(
+    "jtop" to Pair(":tamboui-toolkit:demos:jtop-demo", "dev.tamboui.demo.JTopDemo"),
+    "table" to Pair(":tamboui-widgets:demos:table-demo", "dev.tamboui.demo.TableDemo"),
+    "tree" to Pair(":tamboui-toolkit:demos:tree-demo", "dev.tamboui.demo.tree.TreeDemo"),
+    "tfx" to Pair(":tamboui-tfx:demos:tfx-demo", "dev.tamboui.demo.TFXEffectsDemo")
+)
+val tapeArgs = providers.gradleProperty("tape.args").orElse("")
+
+dependencies {
+    tapes.values.forEach { (demo, _) -> tapeDemos(project(demo)) }
+}
+
+val tapeBenchmarks = tasks.register("tapeBenchmarks") {
+    description = "Replays every tape against its demo"
+    group = "benchmark"
+}
+
+tapes.forEach { (name, demo) ->
+    val task = tasks.register<JavaExec>("tapeBenchmark${name.replaceFirstChar { it.uppercase() }}") {
+        description = "Replays tapes/$name.tape against ${demo.second}"
+        group = "benchmark"
+        mainClass = "dev.tamboui.benchmarks.tape.TapeBenchmark"
+        classpath = sourceSets.main.get().runtimeClasspath + tapeDemos
+        jvmArgs("--enable-native-access=ALL-UNNAMED")
+        outputs.upToDateWhen { false }
+        argumentProviders.add(CommandLineArgumentProvider {
+            tapeArgs.get().split(" ").filter { it.isNotBlank() } +
+                listOf(file("tapes/$name.tape").absolutePath, demo.second)
+        })
+    }
+    tapeBenchmarks.configure { dependsOn(task) }
+}
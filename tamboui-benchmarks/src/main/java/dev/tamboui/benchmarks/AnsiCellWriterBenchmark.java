@@ -0,0 +1,87 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.terminal.AnsiCellWriter;
+
+/**
+ * Benchmarks ANSI encoding of cell updates, as done by the terminal backends.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnsiCellWriterBenchmark {
+
+    private List<CellUpdate> fullRepaint;
+    private List<CellUpdate> incremental;
+    private StringBuilder out;
+
+    /**
+     * Prepares the updates of a full repaint and of an incremental frame.
+     */
+    @Setup
+    public void setUp() {
+        Buffer previous = Screens.dashboard(0);
+        fullRepaint = Buffer.empty(previous.area()).diff(previous);
+        incremental = previous.diff(Screens.dashboard(1));
+        out = new StringBuilder(64 * 1024);
+    }
+
+    /**
+     * Encodes every cell of the screen.
+     *
+     * @return the encoded length
+     */
+    @Benchmark
+    public int fullRepaint() {
+        return encode(fullRepaint);
+    }
+
+    /**
+     * Encodes the cells of a typical incremental frame.
+     *
+     * @return the encoded length
+     */
+    @Benchmark
+    public int incremental() {
+        return encode(incremental);
+    }
+
+    private int encode(List<CellUpdate> updates) {
+        out.setLength(0);
+        int lastX = -1;
+        int lastY = -1;
+        try (AnsiCellWriter writer = new AnsiCellWriter(out::append)) {
+            for (CellUpdate update : updates) {
+                if (update.y() != lastY || update.x() != lastX + 1) {
+                    out.append("\u001b[").append(update.y() + 1).append(';').append(update.x() + 1).append('H');
+                }
+                writer.writeCell(update.cell());
+                lastX = update.x();
+                lastY = update.y();
+            }
+        }
+        return out.length();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.style.Color;
+import dev.tamboui.style.Style;
+import dev.tamboui.text.Line;
+import dev.tamboui.text.Span;
+
+/**
+ * Benchmarks the {@link Buffer} primitives every frame goes through:
+ * writing strings and lines, and diffing against the previous frame.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BufferBenchmark {
+
+    private static final Style STYLE = Style.EMPTY.fg(Color.CYAN).bold();
+
+    private Buffer target;
+    private String row;
+    private Line line;
+    private Buffer previous;
+    private Buffer unchanged;
+    private Buffer sparse;
+    private Buffer full;
+
+    /**
+     * Prepares the buffers and content.
+     */
+    @Setup
+    public void setUp() {
+        target = Buffer.empty(Rect.of(Screens.WIDTH, Screens.HEIGHT));
+        row = Screens.pad(" The quick brown fox jumps over the lazy dog, 0123456789", Screens.WIDTH);
+        line = Line.from(
+            Span.styled(" status ", STYLE),
+            Span.raw("connected to 10.0.0.1 "),
+            Span.styled("│ 42 ms ", Style.EMPTY.fg(Color.GREEN)),
+            Span.raw("日本語のテキスト"));
+        previous = Screens.dashboard(0);
+        unchanged = Screens.dashboard(0);
+        sparse = Screens.dashboard(1);
+        full = Buffer.empty(previous.area());
+        for (int y = 0; y < Screens.HEIGHT; y++) {
+            full.setString(0, y, row, STYLE);
+        }
+    }
+
+    /**
+     * Writes a full-width string to every row.
+     *
+     * @return the target buffer
+     */
+    @Benchmark
+    public Buffer setString() {
+        for (int y = 0; y < Screens.HEIGHT; y++) {
+            target.setString(0, y, row, STYLE);
+        }
+        return target;
+    }
+
+    /**
+     * Writes a multi-span line with wide characters to every row.
+     *
+     * @return the target buffer
+     */
+    @Benchmark
+    public Buffer setLine() {
+        for (int y = 0; y < Screens.HEIGHT; y++) {
+            target.setLine(0, y, line);
+        }
+        return target;
+    }
+
+    /**
+     * Diffs two identical frames.
+     *
+     * @return the updates
+     */
+    @Benchmark
+    public List<CellUpdate> diffUnchanged() {
+        return previous.diff(unchanged);
+    }
+
+    /**
+     * Diffs two frames differing in one column of values.
+     *
+     * @return the updates
+     */
+    @Benchmark
+    public List<CellUpdate> diffSparse() {
+        return previous.diff(sparse);
+    }
+
+    /**
+     * Diffs two frames differing in every cell.
+     *
+     * @return the updates
+     */
+    @Benchmark
+    public List<CellUpdate> diffFull() {
+        return previous.diff(full);
+    }
+}
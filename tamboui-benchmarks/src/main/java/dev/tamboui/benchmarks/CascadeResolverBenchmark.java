@@ -0,0 +1,124 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.css.Styleable;
+import dev.tamboui.css.cascade.CascadeResolver;
+import dev.tamboui.css.cascade.CssStyleResolver;
+import dev.tamboui.css.cascade.PseudoClassState;
+import dev.tamboui.css.model.Stylesheet;
+import dev.tamboui.css.parser.CssParser;
+
+/**
+ * Benchmarks {@link CascadeResolver#resolve} for an element nested a few
+ * levels deep against a theme-sized stylesheet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CascadeResolverBenchmark {
+
+    private CascadeResolver resolver;
+    private Stylesheet stylesheet;
+    private Styleable element;
+    private List<Styleable> ancestors;
+
+    /**
+     * Parses the stylesheet and builds the element chain.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder css = new StringBuilder();
+        css.append("$fg: #d0d0d0;\n$accent: cyan;\n");
+        css.append("* { color: $fg; background: #1e1e1e; }\n");
+        css.append("Panel { border-type: rounded; border-color: $accent; }\n");
+        css.append("Panel:focus { border-color: yellow; }\n");
+        css.append("#sidebar Row TextElement { color: gray; }\n");
+        css.append(".error { color: red; text-style: bold; }\n");
+        css.append("Panel > Row > .label { text-style: italic; }\n");
+        for (int i = 0; i < 60; i++) {
+            css.append(".c").append(i).append(" { color: #").append(String.format("%06x", i * 0x030507)).append("; }\n");
+            css.append("Panel.c").append(i).append(" TextElement { padding: ").append(i % 3).append("; }\n");
+        }
+        stylesheet = CssParser.parse(css.toString());
+        resolver = new CascadeResolver();
+
+        Node root = new Node("Panel", "sidebar", Collections.<String>emptySet(), null);
+        Node row = new Node("Row", null, classes("c3"), root);
+        element = new Node("TextElement", null, classes("label", "error", "c42"), row);
+        ancestors = Arrays.<Styleable>asList(root, row);
+    }
+
+    /**
+     * Resolves the computed style of the innermost element.
+     *
+     * @return the resolved style
+     */
+    @Benchmark
+    public CssStyleResolver resolve() {
+        return resolver.resolve(element, PseudoClassState.NONE, ancestors,
+            stylesheet.rules(), stylesheet.variables());
+    }
+
+    private static Set<String> classes(String... names) {
+        return new HashSet<>(Arrays.asList(names));
+    }
+
+    private static final class Node implements Styleable {
+        private final String type;
+        private final String id;
+        private final Set<String> classes;
+        private final Styleable parent;
+
+        Node(String type, String id, Set<String> classes, Styleable parent) {
+            this.type = type;
+            this.id = id;
+            this.classes = classes;
+            this.parent = parent;
+        }
+
+        @Override
+        public String styleType() {
+            return type;
+        }
+
+        @Override
+        public Optional<String> cssId() {
+            return Optional.ofNullable(id);
+        }
+
+        @Override
+        public Set<String> cssClasses() {
+            return classes;
+        }
+
+        @Override
+        public Optional<Styleable> cssParent() {
+            return Optional.ofNullable(parent);
+        }
+    }
+}
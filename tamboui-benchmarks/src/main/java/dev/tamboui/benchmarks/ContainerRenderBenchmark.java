@@ -0,0 +1,160 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.terminal.Frame;
+import dev.tamboui.toolkit.element.DefaultRenderContext;
+import dev.tamboui.toolkit.Toolkit;
+import dev.tamboui.toolkit.element.Element;
+
+import static dev.tamboui.toolkit.Toolkit.column;
+import static dev.tamboui.toolkit.Toolkit.panel;
+import static dev.tamboui.toolkit.Toolkit.row;
+import static dev.tamboui.toolkit.Toolkit.text;
+
+/**
+ * Benchmarks rendering of the {@code Grid} and {@code Flow} containers with
+ * a screenful of children, and of nested rows and columns, with and without
+ * the per-frame measure cache of the render context, and memoized.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContainerRenderBenchmark {
+
+    private static final int CHILDREN = 120;
+
+    /**
+     * Whether renders run within a frame of the render context, which measures
+     * each element once per available space.
+     */
+    @Param({"false", "true"})
+    public boolean measureCache;
+
+    private Buffer buffer;
+    private Frame frame;
+    private DefaultRenderContext context;
+    private Element grid;
+    private Element flow;
+    private Element nested;
+    private Element memoized;
+
+    /**
+     * Prepares the element trees and the target buffer.
+     */
+    @Setup
+    public void setUp() {
+        buffer = Buffer.empty(Rect.of(Screens.WIDTH, Screens.HEIGHT));
+        frame = Frame.forTesting(buffer);
+        context = DefaultRenderContext.createEmpty();
+
+        List<Element> gridChildren = new ArrayList<>();
+        List<Element> flowChildren = new ArrayList<>();
+        for (int i = 0; i < CHILDREN; i++) {
+            gridChildren.add(panel("Cell " + i, text("value " + (i * 17))));
+            flowChildren.add(text("[tag-" + i + "]"));
+        }
+        grid = Toolkit.grid(gridChildren).gridSize(8).gutter(1);
+        flow = Toolkit.flow(flowChildren).spacing(1);
+
+        List<Element> columns = new ArrayList<>();
+        for (int c = 0; c < 4; c++) {
+            List<Element> rows = new ArrayList<>();
+            for (int r = 0; r < 6; r++) {
+                rows.add(row(text("key " + r).fit(), column(text("value " + (c * 6 + r)), text("detail"))));
+            }
+            columns.add(panel("Column " + c, column(rows.toArray(new Element[0]))));
+        }
+        nested = row(columns.toArray(new Element[0]));
+        memoized = Toolkit.memo("nested", () -> nested);
+    }
+
+    /**
+     * Renders an 8-column grid of bordered panels.
+     *
+     * @return the buffer
+     */
+    @Benchmark
+    public Buffer grid() {
+        buffer.clear();
+        render(grid);
+        return buffer;
+    }
+
+    /**
+     * Renders a wrapping flow of short labels.
+     *
+     * @return the buffer
+     */
+    @Benchmark
+    public Buffer flow() {
+        buffer.clear();
+        render(flow);
+        return buffer;
+    }
+
+    /**
+     * Renders rows of panels holding nested rows and columns of labels, which
+     * measure their descendants at every level.
+     *
+     * @return the buffer
+     */
+    @Benchmark
+    public Buffer nested() {
+        buffer.clear();
+        render(nested);
+        return buffer;
+    }
+
+    /**
+     * Renders the nested rows and columns through a memoized element, which
+     * copies the cells of its first rendering.
+     *
+     * @return the buffer
+     */
+    @Benchmark
+    public Buffer memoized() {
+        buffer.clear();
+        render(memoized);
+        return buffer;
+    }
+
+    private void render(Element root) {
+        // Same per-frame reset as ToolkitRunner
+        context.focusManager().clearFocusables();
+        context.eventRouter().beginFrame();
+        if (!measureCache) {
+            root.render(frame, buffer.area(), context);
+            return;
+        }
+        context.beginFrame();
+        try {
+            root.render(frame, buffer.area(), context);
+        } finally {
+            context.endFrame();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.terminal.TestBackend;
+import dev.tamboui.tui.bindings.BindingSets;
+import dev.tamboui.tui.bindings.Bindings;
+import dev.tamboui.tui.event.Event;
+import dev.tamboui.tui.event.EventParser;
+
+/**
+ * Benchmarks {@link EventParser} on a mix of typed characters, navigation
+ * keys and SGR mouse reports.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventParserBenchmark {
+
+    private static final String INPUT = "hello"
+        + "\u001b[A\u001b[B\u001b[1;5C\u001b[3~"
+        + "\u001b[<0;12;7M\u001b[<0;12;7m\u001b[<35;40;10M"
+        + "\u001bOP\t\r\u007f";
+
+    private ScriptedBackend backend;
+    private Bindings bindings;
+
+    /**
+     * Prepares the input script.
+     */
+    @Setup
+    public void setUp() {
+        backend = new ScriptedBackend(INPUT);
+        bindings = BindingSets.defaults();
+    }
+
+    /**
+     * Parses the next event, wrapping around at the end of the script.
+     *
+     * @return the event
+     * @throws IOException never, the backend is in memory
+     */
+    @Benchmark
+    public Event readEvent() throws IOException {
+        if (backend.atEnd()) {
+            backend.rewind();
+        }
+        return EventParser.readEvent(backend, 0, bindings);
+    }
+
+    /**
+     * Test backend replaying a fixed input script.
+     */
+    static final class ScriptedBackend extends TestBackend {
+        private final int[] input;
+        private int position;
+
+        ScriptedBackend(String script) {
+            super(Screens.WIDTH, Screens.HEIGHT);
+            this.input = script.codePoints().toArray();
+        }
+
+        boolean atEnd() {
+            return position >= input.length;
+        }
+
+        void rewind() {
+            position = 0;
+        }
+
+        @Override
+        public int read(int timeoutMs) {
+            return position < input.length ? input[position++] : -2;
+        }
+
+        @Override
+        public int peek(int timeoutMs) {
+            return position < input.length ? input[position] : -2;
+        }
+    }
+}
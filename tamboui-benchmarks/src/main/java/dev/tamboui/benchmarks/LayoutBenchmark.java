@@ -0,0 +1,102 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Layout;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
+
+/**
+ * Benchmarks {@link Layout#split(Rect)} with and without hits in the layout cache,
+ * and splitting into a reusable {@link SplitResult}.
+ * <p>
+ * Misses cycle through more distinct areas than the cache holds, so every
+ * split runs the constraint solver.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LayoutBenchmark {
+
+    private static final int DISTINCT_AREAS = 4096;
+
+    private Layout layout;
+    private Rect area;
+    private Rect[] areas;
+    private SplitResult result;
+    private int next;
+
+    /**
+     * Prepares a layout mixing the common constraint kinds.
+     */
+    @Setup
+    public void setUp() {
+        layout = Layout.horizontal()
+            .constraints(
+                Constraint.length(20),
+                Constraint.percentage(30),
+                Constraint.fill(),
+                Constraint.min(10),
+                Constraint.ratio(1, 4),
+                Constraint.fill(2))
+            .spacing(1);
+        area = new Rect(0, 0, Screens.WIDTH, Screens.HEIGHT);
+        areas = new Rect[DISTINCT_AREAS];
+        for (int i = 0; i < DISTINCT_AREAS; i++) {
+            areas[i] = new Rect(0, 0, 100 + i, Screens.HEIGHT);
+        }
+        result = new SplitResult();
+    }
+
+    /**
+     * Splits the same area every time.
+     *
+     * @return the split areas
+     */
+    @Benchmark
+    public List<Rect> cacheHit() {
+        return layout.split(area);
+    }
+
+    /**
+     * Splits the same area every time into the same holder, allocating nothing.
+     *
+     * @return the holder
+     */
+    @Benchmark
+    public SplitResult cacheHitIntoHolder() {
+        return layout.split(area, result);
+    }
+
+    /**
+     * Splits a different area every time.
+     *
+     * @return the split areas
+     */
+    @Benchmark
+    public List<Rect> cacheMiss() {
+        Rect target = areas[next];
+        next = (next + 1) % DISTINCT_AREAS;
+        return layout.split(target);
+    }
+}
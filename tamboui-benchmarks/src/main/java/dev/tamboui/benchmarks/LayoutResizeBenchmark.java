@@ -0,0 +1,95 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Flex;
+import dev.tamboui.layout.cassowary.LayoutSolver;
+
+/**
+ * Simulates a window resize drag: every frame solves the same layouts for
+ * a new width, so the layout cache never helps.
+ * <p>
+ * One operation is a 200-step drag through three nested layouts whose
+ * constraints compete, solved either from scratch or by re-optimizing the
+ * systems kept from the previous step.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LayoutResizeBenchmark {
+
+    private static final int STEPS = 200;
+    private static final int MIN_WIDTH = 80;
+
+    /**
+     * The engine solving the layouts.
+     */
+    @Param({"EXACT", "DOUBLE"})
+    public LayoutSolver.Engine engine;
+
+    /**
+     * Whether each step re-optimizes the previous step's systems.
+     */
+    @Param({"false", "true"})
+    public boolean incremental;
+
+    private List<Constraint> columns;
+    private List<Constraint> sidebar;
+    private List<Constraint> toolbar;
+    private LayoutSolver solver;
+
+    /**
+     * Prepares the layouts of a typical screen, sized by the dragged width.
+     */
+    @Setup
+    public void setUp() {
+        columns = Arrays.asList(
+            Constraint.length(30), Constraint.percentage(40), Constraint.min(30),
+            Constraint.fill(), Constraint.max(20), Constraint.ratio(1, 3));
+        sidebar = Arrays.asList(
+            Constraint.min(12), Constraint.percentage(60), Constraint.max(25), Constraint.length(8));
+        toolbar = Arrays.asList(
+            Constraint.length(10), Constraint.length(10), Constraint.fill(2),
+            Constraint.min(20), Constraint.length(10), Constraint.percentage(25));
+        solver = new LayoutSolver(engine, incremental);
+    }
+
+    /**
+     * Drags the width from 80 to 279 columns, one column per frame.
+     *
+     * @return a checksum of the computed sizes
+     */
+    @Benchmark
+    public int drag() {
+        int checksum = 0;
+        for (int step = 0; step < STEPS; step++) {
+            int width = MIN_WIDTH + step;
+            checksum += solver.solve(columns, width, 1, Flex.START)[0];
+            checksum += solver.solve(sidebar, width / 3, 0, Flex.START)[0];
+            checksum += solver.solve(toolbar, width, 1, Flex.START)[0];
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Flex;
+import dev.tamboui.layout.cassowary.LayoutSolver;
+
+/**
+ * Compares the simplex engines of {@link LayoutSolver}, bypassing the layout cache.
+ * <p>
+ * The constraints compete at every width solved (the minimum of the fill
+ * segments does not fit in their share), so every solve runs the simplex
+ * rather than the direct allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LayoutSolverBenchmark {
+
+    private static final int MIN_WIDTH = 80;
+    private static final int WIDTHS = 200;
+
+    /**
+     * The engine under test.
+     */
+    @Param({"EXACT", "DOUBLE"})
+    public LayoutSolver.Engine engine;
+
+    private List<Constraint> constraints;
+    private LayoutSolver solver;
+    private int next;
+
+    /**
+     * Prepares competing constraints of every kind the solver weighs.
+     */
+    @Setup
+    public void setUp() {
+        constraints = Arrays.asList(
+            Constraint.length(30),
+            Constraint.percentage(40),
+            Constraint.min(30),
+            Constraint.fill(),
+            Constraint.max(20),
+            Constraint.ratio(1, 3));
+        solver = new LayoutSolver(engine);
+    }
+
+    /**
+     * Solves the constraints for a different width every time.
+     *
+     * @return the computed sizes
+     */
+    @Benchmark
+    public int[] solve() {
+        int width = MIN_WIDTH + next;
+        next = (next + 1) % WIDTHS;
+        return solver.solve(constraints, width, 1, Flex.START);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.style.Color;
+import dev.tamboui.style.Style;
+
+/**
+ * Shared screen content for the benchmarks.
+ */
+final class Screens {
+
+    static final int WIDTH = 200;
+    static final int HEIGHT = 60;
+
+    private static final Style TITLE = Style.EMPTY.fg(Color.CYAN).bold();
+    private static final Style BODY = Style.EMPTY.fg(Color.rgb(200, 200, 200)).bg(Color.indexed(236));
+    private static final Style OK = Style.EMPTY.fg(Color.GREEN);
+
+    private Screens() {
+    }
+
+    /**
+     * Returns a dashboard-like screen; frames with a different tick differ in
+     * one column of values, like a typical incremental update.
+     */
+    static Buffer dashboard(int tick) {
+        Buffer buffer = Buffer.empty(Rect.of(WIDTH, HEIGHT));
+        buffer.setString(0, 0, pad(" Dashboard", WIDTH), TITLE);
+        for (int y = 1; y < HEIGHT; y++) {
+            String row = String.format(" row %3d  value %6d  status ", y, y * 31 + tick);
+            int x = buffer.setString(0, y, row, BODY);
+            buffer.setString(x, y, y % 3 == 0 ? "ok  " : "idle", OK);
+            buffer.setString(x + 4, y, pad("", WIDTH - x - 4), BODY);
+        }
+        return buffer;
+    }
+
+    static String pad(String s, int width) {
+        StringBuilder sb = new StringBuilder(s);
+        while (sb.length() < width) {
+            sb.append(' ');
+        }
+        return sb.toString();
+    }
+}
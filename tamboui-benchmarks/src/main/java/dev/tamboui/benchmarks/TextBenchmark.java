@@ -0,0 +1,89 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.style.Overflow;
+import dev.tamboui.text.MarkupParser;
+import dev.tamboui.text.Text;
+import dev.tamboui.widgets.paragraph.Paragraph;
+
+/**
+ * Benchmarks text handling: {@link MarkupParser#parse(String)} and
+ * {@link Paragraph} rendering with word wrapping.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TextBenchmark {
+
+    private String markup;
+    private Paragraph paragraph;
+    private Buffer buffer;
+
+    /**
+     * Prepares the markup source and the paragraph to wrap.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            sb.append("[bold]Item ").append(i).append("[/bold]: [red]error[/red] in ")
+                .append("[link=https://example.com/").append(i).append("]module-").append(i).append("[/link] ")
+                .append("[italic cyan]took ").append(i * 3).append(" ms[/] :thumbs_up:\n");
+        }
+        markup = sb.toString();
+
+        StringBuilder prose = new StringBuilder();
+        for (int i = 0; i < 60; i++) {
+            prose.append("Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor ")
+                .append("incididunt ut labore et dolore magna aliqua. 日本語も折り返します。 ");
+        }
+        paragraph = Paragraph.builder()
+            .text(Text.from(prose.toString()))
+            .overflow(Overflow.WRAP_WORD)
+            .build();
+        buffer = Buffer.empty(Rect.of(80, Screens.HEIGHT));
+    }
+
+    /**
+     * Parses forty lines of markup with nested styles, links and emoji codes.
+     *
+     * @return the parsed text
+     */
+    @Benchmark
+    public Text parseMarkup() {
+        return MarkupParser.parse(markup);
+    }
+
+    /**
+     * Renders a long paragraph word-wrapped to 80 columns.
+     *
+     * @return the buffer
+     */
+    @Benchmark
+    public Buffer wrapParagraph() {
+        buffer.clear();
+        paragraph.render(buffer.area(), buffer);
+        return buffer;
+    }
+}
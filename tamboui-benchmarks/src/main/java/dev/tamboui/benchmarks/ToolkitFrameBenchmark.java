@@ -0,0 +1,124 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.tamboui.terminal.TestBackend;
+import dev.tamboui.toolkit.app.ToolkitRunner;
+import dev.tamboui.toolkit.element.Element;
+import dev.tamboui.tui.TuiConfig;
+
+import static dev.tamboui.toolkit.Toolkit.*;
+
+/**
+ * Benchmarks a complete {@link ToolkitRunner} frame against a {@link TestBackend}:
+ * element tree construction, focus and event registration, rendering,
+ * buffer diff and the backend write.
+ * <p>
+ * Every invocation increments a counter shown in the UI, so each frame has a
+ * small incremental change to diff, like a ticking application.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ToolkitFrameBenchmark {
+
+    private IdleBackend backend;
+    private ToolkitRunner runner;
+    private int tick;
+
+    /**
+     * Creates the runner.
+     *
+     * @throws Exception if the runner cannot be created
+     */
+    @Setup
+    public void setUp() throws Exception {
+        backend = new IdleBackend();
+        runner = ToolkitRunner.create(TuiConfig.builder()
+            .backend(backend)
+            .rawMode(false)
+            .alternateScreen(false)
+            .hideCursor(false)
+            .shutdownHook(false)
+            .noTick()
+            .build());
+    }
+
+    /**
+     * Closes the runner.
+     */
+    @TearDown
+    public void tearDown() {
+        runner.close();
+    }
+
+    /**
+     * Renders one frame.
+     */
+    @Benchmark
+    public void frame() {
+        tick++;
+        runner.draw(this::ui);
+        backend.reset();
+    }
+
+    private Element ui() {
+        List<Element> rows = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            rows.add(row(
+                text("service-" + i).length(20),
+                text(i % 7 == 0 ? "degraded" : "healthy").length(10),
+                gauge(((tick + i) % 100) / 100.0).fill()));
+        }
+        return column(
+            panel("Status", text("Tick " + tick)).length(3),
+            row(
+                panel("Services", column(rows.toArray(new Element[0]))).fill(),
+                panel("Details", column(
+                    text("Selected: service-" + (tick % 40)),
+                    text("Requests: " + tick * 13),
+                    text("Errors: " + tick % 5))).length(40)).fill());
+    }
+
+    /**
+     * Test backend whose reads block for the poll timeout, so the runner's
+     * input thread stays idle instead of spinning.
+     */
+    static final class IdleBackend extends TestBackend {
+
+        IdleBackend() {
+            super(Screens.WIDTH, Screens.HEIGHT);
+        }
+
+        @Override
+        public int read(int timeoutMs) {
+            try {
+                Thread.sleep(Math.max(timeoutMs, 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return -2;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks.tape;
+
+import java.util.concurrent.TimeUnit;
+
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.internal.record.TapeReplay;
+import dev.tamboui.layout.Position;
+import dev.tamboui.layout.Size;
+import dev.tamboui.terminal.AnsiCellWriter;
+import dev.tamboui.terminal.Backend;
+import dev.tamboui.terminal.ThreadAllocations;
+import dev.tamboui.tui.metrics.Histogram;
+import dev.tamboui.tui.metrics.HistogramSnapshot;
+
+/**
+ * Headless backend that feeds a tape as input and measures the frames drawn.
+ * <p>
+ * A frame starts at the first {@link #size()} call after the previous flush,
+ * which is how {@link dev.tamboui.terminal.Terminal#draw} begins, and ends at
+ * {@link #flush()}. Cell updates are encoded to ANSI like a terminal backend
+ * would, only to count the bytes that would have been written.
+ * <p>
+ * Input is read as fast as the application asks for it, except that a
+ * {@code Sleep} following some input holds the next input back until a frame
+ * started after that input has been drawn, or for at most
+ * {@value #MAX_FRAME_WAIT_MS} ms, so that every step of the tape is rendered. Once the tape is finished, the backend types {@code q} then {@code Ctrl+C}
+ * so that the application quits.
+ */
+final class TapeBackend implements Backend {
+
+    private static final int[] QUIT_KEYS = {'q', 3};
+    private static final long IDLE_SLEEP_MS = 10;
+    private static final long MAX_FRAME_WAIT_MS = 100;
+
+    private final TapeReplay tape;
+    private final Size size;
+    private final Histogram frameNanos = new Histogram(TimeUnit.MINUTES.toNanos(1), 6);
+    private final StringBuilder encoded = new StringBuilder(16 * 1024);
+    private final AnsiCellWriter writer = new AnsiCellWriter(encoded::append);
+
+    private final Object inputLock = new Object();
+    private int quitKeysSent;
+    private long awaitedFrame = -1;
+    private long inputFrame = -1;
+    private long awaitDeadlineNanos;
+    private volatile long startedFrames;
+    private volatile long flushedFrames;
+    private volatile boolean closed;
+
+    private long frameStartNanos;
+    private long frameStartAllocated = -1;
+    private long firstFrameNanos;
+    private long lastFrameNanos;
+    private long frames;
+    private long bytesWritten;
+    private long allocatedBytes;
+
+    TapeBackend(TapeReplay tape, Size size) {
+        this.tape = tape;
+        this.size = size;
+    }
+
+    /**
+     * Returns whether the tape is finished and the quit keys have been read.
+     */
+    boolean isDone() {
+        synchronized (inputLock) {
+            return closed || quitKeysSent == QUIT_KEYS.length;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the measurements so far.
+     */
+    synchronized TapeReport report(String name) {
+        HistogramSnapshot snapshot = frameNanos.snapshot();
+        return new TapeReport(name, frames, lastFrameNanos - firstFrameNanos, tape.elapsedMillis(),
+                snapshot.valueAtPercentile(50), snapshot.valueAtPercentile(99), snapshot.max(),
+                bytesWritten, allocatedBytes);
+    }
+
+    @Override
+    public synchronized Size size() {
+        if (frameStartNanos == 0) {
+            frameStartAllocated = ThreadAllocations.currentThread();
+            frameStartNanos = System.nanoTime();
+            startedFrames++;
+        }
+        return size;
+    }
+
+    @Override
+    public synchronized void draw(Iterable<CellUpdate> updates) {
+        encoded.setLength(0);
+        int nextX = -1;
+        int nextY = -1;
+        for (CellUpdate update : updates) {
+            if (update.x() != nextX || update.y() != nextY) {
+                encoded.append("\033[").append(update.y() + 1).append(';').append(update.x() + 1).append('H');
+            }
+            writer.writeCell(update.cell());
+            nextX = update.x() + 1;
+            nextY = update.y();
+        }
+        bytesWritten += utf8Length(encoded);
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (frameStartNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        frameNanos.record(now - frameStartNanos);
+        if (frames == 0) {
+            firstFrameNanos = frameStartNanos;
+        }
+        lastFrameNanos = now;
+        frames++;
+        flushedFrames = frames;
+        if (frameStartAllocated >= 0) {
+            allocatedBytes += ThreadAllocations.currentThread() - frameStartAllocated;
+        }
+        frameStartNanos = 0;
+    }
+
+    @Override
+    public synchronized void writeRaw(byte[] data) {
+        bytesWritten += data.length;
+    }
+
+    @Override
+    public int read(int timeoutMs) {
+        long sleepMs = IDLE_SLEEP_MS;
+        synchronized (inputLock) {
+            if (awaitedFrame >= 0 && flushedFrames < awaitedFrame && System.nanoTime() < awaitDeadlineNanos) {
+                sleepMs = 1;
+            } else if (!tape.isFinished() || quitKeysSent < QUIT_KEYS.length) {
+                awaitedFrame = -1;
+                return nextInput();
+            }
+        }
+        idle(sleepMs, timeoutMs);
+        return -2;
+    }
+
+    private int nextInput() {
+        if (!tape.isFinished()) {
+            int next = tape.read();
+            if (next >= 0) {
+                inputFrame = startedFrames;
+            } else if (inputFrame >= 0) {
+                awaitedFrame = inputFrame + 1;
+                awaitDeadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_FRAME_WAIT_MS);
+                inputFrame = -1;
+            }
+            return next;
+        }
+        return QUIT_KEYS[quitKeysSent++];
+    }
+
+    @Override
+    public int peek(int timeoutMs) {
+        synchronized (inputLock) {
+            return tape.peek();
+        }
+    }
+
+    private static void idle(long sleepMs, int timeoutMs) {
+        try {
+            Thread.sleep(Math.min(sleepMs, Math.max(0, timeoutMs)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void clear() {
+        // Headless
+    }
+
+    @Override
+    public void showCursor() {
+        // Headless
+    }
+
+    @Override
+    public void hideCursor() {
+        // Headless
+    }
+
+    @Override
+    public Position getCursorPosition() {
+        return Position.ORIGIN;
+    }
+
+    @Override
+    public void setCursorPosition(Position position) {
+        // Headless
+    }
+
+    @Override
+    public void enterAlternateScreen() {
+        // Headless
+    }
+
+    @Override
+    public void leaveAlternateScreen() {
+        // Headless
+    }
+
+    @Override
+    public void enableRawMode() {
+        // Headless
+    }
+
+    @Override
+    public void disableRawMode() {
+        // Headless
+    }
+
+    @Override
+    public void onResize(Runnable handler) {
+        // The size never changes
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    private static long utf8Length(CharSequence s) {
+        long length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks.tape;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import dev.tamboui.terminal.Backend;
+import dev.tamboui.terminal.BackendProvider;
+
+/**
+ * Provides the backend of the tape being replayed by {@link TapeBenchmark}.
+ * <p>
+ * Selected with {@code -Dtamboui.backend=tape}, which {@link TapeBenchmark}
+ * sets before starting the application. Outside of a benchmark run there is
+ * no tape and creating a backend fails, so that other providers are used.
+ */
+public final class TapeBackendProvider implements BackendProvider {
+
+    /**
+     * The name of this provider.
+     */
+    public static final String NAME = "tape";
+
+    private static final AtomicReference<TapeBackend> NEXT = new AtomicReference<>();
+
+    /**
+     * Creates the provider; used by the service loader.
+     */
+    public TapeBackendProvider() {
+    }
+
+    static void install(TapeBackend backend) {
+        NEXT.set(backend);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Backend create() throws IOException {
+        TapeBackend backend = NEXT.getAndSet(null);
+        if (backend == null) {
+            throw new IOException("No tape is being replayed; run the application through TapeBenchmark");
+        }
+        return backend;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks.tape;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import dev.tamboui.internal.record.TapeReplay;
+import dev.tamboui.layout.Size;
+import dev.tamboui.tui.time.TimeSource;
+
+/**
+ * Replays a VHS tape against an application, headless and as fast as it
+ * renders, and reports its throughput.
+ * <p>
+ * The application is started by calling its {@code main} method; it must
+ * create its backend with {@link dev.tamboui.terminal.BackendFactory}, which
+ * is given a {@link TapeBackend} through the {@code tape} provider. The
+ * {@code Sleep} commands of the tape advance a virtual clock instead of
+ * sleeping; see {@link TapeBackend} for how input and frames are paced.
+ * Since a virtual {@code Sleep} lasts at most a few frames, the runner's
+ * clock is fast-forwarded through the {@value TimeSource#PROPERTY} system
+ * property, so that animations driven by ticks still progress during it.
+ * <p>
+ * Usage:
+ * <pre>
+ * TapeBenchmark [--size 120x40] [--warmup 2] [--timeout 60] [--speed 10] &lt;tape&gt; &lt;main class&gt; [args...]
+ * </pre>
+ * Warmup replays are not reported; they let the JIT compile the render path
+ * before the measured replay. The report gives frames per second, p50, p99 and
+ * maximum frame times, the ANSI bytes that would have been written and the
+ * allocation rate of the rendering thread.
+ */
+public final class TapeBenchmark {
+
+    // A tape Sleep of one second is replayed in about 100 ms
+    private static final double DEFAULT_SPEED = 10;
+
+    private TapeBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args the command line arguments
+     * @throws Exception if the application cannot be started or fails
+     */
+    public static void main(String[] args) throws Exception {
+        Size size = new Size(120, 40);
+        int warmup = 2;
+        long timeoutSeconds = 60;
+        double speed = DEFAULT_SPEED;
+        int i = 0;
+        while (i < args.length && args[i].startsWith("--")) {
+            String option = args[i++];
+            if (i >= args.length) {
+                usage("missing value for " + option);
+            }
+            String value = args[i++];
+            switch (option) {
+                case "--size":
+                    size = parseSize(value);
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(value);
+                    break;
+                case "--timeout":
+                    timeoutSeconds = Long.parseLong(value);
+                    break;
+                case "--speed":
+                    speed = Double.parseDouble(value);
+                    break;
+                default:
+                    usage("unknown option " + option);
+            }
+        }
+        if (args.length - i < 2) {
+            usage("a tape and a main class are required");
+        }
+        Path tape = Paths.get(args[i]);
+        Method main = Class.forName(args[i + 1]).getMethod("main", String[].class);
+        String[] appArgs = Arrays.copyOfRange(args, i + 2, args.length);
+
+        System.setProperty("tamboui.backend", TapeBackendProvider.NAME);
+        System.setProperty(TimeSource.PROPERTY, "fast:" + speed);
+        String name = tapeName(tape);
+        for (int run = 0; run < warmup; run++) {
+            replay(tape, size, main, appArgs, timeoutSeconds);
+        }
+        TapeReport report = replay(tape, size, main, appArgs, timeoutSeconds).report(name);
+        System.out.println(report.format());
+        System.exit(0);
+    }
+
+    private static TapeBackend replay(Path tape, Size size, Method main, String[] args, long timeoutSeconds)
+            throws Exception {
+        TapeBackend backend = new TapeBackend(TapeReplay.load(tape), size);
+        TapeBackendProvider.install(backend);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread app = new Thread(() -> {
+            try {
+                main.invoke(null, (Object) args);
+            } catch (InvocationTargetException e) {
+                failure.set(e.getCause());
+            } catch (IllegalAccessException e) {
+                failure.set(e);
+            }
+        }, "tape-benchmark-app");
+        app.setDaemon(true);
+        app.start();
+        app.join(TimeUnit.SECONDS.toMillis(timeoutSeconds));
+        if (failure.get() != null) {
+            throw new IllegalStateException("Application failed while replaying " + tape, failure.get());
+        }
+        if (app.isAlive()) {
+            String state = backend.isDone() ? "did not quit after the tape" : "did not finish the tape";
+            throw new IllegalStateException("Application " + state + " within " + timeoutSeconds + "s: " + tape);
+        }
+        return backend;
+    }
+
+    private static Size parseSize(String value) {
+        int x = value.indexOf('x');
+        if (x < 0) {
+            usage("size must be WIDTHxHEIGHT: " + value);
+        }
+        return new Size(Integer.parseInt(value.substring(0, x)), Integer.parseInt(value.substring(x + 1)));
+    }
+
+    private static String tapeName(Path tape) {
+        String fileName = tape.getFileName().toString();
+        return fileName.endsWith(".tape") ? fileName.substring(0, fileName.length() - 5) : fileName;
+    }
+
+    private static void usage(String error) {
+        System.err.println("Error: " + error);
+        System.err.println("Usage: TapeBenchmark [--size 120x40] [--warmup 2] [--timeout 60] [--speed 10] <tape> <main class> [args...]");
+        System.exit(2);
+    }
+}
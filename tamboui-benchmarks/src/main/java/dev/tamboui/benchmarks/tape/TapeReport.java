@@ -0,0 +1,70 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.benchmarks.tape;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measurements of one replay of a tape.
+ */
+final class TapeReport {
+
+    private final String name;
+    private final long frames;
+    private final long wallNanos;
+    private final long tapeMillis;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+    private final long bytesWritten;
+    private final long allocatedBytes;
+
+    TapeReport(String name, long frames, long wallNanos, long tapeMillis,
+               long p50Nanos, long p99Nanos, long maxNanos, long bytesWritten, long allocatedBytes) {
+        this.name = name;
+        this.frames = frames;
+        this.wallNanos = wallNanos;
+        this.tapeMillis = tapeMillis;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+        this.bytesWritten = bytesWritten;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Returns the frames drawn per second of wall-clock time, from the start
+     * of the first frame to the end of the last one.
+     */
+    double framesPerSecond() {
+        return wallNanos > 0 ? frames * (double) TimeUnit.SECONDS.toNanos(1) / wallNanos : 0;
+    }
+
+    /**
+     * Returns the bytes allocated per second by the rendering thread while drawing.
+     */
+    double allocationRate() {
+        return wallNanos > 0 ? allocatedBytes * (double) TimeUnit.SECONDS.toNanos(1) / wallNanos : 0;
+    }
+
+    /**
+     * Formats the report as a single line.
+     */
+    String format() {
+        return String.format(Locale.ROOT,
+                "%-12s frames %6d  fps %9.1f  p50 %8.3f ms  p99 %8.3f ms  max %8.3f ms  "
+                        + "bytes %,12d (%,d/frame)  alloc %,10.1f MB/s (%,d B/frame)  wall %,d ms  tape %,d ms",
+                name, frames, framesPerSecond(),
+                millis(p50Nanos), millis(p99Nanos), millis(maxNanos),
+                bytesWritten, frames > 0 ? bytesWritten / frames : 0,
+                allocationRate() / (1024 * 1024), frames > 0 ? allocatedBytes / frames : 0,
+                TimeUnit.NANOSECONDS.toMillis(wallNanos), tapeMillis);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
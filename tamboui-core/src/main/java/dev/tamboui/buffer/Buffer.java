@@ -472,6 +472,28 @@ public final class Buffer {
         }
     }
 
+    /**
+     * Copies the cells of an area of another buffer into the same area of this
+     * buffer, with one bulk array copy per row.
+     * <p>
+     * Unlike {@link #merge(Buffer, int, int)}, cells keep their coordinates, and
+     * only the part of the area covered by both buffers is copied.
+     *
+     * @param source the buffer to copy from
+     * @param area the area to copy
+     */
+    public void copyFrom(Buffer source, Rect area) {
+        Rect region = this.area.intersection(source.area).intersection(area);
+        if (region.isEmpty()) {
+            return;
+        }
+        int x = region.left();
+        int width = region.width();
+        for (int y = region.top(); y < region.bottom(); y++) {
+            System.arraycopy(source.content, source.index(x, y), content, index(x, y), width);
+        }
+    }
+
     /**
      * Creates a deep copy of this buffer.
      *
@@ -0,0 +1,272 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.internal.cache;
+
+import java.util.Arrays;
+
+/**
+ * A segment of a bounded cache: a hash table with segmented LRU eviction,
+ * guarded by its own lock.
+ *
+ * <p>Caches spread their entries over several segments, selected by the high
+ * bits of the {@linkplain #mix(long) mixed} hash of their keys, so that a
+ * lookup allocates nothing and threads rarely contend. Subclasses hold the
+ * keys and values in their entries, find them by walking the
+ * {@linkplain #bucket(int) bucket} of a hash, and call {@link #touch(Node)}
+ * on a hit and {@link #insert(Node)} on a miss, while holding the lock of
+ * the segment.
+ *
+ * <p>Entries are linked in two circular lists, most recently used first:
+ * probation, where new entries start, and protected, where entries move when
+ * hit. When protected grows past its share, its least recently used entry goes
+ * back to probation; evictions take the least recently used entry of
+ * probation. A burst of entries used once thus cannot flush the entries used
+ * repeatedly.
+ *
+ * @param <E> the type of the entries
+ */
+public abstract class CacheSegment<E extends CacheSegment.Node<E>> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 8;
+
+    private final int capacity;
+    private final int protectedCapacity;
+    private final Node<E>[] table;
+    private final Node<E> probation = new Sentinel<>();
+    private final Node<E> protectedEntries = new Sentinel<>();
+    private int size;
+    private int protectedSize;
+
+    /**
+     * Creates a segment holding up to the given number of entries.
+     *
+     * @param capacity the maximum number of entries
+     */
+    @SuppressWarnings("unchecked")
+    protected CacheSegment(int capacity) {
+        this.capacity = capacity;
+        this.protectedCapacity = capacity * 4 / 5;
+        this.table = (Node<E>[]) new Node<?>[Integer.highestOneBit(Math.max(1, capacity)) * 2];
+    }
+
+    /**
+     * Returns the number of segments to spread the given number of entries over.
+     *
+     * @param maximumSize the maximum number of entries of the cache
+     * @return a power of two
+     */
+    public static int segmentCount(int maximumSize) {
+        return Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maximumSize / MIN_SEGMENT_SIZE)));
+    }
+
+    /**
+     * Returns the capacity of a segment, sharing the entries of the cache evenly.
+     *
+     * @param maximumSize the maximum number of entries of the cache
+     * @param count       the number of segments
+     * @param index       the index of the segment
+     * @return the capacity of the segment
+     */
+    public static int segmentCapacity(int maximumSize, int count, int index) {
+        return maximumSize / count + (index < maximumSize % count ? 1 : 0);
+    }
+
+    /**
+     * Returns the index of the segment of a hash.
+     *
+     * @param hash  the mixed hash of a key
+     * @param count the number of segments, a power of two
+     * @return the index of the segment
+     */
+    public static int segmentIndex(int hash, int count) {
+        return (hash >>> 16) & (count - 1);
+    }
+
+    /**
+     * Spreads every bit of a hash over the whole hash, with the finalizer of MurmurHash3.
+     *
+     * @param hash the hash to mix
+     * @return the mixed hash
+     */
+    public static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Returns the maximum number of entries of this segment.
+     *
+     * @return the capacity
+     */
+    protected final int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the first entry whose hash falls in the same bucket as the given one.
+     *
+     * <p>The other entries of the bucket follow through {@link Node#chained()}.
+     *
+     * @param hash the mixed hash of a key
+     * @return the first entry of the bucket, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    protected final E bucket(int hash) {
+        return (E) table[hash & (table.length - 1)];
+    }
+
+    /**
+     * Marks an entry as hit, protecting it from the eviction of entries used once.
+     *
+     * @param entry an entry of this segment
+     */
+    protected final void touch(E entry) {
+        unlink(entry);
+        if (!entry.isProtected && protectedCapacity > 0) {
+            if (protectedSize == protectedCapacity) {
+                Node<E> demoted = protectedEntries.previous;
+                unlink(demoted);
+                demoted.isProtected = false;
+                linkFirst(probation, demoted);
+            } else {
+                protectedSize++;
+            }
+            entry.isProtected = true;
+        }
+        linkFirst(entry.isProtected ? protectedEntries : probation, entry);
+    }
+
+    /**
+     * Adds an entry, evicting the least recently used one when the segment is full.
+     *
+     * <p>A segment of capacity 0 keeps nothing and evicts the entry itself.
+     *
+     * @param entry an entry absent from this segment
+     * @return the evicted entry, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    protected final E insert(E entry) {
+        if (capacity == 0) {
+            return entry;
+        }
+        E evicted = null;
+        if (size == capacity) {
+            evicted = (E) (probation.previous != probation ? probation.previous : protectedEntries.previous);
+            remove(evicted);
+        }
+        int index = entry.hash & (table.length - 1);
+        entry.chain = bucket(entry.hash);
+        table[index] = entry;
+        linkFirst(probation, entry);
+        size++;
+        return evicted;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the entry count
+     */
+    public final synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public final synchronized void clear() {
+        Arrays.fill(table, null);
+        probation.next = probation;
+        probation.previous = probation;
+        protectedEntries.next = protectedEntries;
+        protectedEntries.previous = protectedEntries;
+        size = 0;
+        protectedSize = 0;
+    }
+
+    private void remove(E entry) {
+        int index = entry.hash & (table.length - 1);
+        if (table[index] == entry) {
+            table[index] = entry.chain;
+        } else {
+            E before = bucket(entry.hash);
+            while (before.chain != entry) {
+                before = before.chain;
+            }
+            before.chain = entry.chain;
+        }
+        unlink(entry);
+        if (entry.isProtected) {
+            protectedSize--;
+        }
+        size--;
+    }
+
+    private static <E extends Node<E>> void unlink(Node<E> entry) {
+        entry.previous.next = entry.next;
+        entry.next.previous = entry.previous;
+    }
+
+    private static <E extends Node<E>> void linkFirst(Node<E> list, Node<E> entry) {
+        entry.previous = list;
+        entry.next = list.next;
+        list.next.previous = entry;
+        list.next = entry;
+    }
+
+    /**
+     * The base class of the entries of a segment, holding the links of its bucket and recency lists.
+     *
+     * @param <E> the type of the entries
+     */
+    public abstract static class Node<E extends Node<E>> {
+        final int hash;
+        E chain;
+        Node<E> previous;
+        Node<E> next;
+        boolean isProtected;
+
+        /**
+         * Creates an entry.
+         *
+         * @param hash the mixed hash of the key
+         */
+        protected Node(int hash) {
+            this.hash = hash;
+        }
+
+        /**
+         * Returns the mixed hash of the key.
+         *
+         * @return the hash
+         */
+        public final int hash() {
+            return hash;
+        }
+
+        /**
+         * Returns the next entry of the same bucket.
+         *
+         * @return the next entry, or {@code null}
+         */
+        public final E chained() {
+            return chain;
+        }
+    }
+
+    private static final class Sentinel<E extends Node<E>> extends Node<E> {
+        Sentinel() {
+            super(0);
+            Node<E> self = this;
+            self.previous = self;
+            self.next = self;
+        }
+    }
+}
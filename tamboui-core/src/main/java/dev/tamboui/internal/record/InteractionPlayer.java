@@ -32,10 +32,24 @@ final class InteractionPlayer {
     private int currentIndex = 0;
     private long waitUntilNanos = 0;
     private final Buffer buffer;
+    private final boolean virtualTime;
+    private long virtualNanos = 0;
 
     InteractionPlayer(List<Interaction> interactions, Buffer buffer) {
+        this(interactions, buffer, false);
+    }
+
+    /**
+     * Creates a player.
+     *
+     * @param interactions the interactions to play
+     * @param buffer the buffer to export screenshots from, or null to skip screenshots
+     * @param virtualTime whether waits advance a virtual clock instead of sleeping
+     */
+    InteractionPlayer(List<Interaction> interactions, Buffer buffer, boolean virtualTime) {
         this.interactions = interactions;
         this.buffer = buffer;
+        this.virtualTime = virtualTime;
     }
 
     /**
@@ -383,6 +397,13 @@ final class InteractionPlayer {
         return currentIndex >= interactions.size() && pendingBytes.isEmpty();
     }
 
+    /**
+     * Returns the time spent in waits so far, when waits use a virtual clock.
+     */
+    long virtualMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(virtualNanos);
+    }
+
     /**
      * Peeks at the next byte without consuming it.
      *
@@ -432,6 +453,10 @@ final class InteractionPlayer {
 
             if (interaction instanceof Interaction.Wait) {
                 Interaction.Wait wait = (Interaction.Wait) interaction;
+                if (virtualTime) {
+                    virtualNanos += TimeUnit.MILLISECONDS.toNanos(wait.millis());
+                    return -2; // Timeout to trigger redraw
+                }
                 waitUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(wait.millis());
                 return -2; // Timeout to trigger redraw
             } else if (interaction instanceof Interaction.KeyPress) {
@@ -440,7 +465,7 @@ final class InteractionPlayer {
                 if (!pendingBytes.isEmpty()) {
                     return pendingBytes.poll();
                 }
-            } else if (interaction instanceof Interaction.Screenshot) {
+            } else if (interaction instanceof Interaction.Screenshot && buffer != null) {
                 Interaction.Screenshot screenshot = (Interaction.Screenshot) interaction;
                 try {
                     Files.createDirectories(screenshot.path().getParent());
@@ -0,0 +1,77 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.internal.record;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * Replays a VHS tape as terminal input, as fast as it is read.
+ * <p>
+ * Unlike the recording backend, {@code Sleep} commands do not block: they
+ * advance a virtual clock, reported by {@link #elapsedMillis()}, and are seen
+ * by the reader as a read timeout. {@code Screenshot} commands are ignored.
+ * This is an internal API and not part of the public contract.
+ */
+public final class TapeReplay {
+
+    private final InteractionPlayer player;
+
+    private TapeReplay(InteractionPlayer player) {
+        this.player = player;
+    }
+
+    /**
+     * Loads a tape file.
+     *
+     * @param tape the tape file
+     * @return the replay, positioned at the first interaction
+     * @throws NoSuchFileException if the tape does not exist
+     */
+    public static TapeReplay load(Path tape) throws NoSuchFileException {
+        if (!Files.exists(tape)) {
+            throw new NoSuchFileException(tape.toString());
+        }
+        return new TapeReplay(new InteractionPlayer(InteractionPlayer.loadFromFile(tape, tape), null, true));
+    }
+
+    /**
+     * Returns the next input byte.
+     *
+     * @return the next byte, or -2 when the tape waits or is finished
+     */
+    public int read() {
+        return player.nextByte(0);
+    }
+
+    /**
+     * Returns the next input byte without consuming it.
+     *
+     * @return the next byte of the current key, or -2 if there is none
+     */
+    public int peek() {
+        int next = player.peekByte();
+        return next < 0 ? -2 : next;
+    }
+
+    /**
+     * Returns whether every interaction of the tape has been read.
+     *
+     * @return true if the tape is finished
+     */
+    public boolean isFinished() {
+        return player.isFinished();
+    }
+
+    /**
+     * Returns the virtual time spent in the tape's waits so far.
+     *
+     * @return the elapsed virtual time in milliseconds
+     */
+    public long elapsedMillis() {
+        return player.virtualMillis();
+    }
+}
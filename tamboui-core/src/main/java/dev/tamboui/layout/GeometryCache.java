@@ -0,0 +1,194 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import dev.tamboui.internal.cache.CacheSegment;
+
+/**
+ * A bounded memo of the geometry a container resolves for an area.
+ *
+ * <p>Containers such as grids are typically rebuilt every frame with the same
+ * structure. Keying the resolved geometry by a value describing that structure
+ * (its <em>shape</em>: tracks, constraints, gutters, but not its children) and
+ * by the area lets every rebuilt instance reuse the cell rectangles of the
+ * previous frames instead of splitting its tracks again.
+ *
+ * <p>Entries are spread over independently locked segments, keyed by the hash
+ * of the shape and the coordinates of the area, so that a lookup allocates
+ * nothing and sessions rendering concurrently rarely contend. Each segment
+ * evicts with a segmented LRU policy, like the layout cache: geometry resolved
+ * once, during a resize drag for instance, is evicted before the geometry
+ * resolved every frame.
+ *
+ * <p>Shapes must be immutable and implement {@code equals} and {@code hashCode},
+ * ideally with a precomputed hash. Resolved values must be immutable, as they
+ * are shared by all threads.
+ *
+ * @param <S> the type of the shapes
+ * @param <V> the type of the resolved geometry
+ */
+public final class GeometryCache<S, V> {
+
+    private final Segment<S, V>[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache holding the geometry of up to the given number of shapes and areas.
+     *
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public GeometryCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        int count = CacheSegment.segmentCount(maximumSize);
+        this.segments = (Segment<S, V>[]) new Segment<?, ?>[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(CacheSegment.segmentCapacity(maximumSize, count, i));
+        }
+    }
+
+    /**
+     * Returns the geometry of a shape in an area, resolving it on first use.
+     *
+     * <p>Nothing is allocated when the geometry is cached, provided the resolver
+     * does not capture variables.
+     *
+     * @param shape    the structure of the container
+     * @param area     the area the container is rendered in
+     * @param resolver computes the geometry on a miss, outside of any lock
+     * @return the cached geometry
+     */
+    public V get(S shape, Rect area, BiFunction<? super S, ? super Rect, ? extends V> resolver) {
+        int hash = hash(shape.hashCode(), area);
+        Segment<S, V> segment = segments[CacheSegment.segmentIndex(hash, segments.length)];
+        V cached = segment.get(hash, shape, area);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        // Resolve outside the segment lock; a concurrent miss for the same key resolves it twice
+        V resolved = resolver.apply(shape, area);
+        return segment.put(hash, shape, area, resolved);
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that resolved the geometry.
+     *
+     * @return the miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<S, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        for (Segment<S, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private static int hash(int shapeHash, Rect area) {
+        long hash = CacheSegment.mix(shapeHash
+            + area.x() * 0x9E3779B97F4A7C15L
+            + area.y() * 0xC2B2AE3D27D4EB4FL
+            + area.width() * 0x165667B19E3779F9L
+            + area.height() * 0x27D4EB2F165667C5L);
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static final class Entry<S, V> extends CacheSegment.Node<Entry<S, V>> {
+        final S shape;
+        final int x;
+        final int y;
+        final int width;
+        final int height;
+        final V value;
+
+        Entry(int hash, S shape, Rect area, V value) {
+            super(hash);
+            this.shape = shape;
+            this.x = area.x();
+            this.y = area.y();
+            this.width = area.width();
+            this.height = area.height();
+            this.value = value;
+        }
+
+        boolean matches(int hash, S shape, Rect area) {
+            return hash() == hash
+                && x == area.x()
+                && y == area.y()
+                && width == area.width()
+                && height == area.height()
+                && (this.shape == shape || this.shape.equals(shape));
+        }
+    }
+
+    private static final class Segment<S, V> extends CacheSegment<Entry<S, V>> {
+
+        Segment(int capacity) {
+            super(capacity);
+        }
+
+        synchronized V get(int hash, S shape, Rect area) {
+            Entry<S, V> entry = find(hash, shape, area);
+            if (entry == null) {
+                return null;
+            }
+            touch(entry);
+            return entry.value;
+        }
+
+        synchronized V put(int hash, S shape, Rect area, V value) {
+            Entry<S, V> existing = find(hash, shape, area);
+            if (existing != null) {
+                return existing.value;
+            }
+            insert(new Entry<>(hash, shape, area, value));
+            return value;
+        }
+
+        private Entry<S, V> find(int hash, S shape, Rect area) {
+            for (Entry<S, V> entry = bucket(hash); entry != null; entry = entry.chained()) {
+                if (entry.matches(hash, shape, area)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -10,6 +10,8 @@ import java.util.List;
 
 import dev.tamboui.layout.cassowary.LayoutCache;
 import dev.tamboui.layout.cassowary.LayoutSolver;
+import dev.tamboui.terminal.FramePhase;
+import dev.tamboui.terminal.FrameTimer;
 
 import static dev.tamboui.util.CollectionUtil.listCopyOf;
 
@@ -44,11 +46,13 @@ public final class Layout {
     private final Margin margin;
     private final int spacing;
     private final Flex flex;
+    private final long fingerprint;
 
     private Layout(Direction direction, List<Constraint> constraints,
                    Margin margin, int spacing, Flex flex) {
         this.direction = direction;
         this.constraints = listCopyOf(constraints);
+        this.fingerprint = LayoutCache.fingerprint(this.constraints);
         this.margin = margin;
         this.spacing = spacing;
         this.flex = flex;
@@ -186,85 +190,147 @@ public final class Layout {
      * Split the given area according to this layout's constraints.
      *
      * <p>The method uses the Cassowary constraint solver to compute optimal sizes
-     * based on the provided constraints, then positions the resulting rectangles
+     * based on the provided constraints (allocating them directly when they do
+     * not compete with each other), then positions the resulting rectangles
      * according to the {@link Flex} mode.
      *
      * @param area the area to split
      * @return rectangles representing each split region, in order
+     * @see #split(Rect, SplitResult)
      */
     public List<Rect> split(Rect area) {
         if (constraints.isEmpty()) {
             return listCopyOf();
         }
+        int count = constraints.size();
+        int[] positions = new int[count];
+        int[] sizes = new int[count];
+        splitInto(area, positions, sizes);
 
-        // Apply margin first
         Rect inner = area.inner(margin);
+        List<Rect> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(direction == Direction.HORIZONTAL
+                ? new Rect(positions[i], inner.y(), sizes[i], inner.height())
+                : new Rect(inner.x(), positions[i], inner.width(), sizes[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Splits the given area into a reusable holder, without allocating once
+     * the holder is large enough.
+     *
+     * @param area   the area to split
+     * @param result the holder receiving the segments
+     * @return the holder
+     * @see SplitResult#acquire()
+     */
+    public SplitResult split(Rect area, SplitResult result) {
+        boolean horizontal = direction == Direction.HORIZONTAL;
+        int crossStart = horizontal ? area.y() + margin.top() : area.x() + margin.left();
+        int crossSize = horizontal
+            ? Math.max(0, area.height() - margin.verticalTotal())
+            : Math.max(0, area.width() - margin.horizontalTotal());
+        int[] positions = result.reset(direction, crossStart, crossSize, constraints.size());
+        splitAlong(area, positions, result.sizes());
+        return result;
+    }
+
+    /**
+     * Splits the given area into caller-provided arrays.
+     *
+     * <p>Each segment is described by its start and its size along the layout
+     * direction: x and width for a horizontal layout, y and height for a vertical
+     * one. Across the layout direction, every segment covers the area shrunk by
+     * the margin.
+     *
+     * @param area      the area to split
+     * @param positions receives the start of each segment
+     * @param sizes     receives the size of each segment
+     * @return the number of segments, which is the number of constraints
+     * @throws IllegalArgumentException if an array is shorter than the number of constraints
+     */
+    public int splitInto(Rect area, int[] positions, int[] sizes) {
+        int count = constraints.size();
+        if (positions.length < count || sizes.length < count) {
+            throw new IllegalArgumentException(
+                "Arrays of length " + positions.length + " and " + sizes.length
+                    + " cannot hold " + count + " segments");
+        }
+        return splitAlong(area, positions, sizes);
+    }
 
-        int available = direction == Direction.HORIZONTAL ? inner.width() : inner.height();
-        int totalSpacing = spacing * (constraints.size() - 1);
+    private int splitAlong(Rect area, int[] positions, int[] sizes) {
+        int count = constraints.size();
+        if (count == 0) {
+            return 0;
+        }
+
+        // Apply margin first
+        boolean horizontal = direction == Direction.HORIZONTAL;
+        int startPos = horizontal ? area.x() + margin.left() : area.y() + margin.top();
+        int available = horizontal
+            ? Math.max(0, area.width() - margin.horizontalTotal())
+            : Math.max(0, area.height() - margin.verticalTotal());
+        int totalSpacing = spacing * (count - 1);
         int distributable = Math.max(0, available - totalSpacing);
 
         // Use cached solver results, computing on miss
-        int[] sizes = LayoutCache.instance().computeIfAbsent(
-            constraints, distributable, spacing, flex,
-            () -> new LayoutSolver().solve(constraints, distributable, spacing, flex));
-
-        // Calculate total size used and remaining space for flex positioning
-        int totalSize = 0;
-        for (int size : sizes) {
-            totalSize += size;
-        }
-        int usedSpace = totalSize + totalSpacing;
-        int remainingSpace = Math.max(0, available - usedSpace);
+        long solveStart = FrameTimer.start();
+        LayoutCache.Sizes solved = LayoutCache.instance().computeIfAbsent(
+            constraints, fingerprint, distributable, spacing, flex, Layout::solve);
+        FrameTimer.stop(FramePhase.LAYOUT, solveStart);
 
-        // Calculate starting position based on flex mode
-        int startPos = direction == Direction.HORIZONTAL ? inner.x() : inner.y();
-        int[] gaps = computeFlexGaps(sizes.length, remainingSpace, flex);
+        // Calculate remaining space for flex positioning
+        int usedSpace = solved.total() + totalSpacing;
+        int remainingSpace = Math.max(0, available - usedSpace);
 
-        // Build rectangles with flex positioning
-        List<Rect> result = new ArrayList<>(constraints.size());
-        int pos = startPos + gaps[0]; // Initial gap for CENTER/END/SPACE_AROUND
+        // The flex gaps before each element are computed in place of the positions
+        computeFlexGaps(count, remainingSpace, flex, positions);
 
-        for (int i = 0; i < sizes.length; i++) {
-            Rect rect = direction == Direction.HORIZONTAL
-                ? new Rect(pos, inner.y(), sizes[i], inner.height())
-                : new Rect(inner.x(), pos, inner.width(), sizes[i]);
-            result.add(rect);
+        int pos = startPos + positions[0]; // Initial gap for CENTER/END/SPACE_AROUND
+        for (int i = 0; i < count; i++) {
+            int size = solved.get(i);
+            positions[i] = pos;
+            sizes[i] = size;
 
             // Calculate next position: current pos + size + spacing + flex gap
-            int flexGap = (i < sizes.length - 1) ? gaps[i + 1] : 0;
-            pos += sizes[i] + spacing + flexGap;
+            int flexGap = (i < count - 1) ? positions[i + 1] : 0;
+            pos += size + spacing + flexGap;
         }
+        return count;
+    }
 
-        return result;
+    private static int[] solve(List<Constraint> constraints, int distributable, int spacing, Flex flex) {
+        return new LayoutSolver().solve(constraints, distributable, spacing, flex);
     }
 
     /**
      * Computes the gaps for flex positioning.
      *
-     * <p>Returns an array where:
+     * <p>Fills the array so that:
      * <ul>
      *   <li>gaps[0] is the gap before the first element</li>
      *   <li>gaps[1..n-1] are the gaps between elements (added to spacing)</li>
-     *   <li>gaps[n] is the gap after the last element (not used in positioning)</li>
      * </ul>
+     * The gap after the last element is what remains, and is not stored.
      *
      * @param count          number of elements
      * @param remainingSpace space available for distribution
      * @param flex           the flex mode
-     * @return array of gaps
+     * @param gaps           array receiving the gaps, of length {@code count} at least
      */
-    private int[] computeFlexGaps(int count, int remainingSpace, Flex flex) {
-        int[] gaps = new int[count + 1];
+    private static void computeFlexGaps(int count, int remainingSpace, Flex flex, int[] gaps) {
+        Arrays.fill(gaps, 0, count, 0);
 
         if (remainingSpace <= 0 || count == 0) {
-            return gaps;
+            return;
         }
 
         switch (flex) {
             case START:
                 // All elements packed at start, remaining space at end
-                gaps[count] = remainingSpace;
                 break;
 
             case END:
@@ -275,7 +341,6 @@ public final class Layout {
             case CENTER:
                 // Elements centered, half the remaining space on each side
                 gaps[0] = remainingSpace / 2;
-                gaps[count] = remainingSpace - gaps[0];
                 break;
 
             case SPACE_BETWEEN:
@@ -289,7 +354,6 @@ public final class Layout {
                 } else {
                     // Single element: behave like CENTER
                     gaps[0] = remainingSpace / 2;
-                    gaps[count] = remainingSpace - gaps[0];
                 }
                 break;
 
@@ -316,8 +380,7 @@ public final class Layout {
                         leftover -= extra;
                     }
 
-                    // End gap (half size, remaining leftover)
-                    gaps[count] = unitSize + leftover;
+                    // End gap (half size, remaining leftover) is what remains
                 }
                 break;
 
@@ -327,13 +390,11 @@ public final class Layout {
                     int numGaps = count + 1;
                     int gapSize = remainingSpace / numGaps;
                     int leftover = remainingSpace % numGaps;
-                    for (int i = 0; i <= count; i++) {
+                    for (int i = 0; i < count; i++) {
                         gaps[i] = gapSize + (i < leftover ? 1 : 0);
                     }
                 }
                 break;
         }
-
-        return gaps;
     }
 }
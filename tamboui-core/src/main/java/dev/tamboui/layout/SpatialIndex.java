@@ -0,0 +1,312 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An index of rectangles for finding the ones containing a position.
+ * <p>
+ * Rectangles are numbered in the order they are added, which is typically
+ * their z-order: a rectangle added later is on top of the ones added before.
+ * The plane is divided into a uniform grid of buckets, each listing the
+ * rectangles overlapping it in ascending order, so that a lookup only checks
+ * the few rectangles of one bucket and allocates nothing.
+ * <p>
+ * Buckets are kept when the index is cleared, so that an index refilled with
+ * similar rectangles every frame allocates nothing in steady state.
+ * Only the non-negative quadrant is indexed: lookups at negative coordinates
+ * check every rectangle.
+ */
+public final class SpatialIndex {
+
+    private static final int BUCKET_WIDTH = 16;
+    private static final int BUCKET_HEIGHT = 4;
+
+    private Rect[] areas = new Rect[16];
+    private int size;
+    private int columns;
+    private int rows;
+    private int[][] buckets = new int[0][];
+    private int[] counts = new int[0];
+    // Whether an area changed since the buckets were filled
+    private boolean stale;
+
+    /**
+     * Creates an empty index.
+     */
+    public SpatialIndex() {
+    }
+
+    /**
+     * Adds a rectangle on top of the rectangles added before.
+     *
+     * @param area the rectangle, or null for an entry that contains no position
+     * @return the index of the rectangle
+     */
+    public int add(Rect area) {
+        if (size == areas.length) {
+            areas = Arrays.copyOf(areas, size * 2);
+        }
+        areas[size] = area;
+        if (!stale) {
+            insert(size, area);
+        }
+        return size++;
+    }
+
+    /**
+     * Replaces a rectangle, keeping its index.
+     *
+     * @param index the index of the rectangle
+     * @param area the new rectangle, or null for an entry that contains no position
+     * @throws IndexOutOfBoundsException if there is no rectangle with this index
+     */
+    public void update(int index, Rect area) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Rectangle " + index + " out of " + size);
+        }
+        if (!Objects.equals(areas[index], area)) {
+            areas[index] = area;
+            stale = true;
+        }
+    }
+
+    /**
+     * Returns a rectangle.
+     *
+     * @param index the index of the rectangle
+     * @return the rectangle, or null
+     * @throws IndexOutOfBoundsException if there is no rectangle with this index
+     */
+    public Rect area(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Rectangle " + index + " out of " + size);
+        }
+        return areas[index];
+    }
+
+    /**
+     * Returns the number of rectangles.
+     *
+     * @return the rectangle count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes the rectangles from the given index on, keeping the ones below it.
+     *
+     * @param newSize the number of rectangles to keep
+     * @throws IndexOutOfBoundsException if the index has fewer rectangles
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException("Size " + newSize + " out of " + size);
+        }
+        Arrays.fill(areas, newSize, size, null);
+        size = newSize;
+        if (!stale) {
+            // Entries are ascending: drop the suffix of each bucket
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                int count = counts[bucket];
+                if (count > 0 && buckets[bucket][count - 1] >= newSize) {
+                    counts[bucket] = lowerBound(buckets[bucket], count, newSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all rectangles.
+     */
+    public void clear() {
+        Arrays.fill(areas, 0, size, null);
+        size = 0;
+        Arrays.fill(counts, 0);
+        stale = false;
+    }
+
+    /**
+     * Returns the bottommost rectangle containing a position.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the lowest index of a rectangle containing the position, or -1 if none does
+     */
+    public int findFirst(int x, int y) {
+        if (x < 0 || y < 0) {
+            for (int index = 0; index < size; index++) {
+                Rect area = areas[index];
+                if (area != null && area.contains(x, y)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+        int bucket = bucket(x, y);
+        if (bucket < 0) {
+            return -1;
+        }
+        int[] entries = buckets[bucket];
+        for (int i = 0, count = counts[bucket]; i < count; i++) {
+            int index = entries[i];
+            if (areas[index].contains(x, y)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the topmost rectangle containing a position.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the highest index of a rectangle containing the position, or -1 if none does
+     */
+    public int findLast(int x, int y) {
+        return findLast(x, y, size);
+    }
+
+    /**
+     * Returns the topmost rectangle containing a position below a given index,
+     * to visit all the rectangles containing a position from top to bottom:
+     * <pre>{@code
+     * for (int i = index.findLast(x, y); i >= 0; i = index.findLast(x, y, i)) {
+     *     ...
+     * }
+     * }</pre>
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param before the exclusive upper bound of the indices to consider
+     * @return the highest index below {@code before} of a rectangle containing
+     *         the position, or -1 if none does
+     */
+    public int findLast(int x, int y, int before) {
+        if (x < 0 || y < 0) {
+            return scan(x, y, Math.min(before, size));
+        }
+        int bucket = bucket(x, y);
+        if (bucket < 0) {
+            return -1;
+        }
+        int[] entries = buckets[bucket];
+        // Entries are ascending: skip those at or above the bound
+        int end = counts[bucket];
+        if (end > 0 && entries[end - 1] >= before) {
+            end = lowerBound(entries, end, before);
+        }
+        for (int i = end - 1; i >= 0; i--) {
+            int index = entries[i];
+            if (areas[index].contains(x, y)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private int bucket(int x, int y) {
+        if (stale) {
+            rebuild();
+        }
+        int column = x / BUCKET_WIDTH;
+        int row = y / BUCKET_HEIGHT;
+        if (column >= columns || row >= rows) {
+            return -1;
+        }
+        return row * columns + column;
+    }
+
+    private int scan(int x, int y, int end) {
+        for (int index = end - 1; index >= 0; index--) {
+            Rect area = areas[index];
+            if (area != null && area.contains(x, y)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int lowerBound(int[] entries, int count, int value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void rebuild() {
+        Arrays.fill(counts, 0);
+        stale = false;
+        for (int i = 0; i < size; i++) {
+            insert(i, areas[i]);
+        }
+    }
+
+    private void insert(int index, Rect area) {
+        if (area == null) {
+            return;
+        }
+        int left = Math.max(0, area.left());
+        int top = Math.max(0, area.top());
+        int right = area.right();
+        int bottom = area.bottom();
+        if (right <= left || bottom <= top) {
+            return;
+        }
+        int firstColumn = left / BUCKET_WIDTH;
+        int lastColumn = (right - 1) / BUCKET_WIDTH;
+        int firstRow = top / BUCKET_HEIGHT;
+        int lastRow = (bottom - 1) / BUCKET_HEIGHT;
+        ensureGrid(lastColumn + 1, lastRow + 1);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                append(row * columns + column, index);
+            }
+        }
+    }
+
+    private void append(int bucket, int index) {
+        int[] entries = buckets[bucket];
+        int count = counts[bucket];
+        if (entries == null) {
+            entries = new int[8];
+            buckets[bucket] = entries;
+        } else if (count == entries.length) {
+            entries = Arrays.copyOf(entries, count * 2);
+            buckets[bucket] = entries;
+        }
+        entries[count] = index;
+        counts[bucket] = count + 1;
+    }
+
+    private void ensureGrid(int minColumns, int minRows) {
+        if (minColumns <= columns && minRows <= rows) {
+            return;
+        }
+        int newColumns = Math.max(columns, minColumns);
+        int newRows = Math.max(rows, minRows);
+        int[][] newBuckets = new int[newColumns * newRows][];
+        int[] newCounts = new int[newColumns * newRows];
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(buckets, row * columns, newBuckets, row * newColumns, columns);
+            System.arraycopy(counts, row * columns, newCounts, row * newColumns, columns);
+        }
+        buckets = newBuckets;
+        counts = newCounts;
+        columns = newColumns;
+        rows = newRows;
+    }
+}
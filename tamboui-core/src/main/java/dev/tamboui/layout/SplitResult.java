@@ -0,0 +1,208 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout;
+
+import java.util.Arrays;
+
+/**
+ * A reusable holder for the segments computed by {@link Layout#split(Rect, SplitResult)}.
+ *
+ * <p>Segments are stored as primitive positions and sizes along the layout
+ * direction, with the cross axis shared by all segments, so splitting into a
+ * holder allocates nothing once its arrays are large enough.
+ *
+ * <p>Code splitting during rendering borrows a holder of the current thread
+ * and returns it when done, which makes nested layouts allocation-free in
+ * steady state:
+ *
+ * <pre>{@code
+ * try (SplitResult columns = SplitResult.acquire()) {
+ *     layout.split(area, columns);
+ *     for (int i = 0; i < columns.count(); i++) {
+ *         child(i).render(columns.area(i), buffer);
+ *     }
+ * }
+ * }</pre>
+ */
+public final class SplitResult implements AutoCloseable {
+
+    private static final ThreadLocal<SplitResult> FREE = new ThreadLocal<>();
+
+    private final boolean pooled;
+    private SplitResult nextFree;
+    private boolean inUse;
+    private Direction direction = Direction.HORIZONTAL;
+    private int crossStart;
+    private int crossSize;
+    private int count;
+    private int[] positions;
+    private int[] sizes;
+
+    /**
+     * Creates a holder owned by the caller; closing it has no effect.
+     */
+    public SplitResult() {
+        this(false);
+    }
+
+    private SplitResult(boolean pooled) {
+        this.pooled = pooled;
+        this.positions = new int[8];
+        this.sizes = new int[8];
+    }
+
+    /**
+     * Borrows a holder of the current thread, to be returned with {@link #close()}.
+     *
+     * @return a holder no other caller uses until it is closed
+     */
+    public static SplitResult acquire() {
+        SplitResult result = FREE.get();
+        if (result == null) {
+            result = new SplitResult(true);
+        } else {
+            FREE.set(result.nextFree);
+            result.nextFree = null;
+        }
+        result.inUse = true;
+        return result;
+    }
+
+    /**
+     * Returns a borrowed holder to the current thread, which must be the one
+     * that acquired it. The holder must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (!pooled || !inUse) {
+            return;
+        }
+        inUse = false;
+        nextFree = FREE.get();
+        FREE.set(this);
+    }
+
+    /**
+     * Returns the number of segments.
+     *
+     * @return the segment count
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Returns the direction the segments were split along.
+     *
+     * @return the layout direction
+     */
+    public Direction direction() {
+        return direction;
+    }
+
+    /**
+     * Returns the start of a segment along the layout direction: its x
+     * coordinate for a horizontal layout, its y coordinate for a vertical one.
+     *
+     * @param index the segment index
+     * @return the start coordinate
+     */
+    public int position(int index) {
+        checkIndex(index);
+        return positions[index];
+    }
+
+    /**
+     * Returns the size of a segment along the layout direction.
+     *
+     * @param index the segment index
+     * @return the width or height of the segment
+     */
+    public int size(int index) {
+        checkIndex(index);
+        return sizes[index];
+    }
+
+    /**
+     * Returns the end (exclusive) of a segment along the layout direction.
+     *
+     * @param index the segment index
+     * @return the end coordinate
+     */
+    public int end(int index) {
+        return position(index) + size(index);
+    }
+
+    /**
+     * Returns the start of all segments across the layout direction.
+     *
+     * @return the y coordinate for a horizontal layout, the x coordinate for a vertical one
+     */
+    public int crossStart() {
+        return crossStart;
+    }
+
+    /**
+     * Returns the size of all segments across the layout direction.
+     *
+     * @return the height for a horizontal layout, the width for a vertical one
+     */
+    public int crossSize() {
+        return crossSize;
+    }
+
+    /**
+     * Returns a segment as a rectangle.
+     *
+     * @param index the segment index
+     * @return a new rectangle covering the segment
+     */
+    public Rect area(int index) {
+        checkIndex(index);
+        return direction == Direction.HORIZONTAL
+            ? new Rect(positions[index], crossStart, sizes[index], crossSize)
+            : new Rect(crossStart, positions[index], crossSize, sizes[index]);
+    }
+
+    /**
+     * Prepares the holder for a split into the given number of segments.
+     *
+     * @return the positions array, with room for {@code count + 1} values
+     */
+    int[] reset(Direction direction, int crossStart, int crossSize, int count) {
+        this.direction = direction;
+        this.crossStart = crossStart;
+        this.crossSize = crossSize;
+        this.count = count;
+        if (positions.length <= count) {
+            int length = Math.max(count + 1, positions.length * 2);
+            positions = Arrays.copyOf(positions, length);
+            sizes = Arrays.copyOf(sizes, length);
+        }
+        return positions;
+    }
+
+    int[] sizes() {
+        return sizes;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Segment " + index + " out of " + count);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("SplitResult[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(positions[i]).append('+').append(sizes[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout.cassowary;
+
+import java.util.List;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Fraction;
+
+/**
+ * Linear-time allocation of the constraint sets whose optimum is obvious.
+ *
+ * <p>{@link LayoutSolver} weighs each constraint against the others, but in
+ * most layouts nothing actually competes: the fixed segments ({@code Length},
+ * {@code Percentage}, {@code Ratio} and {@code Max}) all fit at their target
+ * sizes, and the fill segments ({@code Fill} and {@code Min}) share what is
+ * left in proportion to their weights. The strengths of {@link LayoutSolver}
+ * make that allocation the unique optimum of its system, so computing it
+ * directly gives exactly the sizes the simplex would find.
+ *
+ * <p>Anything else is left to the solver: fixed segments overflowing the
+ * space, a fill share falling below its {@code Min}, {@code Fill(0)} (whose
+ * near-zero proportionality weight lets the equal-size tiebreaker win),
+ * {@code Fit}, and negative spacing.
+ */
+final class DirectAllocator {
+
+    private DirectAllocator() {
+    }
+
+    /**
+     * Allocates the exact size of each segment, if the constraints do not compete.
+     *
+     * @param constraints the constraints of each segment
+     * @param available   the space to distribute
+     * @param spacing     the space between segments
+     * @return the exact sizes, or {@code null} if the solver is needed
+     */
+    static Fraction[] allocate(List<Constraint> constraints, int available, int spacing) {
+        int n = constraints.size();
+        if (spacing < 0) {
+            return null;
+        }
+        long capacity = (long) available - (long) spacing * (n - 1);
+        if (capacity < 0) {
+            return null;
+        }
+
+        Fraction[] sizes = new Fraction[n];
+        Fraction fixed = Fraction.ZERO;
+        long totalWeight = 0;
+        for (int i = 0; i < n; i++) {
+            Constraint c = constraints.get(i);
+            if (c instanceof Constraint.Length) {
+                sizes[i] = Fraction.of(((Constraint.Length) c).value());
+            } else if (c instanceof Constraint.Max) {
+                sizes[i] = Fraction.of(((Constraint.Max) c).value());
+            } else if (c instanceof Constraint.Percentage) {
+                sizes[i] = Fraction.of((long) available * ((Constraint.Percentage) c).value(), 100);
+            } else if (c instanceof Constraint.Ratio) {
+                sizes[i] = Fraction.of(available).multiply(((Constraint.Ratio) c).toFraction());
+            } else if (c instanceof Constraint.Fill || c instanceof Constraint.Min) {
+                int weight = fillWeight(c);
+                if (weight <= 0) {
+                    return null;
+                }
+                totalWeight += weight;
+                continue;
+            } else {
+                return null;
+            }
+            fixed = fixed.add(sizes[i]);
+        }
+
+        Fraction remaining = Fraction.of(capacity).subtract(fixed);
+        if (remaining.isNegative()) {
+            return null;
+        }
+        if (totalWeight == 0) {
+            return sizes;
+        }
+
+        Fraction perWeight = remaining.divide(Fraction.of(totalWeight));
+        for (int i = 0; i < n; i++) {
+            if (sizes[i] != null) {
+                continue;
+            }
+            Constraint c = constraints.get(i);
+            sizes[i] = perWeight.multiply(Fraction.of(fillWeight(c)));
+            if (c instanceof Constraint.Min
+                    && sizes[i].compareTo(Fraction.of(((Constraint.Min) c).value())) < 0) {
+                return null;
+            }
+        }
+        return sizes;
+    }
+
+    private static int fillWeight(Constraint c) {
+        return c instanceof Constraint.Fill ? ((Constraint.Fill) c).weight() : 1;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout.cassowary;
+
+import java.util.Arrays;
+
+/**
+ * A row in the tableau of a {@link DoubleSolver}.
+ *
+ * <p>Represents the same equation as a {@link Row},
+ * {@code constant + sum(coefficient * symbol) = 0}, with symbols as integer ids
+ * and coefficients as doubles, held in parallel arrays. Cells keep their
+ * insertion order, like the map of a {@link Row}, so that both solvers make
+ * the same pivot choices.
+ */
+final class DoubleRow {
+
+    /** Coefficients closer to zero than this are dropped from the row. */
+    static final double EPSILON = 1.0e-8;
+
+    private double constant;
+    private int[] symbols;
+    private double[] coefficients;
+    private int size;
+
+    /**
+     * Creates a row with the given constant and no cells.
+     */
+    DoubleRow(double constant) {
+        this.constant = constant;
+        this.symbols = new int[16];
+        this.coefficients = new double[16];
+    }
+
+    /**
+     * Creates a copy of another row.
+     */
+    DoubleRow(DoubleRow other) {
+        this.constant = other.constant;
+        this.symbols = Arrays.copyOf(other.symbols, Math.max(16, other.size));
+        this.coefficients = Arrays.copyOf(other.coefficients, symbols.length);
+        this.size = other.size;
+    }
+
+    static boolean nearZero(double value) {
+        return value < EPSILON && value > -EPSILON;
+    }
+
+    double constant() {
+        return constant;
+    }
+
+    void setConstant(double constant) {
+        this.constant = constant;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int symbolAt(int index) {
+        return symbols[index];
+    }
+
+    double coefficientAt(int index) {
+        return coefficients[index];
+    }
+
+    double coefficientFor(int symbol) {
+        int index = indexOf(symbol);
+        return index < 0 ? 0 : coefficients[index];
+    }
+
+    /**
+     * Adds a coefficient to a symbol, dropping the cell if the sum is near zero.
+     */
+    void insertSymbol(int symbol, double coefficient) {
+        int index = indexOf(symbol);
+        if (index < 0) {
+            if (nearZero(coefficient)) {
+                return;
+            }
+            if (size == symbols.length) {
+                symbols = Arrays.copyOf(symbols, size * 2);
+                coefficients = Arrays.copyOf(coefficients, size * 2);
+            }
+            symbols[size] = symbol;
+            coefficients[size] = coefficient;
+            size++;
+            return;
+        }
+        double sum = coefficients[index] + coefficient;
+        if (nearZero(sum)) {
+            removeAt(index);
+        } else {
+            coefficients[index] = sum;
+        }
+    }
+
+    /**
+     * Removes a symbol, returning its coefficient or 0 if absent.
+     */
+    double removeSymbol(int symbol) {
+        int index = indexOf(symbol);
+        if (index < 0) {
+            return 0;
+        }
+        double coefficient = coefficients[index];
+        removeAt(index);
+        return coefficient;
+    }
+
+    /**
+     * Adds another row multiplied by a coefficient.
+     */
+    void insertRow(DoubleRow other, double coefficient) {
+        constant += other.constant * coefficient;
+        for (int i = 0; i < other.size; i++) {
+            insertSymbol(other.symbols[i], other.coefficients[i] * coefficient);
+        }
+    }
+
+    void reverseSign() {
+        constant = -constant;
+        for (int i = 0; i < size; i++) {
+            coefficients[i] = -coefficients[i];
+        }
+    }
+
+    /**
+     * Solves the row for a symbol, which is removed from the row.
+     */
+    void solveFor(int symbol) {
+        double reciprocal = -1.0 / removeSymbol(symbol);
+        constant *= reciprocal;
+        for (int i = 0; i < size; i++) {
+            coefficients[i] *= reciprocal;
+        }
+    }
+
+    /**
+     * Solves the row for {@code rhs}, with {@code lhs} as the former basic symbol.
+     */
+    void solveFor(int lhs, int rhs) {
+        insertSymbol(lhs, -1.0);
+        solveFor(rhs);
+    }
+
+    /**
+     * Replaces a symbol by the expression of a row.
+     */
+    void substitute(int symbol, DoubleRow row) {
+        int index = indexOf(symbol);
+        if (index >= 0) {
+            double coefficient = coefficients[index];
+            removeAt(index);
+            insertRow(row, coefficient);
+        }
+    }
+
+    private int indexOf(int symbol) {
+        for (int i = 0; i < size; i++) {
+            if (symbols[i] == symbol) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        int tail = size - index - 1;
+        if (tail > 0) {
+            System.arraycopy(symbols, index + 1, symbols, index, tail);
+            System.arraycopy(coefficients, index + 1, coefficients, index, tail);
+        }
+        size--;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(constant);
+        for (int i = 0; i < size; i++) {
+            sb.append(coefficients[i] < 0 ? " - " : " + ")
+                    .append(Math.abs(coefficients[i])).append("*s").append(symbols[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,660 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout.cassowary;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import dev.tamboui.layout.Fraction;
+
+/**
+ * Cassowary constraint solver working on doubles.
+ *
+ * <p>This is the same algorithm as {@link Solver}, with a tableau of primitive
+ * arrays: symbols are integer ids, rows are indexed by their basic symbol and
+ * hold their cells in parallel {@code int[]}/{@code double[]} arrays. Pivots
+ * allocate nothing, where the exact solver allocates map entries and a
+ * {@link Fraction} per cell update.
+ *
+ * <p>Values are compared with a tolerance of {@value DoubleRow#EPSILON}, and
+ * rows and cells are visited in the same order as in {@link Solver}, so both
+ * reach the same optimum, up to floating-point error in the values.
+ *
+ * @see Solver
+ * @see LayoutSolver.Engine#DOUBLE
+ */
+public final class DoubleSolver {
+
+    private static final int NONE = -1;
+
+    private static final byte EXTERNAL = 0;
+    private static final byte SLACK = 1;
+    private static final byte ERROR = 2;
+    private static final byte DUMMY = 3;
+
+    /**
+     * Symbols created for a constraint.
+     */
+    private static final class Tag {
+        int marker = NONE;
+        int other = NONE;
+    }
+
+    /**
+     * Information about an edit variable.
+     */
+    private static final class EditInfo {
+        Tag tag;
+        CassowaryConstraint constraint;
+        double constant;
+    }
+
+    private final Map<CassowaryConstraint, Tag> constraints;
+    private final Map<Variable, Integer> vars;
+    private final Map<Variable, EditInfo> edits;
+
+    // Per symbol id: type, row when basic, and links keeping basic rows in insertion order
+    private byte[] types;
+    private DoubleRow[] rows;
+    private int[] next;
+    private int[] previous;
+    private int symbolCount;
+    private int firstRow;
+    private int lastRow;
+
+    private double[] values;
+    private DoubleRow objective;
+    private DoubleRow artificial;
+
+    /**
+     * Creates a new empty solver.
+     */
+    public DoubleSolver() {
+        this.constraints = new LinkedHashMap<>();
+        this.vars = new HashMap<>();
+        this.edits = new LinkedHashMap<>();
+        this.types = new byte[64];
+        this.rows = new DoubleRow[64];
+        this.next = new int[64];
+        this.previous = new int[64];
+        this.values = new double[64];
+        this.firstRow = NONE;
+        this.lastRow = NONE;
+        this.objective = new DoubleRow(0);
+    }
+
+    /**
+     * Adds a constraint to the solver.
+     *
+     * @param constraint the constraint to add
+     * @throws DuplicateConstraintException     if the constraint already exists
+     * @throws UnsatisfiableConstraintException if required and unsatisfiable
+     */
+    public void addConstraint(CassowaryConstraint constraint) {
+        if (constraints.containsKey(constraint)) {
+            throw new DuplicateConstraintException(constraint);
+        }
+
+        Tag tag = new Tag();
+        DoubleRow row = createRow(constraint, tag);
+        int subject = chooseSubject(row, tag);
+
+        if (subject == NONE && allDummies(row)) {
+            if (!DoubleRow.nearZero(row.constant())) {
+                throw new UnsatisfiableConstraintException(constraint);
+            }
+            subject = tag.marker;
+        }
+
+        if (subject == NONE) {
+            if (!addWithArtificialVariable(row)) {
+                throw new UnsatisfiableConstraintException(constraint);
+            }
+        } else {
+            row.solveFor(subject);
+            substitute(subject, row);
+            putRow(subject, row);
+        }
+
+        constraints.put(constraint, tag);
+        optimize(objective);
+    }
+
+    /**
+     * Adds multiple constraints to the solver.
+     *
+     * @param constraintList the constraints to add
+     * @throws DuplicateConstraintException     if any constraint already exists
+     * @throws UnsatisfiableConstraintException if any required constraint is unsatisfiable
+     */
+    public void addConstraints(Iterable<CassowaryConstraint> constraintList) {
+        for (CassowaryConstraint constraint : constraintList) {
+            addConstraint(constraint);
+        }
+    }
+
+    /**
+     * Removes a constraint from the solver.
+     *
+     * @param constraint the constraint to remove
+     * @throws UnknownConstraintException if the constraint is not present
+     */
+    public void removeConstraint(CassowaryConstraint constraint) {
+        Tag tag = constraints.remove(constraint);
+        if (tag == null) {
+            throw new UnknownConstraintException(constraint);
+        }
+
+        double weight = constraint.strength().computeValue().toDouble();
+        removeMarkerEffects(tag.marker, weight);
+        removeMarkerEffects(tag.other, weight);
+
+        DoubleRow row = removeRow(tag.marker);
+        if (row == null) {
+            int leaving = findLeavingSymbolForMarker(tag.marker);
+            if (leaving == NONE) {
+                throw new InternalSolverException("Failed to find leaving variable for marker");
+            }
+            row = removeRow(leaving);
+            row.solveFor(leaving, tag.marker);
+            substitute(tag.marker, row);
+        }
+
+        optimize(objective);
+    }
+
+    /**
+     * Checks if the solver contains a constraint.
+     *
+     * @param constraint the constraint to check
+     * @return true if the constraint is in the solver
+     */
+    public boolean hasConstraint(CassowaryConstraint constraint) {
+        return constraints.containsKey(constraint);
+    }
+
+    /**
+     * Adds an edit variable for interactive updates.
+     *
+     * <p>As with {@link Solver#addEditVariable(Variable, Strength)}, a
+     * {@link Strength#REQUIRED required} edit variable always takes the
+     * suggested value exactly.
+     *
+     * @param variable the variable to make editable
+     * @param strength the strength of the edit constraint
+     * @throws SolverException if the variable is already an edit variable
+     */
+    public void addEditVariable(Variable variable, Strength strength) {
+        if (edits.containsKey(variable)) {
+            throw new SolverException("Edit variable already exists: " + variable);
+        }
+
+        CassowaryConstraint constraint = Expression.variable(variable).equalTo(0, strength);
+        addConstraint(constraint);
+
+        EditInfo info = new EditInfo();
+        info.tag = constraints.get(constraint);
+        info.constraint = constraint;
+        edits.put(variable, info);
+    }
+
+    /**
+     * Removes an edit variable.
+     *
+     * @param variable the variable to remove
+     * @throws SolverException if the variable is not an edit variable
+     */
+    public void removeEditVariable(Variable variable) {
+        EditInfo info = edits.remove(variable);
+        if (info == null) {
+            throw new SolverException("Unknown edit variable: " + variable);
+        }
+        removeConstraint(info.constraint);
+    }
+
+    /**
+     * Checks if a variable is an edit variable.
+     *
+     * @param variable the variable to check
+     * @return true if the variable is editable
+     */
+    public boolean hasEditVariable(Variable variable) {
+        return edits.containsKey(variable);
+    }
+
+    /**
+     * Suggests a new value for an edit variable.
+     *
+     * <p>The dual simplex method then restores the feasibility of the tableau,
+     * keeping it optimal. Call {@link #updateVariables()} after suggesting values.
+     *
+     * @param variable the edit variable
+     * @param value    the suggested value
+     * @throws SolverException if the variable is not an edit variable
+     * @throws InternalSolverException if the value makes a required constraint
+     *                                 unsatisfiable, after which the solver must be reset
+     */
+    public void suggestValue(Variable variable, double value) {
+        EditInfo info = edits.get(variable);
+        if (info == null) {
+            throw new SolverException("Unknown edit variable: " + variable);
+        }
+
+        double delta = value - info.constant;
+        info.constant = value;
+        if (types[info.tag.marker] == DUMMY) {
+            // A required edit is marked by a dummy with the opposite sign of an error
+            delta = -delta;
+        }
+
+        DoubleRow row = rows[info.tag.marker];
+        if (row != null) {
+            row.setConstant(row.constant() - delta);
+        } else if (info.tag.other != NONE && (row = rows[info.tag.other]) != null) {
+            row.setConstant(row.constant() + delta);
+        } else {
+            // Every row depending on the marker moves, including those of external variables
+            for (int symbol = firstRow; symbol != NONE; symbol = next[symbol]) {
+                double coefficient = rows[symbol].coefficientFor(info.tag.marker);
+                if (coefficient != 0) {
+                    rows[symbol].setConstant(rows[symbol].constant() + delta * coefficient);
+                }
+            }
+        }
+
+        dualOptimize();
+    }
+
+    /**
+     * Updates all variable values after constraint changes.
+     *
+     * <p>Must be called before reading variable values.
+     */
+    public void updateVariables() {
+        for (int symbol = 0; symbol < symbolCount; symbol++) {
+            if (types[symbol] == EXTERNAL) {
+                DoubleRow row = rows[symbol];
+                values[symbol] = row == null ? 0 : row.constant();
+            }
+        }
+    }
+
+    /**
+     * Checks that the current solution is the only optimal one.
+     *
+     * @return true if no other solution is as good, false if there may be one
+     * @see Solver#hasUniqueSolution()
+     */
+    boolean hasUniqueSolution() {
+        for (int symbol = firstRow; symbol != NONE; symbol = next[symbol]) {
+            DoubleRow row = rows[symbol];
+            for (int i = 0; i < row.size(); i++) {
+                int cell = row.symbolAt(i);
+                if (types[cell] != DUMMY && !(objective.coefficientFor(cell) >= DoubleRow.EPSILON)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the current value of a variable.
+     *
+     * @param variable the variable to query
+     * @return the computed value, or 0 if not in the system
+     */
+    public double valueOf(Variable variable) {
+        Integer symbol = vars.get(variable);
+        return symbol != null ? values[symbol] : 0;
+    }
+
+    /**
+     * Resets the solver to an empty state, keeping its allocated arrays.
+     */
+    public void reset() {
+        constraints.clear();
+        vars.clear();
+        edits.clear();
+        Arrays.fill(rows, 0, symbolCount, null);
+        symbolCount = 0;
+        firstRow = NONE;
+        lastRow = NONE;
+        objective = new DoubleRow(0);
+        artificial = null;
+    }
+
+    // --- Internal simplex operations, mirroring Solver ---
+
+    private DoubleRow createRow(CassowaryConstraint constraint, Tag tag) {
+        Expression expr = constraint.expression();
+        DoubleRow row = new DoubleRow(expr.constant().toDouble());
+
+        for (Term term : expr.terms()) {
+            if (!term.coefficient().isZero()) {
+                double coefficient = term.coefficient().toDouble();
+                int symbol = varSymbol(term.variable());
+                DoubleRow basicRow = rows[symbol];
+                if (basicRow != null) {
+                    row.insertRow(basicRow, coefficient);
+                } else {
+                    row.insertSymbol(symbol, coefficient);
+                }
+            }
+        }
+
+        boolean required = constraint.strength().isRequired();
+        switch (constraint.relation()) {
+            case LE:
+            case GE: {
+                double coefficient = constraint.relation() == Relation.LE ? 1.0 : -1.0;
+                int slack = newSymbol(SLACK);
+                tag.marker = slack;
+                row.insertSymbol(slack, coefficient);
+                if (!required) {
+                    int error = newSymbol(ERROR);
+                    tag.other = error;
+                    row.insertSymbol(error, -coefficient);
+                    objective.insertSymbol(error, constraint.strength().computeValue().toDouble());
+                }
+                break;
+            }
+            case EQ: {
+                if (required) {
+                    int dummy = newSymbol(DUMMY);
+                    tag.marker = dummy;
+                    row.insertSymbol(dummy, 1.0);
+                } else {
+                    int errorPlus = newSymbol(ERROR);
+                    int errorMinus = newSymbol(ERROR);
+                    tag.marker = errorPlus;
+                    tag.other = errorMinus;
+                    row.insertSymbol(errorPlus, -1.0);
+                    row.insertSymbol(errorMinus, 1.0);
+                    double weight = constraint.strength().computeValue().toDouble();
+                    objective.insertSymbol(errorPlus, weight);
+                    objective.insertSymbol(errorMinus, weight);
+                }
+                break;
+            }
+        }
+
+        if (isNegative(row.constant())) {
+            row.reverseSign();
+        }
+        return row;
+    }
+
+    private int chooseSubject(DoubleRow row, Tag tag) {
+        for (int i = 0; i < row.size(); i++) {
+            if (types[row.symbolAt(i)] == EXTERNAL) {
+                return row.symbolAt(i);
+            }
+        }
+        if (isPivotable(tag.marker) && row.coefficientFor(tag.marker) < 0) {
+            return tag.marker;
+        }
+        if (isPivotable(tag.other) && row.coefficientFor(tag.other) < 0) {
+            return tag.other;
+        }
+        return NONE;
+    }
+
+    private boolean isPivotable(int symbol) {
+        return symbol != NONE && (types[symbol] == SLACK || types[symbol] == ERROR);
+    }
+
+    private boolean allDummies(DoubleRow row) {
+        for (int i = 0; i < row.size(); i++) {
+            if (types[row.symbolAt(i)] != DUMMY) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean addWithArtificialVariable(DoubleRow row) {
+        int art = newSymbol(SLACK);
+        putRow(art, new DoubleRow(row));
+        artificial = new DoubleRow(row);
+
+        optimize(artificial);
+
+        boolean success = DoubleRow.nearZero(artificial.constant());
+        artificial = null;
+
+        DoubleRow artRow = removeRow(art);
+        if (artRow != null) {
+            if (artRow.size() == 0) {
+                return success;
+            }
+            int entering = NONE;
+            for (int i = 0; i < artRow.size(); i++) {
+                if (types[artRow.symbolAt(i)] != DUMMY) {
+                    entering = artRow.symbolAt(i);
+                    break;
+                }
+            }
+            if (entering == NONE) {
+                return success;
+            }
+            artRow.solveFor(art, entering);
+            substitute(entering, artRow);
+            putRow(entering, artRow);
+        }
+
+        for (int symbol = firstRow; symbol != NONE; symbol = next[symbol]) {
+            rows[symbol].removeSymbol(art);
+        }
+        objective.removeSymbol(art);
+        return success;
+    }
+
+    private void optimize(DoubleRow objective) {
+        while (true) {
+            int entering = findEnteringSymbol(objective);
+            if (entering == NONE) {
+                return;
+            }
+            int leaving = findLeavingSymbol(entering);
+            if (leaving == NONE) {
+                throw new InternalSolverException("Objective function is unbounded");
+            }
+            pivot(entering, leaving);
+        }
+    }
+
+    private void dualOptimize() {
+        while (true) {
+            int leaving = NONE;
+            for (int symbol = firstRow; symbol != NONE; symbol = next[symbol]) {
+                if (types[symbol] != EXTERNAL && isNegative(rows[symbol].constant())) {
+                    leaving = symbol;
+                    break;
+                }
+            }
+            if (leaving == NONE) {
+                return;
+            }
+
+            int entering = NONE;
+            double minRatio = Double.NaN;
+            DoubleRow row = rows[leaving];
+            for (int i = 0; i < row.size(); i++) {
+                int symbol = row.symbolAt(i);
+                double coefficient = row.coefficientAt(i);
+                if (coefficient > 0 && types[symbol] != DUMMY) {
+                    double ratio = objective.coefficientFor(symbol) / coefficient;
+                    if (entering == NONE || ratio < minRatio - DoubleRow.EPSILON) {
+                        minRatio = ratio;
+                        entering = symbol;
+                    }
+                }
+            }
+            if (entering == NONE) {
+                throw new InternalSolverException("Dual optimize failed");
+            }
+            pivot(entering, leaving);
+        }
+    }
+
+    private int findEnteringSymbol(DoubleRow objective) {
+        for (int i = 0; i < objective.size(); i++) {
+            if (types[objective.symbolAt(i)] != DUMMY && objective.coefficientAt(i) < 0) {
+                return objective.symbolAt(i);
+            }
+        }
+        return NONE;
+    }
+
+    private int findLeavingSymbol(int entering) {
+        double minRatio = Double.NaN;
+        int result = NONE;
+        for (int symbol = firstRow; symbol != NONE; symbol = next[symbol]) {
+            if (types[symbol] != EXTERNAL) {
+                DoubleRow row = rows[symbol];
+                double coefficient = row.coefficientFor(entering);
+                if (coefficient < 0) {
+                    double ratio = -row.constant() / coefficient;
+                    if (result == NONE || ratio < minRatio - DoubleRow.EPSILON) {
+                        minRatio = ratio;
+                        result = symbol;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private int findLeavingSymbolForMarker(int marker) {
+        double minRatio = Double.NaN;
+        int first = NONE;
+        int second = NONE;
+        int third = NONE;
+        for (int symbol = firstRow; symbol != NONE; symbol = next[symbol]) {
+            DoubleRow row = rows[symbol];
+            double coefficient = row.coefficientFor(marker);
+            if (coefficient == 0) {
+                continue;
+            }
+            if (types[symbol] == EXTERNAL) {
+                third = symbol;
+            } else if (coefficient < 0) {
+                double ratio = -row.constant() / coefficient;
+                if (first == NONE || ratio < minRatio - DoubleRow.EPSILON) {
+                    minRatio = ratio;
+                    first = symbol;
+                }
+            } else {
+                second = symbol;
+            }
+        }
+        if (first != NONE) {
+            return first;
+        }
+        return second != NONE ? second : third;
+    }
+
+    private void pivot(int entering, int leaving) {
+        DoubleRow row = removeRow(leaving);
+        row.solveFor(leaving, entering);
+        substitute(entering, row);
+        putRow(entering, row);
+    }
+
+    private void substitute(int symbol, DoubleRow row) {
+        for (int basic = firstRow; basic != NONE; basic = next[basic]) {
+            rows[basic].substitute(symbol, row);
+        }
+        objective.substitute(symbol, row);
+        if (artificial != null) {
+            artificial.substitute(symbol, row);
+        }
+    }
+
+    private void removeMarkerEffects(int marker, double weight) {
+        if (marker == NONE || types[marker] != ERROR) {
+            return;
+        }
+        DoubleRow row = rows[marker];
+        if (row != null) {
+            objective.insertRow(row, -weight);
+        } else {
+            objective.insertSymbol(marker, -weight);
+        }
+    }
+
+    private static boolean isNegative(double value) {
+        return value <= -DoubleRow.EPSILON;
+    }
+
+    // --- Symbol and row bookkeeping ---
+
+    private int varSymbol(Variable variable) {
+        Integer symbol = vars.get(variable);
+        if (symbol == null) {
+            symbol = newSymbol(EXTERNAL);
+            vars.put(variable, symbol);
+        }
+        return symbol;
+    }
+
+    private int newSymbol(byte type) {
+        if (symbolCount == types.length) {
+            int capacity = symbolCount * 2;
+            types = Arrays.copyOf(types, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+            next = Arrays.copyOf(next, capacity);
+            previous = Arrays.copyOf(previous, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        int symbol = symbolCount++;
+        types[symbol] = type;
+        values[symbol] = 0;
+        return symbol;
+    }
+
+    /**
+     * Makes a symbol basic, appending its row after the existing rows.
+     */
+    private void putRow(int symbol, DoubleRow row) {
+        rows[symbol] = row;
+        previous[symbol] = lastRow;
+        next[symbol] = NONE;
+        if (lastRow == NONE) {
+            firstRow = symbol;
+        } else {
+            next[lastRow] = symbol;
+        }
+        lastRow = symbol;
+    }
+
+    /**
+     * Removes the row of a symbol, returning it or null if the symbol is not basic.
+     */
+    private DoubleRow removeRow(int symbol) {
+        if (symbol == NONE) {
+            return null;
+        }
+        DoubleRow row = rows[symbol];
+        if (row == null) {
+            return null;
+        }
+        rows[symbol] = null;
+        if (previous[symbol] == NONE) {
+            firstRow = next[symbol];
+        } else {
+            next[previous[symbol]] = next[symbol];
+        }
+        if (next[symbol] == NONE) {
+            lastRow = previous[symbol];
+        } else {
+            previous[next[symbol]] = previous[symbol];
+        }
+        return row;
+    }
+}
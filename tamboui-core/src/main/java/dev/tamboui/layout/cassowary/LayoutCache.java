@@ -4,77 +4,367 @@
  */
 package dev.tamboui.layout.cassowary;
 
-import java.util.LinkedHashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Supplier;
+import java.util.concurrent.atomic.LongAdder;
 
+import dev.tamboui.internal.cache.CacheSegment;
 import dev.tamboui.layout.Constraint;
 import dev.tamboui.layout.Flex;
 
 /**
- * Thread-local cache for layout solver results.
+ * Shared cache for layout solver results.
  *
  * <p>This cache stores the results of Cassowary solver computations to avoid
- * redundant work when the same layout is computed multiple times per frame.
- * The cache uses LRU eviction to bound memory usage.
+ * redundant work when the same layout is computed multiple times per frame,
+ * or by several sessions rendering the same screens.
  *
- * <p>The cache is thread-local to avoid synchronization overhead, as TUI
- * rendering is typically single-threaded.
+ * <p>Entries are spread over independently locked segments, keyed by a
+ * {@linkplain #fingerprint(List) fingerprint} of the constraints and the
+ * primitive layout parameters, so a lookup allocates nothing. Each segment
+ * evicts with a segmented LRU policy: new entries are kept on probation and
+ * only entries hit again are protected, so a burst of layouts computed once
+ * (a resize drag, for instance) cannot flush the layouts of every frame.
+ *
+ * <p>The size of the {@linkplain #instance() shared instance} is read from the
+ * {@value #SIZE_PROPERTY} system property, {@value #DEFAULT_SIZE} by default.
  */
 public final class LayoutCache {
-    private static final int MAX_SIZE = 256;
-    private static final ThreadLocal<LayoutCache> INSTANCE =
-        ThreadLocal.withInitial(() -> new LayoutCache(MAX_SIZE));
 
-    private final LinkedHashMap<LayoutCacheKey, int[]> cache;
+    /**
+     * System property holding the maximum number of entries of the shared cache.
+     */
+    public static final String SIZE_PROPERTY = "tamboui.layout.cache.size";
 
-    private LayoutCache(int maxSize) {
-        this.cache = new LinkedHashMap<LayoutCacheKey, int[]>(maxSize, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<LayoutCacheKey, int[]> eldest) {
-                return size() > maxSize;
-            }
-        };
+    /**
+     * Maximum number of entries of the shared cache when the property is not set.
+     */
+    public static final int DEFAULT_SIZE = 1024;
+
+    private static final LayoutCache INSTANCE =
+        new LayoutCache(Math.max(0, Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE)));
+
+    private final Segment[] segments;
+    private final int maximumSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding up to the given number of entries.
+     *
+     * @param maximumSize the maximum number of entries, 0 to disable caching
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public LayoutCache(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size must not be negative: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        int count = CacheSegment.segmentCount(maximumSize);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(CacheSegment.segmentCapacity(maximumSize, count, i));
+        }
     }
 
     /**
-     * Returns the thread-local layout cache instance.
+     * Returns the layout cache shared by all threads.
      *
-     * @return the layout cache for the current thread
+     * @return the shared layout cache
      */
     public static LayoutCache instance() {
-        return INSTANCE.get();
+        return INSTANCE;
+    }
+
+    /**
+     * Computes the fingerprint of a constraint list, for use as part of a cache key.
+     *
+     * <p>Equal lists have equal fingerprints. Callers splitting the same
+     * constraints repeatedly should compute it once and pass it to
+     * {@link #computeIfAbsent(List, long, int, int, Flex, SizeFunction)}.
+     *
+     * @param constraints the layout constraints
+     * @return the fingerprint
+     */
+    public static long fingerprint(List<Constraint> constraints) {
+        long hash = constraints.size();
+        for (int i = 0; i < constraints.size(); i++) {
+            Constraint constraint = constraints.get(i);
+            // Constraint hash codes only cover their values: Length(5) and Min(5) collide
+            hash = hash * 0x100000001B3L + constraint.getClass().getName().hashCode();
+            hash = hash * 0x100000001B3L + constraint.hashCode();
+        }
+        return CacheSegment.mix(hash);
+    }
+
+    /**
+     * Gets cached sizes for the given layout parameters, computing and caching if absent.
+     *
+     * @param constraints   the layout constraints, which must not be modified afterwards
+     * @param distributable the distributable space
+     * @param spacing       the spacing between elements
+     * @param flex          the flex mode
+     * @param function      function computing the sizes on cache miss
+     * @return the cached sizes
+     */
+    public Sizes computeIfAbsent(List<Constraint> constraints, int distributable, int spacing, Flex flex,
+                                 SizeFunction function) {
+        return computeIfAbsent(constraints, fingerprint(constraints), distributable, spacing, flex, function);
     }
 
     /**
      * Gets cached sizes for the given layout parameters, computing and caching if absent.
      *
-     * @param constraints   the layout constraints
+     * <p>Nothing is allocated when the sizes are cached, provided the function
+     * does not capture variables.
+     *
+     * @param constraints   the layout constraints, which must not be modified afterwards
+     * @param fingerprint   the {@linkplain #fingerprint(List) fingerprint} of the constraints
      * @param distributable the distributable space
      * @param spacing       the spacing between elements
      * @param flex          the flex mode
-     * @param computer      supplier to compute sizes on cache miss
-     * @return sizes array (cloned from cache)
+     * @param function      function computing the sizes on cache miss
+     * @return the cached sizes
      */
-    public int[] computeIfAbsent(List<Constraint> constraints, int distributable, int spacing, Flex flex,
-                                 Supplier<int[]> computer) {
-        LayoutCacheKey key = new LayoutCacheKey(constraints, distributable, spacing, flex);
-        // Avoid Map.computeIfAbsent - it has issues with access-order LinkedHashMap in Java 8
-        // that can cause infinite loops or corruption during structural modification
-        int[] cached = cache.get(key);
-        if (cached == null) {
-            cached = computer.get().clone();
-            cache.put(key, cached);
+    public Sizes computeIfAbsent(List<Constraint> constraints, long fingerprint, int distributable, int spacing,
+                                 Flex flex, SizeFunction function) {
+        int hash = hash(fingerprint, distributable, spacing, flex);
+        Segment segment = segments[CacheSegment.segmentIndex(hash, segments.length)];
+        Sizes cached = segment.get(hash, constraints, fingerprint, distributable, spacing, flex);
+        if (cached != null) {
+            hits.increment();
+            return cached;
         }
-        return cached.clone();
+        misses.increment();
+        // Solve outside the segment lock; a concurrent miss for the same layout solves it twice
+        Sizes sizes = new Sizes(function.compute(constraints, distributable, spacing, flex).clone());
+        return segment.put(hash, constraints, fingerprint, distributable, spacing, flex, sizes);
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits.sum();
     }
 
     /**
-     * Clears the cache for the current thread.
-     * This can be called at the end of a frame if desired.
+     * Returns the number of lookups that required solving the layout.
+     *
+     * @return the miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries evicted to make room for others.
+     *
+     * @return the eviction count
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of cached entries.
+     *
+     * @return the maximum size
+     */
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Removes all entries. The statistics are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Clears the shared cache, along with the solved systems the current
+     * thread keeps for re-optimizing layouts on resize.
      */
     public static void clearAll() {
-        INSTANCE.remove();
+        INSTANCE.clear();
+        ResizableLayout.clear();
+    }
+
+    private static int hash(long fingerprint, int distributable, int spacing, Flex flex) {
+        long hash = fingerprint
+            + distributable * 0x9E3779B97F4A7C15L
+            + spacing * 0xC2B2AE3D27D4EB4FL
+            + flex.ordinal() * 0x165667B19E3779F9L;
+        hash = CacheSegment.mix(hash);
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Computes the sizes of a layout on a cache miss.
+     */
+    @FunctionalInterface
+    public interface SizeFunction {
+
+        /**
+         * Computes the sizes of a layout.
+         *
+         * @param constraints   the layout constraints
+         * @param distributable the distributable space
+         * @param spacing       the spacing between elements
+         * @param flex          the flex mode
+         * @return the size of each segment
+         */
+        int[] compute(List<Constraint> constraints, int distributable, int spacing, Flex flex);
+    }
+
+    /**
+     * Read-only sizes computed for a layout, shared by every lookup of the layout.
+     */
+    public static final class Sizes {
+        private final int[] values;
+        private final int total;
+
+        Sizes(int[] values) {
+            this.values = values;
+            int sum = 0;
+            for (int value : values) {
+                sum += value;
+            }
+            this.total = sum;
+        }
+
+        /**
+         * Returns the number of segments.
+         *
+         * @return the segment count
+         */
+        public int count() {
+            return values.length;
+        }
+
+        /**
+         * Returns the size of a segment.
+         *
+         * @param index the segment index
+         * @return the size of the segment
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public int get(int index) {
+            return values[index];
+        }
+
+        /**
+         * Returns the sum of the sizes of all segments.
+         *
+         * @return the total size
+         */
+        public int total() {
+            return total;
+        }
+
+        /**
+         * Returns a copy of the sizes.
+         *
+         * @return a new array holding the size of each segment
+         */
+        public int[] toArray() {
+            return values.clone();
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(values);
+        }
+    }
+
+    private static final class Entry extends CacheSegment.Node<Entry> {
+        final List<Constraint> constraints;
+        final long fingerprint;
+        final int distributable;
+        final int spacing;
+        final Flex flex;
+        final Sizes sizes;
+
+        Entry(int hash, List<Constraint> constraints, long fingerprint, int distributable, int spacing, Flex flex,
+              Sizes sizes) {
+            super(hash);
+            this.constraints = constraints;
+            this.fingerprint = fingerprint;
+            this.distributable = distributable;
+            this.spacing = spacing;
+            this.flex = flex;
+            this.sizes = sizes;
+        }
+
+        boolean matches(int hash, List<Constraint> constraints, long fingerprint, int distributable, int spacing,
+                        Flex flex) {
+            return hash() == hash
+                && this.fingerprint == fingerprint
+                && this.distributable == distributable
+                && this.spacing == spacing
+                && this.flex == flex
+                && (this.constraints == constraints || this.constraints.equals(constraints));
+        }
+    }
+
+    private final class Segment extends CacheSegment<Entry> {
+
+        Segment(int capacity) {
+            super(capacity);
+        }
+
+        synchronized Sizes get(int hash, List<Constraint> constraints, long fingerprint, int distributable,
+                               int spacing, Flex flex) {
+            Entry entry = find(hash, constraints, fingerprint, distributable, spacing, flex);
+            if (entry == null) {
+                return null;
+            }
+            touch(entry);
+            return entry.sizes;
+        }
+
+        synchronized Sizes put(int hash, List<Constraint> constraints, long fingerprint, int distributable,
+                               int spacing, Flex flex, Sizes sizes) {
+            if (capacity() == 0) {
+                return sizes;
+            }
+            Entry existing = find(hash, constraints, fingerprint, distributable, spacing, flex);
+            if (existing != null) {
+                return existing.sizes;
+            }
+            if (insert(new Entry(hash, constraints, fingerprint, distributable, spacing, flex, sizes)) != null) {
+                evictions.increment();
+            }
+            return sizes;
+        }
+
+        private Entry find(int hash, List<Constraint> constraints, long fingerprint, int distributable, int spacing,
+                           Flex flex) {
+            for (Entry entry = bucket(hash); entry != null; entry = entry.chained()) {
+                if (entry.matches(hash, constraints, fingerprint, distributable, spacing, flex)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
     }
 }
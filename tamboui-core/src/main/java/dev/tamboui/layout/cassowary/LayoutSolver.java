@@ -24,7 +24,16 @@ import dev.tamboui.layout.Fraction;
  * <p>This implementation uses {@link Fraction} for exact arithmetic,
  * avoiding the cumulative rounding errors that occur with floating-point.
  *
+ * <p>Constraint sets that do not compete, such as fixed lengths around fill
+ * segments, are allocated directly in linear time without building the
+ * Cassowary system; the result is the same.
+ *
+ * <p>The other constraint sets are solved by the {@link Engine} given at
+ * construction, by default the one named by the {@value Engine#PROPERTY}
+ * system property ({@code exact} or {@code double}), or else the exact one.
+ *
  * @see Solver
+ * @see DoubleSolver
  * @see dev.tamboui.layout.Layout
  */
 public final class LayoutSolver {
@@ -39,13 +48,89 @@ public final class LayoutSolver {
     private static final Strength FILL_GROW = Strength.MEDIUM;                      // Fill/Min growth
     private static final Strength ALL_SEGMENT_GROW = Strength.WEAK;                 // Equal-size tiebreaker
 
-    private final Solver solver;
+    private static final double ROUNDING_TOLERANCE = 1.0e-6;
+
+    private static final Engine DEFAULT_ENGINE = Engine.fromSystemProperty();
+
+    /**
+     * The simplex implementation solving competing constraints.
+     */
+    public enum Engine {
+        /**
+         * The {@link Solver}, using exact {@link Fraction} arithmetic.
+         */
+        EXACT,
+        /**
+         * The {@link DoubleSolver}, using primitive doubles. It allocates far less
+         * than the exact solver and computes the same sizes, except when
+         * floating-point error breaks a tie between equal remainders while rounding.
+         */
+        DOUBLE;
+
+        /**
+         * The system property selecting the default engine, {@code exact} or {@code double}.
+         */
+        public static final String PROPERTY = "tamboui.layout.solver";
+
+        /**
+         * Returns the engine named by the {@value #PROPERTY} system property.
+         *
+         * @return the selected engine, or {@link #EXACT} if the property is unset or unknown
+         */
+        public static Engine fromSystemProperty() {
+            String name = System.getProperty(PROPERTY);
+            return name != null && name.trim().equalsIgnoreCase("double") ? DOUBLE : EXACT;
+        }
+    }
+
+    private final Engine engine;
+    private final boolean incremental;
+    // Created on the first simplex solve: most layouts are allocated directly
+    private Solver solver;
+    private DoubleSolver doubleSolver;
 
     /**
-     * Creates a new layout solver.
+     * Creates a new layout solver using the default engine.
+     *
+     * @see Engine#fromSystemProperty()
      */
     public LayoutSolver() {
-        this.solver = new Solver();
+        this(DEFAULT_ENGINE);
+    }
+
+    /**
+     * Creates a new incremental layout solver using the given engine.
+     *
+     * @param engine the engine solving competing constraints
+     */
+    public LayoutSolver(Engine engine) {
+        this(engine, true);
+    }
+
+    /**
+     * Creates a new layout solver using the given engine.
+     * <p>
+     * An incremental solver keeps, per thread, the solved system of the
+     * constraint lists it recently solved, with the available space as an
+     * edit variable. Solving the same constraints for another space, as every
+     * layout does on each frame of a resize, then re-optimizes that system
+     * instead of building a new one.
+     *
+     * @param engine      the engine solving competing constraints
+     * @param incremental whether to re-optimize the systems of recently solved constraints
+     */
+    public LayoutSolver(Engine engine, boolean incremental) {
+        this.engine = engine;
+        this.incremental = incremental;
+    }
+
+    /**
+     * Returns the engine solving competing constraints.
+     *
+     * @return the engine
+     */
+    public Engine engine() {
+        return engine;
     }
 
     /**
@@ -58,19 +143,104 @@ public final class LayoutSolver {
      * @return array of computed sizes for each constraint
      */
     public int[] solve(List<Constraint> constraints, int available, int spacing, Flex flex) {
+        if (constraints.isEmpty()) {
+            return new int[0];
+        }
+        Fraction[] direct = DirectAllocator.allocate(constraints, available, spacing);
+        if (direct != null) {
+            return roundWithConstraint(direct, available);
+        }
+        if (incremental) {
+            try {
+                int[] sizes = ResizableLayout.solve(constraints, available, spacing, engine);
+                if (sizes != null) {
+                    return sizes;
+                }
+            } catch (SolverException | ArithmeticException e) {
+                // Report the failure, if any, as solving from scratch does
+            }
+        }
+        return solveWithSimplex(constraints, available, spacing);
+    }
+
+    /**
+     * Solves layout constraints with the simplex engine, whatever the constraints.
+     *
+     * @param constraints TamboUI constraints for each segment
+     * @param available   total available space
+     * @param spacing     space between elements
+     * @return array of computed sizes for each constraint
+     */
+    int[] solveWithSimplex(List<Constraint> constraints, int available, int spacing) {
         int n = constraints.size();
         if (n == 0) {
             return new int[0];
         }
 
+        Variable[] sizes = createSizeVariables(n);
+        List<CassowaryConstraint> allConstraints =
+                collectConstraints(constraints, sizes, spacing, Expression.constant(available));
+
+        if (engine == Engine.DOUBLE) {
+            if (doubleSolver == null) {
+                doubleSolver = new DoubleSolver();
+            }
+            doubleSolver.reset();
+            doubleSolver.addConstraints(allConstraints);
+            doubleSolver.updateVariables();
+            double[] doubleSizes = new double[n];
+            for (int i = 0; i < n; i++) {
+                doubleSizes[i] = doubleSolver.valueOf(sizes[i]);
+            }
+            return roundWithConstraint(doubleSizes, available);
+        }
+
+        // Add all constraints in batch (single optimization pass)
+        if (solver == null) {
+            solver = new Solver();
+        }
         solver.reset();
+        solver.addConstraints(allConstraints);
 
-        Variable[] sizes = new Variable[n];
-        Variable[] positions = new Variable[n + 1];
+        // Solve and extract results
+        solver.updateVariables();
+
+        // Get exact Fraction values and convert to integers.
+        // Using Fraction arithmetic avoids cumulative rounding errors.
+        Fraction[] fractionSizes = new Fraction[n];
+        for (int i = 0; i < n; i++) {
+            Fraction value = solver.valueOf(sizes[i]);
+            fractionSizes[i] = value.isNegative() ? Fraction.ZERO : value;
+        }
+
+        return roundWithConstraint(fractionSizes, available);
+    }
 
-        // Create variables
+    /**
+     * Creates a size variable for each of {@code n} segments.
+     */
+    static Variable[] createSizeVariables(int n) {
+        Variable[] sizes = new Variable[n];
         for (int i = 0; i < n; i++) {
             sizes[i] = new Variable("size_" + i);
+        }
+        return sizes;
+    }
+
+    /**
+     * Collects the Cassowary constraints of a layout.
+     *
+     * @param constraints TamboUI constraints for each segment
+     * @param sizes       the size variable of each segment
+     * @param spacing     space between elements
+     * @param available   the available space, a constant or a variable
+     * @return the constraints, in the order they are added to the solver
+     */
+    static List<CassowaryConstraint> collectConstraints(List<Constraint> constraints, Variable[] sizes,
+                                                        int spacing, Expression available) {
+        int n = constraints.size();
+        Variable[] positions = new Variable[n + 1];
+        for (int i = 0; i < n; i++) {
             positions[i] = new Variable("pos_" + i);
         }
         positions[n] = new Variable("pos_end");
@@ -91,30 +261,15 @@ public final class LayoutSolver {
 
         // Add equal-size tiebreaker constraints (all segments weakly prefer to be equal)
         collectEqualSizeTendency(allConstraints, sizes);
-
-        // Add all constraints in batch (single optimization pass)
-        solver.addConstraints(allConstraints);
-
-        // Solve and extract results
-        solver.updateVariables();
-
-        // Get exact Fraction values and convert to integers.
-        // Using Fraction arithmetic avoids cumulative rounding errors.
-        Fraction[] fractionSizes = new Fraction[n];
-        for (int i = 0; i < n; i++) {
-            Fraction value = solver.valueOf(sizes[i]);
-            fractionSizes[i] = value.isNegative() ? Fraction.ZERO : value;
-        }
-
-        return roundWithConstraint(fractionSizes, available);
+        return allConstraints;
     }
 
     /**
      * Collects structural constraints that define the relationship between positions and sizes.
      */
-    private void collectStructuralConstraints(List<CassowaryConstraint> dest,
-                                              Variable[] positions, Variable[] sizes,
-                                              int n, int spacing, int available) {
+    private static void collectStructuralConstraints(List<CassowaryConstraint> dest,
+                                                     Variable[] positions, Variable[] sizes,
+                                                     int n, int spacing, Expression available) {
         // All sizes must be non-negative
         for (int i = 0; i < n; i++) {
             dest.add(Expression.variable(sizes[i])
@@ -142,7 +297,8 @@ public final class LayoutSolver {
     /**
      * Collects Cassowary constraints for a TamboUI constraint.
      */
-    private void collectConstraintFor(List<CassowaryConstraint> dest, Constraint c, Variable size, int available) {
+    private static void collectConstraintFor(List<CassowaryConstraint> dest, Constraint c, Variable size,
+                                             Expression available) {
         if (c instanceof Constraint.Length) {
             // Fixed size: size == value (strong)
             int value = ((Constraint.Length) c).value();
@@ -153,14 +309,14 @@ public final class LayoutSolver {
             // Percentage: size == available * percent / 100
             // Use exact Fraction arithmetic: available * percent / 100
             int percent = ((Constraint.Percentage) c).value();
-            Fraction target = Fraction.of(available).multiply(Fraction.of(percent, 100));
+            Expression target = available.times(Fraction.of(percent, 100));
             dest.add(Expression.variable(size)
                     .equalTo(target, PERCENTAGE_SIZE_EQ));
 
         } else if (c instanceof Constraint.Ratio) {
             // Ratio: size == available * ratio
             Constraint.Ratio ratio = (Constraint.Ratio) c;
-            Fraction target = Fraction.of(available).multiply(ratio.toFraction());
+            Expression target = available.times(ratio.toFraction());
             dest.add(Expression.variable(size)
                     .equalTo(target, RATIO_SIZE_EQ));
 
@@ -194,8 +350,8 @@ public final class LayoutSolver {
      * Collects proportionality constraints between Fill segments.
      * Makes Fill(2) twice as large as Fill(1), etc.
      */
-    private void collectFillProportionalityConstraints(List<CassowaryConstraint> dest,
-                                                       List<Constraint> constraints, Variable[] sizes) {
+    private static void collectFillProportionalityConstraints(List<CassowaryConstraint> dest,
+                                                              List<Constraint> constraints, Variable[] sizes) {
         int n = constraints.size();
 
         // Find all Fill and Min constraints (Min behaves like Fill in non-legacy mode)
@@ -217,7 +373,7 @@ public final class LayoutSolver {
     /**
      * Returns the fill scale for a constraint, or 0 if it's not a fill-like constraint.
      */
-    private Fraction getFillScale(Constraint c) {
+    private static Fraction getFillScale(Constraint c) {
         if (c instanceof Constraint.Fill) {
             int weight = ((Constraint.Fill) c).weight();
             // Use small fraction for weight 0 to allow proportional collapse
@@ -233,7 +389,7 @@ public final class LayoutSolver {
      * Collects weak constraints that make all segments tend toward equal size.
      * This serves as a tiebreaker when other constraints don't fully determine sizes.
      */
-    private void collectEqualSizeTendency(List<CassowaryConstraint> dest, Variable[] sizes) {
+    private static void collectEqualSizeTendency(List<CassowaryConstraint> dest, Variable[] sizes) {
         int n = sizes.length;
         for (int i = 0; i < n - 1; i++) {
             // Each segment weakly prefers to be equal to the next
@@ -257,7 +413,7 @@ public final class LayoutSolver {
      * @param target        the maximum sum (available space)
      * @return integer sizes that sum to at most target
      */
-    private int[] roundWithConstraint(Fraction[] fractionSizes, int target) {
+    static int[] roundWithConstraint(Fraction[] fractionSizes, int target) {
         int n = fractionSizes.length;
         int[] result = new int[n];
 
@@ -291,4 +447,54 @@ public final class LayoutSolver {
 
         return result;
     }
-}
+
+    /**
+     * Converts double sizes to integers using the largest remainder method,
+     * like {@link #roundWithConstraint(Fraction[], int)}.
+     *
+     * <p>Values within {@value #ROUNDING_TOLERANCE} of an integer are taken as
+     * that integer, and remainders within it of each other as equal, so that
+     * floating-point error does not change the result.
+     *
+     * @param doubleSizes the sizes from the double solver
+     * @param target      the maximum sum (available space)
+     * @return integer sizes that sum to at most target
+     */
+    static int[] roundWithConstraint(double[] doubleSizes, int target) {
+        int n = doubleSizes.length;
+        int[] result = new int[n];
+        double[] remainders = new double[n];
+
+        int sum = 0;
+        for (int i = 0; i < n; i++) {
+            double value = Math.max(0, doubleSizes[i]);
+            double nearest = Math.rint(value);
+            if (Math.abs(value - nearest) < ROUNDING_TOLERANCE) {
+                value = nearest;
+            }
+            result[i] = (int) Math.floor(value);
+            remainders[i] = value - result[i];
+            sum += result[i];
+        }
+
+        int remaining = target - sum;
+        while (remaining > 0) {
+            int maxIdx = -1;
+            double maxRemainder = 0;
+            for (int i = 0; i < n; i++) {
+                if (remainders[i] > maxRemainder + ROUNDING_TOLERANCE) {
+                    maxRemainder = remainders[i];
+                    maxIdx = i;
+                }
+            }
+            if (maxIdx < 0) {
+                break;
+            }
+            result[maxIdx]++;
+            remainders[maxIdx] = 0;
+            remaining--;
+        }
+
+        return result;
+    }
+}
\ No newline at end of file
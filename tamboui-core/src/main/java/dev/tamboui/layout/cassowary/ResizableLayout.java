@@ -0,0 +1,172 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout.cassowary;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Fraction;
+
+/**
+ * A solved layout system kept across changes of the available space.
+ *
+ * <p>The available space is a required edit variable of the system rather
+ * than a constant of its constraints, so solving the same constraints for
+ * another size only suggests the new value and lets the dual simplex method
+ * re-optimize the existing tableau, typically in a few pivots, instead of
+ * adding every constraint to a new solver.
+ *
+ * <p>Systems are kept per thread, for the most recently used constraint
+ * lists, spacings and engines.
+ */
+final class ResizableLayout {
+
+    private static final int MAX_LAYOUTS = 64;
+    private static final ThreadLocal<Map<Key, ResizableLayout>> LAYOUTS =
+        ThreadLocal.withInitial(() -> new LinkedHashMap<Key, ResizableLayout>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ResizableLayout> eldest) {
+                return size() > MAX_LAYOUTS;
+            }
+        });
+
+    private final Solver solver;
+    private final DoubleSolver doubleSolver;
+    private final Variable available;
+    private final Variable[] sizes;
+    private int current;
+
+    private ResizableLayout(List<Constraint> constraints, int spacing, LayoutSolver.Engine engine, int initial) {
+        this.available = new Variable("available");
+        this.sizes = LayoutSolver.createSizeVariables(constraints.size());
+        List<CassowaryConstraint> allConstraints =
+                LayoutSolver.collectConstraints(constraints, sizes, spacing, Expression.variable(available));
+        // The edit variable takes its value before the constraints depending on it are added,
+        // so that required minimums are satisfiable from the start
+        if (engine == LayoutSolver.Engine.DOUBLE) {
+            this.solver = null;
+            this.doubleSolver = new DoubleSolver();
+            doubleSolver.addEditVariable(available, Strength.REQUIRED);
+            doubleSolver.suggestValue(available, initial);
+            doubleSolver.addConstraints(allConstraints);
+        } else {
+            this.solver = new Solver();
+            this.doubleSolver = null;
+            solver.addEditVariable(available, Strength.REQUIRED);
+            solver.suggestValue(available, Fraction.of(initial));
+            solver.addConstraints(allConstraints);
+        }
+        this.current = initial;
+    }
+
+    /**
+     * Solves constraints for the given space, re-optimizing the system kept
+     * for these constraints if there is one.
+     *
+     * @param constraints TamboUI constraints for each segment
+     * @param available   total available space
+     * @param spacing     space between elements
+     * @param engine      the simplex engine
+     * @return array of computed sizes for each constraint, or {@code null} if
+     *         other sizes are as good, in which case the result of solving from
+     *         scratch depends on the order of the constraints
+     * @throws SolverException if the constraints cannot be solved for this space;
+     *                         the system is then discarded
+     */
+    static int[] solve(List<Constraint> constraints, int available, int spacing, LayoutSolver.Engine engine) {
+        Map<Key, ResizableLayout> layouts = LAYOUTS.get();
+        Key key = new Key(constraints, spacing, engine);
+        ResizableLayout layout = layouts.get(key);
+        try {
+            if (layout == null) {
+                layout = new ResizableLayout(constraints, spacing, engine, available);
+                layouts.put(key, layout);
+            }
+            return layout.resize(available);
+        } catch (SolverException | ArithmeticException e) {
+            layouts.remove(key);
+            throw e;
+        }
+    }
+
+    /**
+     * Discards the systems kept for the current thread.
+     */
+    static void clear() {
+        LAYOUTS.remove();
+    }
+
+    private int[] resize(int newAvailable) {
+        int n = sizes.length;
+        if (doubleSolver != null) {
+            if (newAvailable != current) {
+                doubleSolver.suggestValue(available, newAvailable);
+                current = newAvailable;
+            }
+            if (!doubleSolver.hasUniqueSolution()) {
+                return null;
+            }
+            doubleSolver.updateVariables();
+            double[] doubleSizes = new double[n];
+            for (int i = 0; i < n; i++) {
+                doubleSizes[i] = doubleSolver.valueOf(sizes[i]);
+            }
+            return LayoutSolver.roundWithConstraint(doubleSizes, newAvailable);
+        }
+        if (newAvailable != current) {
+            solver.suggestValue(available, Fraction.of(newAvailable));
+            current = newAvailable;
+        }
+        if (!solver.hasUniqueSolution()) {
+            return null;
+        }
+        solver.updateVariables();
+        Fraction[] fractionSizes = new Fraction[n];
+        for (int i = 0; i < n; i++) {
+            Fraction value = solver.valueOf(sizes[i]);
+            fractionSizes[i] = value.isNegative() ? Fraction.ZERO : value;
+        }
+        return LayoutSolver.roundWithConstraint(fractionSizes, newAvailable);
+    }
+
+    /**
+     * The shape of a layout system: everything but the available space.
+     */
+    private static final class Key {
+        private final List<Constraint> constraints;
+        private final int spacing;
+        private final LayoutSolver.Engine engine;
+        private final int hashCode;
+
+        Key(List<Constraint> constraints, int spacing, LayoutSolver.Engine engine) {
+            this.constraints = constraints;
+            this.spacing = spacing;
+            this.engine = engine;
+            this.hashCode = 31 * (31 * constraints.hashCode() + spacing) + engine.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return hashCode == that.hashCode
+                && spacing == that.spacing
+                && engine == that.engine
+                && constraints.equals(that.constraints);
+        }
+    }
+}
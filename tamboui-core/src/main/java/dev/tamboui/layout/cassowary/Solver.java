@@ -196,18 +196,20 @@ public final class Solver {
     /**
      * Adds an edit variable for interactive updates.
      *
+     * <p>The variable starts with a suggested value of 0. With a
+     * {@link Strength#REQUIRED required} strength, the variable always takes
+     * the suggested value exactly, which makes it a parameter of the system:
+     * suggesting a value then re-optimizes the existing tableau rather than
+     * requiring the constraints to be added again.
+     *
      * @param variable the variable to make editable
-     * @param strength the strength of the edit constraint (must not be REQUIRED)
-     * @throws IllegalArgumentException if strength is REQUIRED
+     * @param strength the strength of the edit constraint
+     * @throws SolverException if the variable is already an edit variable
      */
     public void addEditVariable(Variable variable, Strength strength) {
         if (edits.containsKey(variable)) {
             throw new SolverException("Edit variable already exists: " + variable);
         }
-        if (strength.isRequired()) {
-            throw new IllegalArgumentException(
-                    "Edit variable strength cannot be REQUIRED");
-        }
 
         // Create a stay constraint: variable == currentValue
         CassowaryConstraint constraint = Expression.variable(variable)
@@ -249,11 +251,14 @@ public final class Solver {
     /**
      * Suggests a new value for an edit variable.
      *
-     * <p>Call {@link #updateVariables()} after suggesting values.
+     * <p>The dual simplex method then restores the feasibility of the tableau,
+     * keeping it optimal. Call {@link #updateVariables()} after suggesting values.
      *
      * @param variable the edit variable
      * @param value    the suggested value
      * @throws SolverException if the variable is not an edit variable
+     * @throws InternalSolverException if the value makes a required constraint
+     *                                 unsatisfiable, after which the solver must be reset
      */
     public void suggestValue(Variable variable, Fraction value) {
         EditInfo info = edits.get(variable);
@@ -263,28 +268,23 @@ public final class Solver {
 
         Fraction delta = value.subtract(info.constant);
         info.constant = value;
+        if (info.tag.marker.type() == Symbol.Type.DUMMY) {
+            // A required edit is marked by a dummy with the opposite sign of an error
+            delta = delta.negate();
+        }
 
-        // Try to update the marker row directly
         Row row = rows.get(info.tag.marker);
         if (row != null) {
             row.setConstant(row.constant().subtract(delta));
-            return;
-        }
-
-        // Try to update the other row directly
-        row = rows.get(info.tag.other);
-        if (row != null) {
+        } else if (info.tag.other != null && (row = rows.get(info.tag.other)) != null) {
             row.setConstant(row.constant().add(delta));
-            return;
-        }
-
-        // The symbol is not basic - update all rows that contain it
-        for (Map.Entry<Symbol, Row> entry : rows.entrySet()) {
-            Fraction coeff = entry.getValue().coefficientFor(info.tag.marker);
-            if (!coeff.isZero()
-                    && entry.getKey().type() != Symbol.Type.EXTERNAL) {
-                entry.getValue().setConstant(
-                        entry.getValue().constant().add(delta.multiply(coeff)));
+        } else {
+            // Every row depending on the marker moves, including those of external variables
+            for (Row dependent : rows.values()) {
+                Fraction coeff = dependent.coefficientFor(info.tag.marker);
+                if (!coeff.isZero()) {
+                    dependent.setConstant(dependent.constant().add(delta.multiply(coeff)));
+                }
             }
         }
 
@@ -309,6 +309,27 @@ public final class Solver {
         }
     }
 
+    /**
+     * Checks that the current solution is the only optimal one.
+     *
+     * <p>This holds when every non-basic symbol that a variable depends on has
+     * a positive cost in the objective: moving any of them away from zero then
+     * makes the solution worse. Otherwise, the solution found may depend on the
+     * order in which constraints were added and values suggested.
+     *
+     * @return true if no other solution is as good, false if there may be one
+     */
+    boolean hasUniqueSolution() {
+        for (Row row : rows.values()) {
+            for (Symbol symbol : row.cells().keySet()) {
+                if (symbol.type() != Symbol.Type.DUMMY && !objective.coefficientFor(symbol).isPositive()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the current value of a variable.
      *
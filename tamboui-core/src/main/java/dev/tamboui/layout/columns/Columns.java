@@ -7,12 +7,15 @@ package dev.tamboui.layout.columns;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import dev.tamboui.buffer.Buffer;
 import dev.tamboui.layout.Constraint;
 import dev.tamboui.layout.Flex;
+import dev.tamboui.layout.GeometryCache;
 import dev.tamboui.layout.Layout;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
 import dev.tamboui.widget.Widget;
 
 import static dev.tamboui.util.CollectionUtil.listCopyOf;
@@ -41,22 +44,17 @@ import static dev.tamboui.util.CollectionUtil.listCopyOf;
  */
 public final class Columns implements Widget {
 
+    private static final GeometryCache<Shape, Rect[]> GEOMETRY = new GeometryCache<>(64);
+
     private final List<Widget> children;
-    private final int columnCount;
-    private final int spacing;
-    private final Flex flex;
-    private final ColumnOrder order;
-    private final List<Constraint> columnWidths;
-    private final int[] rowHeights;
+    // Everything but the children: what the cell geometry depends on
+    private final Shape shape;
 
     private Columns(Builder builder) {
         this.children = listCopyOf(builder.children);
-        this.columnCount = builder.columnCount;
-        this.spacing = builder.spacing;
-        this.flex = builder.flex;
-        this.order = builder.order;
-        this.columnWidths = builder.columnWidths != null ? listCopyOf(builder.columnWidths) : null;
-        this.rowHeights = builder.rowHeights != null ? builder.rowHeights.clone() : null;
+        this.shape = new Shape(children.size(), builder.columnCount, builder.spacing, builder.flex, builder.order,
+            builder.columnWidths != null ? listCopyOf(builder.columnWidths) : null,
+            builder.rowHeights != null ? builder.rowHeights.clone() : null);
     }
 
     /**
@@ -70,95 +68,159 @@ public final class Columns implements Widget {
 
     @Override
     public void render(Rect area, Buffer buffer) {
-        if (area.isEmpty() || children.isEmpty() || columnCount <= 0) {
+        if (area.isEmpty() || children.isEmpty() || shape.columnCount <= 0) {
             return;
         }
 
-        int cols = Math.min(columnCount, children.size());
-        int rows = (children.size() + cols - 1) / cols;
-
-        // Build horizontal constraints with spacing gaps
-        List<Constraint> hConstraints = buildHorizontalConstraints(cols);
-
-        List<Rect> colAreas = Layout.horizontal()
-            .constraints(hConstraints)
-            .flex(flex)
-            .split(area);
+        // Cells of the children, null for those in rows that do not fit
+        Rect[] cells = GEOMETRY.get(shape, area, Shape::resolve);
+        for (int i = 0; i < children.size(); i++) {
+            if (cells[i] != null) {
+                children.get(i).render(cells[i], buffer);
+            }
+        }
+    }
 
-        // Extract only the column areas (skip spacing areas)
-        List<Rect> columnRects = extractColumnRects(colAreas);
+    /**
+     * The structure of a columns layout, which determines the geometry of its
+     * cells in an area. Layouts rebuilt with the same structure share their
+     * geometry through {@link #GEOMETRY}.
+     */
+    private static final class Shape {
+        private final int childCount;
+        private final int columnCount;
+        private final int spacing;
+        private final Flex flex;
+        private final ColumnOrder order;
+        private final List<Constraint> columnWidths;
+        private final int[] rowHeights;
+        private final int hashCode;
 
-        // Compute per-row heights
-        int[] heights = computeRowHeights(rows, area.height());
+        Shape(int childCount, int columnCount, int spacing, Flex flex, ColumnOrder order,
+              List<Constraint> columnWidths, int[] rowHeights) {
+            this.childCount = childCount;
+            this.columnCount = columnCount;
+            this.spacing = spacing;
+            this.flex = flex;
+            this.order = order;
+            this.columnWidths = columnWidths;
+            this.rowHeights = rowHeights;
+            int result = childCount;
+            result = 31 * result + columnCount;
+            result = 31 * result + spacing;
+            result = 31 * result + Objects.hashCode(flex);
+            result = 31 * result + Objects.hashCode(order);
+            result = 31 * result + Objects.hashCode(columnWidths);
+            result = 31 * result + Arrays.hashCode(rowHeights);
+            this.hashCode = result;
+        }
 
-        // Render each child in its cell
-        int currentY = area.y();
-        for (int row = 0; row < rows; row++) {
-            if (currentY >= area.bottom()) {
-                break;
-            }
-            int rowHeight = Math.min(heights[row], area.bottom() - currentY);
-            for (int col = 0; col < cols && col < columnRects.size(); col++) {
-                int childIndex = order.resolveIndex(row, col, rows, cols);
-                if (childIndex < children.size()) {
-                    Widget child = children.get(childIndex);
-                    Rect colRect = columnRects.get(col);
-                    Rect cellArea = new Rect(colRect.x(), currentY, colRect.width(), rowHeight);
-                    child.render(cellArea, buffer);
-                }
-            }
-            currentY += rowHeight;
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
-    }
 
-    private List<Constraint> buildHorizontalConstraints(int cols) {
-        List<Constraint> constraints = new ArrayList<>();
-        for (int c = 0; c < cols; c++) {
-            if (columnWidths != null && c < columnWidths.size()) {
-                constraints.add(columnWidths.get(c));
-            } else {
-                constraints.add(Constraint.fill());
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
             }
-            if (spacing > 0 && c < cols - 1) {
-                constraints.add(Constraint.length(spacing));
+            if (!(o instanceof Shape)) {
+                return false;
             }
+            Shape that = (Shape) o;
+            return hashCode == that.hashCode
+                && childCount == that.childCount
+                && columnCount == that.columnCount
+                && spacing == that.spacing
+                && flex == that.flex
+                && order == that.order
+                && Objects.equals(columnWidths, that.columnWidths)
+                && Arrays.equals(rowHeights, that.rowHeights);
         }
-        return constraints;
-    }
 
-    private List<Rect> extractColumnRects(List<Rect> colAreas) {
-        List<Rect> columnRects = new ArrayList<>();
-        for (int i = 0; i < colAreas.size(); i++) {
-            if (spacing > 0 && i % 2 == 1) {
-                continue;
+        /**
+         * Computes the cell of each child, null for children in rows that do not fit.
+         */
+        Rect[] resolve(Rect area) {
+            int cols = Math.min(columnCount, childCount);
+            int rows = (childCount + cols - 1) / cols;
+
+            // Build horizontal constraints with spacing gaps
+            List<Constraint> hConstraints = buildHorizontalConstraints(cols);
+
+            Rect[] cells = new Rect[childCount];
+            try (SplitResult colAreas = SplitResult.acquire()) {
+                Layout.horizontal()
+                    .constraints(hConstraints)
+                    .flex(flex)
+                    .split(area, colAreas);
+
+                // Column areas alternate with spacing areas
+                int stride = spacing > 0 ? 2 : 1;
+
+                // Compute per-row heights
+                int[] heights = computeRowHeights(rows, area.height());
+
+                // Place each child in its cell
+                int currentY = area.y();
+                for (int row = 0; row < rows; row++) {
+                    if (currentY >= area.bottom()) {
+                        break;
+                    }
+                    int rowHeight = Math.min(heights[row], area.bottom() - currentY);
+                    for (int col = 0; col < cols; col++) {
+                        int childIndex = order.resolveIndex(row, col, rows, cols);
+                        if (childIndex < childCount) {
+                            int colIndex = col * stride;
+                            cells[childIndex] = new Rect(colAreas.position(colIndex), currentY,
+                                colAreas.size(colIndex), rowHeight);
+                        }
+                    }
+                    currentY += rowHeight;
+                }
             }
-            columnRects.add(colAreas.get(i));
+            return cells;
         }
-        return columnRects;
-    }
 
-    private int[] computeRowHeights(int rows, int availableHeight) {
-        int[] heights = new int[rows];
-        if (rowHeights != null) {
-            // Use provided row heights, capped to available height
-            int remaining = availableHeight;
-            for (int i = 0; i < rows; i++) {
-                if (i < rowHeights.length) {
-                    heights[i] = Math.min(rowHeights[i], remaining);
+        private List<Constraint> buildHorizontalConstraints(int cols) {
+            List<Constraint> constraints = new ArrayList<>();
+            for (int c = 0; c < cols; c++) {
+                if (columnWidths != null && c < columnWidths.size()) {
+                    constraints.add(columnWidths.get(c));
                 } else {
-                    heights[i] = Math.min(1, remaining);
+                    constraints.add(Constraint.fill());
+                }
+                if (spacing > 0 && c < cols - 1) {
+                    constraints.add(Constraint.length(spacing));
                 }
-                remaining = Math.max(0, remaining - heights[i]);
             }
-        } else {
-            // Equal distribution
-            int baseHeight = availableHeight / rows;
-            int remainder = availableHeight % rows;
-            for (int i = 0; i < rows; i++) {
-                heights[i] = baseHeight + (i < remainder ? 1 : 0);
+            return constraints;
+        }
+
+        private int[] computeRowHeights(int rows, int availableHeight) {
+            int[] heights = new int[rows];
+            if (rowHeights != null) {
+                // Use provided row heights, capped to available height
+                int remaining = availableHeight;
+                for (int i = 0; i < rows; i++) {
+                    if (i < rowHeights.length) {
+                        heights[i] = Math.min(rowHeights[i], remaining);
+                    } else {
+                        heights[i] = Math.min(1, remaining);
+                    }
+                    remaining = Math.max(0, remaining - heights[i]);
+                }
+            } else {
+                // Equal distribution
+                int baseHeight = availableHeight / rows;
+                int remainder = availableHeight % rows;
+                for (int i = 0; i < rows; i++) {
+                    heights[i] = baseHeight + (i < remainder ? 1 : 0);
+                }
             }
+            return heights;
         }
-        return heights;
     }
 
     /**
@@ -6,11 +6,14 @@ package dev.tamboui.layout.dock;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import dev.tamboui.buffer.Buffer;
 import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.GeometryCache;
 import dev.tamboui.layout.Layout;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
 import dev.tamboui.widget.Widget;
 
 /**
@@ -43,6 +46,13 @@ import dev.tamboui.widget.Widget;
  */
 public final class Dock implements Widget {
 
+    private static final GeometryCache<Shape, Rect[]> GEOMETRY = new GeometryCache<>(64);
+    private static final int TOP = 0;
+    private static final int BOTTOM = 1;
+    private static final int LEFT = 2;
+    private static final int RIGHT = 3;
+    private static final int CENTER = 4;
+
     private final Widget top;
     private final Widget bottom;
     private final Widget left;
@@ -52,6 +62,7 @@ public final class Dock implements Widget {
     private final Constraint bottomHeight;
     private final Constraint leftWidth;
     private final Constraint rightWidth;
+    private final Shape shape;
 
     private Dock(Builder builder) {
         this.top = builder.top;
@@ -63,6 +74,7 @@ public final class Dock implements Widget {
         this.bottomHeight = builder.bottomHeight;
         this.leftWidth = builder.leftWidth;
         this.rightWidth = builder.rightWidth;
+        this.shape = new Shape(this);
     }
 
     /**
@@ -83,86 +95,158 @@ public final class Dock implements Widget {
             return;
         }
 
-        // Step 1: Vertical split for top / middle / bottom
-        Rect topRect = null;
-        Rect middleRect;
-        Rect bottomRect = null;
+        Rect[] regions = GEOMETRY.get(shape, area, Shape::resolve);
 
-        List<Constraint> vConstraints = new ArrayList<>();
-        if (top != null) {
-            vConstraints.add(topHeight);
+        // Render each non-null region
+        if (top != null && regions[TOP] != null) {
+            top.render(regions[TOP], buffer);
+        }
+        if (bottom != null && regions[BOTTOM] != null) {
+            bottom.render(regions[BOTTOM], buffer);
+        }
+        if (left != null && regions[LEFT] != null) {
+            left.render(regions[LEFT], buffer);
         }
-        vConstraints.add(Constraint.fill());
-        if (bottom != null) {
-            vConstraints.add(bottomHeight);
+        if (right != null && regions[RIGHT] != null) {
+            right.render(regions[RIGHT], buffer);
         }
+        if (center != null && regions[CENTER] != null) {
+            center.render(regions[CENTER], buffer);
+        }
+    }
 
-        List<Rect> vAreas = Layout.vertical()
-            .constraints(vConstraints)
-            .split(area);
+    /**
+     * The regions present in a dock and their sizes, which determine the
+     * geometry of the regions in an area. Docks rebuilt with the same shape
+     * share their geometry through {@link #GEOMETRY}.
+     */
+    private static final class Shape {
+        private final boolean hasTop;
+        private final boolean hasBottom;
+        private final boolean hasLeft;
+        private final boolean hasRight;
+        private final boolean hasCenter;
+        private final Constraint topHeight;
+        private final Constraint bottomHeight;
+        private final Constraint leftWidth;
+        private final Constraint rightWidth;
+        private final int hashCode;
 
-        int idx = 0;
-        if (top != null) {
-            topRect = vAreas.get(idx++);
-        }
-        middleRect = vAreas.get(idx++);
-        if (bottom != null) {
-            bottomRect = vAreas.get(idx);
+        Shape(Dock dock) {
+            this.hasTop = dock.top != null;
+            this.hasBottom = dock.bottom != null;
+            this.hasLeft = dock.left != null;
+            this.hasRight = dock.right != null;
+            this.hasCenter = dock.center != null;
+            this.topHeight = dock.topHeight;
+            this.bottomHeight = dock.bottomHeight;
+            this.leftWidth = dock.leftWidth;
+            this.rightWidth = dock.rightWidth;
+            int result = (hasTop ? 1 : 0) | (hasBottom ? 2 : 0) | (hasLeft ? 4 : 0)
+                | (hasRight ? 8 : 0) | (hasCenter ? 16 : 0);
+            result = 31 * result + Objects.hashCode(topHeight);
+            result = 31 * result + Objects.hashCode(bottomHeight);
+            result = 31 * result + Objects.hashCode(leftWidth);
+            result = 31 * result + Objects.hashCode(rightWidth);
+            this.hashCode = result;
         }
 
-        // Step 2: Horizontal split of middle for left / center / right
-        Rect leftRect = null;
-        Rect centerRect = null;
-        Rect rightRect = null;
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
 
-        if (left != null || center != null || right != null) {
-            List<Constraint> hConstraints = new ArrayList<>();
-            if (left != null) {
-                hConstraints.add(leftWidth);
-            }
-            if (center != null || (left == null && right == null)) {
-                hConstraints.add(Constraint.fill());
-            } else if (left != null && right != null) {
-                // No center, both sides present — zero-width gap so sides share space
-                hConstraints.add(Constraint.length(0));
-            } else {
-                hConstraints.add(Constraint.fill());
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
             }
-            if (right != null) {
-                hConstraints.add(rightWidth);
+            if (!(o instanceof Shape)) {
+                return false;
             }
+            Shape that = (Shape) o;
+            return hashCode == that.hashCode
+                && hasTop == that.hasTop
+                && hasBottom == that.hasBottom
+                && hasLeft == that.hasLeft
+                && hasRight == that.hasRight
+                && hasCenter == that.hasCenter
+                && Objects.equals(topHeight, that.topHeight)
+                && Objects.equals(bottomHeight, that.bottomHeight)
+                && Objects.equals(leftWidth, that.leftWidth)
+                && Objects.equals(rightWidth, that.rightWidth);
+        }
 
-            List<Rect> hAreas = Layout.horizontal()
-                .constraints(hConstraints)
-                .split(middleRect);
+        /**
+         * Computes the region rectangles, indexed by {@link #TOP} to {@link #CENTER},
+         * null for absent regions.
+         */
+        Rect[] resolve(Rect area) {
+            Rect[] regions = new Rect[5];
 
-            int hIdx = 0;
-            if (left != null) {
-                leftRect = hAreas.get(hIdx++);
+            // Step 1: Vertical split for top / middle / bottom
+            Rect middleRect;
+
+            List<Constraint> vConstraints = new ArrayList<>();
+            if (hasTop) {
+                vConstraints.add(topHeight);
             }
-            centerRect = hAreas.get(hIdx++);
-            if (right != null) {
-                rightRect = hAreas.get(hIdx);
+            vConstraints.add(Constraint.fill());
+            if (hasBottom) {
+                vConstraints.add(bottomHeight);
             }
-        } else {
-            centerRect = middleRect;
-        }
 
-        // Render each non-null region
-        if (top != null && topRect != null) {
-            top.render(topRect, buffer);
-        }
-        if (bottom != null && bottomRect != null) {
-            bottom.render(bottomRect, buffer);
-        }
-        if (left != null && leftRect != null) {
-            left.render(leftRect, buffer);
-        }
-        if (right != null && rightRect != null) {
-            right.render(rightRect, buffer);
-        }
-        if (center != null && centerRect != null) {
-            center.render(centerRect, buffer);
+            try (SplitResult vAreas = SplitResult.acquire()) {
+                Layout.vertical()
+                    .constraints(vConstraints)
+                    .split(area, vAreas);
+
+                int idx = 0;
+                if (hasTop) {
+                    regions[TOP] = vAreas.area(idx++);
+                }
+                middleRect = vAreas.area(idx++);
+                if (hasBottom) {
+                    regions[BOTTOM] = vAreas.area(idx);
+                }
+            }
+
+            // Step 2: Horizontal split of middle for left / center / right
+            if (hasLeft || hasCenter || hasRight) {
+                List<Constraint> hConstraints = new ArrayList<>();
+                if (hasLeft) {
+                    hConstraints.add(leftWidth);
+                }
+                if (hasCenter || (!hasLeft && !hasRight)) {
+                    hConstraints.add(Constraint.fill());
+                } else if (hasLeft && hasRight) {
+                    // No center, both sides present — zero-width gap so sides share space
+                    hConstraints.add(Constraint.length(0));
+                } else {
+                    hConstraints.add(Constraint.fill());
+                }
+                if (hasRight) {
+                    hConstraints.add(rightWidth);
+                }
+
+                try (SplitResult hAreas = SplitResult.acquire()) {
+                    Layout.horizontal()
+                        .constraints(hConstraints)
+                        .split(middleRect, hAreas);
+
+                    int hIdx = 0;
+                    if (hasLeft) {
+                        regions[LEFT] = hAreas.area(hIdx++);
+                    }
+                    regions[CENTER] = hAreas.area(hIdx++);
+                    if (hasRight) {
+                        regions[RIGHT] = hAreas.area(hIdx);
+                    }
+                }
+            } else {
+                regions[CENTER] = middleRect;
+            }
+            return regions;
         }
     }
 
@@ -9,13 +9,16 @@ import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import dev.tamboui.buffer.Buffer;
 import dev.tamboui.layout.Constraint;
 import dev.tamboui.layout.Flex;
+import dev.tamboui.layout.GeometryCache;
 import dev.tamboui.layout.Layout;
 import dev.tamboui.layout.LayoutException;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
 import dev.tamboui.widget.Widget;
 
 import static dev.tamboui.util.CollectionUtil.listCopyOf;
@@ -61,36 +64,27 @@ import static dev.tamboui.util.CollectionUtil.listCopyOf;
  */
 public final class Grid implements Widget {
 
+    private static final GeometryCache<Shape, Rect[]> GEOMETRY = new GeometryCache<>(64);
+
     // Children mode fields
     private final List<Widget> children;
-    private final int columnCount;
-    private final int[] rowHeights;
 
     // Area mode fields
     private final GridArea gridArea;
     private final Map<String, Widget> areaWidgets;
 
-    // Common fields
-    private final int horizontalGutter;
-    private final int verticalGutter;
-    private final Flex flex;
-    private final List<Constraint> columnConstraints;
-    private final List<Constraint> rowConstraints;
+    // Everything but the widgets: what the cell geometry depends on
+    private final Shape shape;
 
     private Grid(List<Widget> children, int columnCount, int[] rowHeights,
                  GridArea gridArea, Map<String, Widget> areaWidgets,
                  int horizontalGutter, int verticalGutter, Flex flex,
                  List<Constraint> columnConstraints, List<Constraint> rowConstraints) {
         this.children = children;
-        this.columnCount = columnCount;
-        this.rowHeights = rowHeights;
         this.gridArea = gridArea;
         this.areaWidgets = areaWidgets;
-        this.horizontalGutter = horizontalGutter;
-        this.verticalGutter = verticalGutter;
-        this.flex = flex;
-        this.columnConstraints = columnConstraints;
-        this.rowConstraints = rowConstraints;
+        this.shape = new Shape(children != null ? children.size() : 0, columnCount, rowHeights, gridArea,
+            horizontalGutter, verticalGutter, flex, columnConstraints, rowConstraints);
     }
 
     /**
@@ -110,302 +104,366 @@ public final class Grid implements Widget {
 
         // Area-based rendering
         if (gridArea != null) {
-            renderWithAreas(area, buffer);
+            if (areaWidgets == null || areaWidgets.isEmpty()) {
+                return;
+            }
+            // Cells of the named areas, in declaration order
+            Rect[] cells = GEOMETRY.get(shape, area, Shape::resolve);
+            int index = 0;
+            for (String areaName : gridArea.areaNames()) {
+                Widget widget = areaWidgets.get(areaName);
+                if (widget != null) {
+                    widget.render(cells[index], buffer);
+                }
+                index++;
+            }
             return;
         }
 
         // Children-based rendering
-        if (children.isEmpty() || columnCount <= 0) {
+        if (children.isEmpty() || shape.columnCount <= 0) {
             return;
         }
 
-        int cols = Math.min(columnCount, children.size());
-        int rows = (children.size() + cols - 1) / cols;
-
-        // Build horizontal constraints with gutter gaps
-        List<Constraint> hConstraints = buildHorizontalConstraints(cols);
-
-        List<Rect> colAreas = Layout.horizontal()
-            .constraints(hConstraints)
-            .flex(flex)
-            .split(area);
-
-        // Extract only column areas (skip gutter areas)
-        List<Rect> columnRects = extractColumnRects(colAreas);
-
-        if (rowConstraints != null && !rowConstraints.isEmpty()) {
-            renderWithRowConstraints(area, buffer, rows, cols, columnRects);
-        } else if (rowHeights != null) {
-            renderWithExplicitRowHeights(area, buffer, rows, cols, columnRects);
-        } else {
-            renderWithEqualRowHeights(area, buffer, rows, cols, columnRects);
+        // Cells of the children, null for those in rows that do not fit
+        Rect[] cells = GEOMETRY.get(shape, area, Shape::resolve);
+        for (int i = 0; i < children.size(); i++) {
+            if (cells[i] != null) {
+                children.get(i).render(cells[i], buffer);
+            }
         }
     }
 
-    private void renderWithAreas(Rect area, Buffer buffer) {
-        if (areaWidgets == null || areaWidgets.isEmpty()) {
-            return;
+    /**
+     * The structure of a grid, which determines the geometry of its cells in
+     * an area. Grids rebuilt with the same structure share their geometry
+     * through {@link #GEOMETRY}.
+     */
+    private static final class Shape {
+        private final int childCount;
+        private final int columnCount;
+        private final int[] rowHeights;
+        private final GridArea gridArea;
+        private final int horizontalGutter;
+        private final int verticalGutter;
+        private final Flex flex;
+        private final List<Constraint> columnConstraints;
+        private final List<Constraint> rowConstraints;
+        private final int hashCode;
+
+        Shape(int childCount, int columnCount, int[] rowHeights, GridArea gridArea,
+              int horizontalGutter, int verticalGutter, Flex flex,
+              List<Constraint> columnConstraints, List<Constraint> rowConstraints) {
+            this.childCount = childCount;
+            this.columnCount = columnCount;
+            this.rowHeights = rowHeights;
+            this.gridArea = gridArea;
+            this.horizontalGutter = horizontalGutter;
+            this.verticalGutter = verticalGutter;
+            this.flex = flex;
+            this.columnConstraints = columnConstraints;
+            this.rowConstraints = rowConstraints;
+            int result = childCount;
+            result = 31 * result + columnCount;
+            result = 31 * result + Arrays.hashCode(rowHeights);
+            result = 31 * result + Objects.hashCode(gridArea);
+            result = 31 * result + horizontalGutter;
+            result = 31 * result + verticalGutter;
+            result = 31 * result + flex.hashCode();
+            result = 31 * result + Objects.hashCode(columnConstraints);
+            result = 31 * result + Objects.hashCode(rowConstraints);
+            this.hashCode = result;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Shape)) {
+                return false;
+            }
+            Shape that = (Shape) o;
+            return hashCode == that.hashCode
+                && childCount == that.childCount
+                && columnCount == that.columnCount
+                && horizontalGutter == that.horizontalGutter
+                && verticalGutter == that.verticalGutter
+                && flex == that.flex
+                && Arrays.equals(rowHeights, that.rowHeights)
+                && Objects.equals(gridArea, that.gridArea)
+                && Objects.equals(columnConstraints, that.columnConstraints)
+                && Objects.equals(rowConstraints, that.rowConstraints);
+        }
+
+        Rect[] resolve(Rect area) {
+            return gridArea != null ? resolveAreas(area) : resolveChildren(area);
+        }
+
+        private Rect[] resolveChildren(Rect area) {
+            int cols = Math.min(columnCount, childCount);
+            int rows = (childCount + cols - 1) / cols;
+
+            // Build horizontal constraints with gutter gaps
+            List<Constraint> hConstraints = buildHorizontalConstraints(cols);
+
+            try (SplitResult columnAreas = SplitResult.acquire()) {
+                Layout.horizontal()
+                    .constraints(hConstraints)
+                    .flex(flex)
+                    .split(area, columnAreas);
+
+                if (rowConstraints != null && !rowConstraints.isEmpty()) {
+                    return cellsWithRowConstraints(area, rows, cols, columnAreas);
+                } else if (rowHeights != null) {
+                    return cellsInRows(area, rows, cols, columnAreas, computeRowHeights(rows, area.height()));
+                } else {
+                    return cellsInRows(area, rows, cols, columnAreas, computeEqualRowHeights(area.height(), rows));
+                }
+            }
         }
 
-        int cols = gridArea.columns();
-        int rows = gridArea.rows();
-
-        // Build horizontal constraints with gutter gaps
-        List<Constraint> hConstraints = buildHorizontalConstraintsForAreas(cols);
+        private Rect[] resolveAreas(Rect area) {
+            int cols = gridArea.columns();
+            int rows = gridArea.rows();
 
-        List<Rect> colAreas = Layout.horizontal()
-            .constraints(hConstraints)
-            .flex(flex)
-            .split(area);
+            // Build horizontal constraints with gutter gaps
+            List<Constraint> hConstraints = buildHorizontalConstraintsForAreas(cols);
 
-        // Extract only column areas (skip gutter areas)
-        List<Rect> columnRects = extractColumnRects(colAreas);
+            try (SplitResult columnAreas = SplitResult.acquire()) {
+                Layout.horizontal()
+                    .constraints(hConstraints)
+                    .flex(flex)
+                    .split(area, columnAreas);
 
-        // Compute row heights and Y positions
-        int[] heights;
-        if (rowConstraints != null && !rowConstraints.isEmpty()) {
-            heights = computeRowHeightsFromConstraints(area, rows);
-        } else {
-            heights = computeEqualRowHeightsForAreas(area.height(), rows);
-        }
-
-        int[] rowYPositions = computeRowYPositions(area.y(), heights, rows);
+                // Compute row heights and Y positions
+                int[] heights;
+                if (rowConstraints != null && !rowConstraints.isEmpty()) {
+                    heights = computeRowHeightsFromConstraints(area, rows);
+                } else {
+                    heights = computeEqualRowHeightsForAreas(area.height(), rows);
+                }
 
-        // Render each named area
-        for (Map.Entry<String, Widget> entry : areaWidgets.entrySet()) {
-            String areaName = entry.getKey();
-            Widget widget = entry.getValue();
-            GridArea.AreaBounds bounds = gridArea.boundsFor(areaName);
+                int[] rowYPositions = computeRowYPositions(area.y(), heights, rows);
 
-            if (bounds == null) {
-                // Should not happen - validated at build time
-                continue;
+                // Calculate the merged cell rect of each named area
+                Rect[] cells = new Rect[gridArea.areaCount()];
+                int index = 0;
+                for (String areaName : gridArea.areaNames()) {
+                    GridArea.AreaBounds bounds = gridArea.boundsFor(areaName);
+                    cells[index++] = computeMergedCellRect(bounds, columnAreas, cols, rowYPositions, heights);
+                }
+                return cells;
             }
-
-            // Calculate merged cell rect
-            Rect cellRect = computeMergedCellRect(bounds, columnRects, rowYPositions, heights);
-            widget.render(cellRect, buffer);
         }
-    }
 
-    private List<Constraint> buildHorizontalConstraintsForAreas(int cols) {
-        List<Constraint> constraints = new ArrayList<>();
-        for (int c = 0; c < cols; c++) {
-            if (columnConstraints != null && !columnConstraints.isEmpty()) {
-                constraints.add(columnConstraints.get(c % columnConstraints.size()));
-            } else {
-                constraints.add(Constraint.fill());
+        private List<Constraint> buildHorizontalConstraintsForAreas(int cols) {
+            List<Constraint> constraints = new ArrayList<>();
+            for (int c = 0; c < cols; c++) {
+                if (columnConstraints != null && !columnConstraints.isEmpty()) {
+                    constraints.add(columnConstraints.get(c % columnConstraints.size()));
+                } else {
+                    constraints.add(Constraint.fill());
+                }
+                if (horizontalGutter > 0 && c < cols - 1) {
+                    constraints.add(Constraint.length(horizontalGutter));
+                }
             }
-            if (horizontalGutter > 0 && c < cols - 1) {
-                constraints.add(Constraint.length(horizontalGutter));
+            return constraints;
+        }
+
+        private int[] computeRowHeightsFromConstraints(Rect area, int rows) {
+            // Build row constraints with gutters
+            List<Constraint> vConstraints = buildVerticalConstraints(rows);
+
+            // Extract row heights (skip gutter areas)
+            int[] heights = new int[rows];
+            try (SplitResult rowAreas = SplitResult.acquire()) {
+                Layout.vertical()
+                    .constraints(vConstraints)
+                    .flex(flex)
+                    .split(area, rowAreas);
+                for (int r = 0; r < rows; r++) {
+                    heights[r] = rowAreas.size(rowSegment(r));
+                }
             }
+            return heights;
         }
-        return constraints;
-    }
 
-    private int[] computeRowHeightsFromConstraints(Rect area, int rows) {
-        // Build row constraints with gutters
-        List<Constraint> vConstraints = new ArrayList<>();
-        for (int r = 0; r < rows; r++) {
-            vConstraints.add(rowConstraints.get(r % rowConstraints.size()));
-            if (verticalGutter > 0 && r < rows - 1) {
-                vConstraints.add(Constraint.length(verticalGutter));
+        private int[] computeEqualRowHeightsForAreas(int availableHeight, int rows) {
+            int totalGutter = verticalGutter * (rows - 1);
+            int distributable = Math.max(0, availableHeight - totalGutter);
+            int baseHeight = distributable / rows;
+            int remainder = distributable % rows;
+
+            int[] heights = new int[rows];
+            for (int i = 0; i < rows; i++) {
+                heights[i] = baseHeight + (i < remainder ? 1 : 0);
             }
+            return heights;
         }
 
-        List<Rect> allRowAreas = Layout.vertical()
-            .constraints(vConstraints)
-            .flex(flex)
-            .split(area);
-
-        // Extract row heights (skip gutter areas)
-        int[] heights = new int[rows];
-        int rowIndex = 0;
-        for (int i = 0; i < allRowAreas.size() && rowIndex < rows; i++) {
-            if (verticalGutter > 0 && i % 2 == 1) {
-                continue;
+        private int[] computeRowYPositions(int startY, int[] heights, int rows) {
+            int[] positions = new int[rows];
+            int currentY = startY;
+            for (int r = 0; r < rows; r++) {
+                positions[r] = currentY;
+                currentY += heights[r] + verticalGutter;
             }
-            heights[rowIndex++] = allRowAreas.get(i).height();
+            return positions;
         }
-        return heights;
-    }
 
-    private int[] computeEqualRowHeightsForAreas(int availableHeight, int rows) {
-        int totalGutter = verticalGutter * (rows - 1);
-        int distributable = Math.max(0, availableHeight - totalGutter);
-        int baseHeight = distributable / rows;
-        int remainder = distributable % rows;
+        private Rect computeMergedCellRect(GridArea.AreaBounds bounds,
+                SplitResult columnAreas, int cols, int[] rowYPositions, int[] rowHeights) {
 
-        int[] heights = new int[rows];
-        for (int i = 0; i < rows; i++) {
-            heights[i] = baseHeight + (i < remainder ? 1 : 0);
-        }
-        return heights;
-    }
+            int startCol = bounds.column();
+            int endCol = bounds.endColumn() - 1;
+            int startRow = bounds.row();
+            int endRow = bounds.endRow() - 1;
 
-    private int[] computeRowYPositions(int startY, int[] heights, int rows) {
-        int[] positions = new int[rows];
-        int currentY = startY;
-        for (int r = 0; r < rows; r++) {
-            positions[r] = currentY;
-            currentY += heights[r] + verticalGutter;
-        }
-        return positions;
-    }
-
-    private Rect computeMergedCellRect(GridArea.AreaBounds bounds,
-            List<Rect> columnRects, int[] rowYPositions, int[] rowHeights) {
-
-        int startCol = bounds.column();
-        int endCol = bounds.endColumn() - 1;
-        int startRow = bounds.row();
-        int endRow = bounds.endRow() - 1;
+            // Clamp to available columns/rows
+            if (startCol >= cols || startRow >= rowYPositions.length) {
+                return new Rect(0, 0, 0, 0);
+            }
+            endCol = Math.min(endCol, cols - 1);
+            endRow = Math.min(endRow, rowYPositions.length - 1);
 
-        // Clamp to available columns/rows
-        if (startCol >= columnRects.size() || startRow >= rowYPositions.length) {
-            return new Rect(0, 0, 0, 0);
-        }
-        endCol = Math.min(endCol, columnRects.size() - 1);
-        endRow = Math.min(endRow, rowYPositions.length - 1);
+            // X position from first column
+            int x = columnAreas.position(columnSegment(startCol));
 
-        // X position from first column
-        int x = columnRects.get(startCol).x();
+            // Width spans from first column start to last column end (includes gutters between)
+            int endX = columnAreas.end(columnSegment(endCol));
+            int width = endX - x;
 
-        // Width spans from first column start to last column end (includes gutters between)
-        int endX = columnRects.get(endCol).right();
-        int width = endX - x;
+            // Y position from first row
+            int y = rowYPositions[startRow];
 
-        // Y position from first row
-        int y = rowYPositions[startRow];
+            // Height spans rows plus gutters between them
+            int totalHeight = 0;
+            for (int r = startRow; r <= endRow; r++) {
+                totalHeight += rowHeights[r];
+                if (r < endRow) {
+                    totalHeight += verticalGutter;
+                }
+            }
 
-        // Height spans rows plus gutters between them
-        int totalHeight = 0;
-        for (int r = startRow; r <= endRow; r++) {
-            totalHeight += rowHeights[r];
-            if (r < endRow) {
-                totalHeight += verticalGutter;
+            return new Rect(x, y, width, totalHeight);
+        }
+
+        private Rect[] cellsWithRowConstraints(Rect area, int rows, int cols, SplitResult columnAreas) {
+            // Build row constraints: cycle rowConstraints over rows, interleave with vertical gutter
+            List<Constraint> vConstraints = buildVerticalConstraints(rows);
+
+            Rect[] cells = new Rect[childCount];
+            try (SplitResult rowAreas = SplitResult.acquire()) {
+                Layout.vertical()
+                    .constraints(vConstraints)
+                    .flex(flex)
+                    .split(area, rowAreas);
+
+                // Skip gutter areas
+                for (int row = 0; row < rows; row++) {
+                    int rowIndex = rowSegment(row);
+                    for (int col = 0; col < cols; col++) {
+                        int childIndex = row * cols + col;
+                        if (childIndex < childCount) {
+                            int colIndex = columnSegment(col);
+                            cells[childIndex] = new Rect(columnAreas.position(colIndex), rowAreas.position(rowIndex),
+                                columnAreas.size(colIndex), rowAreas.size(rowIndex));
+                        }
+                    }
+                }
             }
+            return cells;
         }
 
-        return new Rect(x, y, width, totalHeight);
-    }
-
-    private void renderWithRowConstraints(Rect area, Buffer buffer, int rows, int cols,
-                                          List<Rect> columnRects) {
-        // Build row constraints: cycle rowConstraints over rows, interleave with vertical gutter
-        List<Constraint> vConstraints = new ArrayList<>();
-        for (int r = 0; r < rows; r++) {
-            vConstraints.add(rowConstraints.get(r % rowConstraints.size()));
-            if (verticalGutter > 0 && r < rows - 1) {
-                vConstraints.add(Constraint.length(verticalGutter));
+        private int[] computeEqualRowHeights(int areaHeight, int rows) {
+            int availableHeight = areaHeight - verticalGutter * (rows - 1);
+            int baseHeight = Math.max(0, availableHeight) / rows;
+            int remainder = Math.max(0, availableHeight) % rows;
+            int[] heights = new int[rows];
+            for (int i = 0; i < rows; i++) {
+                heights[i] = baseHeight + (i < remainder ? 1 : 0);
             }
+            return heights;
         }
 
-        List<Rect> allRowAreas = Layout.vertical()
-            .constraints(vConstraints)
-            .flex(flex)
-            .split(area);
-
-        // Extract only row areas (skip gutter areas)
-        List<Rect> rowRects = new ArrayList<>();
-        for (int i = 0; i < allRowAreas.size(); i++) {
-            if (verticalGutter > 0 && i % 2 == 1) {
-                continue;
-            }
-            rowRects.add(allRowAreas.get(i));
-        }
-
-        // Render children
-        for (int row = 0; row < rows && row < rowRects.size(); row++) {
-            Rect rowRect = rowRects.get(row);
-            for (int col = 0; col < cols && col < columnRects.size(); col++) {
-                int childIndex = row * cols + col;
-                if (childIndex < children.size()) {
-                    Rect colRect = columnRects.get(col);
-                    Rect cellArea = new Rect(colRect.x(), rowRect.y(), colRect.width(), rowRect.height());
-                    children.get(childIndex).render(cellArea, buffer);
+        private Rect[] cellsInRows(Rect area, int rows, int cols, SplitResult columnAreas, int[] heights) {
+            Rect[] cells = new Rect[childCount];
+            int currentY = area.y();
+            for (int row = 0; row < rows; row++) {
+                if (currentY >= area.bottom()) {
+                    break;
                 }
+                int rowHeight = Math.min(heights[row], area.bottom() - currentY);
+                for (int col = 0; col < cols; col++) {
+                    int childIndex = row * cols + col;
+                    if (childIndex < childCount) {
+                        int colIndex = columnSegment(col);
+                        cells[childIndex] = new Rect(columnAreas.position(colIndex), currentY,
+                            columnAreas.size(colIndex), rowHeight);
+                    }
+                }
+                currentY += rowHeight + verticalGutter;
             }
+            return cells;
         }
-    }
 
-    private void renderWithExplicitRowHeights(Rect area, Buffer buffer, int rows, int cols,
-                                              List<Rect> columnRects) {
-        int[] heights = computeRowHeights(rows, area.height());
-        renderRows(area, buffer, rows, cols, columnRects, heights);
-    }
-
-    private void renderWithEqualRowHeights(Rect area, Buffer buffer, int rows, int cols,
-                                           List<Rect> columnRects) {
-        int availableHeight = area.height() - verticalGutter * (rows - 1);
-        int baseHeight = Math.max(0, availableHeight) / rows;
-        int remainder = Math.max(0, availableHeight) % rows;
-        int[] heights = new int[rows];
-        for (int i = 0; i < rows; i++) {
-            heights[i] = baseHeight + (i < remainder ? 1 : 0);
+        private List<Constraint> buildHorizontalConstraints(int cols) {
+            List<Constraint> constraints = new ArrayList<>();
+            for (int c = 0; c < cols; c++) {
+                if (columnConstraints != null && !columnConstraints.isEmpty()) {
+                    constraints.add(columnConstraints.get(c % columnConstraints.size()));
+                } else {
+                    constraints.add(Constraint.fill());
+                }
+                if (horizontalGutter > 0 && c < cols - 1) {
+                    constraints.add(Constraint.length(horizontalGutter));
+                }
+            }
+            return constraints;
         }
-        renderRows(area, buffer, rows, cols, columnRects, heights);
-    }
 
-    private void renderRows(Rect area, Buffer buffer, int rows, int cols,
-                            List<Rect> columnRects, int[] heights) {
-        int currentY = area.y();
-        for (int row = 0; row < rows; row++) {
-            if (currentY >= area.bottom()) {
-                break;
-            }
-            int rowHeight = Math.min(heights[row], area.bottom() - currentY);
-            for (int col = 0; col < cols && col < columnRects.size(); col++) {
-                int childIndex = row * cols + col;
-                if (childIndex < children.size()) {
-                    Rect colRect = columnRects.get(col);
-                    Rect cellArea = new Rect(colRect.x(), currentY, colRect.width(), rowHeight);
-                    children.get(childIndex).render(cellArea, buffer);
+        private List<Constraint> buildVerticalConstraints(int rows) {
+            List<Constraint> constraints = new ArrayList<>();
+            for (int r = 0; r < rows; r++) {
+                constraints.add(rowConstraints.get(r % rowConstraints.size()));
+                if (verticalGutter > 0 && r < rows - 1) {
+                    constraints.add(Constraint.length(verticalGutter));
                 }
             }
-            currentY += rowHeight + verticalGutter;
+            return constraints;
         }
-    }
 
-    private List<Constraint> buildHorizontalConstraints(int cols) {
-        List<Constraint> constraints = new ArrayList<>();
-        for (int c = 0; c < cols; c++) {
-            if (columnConstraints != null && !columnConstraints.isEmpty()) {
-                constraints.add(columnConstraints.get(c % columnConstraints.size()));
-            } else {
-                constraints.add(Constraint.fill());
-            }
-            if (horizontalGutter > 0 && c < cols - 1) {
-                constraints.add(Constraint.length(horizontalGutter));
-            }
+        // Column areas alternate with gutter areas
+        private int columnSegment(int col) {
+            return horizontalGutter > 0 ? col * 2 : col;
         }
-        return constraints;
-    }
 
-    private List<Rect> extractColumnRects(List<Rect> colAreas) {
-        List<Rect> columnRects = new ArrayList<>();
-        for (int i = 0; i < colAreas.size(); i++) {
-            if (horizontalGutter > 0 && i % 2 == 1) {
-                continue;
-            }
-            columnRects.add(colAreas.get(i));
+        // Row areas alternate with gutter areas
+        private int rowSegment(int row) {
+            return verticalGutter > 0 ? row * 2 : row;
         }
-        return columnRects;
-    }
 
-    private int[] computeRowHeights(int rows, int availableHeight) {
-        int[] heights = new int[rows];
-        int remaining = availableHeight - verticalGutter * (rows - 1);
-        remaining = Math.max(0, remaining);
-        for (int i = 0; i < rows; i++) {
-            if (rowHeights != null && i < rowHeights.length) {
-                heights[i] = Math.min(rowHeights[i], remaining);
-            } else {
-                heights[i] = Math.min(1, remaining);
+        private int[] computeRowHeights(int rows, int availableHeight) {
+            int[] heights = new int[rows];
+            int remaining = availableHeight - verticalGutter * (rows - 1);
+            remaining = Math.max(0, remaining);
+            for (int i = 0; i < rows; i++) {
+                if (rowHeights != null && i < rowHeights.length) {
+                    heights[i] = Math.min(rowHeights[i], remaining);
+                } else {
+                    heights[i] = Math.min(1, remaining);
+                }
+                remaining = Math.max(0, remaining - heights[i]);
             }
-            remaining = Math.max(0, remaining - heights[i]);
+            return heights;
         }
-        return heights;
     }
 
     /**
@@ -434,6 +492,16 @@ public final class Grid implements Widget {
             return new AreaBuilder(gridArea);
         }
 
+        /**
+         * Creates an area-based grid layout from an already parsed template.
+         *
+         * @param gridArea the parsed grid areas
+         * @return an AreaBuilder for further configuration
+         */
+        public AreaBuilder gridAreas(GridArea gridArea) {
+            return new AreaBuilder(gridArea);
+        }
+
         /**
          * Creates a children-based grid layout with sequential placement.
          *
@@ -4,6 +4,7 @@
  */
 package dev.tamboui.layout.grid;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -35,12 +36,14 @@ public final class GridArea {
     private final int columns;
     private final Map<String, AreaBounds> areas;
     private final String[][] grid;
+    private final int hashCode;
 
     private GridArea(int rows, int columns, Map<String, AreaBounds> areas, String[][] grid) {
         this.rows = rows;
         this.columns = columns;
         this.areas = Collections.unmodifiableMap(areas);
         this.grid = grid;
+        this.hashCode = Arrays.deepHashCode(grid);
     }
 
     /**
@@ -284,6 +287,30 @@ public final class GridArea {
         return templates;
     }
 
+    /**
+     * Grid areas are equal when parsed from the same cells, whatever the
+     * spacing of their templates.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GridArea)) {
+            return false;
+        }
+        GridArea that = (GridArea) o;
+        return hashCode == that.hashCode
+            && rows == that.rows
+            && columns == that.columns
+            && Arrays.deepEquals(grid, that.grid);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
     /**
      * Bounds of a named area within the grid.
      */
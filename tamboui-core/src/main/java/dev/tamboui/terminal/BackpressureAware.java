@@ -0,0 +1,50 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+/**
+ * Interface for backends whose output is delivered asynchronously and can
+ * fall behind the rendering loop.
+ * <p>
+ * Remote backends (SSH, WebSocket) hand flushed frames to a connection that
+ * may drain much slower than frames are produced. A backend implementing this
+ * interface reports how much output is still in flight, so that a runner can
+ * skip intermediate frames while the client is behind and draw only the latest
+ * state once the output has drained.
+ * <p>
+ * Because {@link Terminal#draw} only sends the difference to the last drawn
+ * buffer, skipping a frame never loses content: the next frame that is drawn
+ * contains every change made in between.
+ *
+ * @see Backend
+ */
+public interface BackpressureAware {
+
+    /**
+     * Returns the number of bytes that have been flushed but not yet
+     * written to the underlying connection.
+     *
+     * @return the bytes in flight, or 0 if all output has been written
+     */
+    long bytesInFlight();
+
+    /**
+     * Returns how long the most recent write to the underlying connection took.
+     *
+     * @return the latest write latency in nanoseconds, or 0 if nothing was written yet
+     */
+    long lastWriteLatencyNanos();
+
+    /**
+     * Registers a listener that is called whenever all in-flight output has
+     * been written.
+     * <p>
+     * The listener may be invoked from a backend-owned writer thread and must
+     * not block.
+     *
+     * @param listener the listener to call when the output has drained
+     */
+    void onDrain(Runnable listener);
+}
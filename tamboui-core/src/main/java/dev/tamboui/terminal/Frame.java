@@ -29,6 +29,7 @@ public final class Frame {
     private final OutputStream rawOutput;
     private Position cursorPosition;
     private boolean cursorVisible;
+    private StyledAreaRegistry styledAreaRegistry;
     private final Deque<String> contextKeyStack = new ArrayDeque<>();
 
     Frame(Buffer buffer, OutputStream rawOutput) {
@@ -182,6 +183,7 @@ public final class Frame {
      * @param registry the registry, or null to disable tracking
      */
     public void setStyledAreaRegistry(StyledAreaRegistry registry) {
+        this.styledAreaRegistry = registry;
         if (registry == null) {
             buffer.setStyledContentListener(null);
         } else {
@@ -194,6 +196,15 @@ public final class Frame {
         }
     }
 
+    /**
+     * Returns the styled area registry tracking styled content, if any.
+     *
+     * @return the registry, or null if tracking is disabled
+     */
+    public StyledAreaRegistry styledAreaRegistry() {
+        return styledAreaRegistry;
+    }
+
     /**
      * Pushes a context key onto the stack.
      * <p>
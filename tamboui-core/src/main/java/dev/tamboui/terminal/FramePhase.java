@@ -0,0 +1,45 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+/**
+ * The phases of a frame timed by {@link FrameTimer}.
+ * <p>
+ * {@link #RENDER} covers the whole render callback. {@link #LAYOUT},
+ * {@link #STYLE} and {@link #POST_RENDER} happen inside the render callback and
+ * are therefore included in its time; the remainder is spent building and
+ * rendering the element tree.
+ */
+public enum FramePhase {
+    /**
+     * The render callback: element tree, widgets, layout and styling.
+     */
+    RENDER,
+    /**
+     * Constraint solving in {@code Layout.split}, including layout cache lookups.
+     */
+    LAYOUT,
+    /**
+     * CSS style resolution.
+     */
+    STYLE,
+    /**
+     * Post-render processors and overlays run by the TUI runner.
+     */
+    POST_RENDER,
+    /**
+     * Computing the differences with the previous frame ({@code Buffer.diff}).
+     */
+    DIFF,
+    /**
+     * Encoding the differences for the backend ({@link Backend#draw(Iterable)}),
+     * typically into ANSI escape sequences.
+     */
+    ENCODE,
+    /**
+     * Writing the encoded frame to the terminal ({@link Backend#flush()}).
+     */
+    FLUSH
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Timings of a single frame, broken down by {@link FramePhase}.
+ * <p>
+ * For each phase, the total time spent and the number of times it was entered
+ * are recorded (a frame solves many layouts but flushes once).
+ *
+ * @see FrameStatsListener
+ */
+public final class FrameStats {
+
+    private static final FramePhase[] PHASES = FramePhase.values();
+
+    private final long frameNumber;
+    private final long startNanos;
+    private final long totalNanos;
+    private final long[] phaseNanos;
+    private final int[] phaseCounts;
+    private final int cellsChanged;
+
+    /**
+     * Creates frame statistics.
+     *
+     * @param frameNumber  the number of the frame, starting at 1
+     * @param startNanos   the {@link System#nanoTime()} at which the frame started
+     * @param totalNanos   the total duration of the frame in nanoseconds
+     * @param phaseNanos   the time spent per phase, indexed by {@link FramePhase#ordinal()}
+     * @param phaseCounts  the number of times each phase was entered, indexed by {@link FramePhase#ordinal()}
+     * @param cellsChanged the number of cells that differed from the previous frame
+     */
+    public FrameStats(long frameNumber, long startNanos, long totalNanos,
+                      long[] phaseNanos, int[] phaseCounts, int cellsChanged) {
+        if (phaseNanos.length != PHASES.length || phaseCounts.length != PHASES.length) {
+            throw new IllegalArgumentException("Expected one entry per frame phase");
+        }
+        this.frameNumber = frameNumber;
+        this.startNanos = startNanos;
+        this.totalNanos = totalNanos;
+        this.phaseNanos = phaseNanos.clone();
+        this.phaseCounts = phaseCounts.clone();
+        this.cellsChanged = cellsChanged;
+    }
+
+    /**
+     * Returns the number of the frame, starting at 1 for the first frame of a terminal.
+     *
+     * @return the frame number
+     */
+    public long frameNumber() {
+        return frameNumber;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which the frame started.
+     *
+     * @return the start timestamp in nanoseconds
+     */
+    public long startNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Returns the total duration of the frame.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the time spent in the given phase.
+     *
+     * @param phase the phase
+     * @return the duration in nanoseconds
+     */
+    public long nanos(FramePhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the number of times the given phase was entered.
+     *
+     * @param phase the phase
+     * @return the count
+     */
+    public int count(FramePhase phase) {
+        return phaseCounts[phase.ordinal()];
+    }
+
+    /**
+     * Returns the time spent rendering the element tree and widgets, that is
+     * the {@link FramePhase#RENDER render} time minus layout, styling and
+     * post-render processing.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long treeNanos() {
+        long tree = nanos(FramePhase.RENDER) - nanos(FramePhase.LAYOUT)
+                - nanos(FramePhase.STYLE) - nanos(FramePhase.POST_RENDER);
+        return Math.max(0, tree);
+    }
+
+    /**
+     * Returns the number of cells that differed from the previous frame.
+     *
+     * @return the number of changed cells
+     */
+    public int cellsChanged() {
+        return cellsChanged;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FrameStats)) {
+            return false;
+        }
+        FrameStats that = (FrameStats) o;
+        return frameNumber == that.frameNumber
+                && startNanos == that.startNanos
+                && totalNanos == that.totalNanos
+                && cellsChanged == that.cellsChanged
+                && Arrays.equals(phaseNanos, that.phaseNanos)
+                && Arrays.equals(phaseCounts, that.phaseCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(frameNumber);
+        result = 31 * result + Long.hashCode(startNanos);
+        result = 31 * result + Long.hashCode(totalNanos);
+        result = 31 * result + Arrays.hashCode(phaseNanos);
+        result = 31 * result + Arrays.hashCode(phaseCounts);
+        result = 31 * result + cellsChanged;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FrameStats[frame=").append(frameNumber)
+                .append(", total=").append(totalNanos / 1000).append("us");
+        for (FramePhase phase : PHASES) {
+            sb.append(", ").append(phase.name().toLowerCase(Locale.ROOT)).append('=')
+                    .append(phaseNanos[phase.ordinal()] / 1000).append("us");
+        }
+        return sb.append(", cellsChanged=").append(cellsChanged).append(']').toString();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+/**
+ * Receives the timings of every frame drawn by a {@link Terminal}.
+ * <p>
+ * Frames are only timed while at least one listener of the terminal is
+ * {@linkplain #isEnabled() enabled}, so a registered but idle listener costs
+ * nothing. Listeners are called on the render thread after the frame has been
+ * flushed and must return quickly.
+ * <p>
+ * Implementations may be registered as a {@link java.util.ServiceLoader service},
+ * in which case the TUI runner adds them to its terminal automatically.
+ *
+ * @see Terminal#addFrameStatsListener(FrameStatsListener)
+ */
+@FunctionalInterface
+public interface FrameStatsListener {
+
+    /**
+     * Called after each timed frame.
+     *
+     * @param stats the timings of the frame
+     */
+    void onFrame(FrameStats stats);
+
+    /**
+     * Returns whether this listener currently wants frames to be timed.
+     * <p>
+     * Checked before every frame; return false while nobody looks at the
+     * results (for example while an overlay is hidden).
+     *
+     * @return true if the next frame should be timed for this listener
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
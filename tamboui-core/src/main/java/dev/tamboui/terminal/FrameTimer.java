@@ -0,0 +1,103 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Accumulates the time spent in each {@link FramePhase} of the frame being
+ * drawn on the current thread.
+ * <p>
+ * Code running inside a frame brackets a phase with {@link #start()} and
+ * {@link #stop(FramePhase, long)}:
+ *
+ * <pre>{@code
+ * long start = FrameTimer.start();
+ * try {
+ *     // ... solve the layout
+ * } finally {
+ *     FrameTimer.stop(FramePhase.LAYOUT, start);
+ * }
+ * }</pre>
+ *
+ * When no frame is being timed (no enabled {@link FrameStatsListener}) both
+ * calls reduce to a read of a shared counter, without reading the clock.
+ */
+public final class FrameTimer {
+
+    private static final ThreadLocal<FrameTimer> CURRENT = new ThreadLocal<>();
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+    private static final int PHASE_COUNT = FramePhase.values().length;
+
+    private final FrameTimer previous;
+    private final long startNanos;
+    private final long[] phaseNanos = new long[PHASE_COUNT];
+    private final int[] phaseCounts = new int[PHASE_COUNT];
+
+    private FrameTimer(FrameTimer previous, long startNanos) {
+        this.previous = previous;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Starts timing a phase.
+     *
+     * @return a token to pass to {@link #stop(FramePhase, long)}, 0 if the
+     *         current thread is not timing a frame
+     */
+    public static long start() {
+        if (ACTIVE.get() == 0 || CURRENT.get() == null) {
+            return 0L;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Stops timing a phase and adds the elapsed time to the current frame.
+     *
+     * @param phase the phase that ended
+     * @param start the token returned by {@link #start()}
+     */
+    public static void stop(FramePhase phase, long start) {
+        if (start == 0L) {
+            return;
+        }
+        FrameTimer timer = CURRENT.get();
+        if (timer != null) {
+            timer.phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+            timer.phaseCounts[phase.ordinal()]++;
+        }
+    }
+
+    /**
+     * Starts timing a frame on the current thread.
+     * <p>
+     * Frames drawn while another frame is being timed (such as mirrors of a
+     * broadcast) are timed separately; {@link #end()} restores the outer frame.
+     */
+    static FrameTimer begin() {
+        FrameTimer timer = new FrameTimer(CURRENT.get(), System.nanoTime());
+        CURRENT.set(timer);
+        ACTIVE.incrementAndGet();
+        return timer;
+    }
+
+    /**
+     * Stops timing this frame.
+     */
+    void end() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+        ACTIVE.decrementAndGet();
+    }
+
+    FrameStats toStats(long frameNumber, int cellsChanged) {
+        return new FrameStats(frameNumber, startNanos, System.nanoTime() - startNanos,
+                phaseNanos, phaseCounts, cellsChanged);
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Growable, bounded ring buffer of primitive {@code int} code points with timed waits,
+ * for backends receiving their input on another thread.
+ * <p>
+ * Connection handlers push whole batches of code points with {@link #offer(int[])},
+ * while the input reader consumes them one at a time with {@link #poll(long)} or
+ * inspects the next one with {@link #peek(long)}. Unlike a
+ * {@code BlockingQueue<Integer>} no value is ever boxed, and a batch is added
+ * under a single lock acquisition.
+ * <p>
+ * Timeouts follow the {@link dev.tamboui.terminal.Backend#read(int)} contract:
+ * a negative timeout blocks until a value is available, zero returns immediately,
+ * and a positive timeout waits at most that many milliseconds. {@link #TIMEOUT}
+ * is returned when no value arrived in time. A reader interrupted while waiting
+ * gets an {@link InterruptedException}.
+ * <p>
+ * The buffer grows up to a maximum capacity. Beyond it the oldest values are
+ * dropped, so that a peer sending input nobody reads cannot exhaust memory.
+ */
+public final class IntRingBuffer {
+
+    /**
+     * Value returned when no code point became available before the timeout.
+     */
+    public static final int TIMEOUT = -2;
+
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final int DEFAULT_MAX_CAPACITY = 1 << 16;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final int maxCapacity;
+    private int[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Creates a ring buffer with the default initial and maximum capacities.
+     */
+    public IntRingBuffer() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_CAPACITY);
+    }
+
+    /**
+     * Creates a ring buffer with the given initial and maximum capacities.
+     * The capacities are rounded up to the next power of two.
+     *
+     * @param initialCapacity the initial capacity, must be positive
+     * @param maxCapacity the number of values beyond which the oldest are dropped,
+     *                    at least the initial capacity
+     * @throws IllegalArgumentException if a capacity is invalid
+     */
+    public IntRingBuffer(int initialCapacity, int maxCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity must be positive: " + initialCapacity);
+        }
+        if (maxCapacity < initialCapacity) {
+            throw new IllegalArgumentException("maxCapacity must be at least " + initialCapacity + ": " + maxCapacity);
+        }
+        this.elements = new int[powerOfTwo(initialCapacity)];
+        this.maxCapacity = powerOfTwo(maxCapacity);
+    }
+
+    /**
+     * Appends a value and wakes up waiting readers.
+     * <p>
+     * If the buffer is full, the oldest value is dropped.
+     *
+     * @param value the value to append
+     */
+    public void offer(int value) {
+        lock.lock();
+        try {
+            ensureCapacity(Math.min(size + 1, maxCapacity));
+            int mask = elements.length - 1;
+            if (size == elements.length) {
+                head = (head + 1) & mask;
+                size--;
+            }
+            elements[(head + size) & mask] = value;
+            size++;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends all given values and wakes up waiting readers.
+     * <p>
+     * If the buffer would hold more than its maximum capacity, the oldest
+     * values are dropped.
+     *
+     * @param values the values to append
+     */
+    public void offer(int[] values) {
+        if (values.length == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            int from = Math.max(0, values.length - maxCapacity);
+            int count = values.length - from;
+            ensureCapacity(Math.min(size + count, maxCapacity));
+            int mask = elements.length - 1;
+            int overflow = size + count - elements.length;
+            if (overflow > 0) {
+                head = (head + overflow) & mask;
+                size -= overflow;
+            }
+            int tail = (head + size) & mask;
+            for (int i = from; i < values.length; i++) {
+                elements[tail] = values[i];
+                tail = (tail + 1) & mask;
+            }
+            size += count;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the next value, waiting up to the given timeout.
+     *
+     * @param timeoutMs the timeout in milliseconds, negative to block indefinitely
+     * @return the next value, or {@link #TIMEOUT} if none became available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public int poll(long timeoutMs) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (!awaitNotEmpty(timeoutMs)) {
+                return TIMEOUT;
+            }
+            int value = elements[head];
+            head = (head + 1) & (elements.length - 1);
+            size--;
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the next value without removing it, waiting up to the given timeout.
+     *
+     * @param timeoutMs the timeout in milliseconds, negative to block indefinitely
+     * @return the next value, or {@link #TIMEOUT} if none became available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public int peek(long timeoutMs) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (!awaitNotEmpty(timeoutMs)) {
+                return TIMEOUT;
+            }
+            return elements[head];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of buffered values.
+     *
+     * @return the number of values waiting to be read
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean awaitNotEmpty(long timeoutMs) throws InterruptedException {
+        if (size > 0) {
+            return true;
+        }
+        if (timeoutMs == 0) {
+            return false;
+        }
+        if (timeoutMs < 0) {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return true;
+        }
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (size == 0) {
+            if (remainingNanos <= 0) {
+                return false;
+            }
+            remainingNanos = notEmpty.awaitNanos(remainingNanos);
+        }
+        return true;
+    }
+
+    private static int powerOfTwo(int value) {
+        int capacity = 1;
+        while (capacity < value) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= elements.length) {
+            return;
+        }
+        int newCapacity = elements.length;
+        while (newCapacity < required) {
+            newCapacity <<= 1;
+        }
+        int[] grown = new int[newCapacity];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+}
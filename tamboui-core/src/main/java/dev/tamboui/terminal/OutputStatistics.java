@@ -0,0 +1,33 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+/**
+ * Interface for backends that count the output they hand to the terminal.
+ * <p>
+ * Both counters are cumulative since the backend was created; a runner derives
+ * per-frame values from the difference before and after drawing a frame.
+ *
+ * @see Backend
+ */
+public interface OutputStatistics {
+
+    /**
+     * Returns the total number of bytes written to the terminal or connection.
+     *
+     * @return the bytes written so far
+     */
+    long bytesWritten();
+
+    /**
+     * Returns the total number of writes issued to the terminal or connection.
+     * <p>
+     * For local terminals each write is a system call, so a frame normally
+     * costs a single write.
+     *
+     * @return the writes issued so far
+     */
+    long writeCount();
+}
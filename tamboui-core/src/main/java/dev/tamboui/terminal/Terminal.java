@@ -7,6 +7,7 @@ package dev.tamboui.terminal;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 import dev.tamboui.buffer.Buffer;
@@ -25,9 +26,11 @@ public final class Terminal<B extends Backend> implements AutoCloseable {
 
     private final B backend;
     private final OutputStream rawOutput;
+    private final List<FrameStatsListener> frameStatsListeners;
     private Buffer currentBuffer;
     private Buffer previousBuffer;
     private boolean hiddenCursor;
+    private long frameCount;
 
     /**
      * Creates a new terminal instance with the given backend.
@@ -39,6 +42,7 @@ public final class Terminal<B extends Backend> implements AutoCloseable {
         this.backend = backend;
         this.hiddenCursor = false;
         this.rawOutput = createRawOutputStream(backend);
+        this.frameStatsListeners = new CopyOnWriteArrayList<>();
 
         try {
             Size size = backend.size();
@@ -107,6 +111,8 @@ public final class Terminal<B extends Backend> implements AutoCloseable {
      * @throws RuntimeIOException if drawing fails
      */
     public CompletedFrame draw(Consumer<Frame> renderer) {
+        frameCount++;
+        FrameTimer timer = isTimingEnabled() ? FrameTimer.begin() : null;
         try {
             // Handle resize if needed
             Size size = backend.size();
@@ -121,12 +127,18 @@ public final class Terminal<B extends Backend> implements AutoCloseable {
 
             // Create frame and render
             Frame frame = new Frame(currentBuffer, rawOutput);
+            long phaseStart = FrameTimer.start();
             renderer.accept(frame);
+            FrameTimer.stop(FramePhase.RENDER, phaseStart);
 
             // Calculate diff and draw
+            phaseStart = FrameTimer.start();
             List<CellUpdate> updates = previousBuffer.diff(currentBuffer);
+            FrameTimer.stop(FramePhase.DIFF, phaseStart);
             if (!updates.isEmpty()) {
+                phaseStart = FrameTimer.start();
                 backend.draw(updates);
+                FrameTimer.stop(FramePhase.ENCODE, phaseStart);
             }
 
             // Handle cursor
@@ -153,16 +165,63 @@ public final class Terminal<B extends Backend> implements AutoCloseable {
             }
 
             // Flush output
+            phaseStart = FrameTimer.start();
             backend.flush();
+            FrameTimer.stop(FramePhase.FLUSH, phaseStart);
 
             // Swap buffers
             Buffer temp = previousBuffer;
             previousBuffer = currentBuffer;
             currentBuffer = temp;
 
+            if (timer != null) {
+                publish(timer.toStats(frameCount, updates.size()));
+            }
             return new CompletedFrame(previousBuffer, area);
         } catch (IOException e) {
             throw new RuntimeIOException("Failed to draw frame: " + e.getMessage(), e);
+        } finally {
+            if (timer != null) {
+                timer.end();
+            }
+        }
+    }
+
+    /**
+     * Adds a listener receiving the per-phase timings of every frame.
+     * <p>
+     * Frames are only timed while at least one listener is
+     * {@linkplain FrameStatsListener#isEnabled() enabled}.
+     *
+     * @param listener the listener to add
+     */
+    public void addFrameStatsListener(FrameStatsListener listener) {
+        frameStatsListeners.add(listener);
+    }
+
+    /**
+     * Removes a frame statistics listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeFrameStatsListener(FrameStatsListener listener) {
+        frameStatsListeners.remove(listener);
+    }
+
+    private boolean isTimingEnabled() {
+        for (FrameStatsListener listener : frameStatsListeners) {
+            if (listener.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void publish(FrameStats stats) {
+        for (FrameStatsListener listener : frameStatsListeners) {
+            if (listener.isEnabled()) {
+                listener.onFrame(stats);
+            }
         }
     }
 
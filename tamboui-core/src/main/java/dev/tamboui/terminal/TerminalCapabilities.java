@@ -0,0 +1,123 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+import java.util.Objects;
+
+/**
+ * Terminal features reported by the terminal itself in reply to a {@link TerminalProbe}.
+ * <p>
+ * Unlike environment-based detection, these values come from the terminal's
+ * answers to queries, so they are reliable even when {@code TERM} is generic
+ * (for example {@code xterm-256color}).
+ *
+ * @see TerminalProbe
+ */
+public final class TerminalCapabilities {
+
+    /**
+     * Capabilities of a terminal that did not answer any query.
+     */
+    public static final TerminalCapabilities NONE =
+            new TerminalCapabilities(Mode2027Status.NOT_SUPPORTED, false, false, false, false);
+
+    private final Mode2027Status mode2027;
+    private final boolean synchronizedOutput;
+    private final boolean kittyGraphics;
+    private final boolean sixel;
+    private final boolean complete;
+
+    /**
+     * Creates a capabilities instance.
+     *
+     * @param mode2027           the grapheme cluster mode status
+     * @param synchronizedOutput whether synchronized output (mode 2026) is supported
+     * @param kittyGraphics      whether the kitty graphics protocol is supported
+     * @param sixel              whether sixel graphics are supported
+     * @param complete           whether the terminal answered all queries
+     */
+    public TerminalCapabilities(Mode2027Status mode2027, boolean synchronizedOutput,
+                                boolean kittyGraphics, boolean sixel, boolean complete) {
+        this.mode2027 = Objects.requireNonNull(mode2027, "mode2027");
+        this.synchronizedOutput = synchronizedOutput;
+        this.kittyGraphics = kittyGraphics;
+        this.sixel = sixel;
+        this.complete = complete;
+    }
+
+    /**
+     * Returns the status of Mode 2027 (grapheme cluster mode).
+     *
+     * @return the mode 2027 status
+     */
+    public Mode2027Status mode2027() {
+        return mode2027;
+    }
+
+    /**
+     * Returns whether the terminal supports synchronized output (mode 2026).
+     *
+     * @return true if supported
+     */
+    public boolean synchronizedOutput() {
+        return synchronizedOutput;
+    }
+
+    /**
+     * Returns whether the terminal supports the kitty graphics protocol.
+     *
+     * @return true if supported
+     */
+    public boolean kittyGraphics() {
+        return kittyGraphics;
+    }
+
+    /**
+     * Returns whether the terminal supports sixel graphics.
+     *
+     * @return true if supported
+     */
+    public boolean sixel() {
+        return sixel;
+    }
+
+    /**
+     * Returns whether the terminal answered the whole probe.
+     * <p>
+     * Incomplete results (the terminal did not reply in time) are never cached.
+     *
+     * @return true if the probe completed
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TerminalCapabilities)) {
+            return false;
+        }
+        TerminalCapabilities that = (TerminalCapabilities) o;
+        return mode2027 == that.mode2027
+                && synchronizedOutput == that.synchronizedOutput
+                && kittyGraphics == that.kittyGraphics
+                && sixel == that.sixel
+                && complete == that.complete;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode2027, synchronizedOutput, kittyGraphics, sixel, complete);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TerminalCapabilities[mode2027=%s, synchronizedOutput=%s, kittyGraphics=%s, sixel=%s, complete=%s]",
+                mode2027, synchronizedOutput, kittyGraphics, sixel, complete);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * On-disk cache of {@link TerminalCapabilities}, keyed by terminal identity.
+ * <p>
+ * The key is built from {@code TERM}, {@code TERM_PROGRAM} and
+ * {@code TERM_PROGRAM_VERSION}. Without {@code TERM_PROGRAM} the terminal cannot
+ * be told apart from others sharing the same {@code TERM}, so nothing is cached.
+ * <p>
+ * All I/O errors are swallowed: a broken cache only costs a probe round trip.
+ */
+final class TerminalCapabilityCache {
+
+    /**
+     * System property selecting the cache file, or {@code false} to disable caching.
+     */
+    static final String CACHE_PROPERTY = "tamboui.capabilities.cache";
+
+    private final Path file;
+    private final String key;
+
+    TerminalCapabilityCache(Path file, String key) {
+        this.file = file;
+        this.key = key;
+    }
+
+    /**
+     * Returns the cache for the terminal of the current process.
+     *
+     * @return the cache, or null if caching is disabled or the terminal is not identifiable
+     */
+    static TerminalCapabilityCache forEnvironment() {
+        String property = System.getProperty(CACHE_PROPERTY);
+        if ("false".equalsIgnoreCase(property)) {
+            return null;
+        }
+        String key = key(System.getenv("TERM"), System.getenv("TERM_PROGRAM"), System.getenv("TERM_PROGRAM_VERSION"));
+        if (key == null) {
+            return null;
+        }
+        Path file = property != null && !property.isEmpty() ? Paths.get(property) : defaultFile();
+        return file != null ? new TerminalCapabilityCache(file, key) : null;
+    }
+
+    /**
+     * Builds the cache key for a terminal identity.
+     *
+     * @return the key, or null if the terminal is not identifiable
+     */
+    static String key(String term, String termProgram, String termProgramVersion) {
+        if (termProgram == null || termProgram.isEmpty()) {
+            return null;
+        }
+        return (term != null ? term : "") + '|' + termProgram + '|' + (termProgramVersion != null ? termProgramVersion : "");
+    }
+
+    private static Path defaultFile() {
+        String xdg = System.getenv("XDG_CACHE_HOME");
+        if (xdg != null && !xdg.isEmpty()) {
+            return Paths.get(xdg, "tamboui", "terminal-capabilities.properties");
+        }
+        String home = System.getProperty("user.home");
+        if (home == null || home.isEmpty()) {
+            return null;
+        }
+        return Paths.get(home, ".cache", "tamboui", "terminal-capabilities.properties");
+    }
+
+    /**
+     * Loads the cached capabilities for this terminal.
+     *
+     * @return the capabilities, or null if none are cached
+     */
+    TerminalCapabilities load() {
+        String value = read().getProperty(key);
+        return value != null ? decode(value) : null;
+    }
+
+    /**
+     * Stores the capabilities for this terminal, keeping entries of other terminals.
+     *
+     * @param capabilities the capabilities to store
+     */
+    void store(TerminalCapabilities capabilities) {
+        Properties properties = read();
+        properties.setProperty(key, encode(capabilities));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // Write to a sibling and move, so concurrent launches never read a partial file
+            Path tmp = Files.createTempFile(parent, "capabilities", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, "TamboUI terminal capabilities");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | SecurityException e) {
+            // Best effort
+        }
+    }
+
+    private Properties read() {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException | IllegalArgumentException | SecurityException e) {
+                return new Properties();
+            }
+        }
+        return properties;
+    }
+
+    static String encode(TerminalCapabilities capabilities) {
+        return capabilities.mode2027().name()
+                + ',' + capabilities.synchronizedOutput()
+                + ',' + capabilities.kittyGraphics()
+                + ',' + capabilities.sixel();
+    }
+
+    static TerminalCapabilities decode(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            return new TerminalCapabilities(
+                    Mode2027Status.valueOf(parts[0].trim()),
+                    Boolean.parseBoolean(parts[1].trim()),
+                    Boolean.parseBoolean(parts[2].trim()),
+                    Boolean.parseBoolean(parts[3].trim()),
+                    true);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probes the terminal for its capabilities with a single round trip.
+ * <p>
+ * All queries are sent in one write, followed by a primary device attributes
+ * request (DA1). Terminals answer in order and every terminal answers DA1, so
+ * the DA1 reply marks the end of the probe: collecting stops as soon as it
+ * arrives instead of waiting for the timeout on queries the terminal ignores.
+ * <p>
+ * Queried features:
+ * <ul>
+ *   <li>Mode 2027 (grapheme clusters) and mode 2026 (synchronized output) via DECRQM</li>
+ *   <li>kitty graphics protocol via a graphics query command</li>
+ *   <li>sixel graphics via attribute 4 of the DA1 reply</li>
+ * </ul>
+ * <p>
+ * {@link #probe(Backend, int)} additionally keeps complete results in an on-disk
+ * cache keyed by {@code TERM}, {@code TERM_PROGRAM} and {@code TERM_PROGRAM_VERSION},
+ * so later launches in the same terminal skip the round trip entirely. The cache
+ * lives in {@code $XDG_CACHE_HOME/tamboui} (or {@code ~/.cache/tamboui}); set the
+ * system property {@value TerminalCapabilityCache#CACHE_PROPERTY} to another file,
+ * or to {@code false} to disable it.
+ * <p>
+ * The backend must be in raw mode, so that the replies are neither echoed nor
+ * line-buffered.
+ */
+public final class TerminalProbe {
+
+    private static final String ESC = "\033";
+    private static final String CSI = ESC + "[";
+    private static final String QUERIES = CSI + "?2027$p"
+            + CSI + "?2026$p"
+            + ESC + "_Gi=31,s=1,v=1,a=q,t=d,f=24;AAAA" + ESC + "\\"
+            + CSI + "c";
+
+    private static final int MAX_APC_LENGTH = 256;
+
+    private static volatile TerminalCapabilities current;
+
+    private TerminalProbe() {
+        // Utility class
+    }
+
+    /**
+     * Returns the capabilities of the terminal this process runs in, using the
+     * on-disk cache when possible, and makes them the {@link #current() current}
+     * capabilities.
+     * <p>
+     * On a cache hit no I/O is performed on the backend.
+     *
+     * @param backend   the backend to probe, in raw mode
+     * @param timeoutMs the maximum time to wait for a terminal that does not answer
+     * @return the capabilities
+     * @throws IOException if an I/O error occurs during communication
+     */
+    public static TerminalCapabilities probe(Backend backend, int timeoutMs) throws IOException {
+        TerminalCapabilityCache cache = TerminalCapabilityCache.forEnvironment();
+        if (cache != null) {
+            TerminalCapabilities cached = cache.load();
+            if (cached != null) {
+                current = cached;
+                return cached;
+            }
+        }
+        TerminalCapabilities capabilities = probeWithoutCache(backend, timeoutMs);
+        current = capabilities;
+        if (cache != null && capabilities.isComplete()) {
+            cache.store(capabilities);
+        }
+        return capabilities;
+    }
+
+    /**
+     * Probes the terminal without consulting or updating the on-disk cache or
+     * the {@link #current() current} capabilities of this process.
+     * <p>
+     * Use this for remote terminals (SSH, WebSocket), whose capabilities are
+     * unrelated to the environment of this process, and keep the result with
+     * the backend of that terminal.
+     *
+     * @param backend   the backend to probe, in raw mode
+     * @param timeoutMs the maximum time to wait for a terminal that does not answer
+     * @return the capabilities
+     * @throws IOException if an I/O error occurs during communication
+     */
+    public static TerminalCapabilities probeWithoutCache(Backend backend, int timeoutMs) throws IOException {
+        backend.writeRaw(QUERIES);
+        backend.flush();
+        return collect(backend, timeoutMs);
+    }
+
+    /**
+     * Returns the capabilities most recently found by {@link #probe(Backend, int)}
+     * for the terminal this process runs in, falling back
+     * to the on-disk cache for the current environment.
+     *
+     * @return the capabilities, or null if the terminal was never probed
+     */
+    public static TerminalCapabilities current() {
+        TerminalCapabilities capabilities = current;
+        if (capabilities == null) {
+            TerminalCapabilityCache cache = TerminalCapabilityCache.forEnvironment();
+            if (cache != null) {
+                capabilities = cache.load();
+            }
+        }
+        return capabilities;
+    }
+
+    /**
+     * Returns the query sequence sent by the probe.
+     *
+     * @return the combined query escape sequences
+     */
+    public static String querySequence() {
+        return QUERIES;
+    }
+
+    /**
+     * Reads and interprets replies until the DA1 reply arrives or the timeout expires.
+     */
+    private static TerminalCapabilities collect(Backend backend, int timeoutMs) throws IOException {
+        Mode2027Status mode2027 = Mode2027Status.NOT_SUPPORTED;
+        boolean synchronizedOutput = false;
+        boolean kittyGraphics = false;
+        ReplyParser parser = new ReplyParser();
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        while (true) {
+            int remaining = (int) TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            if (remaining <= 0) {
+                break;
+            }
+            int ch = backend.read(remaining);
+            if (ch == -1 || ch == -2) {
+                // EOF or timeout
+                break;
+            }
+            switch (parser.accept(ch)) {
+                case ReplyParser.DECRPM:
+                    if (parser.param(0) == 2027) {
+                        mode2027 = modeStatus(parser.param(1));
+                    } else if (parser.param(0) == 2026) {
+                        synchronizedOutput = modeStatus(parser.param(1)).isSupported();
+                    }
+                    break;
+                case ReplyParser.APC:
+                    if (parser.apc().startsWith("Gi=31")) {
+                        kittyGraphics = parser.apc().contains(";OK");
+                    }
+                    break;
+                case ReplyParser.DA1:
+                    boolean sixel = parser.hasParam(4, 1);
+                    return new TerminalCapabilities(mode2027, synchronizedOutput, kittyGraphics, sixel, true);
+                default:
+                    break;
+            }
+        }
+        return new TerminalCapabilities(mode2027, synchronizedOutput, kittyGraphics, false, false);
+    }
+
+    private static Mode2027Status modeStatus(int ps) {
+        switch (ps) {
+            case 1: // Mode is set (permanently)
+            case 3: // Mode is set (temporarily)
+                return Mode2027Status.ENABLED;
+            case 2: // Mode is reset (permanently)
+            case 4: // Mode is reset (temporarily)
+                return Mode2027Status.SUPPORTED_DISABLED;
+            case 0: // Mode not recognized
+            default:
+                return Mode2027Status.NOT_SUPPORTED;
+        }
+    }
+
+    /**
+     * Incremental parser for the reply sequences of the probe.
+     * <p>
+     * Recognizes {@code CSI ? Ps ; Ps $ y} (DECRPM), {@code CSI ? Ps ; ... c}
+     * (DA1) and {@code ESC _ ... ESC \} (APC). Anything else is skipped.
+     */
+    static final class ReplyParser {
+        static final int NONE = 0;
+        static final int DECRPM = 1;
+        static final int DA1 = 2;
+        static final int APC = 3;
+
+        private static final int STATE_INITIAL = 0;
+        private static final int STATE_ESC = 1;
+        private static final int STATE_CSI = 2;
+        private static final int STATE_APC = 3;
+        private static final int STATE_APC_ESC = 4;
+
+        private int state = STATE_INITIAL;
+        private boolean privateMarker;
+        private boolean dollar;
+        private final List<Integer> params = new ArrayList<>();
+        private int currentParam = -1;
+        private final StringBuilder apc = new StringBuilder();
+
+        /**
+         * Feeds one character.
+         *
+         * @return the kind of reply completed by this character, or {@link #NONE}
+         */
+        int accept(int ch) {
+            switch (state) {
+                case STATE_ESC:
+                    if (ch == '[') {
+                        state = STATE_CSI;
+                        privateMarker = false;
+                        dollar = false;
+                        params.clear();
+                        currentParam = -1;
+                    } else if (ch == '_') {
+                        state = STATE_APC;
+                        apc.setLength(0);
+                    } else {
+                        state = ch == '\033' ? STATE_ESC : STATE_INITIAL;
+                    }
+                    return NONE;
+                case STATE_CSI:
+                    return acceptCsi(ch);
+                case STATE_APC:
+                    if (ch == '\033') {
+                        state = STATE_APC_ESC;
+                    } else if (apc.length() < MAX_APC_LENGTH) {
+                        apc.append((char) ch);
+                    }
+                    return NONE;
+                case STATE_APC_ESC:
+                    state = STATE_INITIAL;
+                    return ch == '\\' ? APC : NONE;
+                case STATE_INITIAL:
+                default:
+                    if (ch == '\033') {
+                        state = STATE_ESC;
+                    }
+                    return NONE;
+            }
+        }
+
+        private int acceptCsi(int ch) {
+            if (ch == '?' && params.isEmpty() && currentParam < 0) {
+                privateMarker = true;
+            } else if (ch >= '0' && ch <= '9') {
+                currentParam = (currentParam < 0 ? 0 : currentParam * 10) + (ch - '0');
+            } else if (ch == ';') {
+                params.add(Math.max(currentParam, 0));
+                currentParam = -1;
+            } else if (ch == '$') {
+                dollar = true;
+            } else {
+                if (currentParam >= 0) {
+                    params.add(currentParam);
+                }
+                state = ch == '\033' ? STATE_ESC : STATE_INITIAL;
+                if (privateMarker && dollar && ch == 'y') {
+                    return DECRPM;
+                }
+                if (privateMarker && !dollar && ch == 'c') {
+                    return DA1;
+                }
+            }
+            return NONE;
+        }
+
+        int param(int index) {
+            return index < params.size() ? params.get(index) : -1;
+        }
+
+        boolean hasParam(int value, int fromIndex) {
+            for (int i = fromIndex; i < params.size(); i++) {
+                if (params.get(i) == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        String apc() {
+            return apc.toString();
+        }
+    }
+}
@@ -22,4 +22,5 @@ module dev.tamboui.core {
     exports dev.tamboui.error;
 
     uses dev.tamboui.terminal.BackendProvider;
+    uses dev.tamboui.terminal.FrameStatsListener;
 }
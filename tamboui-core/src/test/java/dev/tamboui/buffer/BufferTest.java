@@ -146,6 +146,25 @@ class BufferTest {
         assertThat(buffer.get(14, 14)).isEqualTo(cell);
     }
 
+    @Test
+    @DisplayName("Buffer copyFrom copies the cells of an area at the same coordinates")
+    void copyFrom() {
+        Buffer source = Buffer.empty(new Rect(2, 1, 6, 3));
+        source.setString(2, 1, "abcdef", Style.EMPTY);
+        source.setString(2, 2, "ghijkl", Style.EMPTY);
+        source.setString(2, 3, "mnopqr", Style.EMPTY);
+        Buffer target = Buffer.empty(new Rect(0, 0, 10, 3));
+
+        target.copyFrom(source, new Rect(3, 0, 20, 2));
+
+        assertThat(target.get(2, 1)).isEqualTo(Cell.EMPTY);
+        assertThat(target.get(3, 1).symbol()).isEqualTo("b");
+        assertThat(target.get(7, 1).symbol()).isEqualTo("f");
+        assertThat(target.get(8, 1)).isEqualTo(Cell.EMPTY);
+        assertThat(target.get(3, 2)).isEqualTo(Cell.EMPTY);
+        assertThat(target.get(3, 0)).isEqualTo(Cell.EMPTY);
+    }
+
     @Test
     @DisplayName("BufferAssertions provides detailed diff output")
     void bufferAssertionsDetailedDiff() {
@@ -0,0 +1,66 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.internal.record;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TapeReplayTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("sleeps advance the virtual clock without blocking")
+    void virtualSleep() throws IOException {
+        TapeReplay replay = TapeReplay.load(tape("Type \"a\"", "Sleep 10s", "Down", "Sleep 500ms"));
+
+        long start = System.nanoTime();
+        assertThat(replay.read()).isEqualTo('a');
+        assertThat(replay.read()).isEqualTo(-2);
+        assertThat(replay.elapsedMillis()).isEqualTo(10_000);
+        assertThat(replay.read()).isEqualTo(27);
+        assertThat(replay.peek()).isEqualTo('[');
+        assertThat(replay.read()).isEqualTo('[');
+        assertThat(replay.read()).isEqualTo('B');
+        assertThat(replay.peek()).isEqualTo(-2);
+        assertThat(replay.read()).isEqualTo(-2);
+
+        assertThat(replay.isFinished()).isTrue();
+        assertThat(replay.elapsedMillis()).isEqualTo(10_500);
+        assertThat(System.nanoTime() - start).isLessThan(5_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("screenshots are ignored")
+    void ignoresScreenshots() throws IOException {
+        TapeReplay replay = TapeReplay.load(tape("Screenshot shot.svg", "Type \"q\""));
+
+        assertThat(replay.read()).isEqualTo('q');
+        assertThat(replay.isFinished()).isTrue();
+        assertThat(tempDir.resolve("shot.svg")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("a missing tape is an error")
+    void missingTape() {
+        assertThatThrownBy(() -> TapeReplay.load(tempDir.resolve("missing.tape")))
+                .isInstanceOf(NoSuchFileException.class);
+    }
+
+    private Path tape(String... lines) throws IOException {
+        return Files.write(tempDir.resolve("test.tape"), Arrays.asList(lines));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeometryCacheTest {
+
+    private static final Rect AREA = new Rect(0, 0, 80, 24);
+
+    @Test
+    @DisplayName("Equal shapes in the same area share the resolved geometry")
+    void sharesGeometry() {
+        GeometryCache<List<Integer>, Rect[]> cache = new GeometryCache<>(8);
+        AtomicInteger resolves = new AtomicInteger();
+
+        Rect[] first = cache.get(Arrays.asList(1, 2), AREA, (shape, area) -> {
+            resolves.incrementAndGet();
+            return new Rect[] {area};
+        });
+        Rect[] second = cache.get(Arrays.asList(1, 2), new Rect(0, 0, 80, 24), (shape, area) -> {
+            resolves.incrementAndGet();
+            return new Rect[] {area};
+        });
+        cache.get(Arrays.asList(1, 2), new Rect(0, 0, 81, 24), (shape, area) -> new Rect[] {area});
+        cache.get(Arrays.asList(2, 1), AREA, (shape, area) -> new Rect[] {area});
+
+        assertThat(second).isSameAs(first);
+        assertThat(resolves).hasValue(1);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("The least recently used entry is evicted beyond the maximum size")
+    void evictsLeastRecentlyUsed() {
+        GeometryCache<Integer, Integer> cache = new GeometryCache<>(2);
+        cache.get(1, AREA, (shape, area) -> shape);
+        cache.get(2, AREA, (shape, area) -> shape);
+        cache.get(1, AREA, (shape, area) -> shape);
+        cache.get(3, AREA, (shape, area) -> shape);
+
+        long misses = cache.misses();
+        cache.get(1, AREA, (shape, area) -> shape);
+        assertThat(cache.misses()).isEqualTo(misses);
+        cache.get(2, AREA, (shape, area) -> shape);
+        assertThat(cache.misses()).isEqualTo(misses + 1);
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Entries are spread over segments, found again and bounded by the maximum size")
+    void spreadsOverSegments() {
+        GeometryCache<String, Rect> cache = new GeometryCache<>(64);
+        for (int width = 1; width <= 16; width++) {
+            cache.get("shape", new Rect(0, 0, width, 24), (shape, area) -> area);
+        }
+        for (int width = 1; width <= 16; width++) {
+            Rect area = new Rect(0, 0, width, 24);
+            assertThat(cache.get("shape", area, (shape, a) -> null)).isEqualTo(area);
+        }
+        assertThat(cache.hits()).isEqualTo(16);
+        assertThat(cache.misses()).isEqualTo(16);
+
+        // "Aa" and "BB" have the same hash code
+        assertThat(cache.get("Aa", AREA, (shape, area) -> new Rect(0, 0, 1, 1))).isEqualTo(new Rect(0, 0, 1, 1));
+        assertThat(cache.get("BB", AREA, (shape, area) -> new Rect(0, 0, 2, 2))).isEqualTo(new Rect(0, 0, 2, 2));
+
+        for (int width = 65; width <= 512; width++) {
+            cache.get("shape", new Rect(0, 0, width, 24), (shape, area) -> area);
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("The maximum size must be positive")
+    void rejectsInvalidSize() {
+        assertThatThrownBy(() -> new GeometryCache<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -178,4 +178,67 @@ class LayoutTest {
             assertThat(rect.right()).as("rect[" + i + "] right").isLessThanOrEqualTo(area.right());
         }
     }
+
+    @Test
+    @DisplayName("splitInto fills positions and sizes along the layout direction")
+    void splitIntoArrays() {
+        Layout layout = Layout.vertical()
+            .constraints(Constraint.length(2), Constraint.fill(), Constraint.length(3))
+            .margin(1)
+            .flex(Flex.CENTER);
+        int[] positions = new int[4];
+        int[] sizes = new int[4];
+
+        int count = layout.splitInto(new Rect(5, 10, 20, 12), positions, sizes);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(positions).startsWith(11, 13, 18);
+        assertThat(sizes).startsWith(2, 5, 3);
+        assertThatThrownBy(() -> layout.splitInto(new Rect(0, 0, 10, 10), new int[2], new int[3]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Splitting into a holder gives the same areas as split")
+    void splitIntoHolderMatchesSplit() {
+        Rect area = new Rect(3, 4, 57, 9);
+        try (SplitResult result = SplitResult.acquire()) {
+            for (Flex flex : Flex.values()) {
+                for (Direction direction : Direction.values()) {
+                    Layout layout = (direction == Direction.HORIZONTAL ? Layout.horizontal() : Layout.vertical())
+                        .constraints(Constraint.length(5), Constraint.max(4), Constraint.percentage(10))
+                        .margin(new Margin(1, 2, 0, 3))
+                        .spacing(2)
+                        .flex(flex);
+
+                    List<Rect> expected = layout.split(area);
+                    layout.split(area, result);
+
+                    assertThat(result.count()).isEqualTo(expected.size());
+                    for (int i = 0; i < result.count(); i++) {
+                        assertThat(result.area(i)).as("%s %s segment %d", direction, flex, i)
+                            .isEqualTo(expected.get(i));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Nested holders are distinct and reused once closed")
+    void splitResultPool() {
+        SplitResult outer = SplitResult.acquire();
+        SplitResult inner = SplitResult.acquire();
+        assertThat(inner).isNotSameAs(outer);
+
+        inner.close();
+        try (SplitResult again = SplitResult.acquire()) {
+            assertThat(again).isSameAs(inner);
+        }
+        outer.close();
+
+        SplitResult owned = new SplitResult();
+        owned.close();
+        assertThat(SplitResult.acquire()).isNotSameAs(owned);
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpatialIndexTest {
+
+    @Test
+    @DisplayName("Rectangles containing a position are found from top to bottom")
+    void findsFromTopToBottom() {
+        SpatialIndex index = new SpatialIndex();
+        index.add(new Rect(0, 0, 80, 24));
+        index.add(new Rect(10, 5, 20, 3));
+        index.add(new Rect(50, 0, 10, 10));
+        index.add(new Rect(12, 6, 2, 1));
+
+        assertThat(hits(index, 12, 6)).containsExactly(3, 1, 0);
+        assertThat(hits(index, 55, 2)).containsExactly(2, 0);
+        assertThat(hits(index, 79, 23)).containsExactly(0);
+        assertThat(hits(index, 80, 23)).isEmpty();
+        assertThat(hits(index, -1, 0)).isEmpty();
+        assertThat(index.findLast(12, 6, 3)).isEqualTo(1);
+        assertThat(index.findFirst(55, 2)).isZero();
+        assertThat(index.findFirst(90, 2)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Indexing matches a linear scan of the rectangles")
+    void matchesLinearScan() {
+        SpatialIndex index = new SpatialIndex();
+        List<Rect> areas = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Rect area = new Rect((i * 7) % 90 - 5, (i * 3) % 30 - 2, 1 + (i * 11) % 40, 1 + (i * 5) % 9);
+            areas.add(area);
+            index.add(area);
+        }
+
+        for (int y = -1; y < 40; y++) {
+            for (int x = -1; x < 130; x++) {
+                List<Integer> expected = new ArrayList<>();
+                for (int i = areas.size() - 1; i >= 0; i--) {
+                    if (areas.get(i).contains(x, y)) {
+                        expected.add(i);
+                    }
+                }
+                assertThat(hits(index, x, y)).as("hits at %d,%d", x, y).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Updated rectangles keep their index")
+    void updatesInPlace() {
+        SpatialIndex index = new SpatialIndex();
+        index.add(new Rect(0, 0, 5, 1));
+        index.add(new Rect(100, 50, 5, 1));
+        index.update(0, new Rect(100, 50, 5, 1));
+        index.update(1, null);
+
+        assertThat(hits(index, 0, 0)).isEmpty();
+        assertThat(hits(index, 102, 50)).containsExactly(0);
+        assertThat(index.area(1)).isNull();
+        assertThatThrownBy(() -> index.update(2, Rect.ZERO)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("A cleared index is empty and numbers rectangles from zero")
+    void clears() {
+        SpatialIndex index = new SpatialIndex();
+        index.add(new Rect(0, 0, 10, 10));
+        index.clear();
+
+        assertThat(index.size()).isZero();
+        assertThat(index.findLast(1, 1)).isEqualTo(-1);
+        assertThat(index.add(new Rect(5, 5, 1, 1))).isZero();
+        assertThat(hits(index, 5, 5)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("A truncated index keeps the rectangles below the new size")
+    void truncates() {
+        SpatialIndex index = new SpatialIndex();
+        index.add(new Rect(0, 0, 80, 24));
+        index.add(new Rect(10, 5, 20, 3));
+        index.add(new Rect(12, 6, 2, 1));
+        index.truncate(1);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(hits(index, 12, 6)).containsExactly(0);
+        assertThat(index.add(new Rect(12, 6, 2, 1))).isEqualTo(1);
+        assertThat(hits(index, 12, 6)).containsExactly(1, 0);
+
+        index.update(0, new Rect(40, 0, 10, 10));
+        index.truncate(1);
+        assertThat(hits(index, 12, 6)).isEmpty();
+        assertThat(hits(index, 42, 2)).containsExactly(0);
+        assertThatThrownBy(() -> index.truncate(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private static List<Integer> hits(SpatialIndex index, int x, int y) {
+        List<Integer> hits = new ArrayList<>();
+        for (int i = index.findLast(x, y); i >= 0; i = index.findLast(x, y, i)) {
+            hits.add(i);
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout.cassowary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Flex;
+import dev.tamboui.layout.Fraction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DirectAllocatorTest {
+
+    @Test
+    @DisplayName("Fill segments share what the fixed segments leave")
+    void fillsShareRemainder() {
+        Fraction[] sizes = DirectAllocator.allocate(Arrays.asList(
+                Constraint.length(3), Constraint.fill(1), Constraint.length(1), Constraint.fill(2)), 80, 0);
+
+        assertThat(sizes).containsExactly(
+                Fraction.of(3), Fraction.of(76, 3), Fraction.of(1), Fraction.of(152, 3));
+    }
+
+    @Test
+    @DisplayName("Spacing is taken before fill segments are sized")
+    void spacingReducesFills() {
+        Fraction[] sizes = DirectAllocator.allocate(Arrays.asList(
+                Constraint.percentage(50), Constraint.fill()), 40, 2);
+
+        assertThat(sizes).containsExactly(Fraction.of(20), Fraction.of(18));
+    }
+
+    @Test
+    @DisplayName("Competing constraints are left to the solver")
+    void competingConstraintsFallBack() {
+        assertThat(DirectAllocator.allocate(Arrays.asList(
+                Constraint.length(30), Constraint.length(30)), 50, 0)).isNull();
+        assertThat(DirectAllocator.allocate(Arrays.asList(
+                Constraint.min(30), Constraint.fill()), 50, 0)).isNull();
+        assertThat(DirectAllocator.allocate(Arrays.asList(
+                Constraint.fill(0), Constraint.fill()), 50, 0)).isNull();
+        assertThat(DirectAllocator.allocate(Arrays.asList(
+                Constraint.fit(), Constraint.fill()), 50, 0)).isNull();
+        assertThat(DirectAllocator.allocate(Arrays.asList(
+                Constraint.length(5), Constraint.fill()), 50, -1)).isNull();
+    }
+
+    @Test
+    @DisplayName("Direct allocation matches the simplex on random constraint sets")
+    void matchesSimplex() {
+        Random random = new Random(0x7a3b01);
+        int direct = 0;
+        for (int run = 0; run < 20_000; run++) {
+            int n = 1 + random.nextInt(6);
+            List<Constraint> constraints = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                constraints.add(randomConstraint(random));
+            }
+            int available = random.nextInt(200);
+            int spacing = random.nextInt(8) == 0 ? random.nextInt(4) : 0;
+
+            int[] expected;
+            try {
+                expected = new LayoutSolver().solveWithSimplex(constraints, available, spacing);
+            } catch (SolverException | ArithmeticException e) {
+                // unsatisfiable minimums, Min(0) duplicating the non-negativity constraint,
+                // or Fill(0) weights overflowing the exact arithmetic
+                continue;
+            }
+            int[] actual = new LayoutSolver().solve(constraints, available, spacing, Flex.START);
+
+            assertThat(actual)
+                    .as("%s in %d with spacing %d", constraints, available, spacing)
+                    .containsExactly(expected);
+            if (DirectAllocator.allocate(constraints, available, spacing) != null) {
+                direct++;
+            }
+        }
+        assertThat(direct).as("direct allocations").isGreaterThan(5_000);
+    }
+
+    private static Constraint randomConstraint(Random random) {
+        switch (random.nextInt(7)) {
+            case 0:
+            case 1:
+                return Constraint.length(random.nextInt(30));
+            case 2:
+                return Constraint.percentage(random.nextInt(60));
+            case 3:
+                return Constraint.ratio(random.nextInt(3), 1 + random.nextInt(7));
+            case 4:
+                return Constraint.max(random.nextInt(40));
+            case 5:
+                return Constraint.min(random.nextInt(20));
+            default:
+                return Constraint.fill(random.nextInt(5));
+        }
+    }
+}
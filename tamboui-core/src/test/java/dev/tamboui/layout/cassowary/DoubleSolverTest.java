@@ -0,0 +1,148 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout.cassowary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.Constraint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class DoubleSolverTest {
+
+    @Test
+    @DisplayName("Strong constraint overrides weak one")
+    void strengthHierarchy() {
+        DoubleSolver solver = new DoubleSolver();
+        Variable x = new Variable("x");
+
+        solver.addConstraint(Expression.variable(x).equalTo(100, Strength.WEAK));
+        solver.addConstraint(Expression.variable(x).equalTo(200, Strength.STRONG));
+        solver.updateVariables();
+
+        assertThat(solver.valueOf(x)).isCloseTo(200, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Inequalities bound the solution")
+    void inequalities() {
+        DoubleSolver solver = new DoubleSolver();
+        Variable left = new Variable("left");
+        Variable width = new Variable("width");
+        Variable right = new Variable("right");
+
+        solver.addConstraint(Expression.variable(right)
+                .equalTo(Expression.variable(left).plus(Expression.variable(width)), Strength.REQUIRED));
+        solver.addConstraint(Expression.variable(left).equalTo(10, Strength.REQUIRED));
+        solver.addConstraint(Expression.variable(right).lessThanOrEqual(90, Strength.REQUIRED));
+        solver.addConstraint(Expression.variable(width).equalTo(200, Strength.MEDIUM));
+        solver.updateVariables();
+
+        assertThat(solver.valueOf(width)).isCloseTo(80, within(1e-9));
+        assertThat(solver.valueOf(right)).isCloseTo(90, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Unsatisfiable and duplicate constraints throw")
+    void invalidConstraints() {
+        DoubleSolver solver = new DoubleSolver();
+        Variable x = new Variable("x");
+        CassowaryConstraint atLeast = Expression.variable(x).greaterThanOrEqual(100, Strength.REQUIRED);
+        solver.addConstraint(atLeast);
+
+        assertThatThrownBy(() -> solver.addConstraint(atLeast))
+                .isInstanceOf(DuplicateConstraintException.class);
+        assertThatThrownBy(() -> solver.addConstraint(Expression.variable(x).lessThanOrEqual(50, Strength.REQUIRED)))
+                .isInstanceOf(UnsatisfiableConstraintException.class);
+    }
+
+    @Test
+    @DisplayName("Removing a constraint restores the previous solution")
+    void removeConstraint() {
+        DoubleSolver solver = new DoubleSolver();
+        Variable x = new Variable("x");
+        solver.addConstraint(Expression.variable(x).equalTo(100, Strength.WEAK));
+        CassowaryConstraint strong = Expression.variable(x).equalTo(200, Strength.STRONG);
+        solver.addConstraint(strong);
+
+        solver.removeConstraint(strong);
+        solver.updateVariables();
+
+        assertThat(solver.hasConstraint(strong)).isFalse();
+        assertThat(solver.valueOf(x)).isCloseTo(100, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Suggested values propagate through required constraints")
+    void suggestValue() {
+        DoubleSolver solver = new DoubleSolver();
+        Variable width = new Variable("width");
+        Variable half = new Variable("half");
+        solver.addConstraint(Expression.variable(half).times(2).equalTo(Expression.variable(width), Strength.REQUIRED));
+        solver.addEditVariable(width, Strength.STRONG);
+
+        solver.suggestValue(width, 80);
+        solver.updateVariables();
+        assertThat(solver.valueOf(half)).isCloseTo(40, within(1e-9));
+
+        solver.suggestValue(width, 30);
+        solver.updateVariables();
+        assertThat(solver.valueOf(half)).isCloseTo(15, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Layouts solved with doubles match the exact solver")
+    void layoutsMatchExactSolver() {
+        Random random = new Random(0x5eed40);
+        int compared = 0;
+        for (int run = 0; run < 5_000; run++) {
+            int n = 1 + random.nextInt(6);
+            List<Constraint> constraints = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                constraints.add(randomConstraint(random));
+            }
+            int available = random.nextInt(200);
+            int spacing = random.nextInt(3);
+
+            int[] expected;
+            try {
+                expected = new LayoutSolver(LayoutSolver.Engine.EXACT).solveWithSimplex(constraints, available, spacing);
+            } catch (SolverException | ArithmeticException e) {
+                continue;
+            }
+            int[] actual = new LayoutSolver(LayoutSolver.Engine.DOUBLE).solveWithSimplex(constraints, available, spacing);
+
+            assertThat(actual)
+                    .as("%s in %d with spacing %d", constraints, available, spacing)
+                    .containsExactly(expected);
+            compared++;
+        }
+        assertThat(compared).isGreaterThan(4_000);
+    }
+
+    private static Constraint randomConstraint(Random random) {
+        switch (random.nextInt(6)) {
+            case 0:
+                return Constraint.length(random.nextInt(60));
+            case 1:
+                return Constraint.percentage(random.nextInt(101));
+            case 2:
+                return Constraint.ratio(random.nextInt(4), 1 + random.nextInt(7));
+            case 3:
+                return Constraint.max(random.nextInt(60));
+            case 4:
+                return Constraint.min(1 + random.nextInt(40));
+            default:
+                return Constraint.fill(1 + random.nextInt(4));
+        }
+    }
+}
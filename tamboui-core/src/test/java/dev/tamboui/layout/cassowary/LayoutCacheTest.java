@@ -0,0 +1,162 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout.cassowary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Flex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LayoutCacheTest {
+
+    private static final List<Constraint> CONSTRAINTS =
+        Arrays.asList(Constraint.length(10), Constraint.fill(), Constraint.percentage(25));
+
+    @Test
+    @DisplayName("Cached sizes are shared between lookups and counted as hits")
+    void hitsAndMisses() {
+        LayoutCache cache = new LayoutCache(16);
+        AtomicInteger solves = new AtomicInteger();
+        LayoutCache.SizeFunction function = (constraints, distributable, spacing, flex) -> {
+            solves.incrementAndGet();
+            return new int[] {10, distributable - 35, 25};
+        };
+
+        LayoutCache.Sizes first = cache.computeIfAbsent(CONSTRAINTS, 100, 0, Flex.START, function);
+        LayoutCache.Sizes second = cache.computeIfAbsent(
+            new ArrayList<>(CONSTRAINTS), 100, 0, Flex.START, function);
+        cache.computeIfAbsent(CONSTRAINTS, 100, 1, Flex.START, function);
+        cache.computeIfAbsent(CONSTRAINTS, 100, 0, Flex.CENTER, function);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.toArray()).containsExactly(10, 65, 25);
+        assertThat(first.total()).isEqualTo(100);
+        assertThat(solves).hasValue(3);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Cached sizes cannot be modified through the computed or returned arrays")
+    void readOnlySizes() {
+        LayoutCache cache = new LayoutCache(16);
+        int[] computed = {1, 2, 3};
+
+        LayoutCache.Sizes sizes = cache.computeIfAbsent(CONSTRAINTS, 6, 0, Flex.START, (c, d, s, f) -> computed);
+        computed[0] = 42;
+        sizes.toArray()[1] = 42;
+
+        assertThat(cache.computeIfAbsent(CONSTRAINTS, 6, 0, Flex.START, (c, d, s, f) -> computed).toArray())
+            .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Fingerprints tell constraint kinds apart and never replace comparing the constraints")
+    void fingerprints() {
+        List<Constraint> lengths = Arrays.asList(Constraint.length(5), Constraint.length(5));
+        List<Constraint> minimums = Arrays.asList(Constraint.min(5), Constraint.min(5));
+        assertThat(LayoutCache.fingerprint(lengths))
+            .isEqualTo(LayoutCache.fingerprint(new ArrayList<>(lengths)))
+            .isNotEqualTo(LayoutCache.fingerprint(minimums));
+
+        LayoutCache cache = new LayoutCache(16);
+        cache.computeIfAbsent(lengths, 7L, 10, 0, Flex.START, (c, d, s, f) -> new int[] {5, 5});
+        LayoutCache.Sizes colliding =
+            cache.computeIfAbsent(minimums, 7L, 10, 0, Flex.START, (c, d, s, f) -> new int[] {4, 6});
+
+        assertThat(colliding.toArray()).containsExactly(4, 6);
+        assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Layouts hit again survive a scan of layouts computed once")
+    void scanResistance() {
+        LayoutCache cache = new LayoutCache(8);
+        LayoutCache.SizeFunction function = (constraints, distributable, spacing, flex) -> new int[] {distributable};
+        List<Constraint> fill = Arrays.asList(Constraint.fill());
+        for (int pass = 0; pass < 2; pass++) {
+            for (int hot = 0; hot < 4; hot++) {
+                cache.computeIfAbsent(fill, hot, 0, Flex.START, function);
+            }
+        }
+
+        for (int width = 100; width < 300; width++) {
+            cache.computeIfAbsent(fill, width, 0, Flex.START, function);
+        }
+        long missesAfterScan = cache.misses();
+        for (int hot = 0; hot < 4; hot++) {
+            cache.computeIfAbsent(fill, hot, 0, Flex.START, function);
+        }
+
+        assertThat(cache.misses()).isEqualTo(missesAfterScan);
+        assertThat(cache.size()).isEqualTo(8);
+        assertThat(cache.evictions()).isEqualTo(4 + 200 - 8);
+    }
+
+    @Test
+    @DisplayName("A cache of size 0 computes every lookup")
+    void disabled() {
+        LayoutCache cache = new LayoutCache(0);
+
+        cache.computeIfAbsent(CONSTRAINTS, 10, 0, Flex.START, (c, d, s, f) -> new int[] {1, 2, 3});
+        cache.computeIfAbsent(CONSTRAINTS, 10, 0, Flex.START, (c, d, s, f) -> new int[] {1, 2, 3});
+
+        assertThat(cache.misses()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+        assertThatThrownBy(() -> new LayoutCache(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Threads share entries and statistics")
+    void concurrentLookups() throws Exception {
+        LayoutCache cache = new LayoutCache(64);
+        int threads = 8;
+        int lookups = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    boolean consistent = true;
+                    for (int i = 0; i < lookups; i++) {
+                        // 32 hot widths fit in the cache; every 16th lookup is a one-off width
+                        int width = i % 16 == 0 ? 1_000 + seed * lookups + i : (i * 7 + seed) % 32;
+                        LayoutCache.Sizes sizes = cache.computeIfAbsent(CONSTRAINTS, width, 0, Flex.START,
+                            (c, d, s, f) -> new int[] {d, d + 1, d + 2});
+                        consistent &= sizes.get(0) == width && sizes.get(2) == width + 2;
+                    }
+                    return consistent;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.hits() + cache.misses()).isEqualTo((long) threads * lookups);
+        assertThat(cache.hits()).isGreaterThan(cache.misses());
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.layout.cassowary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Flex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResizableLayoutTest {
+
+    @AfterEach
+    void clear() {
+        ResizableLayout.clear();
+    }
+
+    @Test
+    @DisplayName("Resizing re-optimizes to the sizes of a fresh solve")
+    void resizeMatchesFreshSolve() {
+        List<Constraint> constraints = Arrays.asList(
+                Constraint.length(30), Constraint.percentage(40), Constraint.min(30),
+                Constraint.fill(), Constraint.max(20), Constraint.ratio(1, 3));
+
+        for (int width = 80; width < 280; width++) {
+            int[] expected = new LayoutSolver(LayoutSolver.Engine.EXACT, false).solveWithSimplex(constraints, width, 1);
+            assertThat(ResizableLayout.solve(constraints, width, 1, LayoutSolver.Engine.EXACT))
+                    .as("width %d", width)
+                    .containsExactly(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Random resize drags give the sizes of fresh solves")
+    void randomDragsMatchFreshSolves() {
+        Random random = new Random(0x41d7a9);
+        int reoptimized = 0;
+        for (int run = 0; run < 500; run++) {
+            int n = 1 + random.nextInt(6);
+            List<Constraint> constraints = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                constraints.add(randomConstraint(random));
+            }
+            constraints = Collections.unmodifiableList(constraints);
+            LayoutSolver.Engine engine = random.nextBoolean() ? LayoutSolver.Engine.EXACT : LayoutSolver.Engine.DOUBLE;
+            int spacing = random.nextInt(3);
+            int width = random.nextInt(200);
+
+            for (int step = 0; step < 40; step++) {
+                width = Math.max(0, width + random.nextInt(21) - 10);
+                int[] expected;
+                try {
+                    expected = new LayoutSolver(engine, false).solveWithSimplex(constraints, width, spacing);
+                } catch (SolverException | ArithmeticException e) {
+                    continue;
+                }
+                int[] actual = new LayoutSolver(engine).solve(constraints, width, spacing, Flex.START);
+                assertThat(actual)
+                        .as("%s in %d with spacing %d (%s)", constraints, width, spacing, engine)
+                        .containsExactly(expected);
+                if (ResizableLayout.solve(constraints, width, spacing, engine) != null) {
+                    reoptimized++;
+                }
+            }
+        }
+        assertThat(reoptimized).as("re-optimized solves").isGreaterThan(10_000);
+    }
+
+    private static Constraint randomConstraint(Random random) {
+        switch (random.nextInt(6)) {
+            case 0:
+                return Constraint.length(random.nextInt(60));
+            case 1:
+                return Constraint.percentage(random.nextInt(101));
+            case 2:
+                return Constraint.ratio(random.nextInt(4), 1 + random.nextInt(7));
+            case 3:
+                return Constraint.max(random.nextInt(60));
+            case 4:
+                return Constraint.min(1 + random.nextInt(40));
+            default:
+                return Constraint.fill(1 + random.nextInt(4));
+        }
+    }
+}
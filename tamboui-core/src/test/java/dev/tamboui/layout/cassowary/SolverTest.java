@@ -265,4 +265,47 @@ class SolverTest {
         solver.removeConstraint(c);
         assertThat(solver.hasConstraint(c)).isFalse();
     }
+
+    @Test
+    @DisplayName("Suggested values propagate to dependent variables")
+    void suggestValue() {
+        Solver solver = new Solver();
+        Variable width = new Variable("width");
+        Variable half = new Variable("half");
+        solver.addConstraint(Expression.variable(half).times(2)
+                .equalTo(Expression.variable(width), Strength.REQUIRED));
+        solver.addEditVariable(width, Strength.STRONG);
+
+        solver.suggestValue(width, Fraction.of(80));
+        solver.updateVariables();
+        assertThat(solver.valueOf(half)).isEqualTo(Fraction.of(40));
+
+        solver.suggestValue(width, Fraction.of(30));
+        solver.updateVariables();
+        assertThat(solver.valueOf(half)).isEqualTo(Fraction.of(15));
+    }
+
+    @Test
+    @DisplayName("Required edit variable takes the suggested value over other constraints")
+    void requiredEditVariable() {
+        Solver solver = new Solver();
+        Variable available = new Variable("available");
+        Variable size = new Variable("size");
+        solver.addEditVariable(available, Strength.REQUIRED);
+        solver.suggestValue(available, Fraction.of(100));
+        solver.addConstraint(Expression.variable(size)
+                .lessThanOrEqual(Expression.variable(available), Strength.REQUIRED));
+        solver.addConstraint(Expression.variable(size).equalTo(150, Strength.STRONG));
+        solver.updateVariables();
+        assertThat(solver.valueOf(size)).isEqualTo(Fraction.of(100));
+
+        solver.suggestValue(available, Fraction.of(120));
+        solver.updateVariables();
+        assertThat(solver.valueOf(available)).isEqualTo(Fraction.of(120));
+        assertThat(solver.valueOf(size)).isEqualTo(Fraction.of(120));
+
+        solver.suggestValue(available, Fraction.of(200));
+        solver.updateVariables();
+        assertThat(solver.valueOf(size)).isEqualTo(Fraction.of(150));
+    }
 }
@@ -141,6 +141,17 @@ class GridAreaTest {
         assertThat(area.toTemplates()).containsExactly("A A B", "C C D");
     }
 
+    @Test
+    @DisplayName("areas parsed from the same cells are equal")
+    void equalityFollowsCells() {
+        GridArea area = GridArea.parse("A A B", "C C D");
+
+        assertThat(area)
+            .isEqualTo(GridArea.parse("A  A B", "C C  D"))
+            .hasSameHashCodeAs(GridArea.parse("A A B", "C C D"))
+            .isNotEqualTo(GridArea.parse("A B B", "C C D"));
+    }
+
     @Test
     @DisplayName("throws on empty template")
     void throwsOnEmptyTemplate() {
@@ -495,6 +495,38 @@ class GridTest {
         assertThat(buffer.get(10, 0).symbol()).isEqualTo(" ");
     }
 
+    @Test
+    @DisplayName("rebuilt grids reuse geometry only when their structure is the same")
+    void geometryFollowsStructure() {
+        Rect area = new Rect(0, 0, 21, 2);
+
+        Buffer first = Buffer.empty(area);
+        Grid.builder().gridAreas("A B", "C D").horizontalGutter(1)
+            .area("A", charWidget("A")).area("B", charWidget("B"))
+            .area("C", charWidget("C")).area("D", charWidget("D"))
+            .build()
+            .render(area, first);
+        Buffer rebuilt = Buffer.empty(area);
+        Grid.builder().gridAreas(GridArea.parse("A B", "C D")).horizontalGutter(1)
+            .area("A", charWidget("A")).area("B", charWidget("B"))
+            .area("C", charWidget("C")).area("D", charWidget("D"))
+            .build()
+            .render(area, rebuilt);
+        Buffer spanning = Buffer.empty(area);
+        Grid.builder().gridAreas("A A", "C D").horizontalGutter(1)
+            .area("A", fillingWidget("A"))
+            .area("C", charWidget("C")).area("D", charWidget("D"))
+            .build()
+            .render(area, spanning);
+
+        assertThat(rebuilt).isEqualTo(first);
+        BufferAssertions.assertThat(first).hasSymbolAt(11, 0, "B");
+        BufferAssertions.assertThat(spanning)
+            .hasSymbolAt(10, 0, "A")
+            .hasSymbolAt(20, 0, "A")
+            .hasSymbolAt(11, 1, "D");
+    }
+
     @Test
     @DisplayName("area-based grid throws on undefined area")
     void areaBasedGridThrowsOnUndefinedArea() {
@@ -0,0 +1,140 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntRingBufferTest {
+
+    @Test
+    @DisplayName("poll returns values in insertion order")
+    void pollInOrder() throws InterruptedException {
+        IntRingBuffer buffer = new IntRingBuffer();
+        buffer.offer(new int[] {'a', 'b', 'c'});
+
+        assertThat(buffer.poll(0)).isEqualTo('a');
+        assertThat(buffer.poll(0)).isEqualTo('b');
+        assertThat(buffer.poll(0)).isEqualTo('c');
+        assertThat(buffer.poll(0)).isEqualTo(IntRingBuffer.TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("peek does not consume the value")
+    void peekDoesNotConsume() throws InterruptedException {
+        IntRingBuffer buffer = new IntRingBuffer();
+        buffer.offer(new int[] {'x'});
+
+        assertThat(buffer.peek(0)).isEqualTo('x');
+        assertThat(buffer.peek(0)).isEqualTo('x');
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.poll(0)).isEqualTo('x');
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("peek and poll time out on an empty buffer")
+    void timesOutWhenEmpty() throws InterruptedException {
+        IntRingBuffer buffer = new IntRingBuffer();
+
+        long start = System.nanoTime();
+        assertThat(buffer.peek(30)).isEqualTo(IntRingBuffer.TIMEOUT);
+        assertThat(buffer.poll(30)).isEqualTo(IntRingBuffer.TIMEOUT);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("peek waits for a value offered by another thread")
+    void peekWaitsForValue() throws InterruptedException {
+        IntRingBuffer buffer = new IntRingBuffer();
+        AtomicInteger peeked = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread reader = new Thread(() -> {
+            try {
+                peeked.set(buffer.peek(5000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        });
+        reader.start();
+        Thread.sleep(20);
+        buffer.offer(new int[] {'q'});
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(peeked.get()).isEqualTo('q');
+        assertThat(buffer.poll(0)).isEqualTo('q');
+    }
+
+    @Test
+    @DisplayName("buffer grows while preserving wrapped-around order")
+    void growsAcrossWrapAround() throws InterruptedException {
+        IntRingBuffer buffer = new IntRingBuffer(4, 64);
+        buffer.offer(new int[] {1, 2, 3});
+        assertThat(buffer.poll(0)).isEqualTo(1);
+        assertThat(buffer.poll(0)).isEqualTo(2);
+
+        // Tail wraps around, then a large batch forces growth
+        buffer.offer(new int[] {4, 5, 6, 7, 8, 9, 10});
+
+        for (int expected = 3; expected <= 10; expected++) {
+            assertThat(buffer.poll(0)).isEqualTo(expected);
+        }
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("drops the oldest values beyond the maximum capacity")
+    void dropsOldestBeyondMaximum() throws InterruptedException {
+        IntRingBuffer buffer = new IntRingBuffer(2, 4);
+        buffer.offer(new int[] {1, 2, 3});
+        assertThat(buffer.poll(0)).isEqualTo(1);
+        buffer.offer(new int[] {4, 5, 6});
+
+        assertThat(buffer.size()).isEqualTo(4);
+        for (int expected = 3; expected <= 6; expected++) {
+            assertThat(buffer.poll(0)).isEqualTo(expected);
+        }
+
+        buffer.offer(new int[] {7, 8, 9, 10, 11, 12});
+        assertThat(buffer.size()).isEqualTo(4);
+        for (int expected = 9; expected <= 12; expected++) {
+            assertThat(buffer.poll(0)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("single values are appended and dropped like batches")
+    void offersSingleValues() throws InterruptedException {
+        IntRingBuffer buffer = new IntRingBuffer(1, 2);
+        buffer.offer('a');
+        buffer.offer('b');
+        buffer.offer('c');
+
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.poll(0)).isEqualTo('b');
+        assertThat(buffer.poll(0)).isEqualTo('c');
+        assertThat(buffer.poll(0)).isEqualTo(IntRingBuffer.TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("rejects non-positive capacity")
+    void rejectsInvalidCapacity() {
+        assertThatThrownBy(() -> new IntRingBuffer(0, 16))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IntRingBuffer(16, 8))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Layout;
+import dev.tamboui.style.Style;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TerminalFrameStatsTest {
+
+    @Test
+    @DisplayName("listeners receive numbered frames with per-phase timings")
+    void publishesStats() {
+        List<FrameStats> frames = new ArrayList<>();
+        Terminal<TestBackend> terminal = new Terminal<>(new TestBackend(20, 5));
+        terminal.addFrameStatsListener(frames::add);
+
+        terminal.draw(frame -> {
+            Layout.vertical()
+                    .constraints(Constraint.length(1), Constraint.fill())
+                    .split(frame.area());
+            frame.buffer().setString(0, 0, "hello", Style.EMPTY);
+        });
+        terminal.draw(frame -> frame.buffer().setString(0, 0, "hello", Style.EMPTY));
+
+        assertThat(frames).hasSize(2);
+        FrameStats first = frames.get(0);
+        assertThat(first.frameNumber()).isEqualTo(1);
+        assertThat(first.count(FramePhase.RENDER)).isEqualTo(1);
+        assertThat(first.count(FramePhase.LAYOUT)).isEqualTo(1);
+        assertThat(first.count(FramePhase.DIFF)).isEqualTo(1);
+        assertThat(first.count(FramePhase.ENCODE)).isEqualTo(1);
+        assertThat(first.count(FramePhase.FLUSH)).isEqualTo(1);
+        assertThat(first.cellsChanged()).isEqualTo(5);
+        assertThat(first.totalNanos()).isGreaterThanOrEqualTo(first.nanos(FramePhase.RENDER));
+        assertThat(first.nanos(FramePhase.RENDER)).isGreaterThanOrEqualTo(first.nanos(FramePhase.LAYOUT));
+
+        FrameStats second = frames.get(1);
+        assertThat(second.frameNumber()).isEqualTo(2);
+        assertThat(second.count(FramePhase.LAYOUT)).isZero();
+        assertThat(second.cellsChanged()).isZero();
+        assertThat(second.count(FramePhase.ENCODE)).as("nothing changed, nothing encoded").isZero();
+    }
+
+    @Test
+    @DisplayName("frames are not timed while no listener is enabled")
+    void disabledListener() {
+        List<FrameStats> frames = new ArrayList<>();
+        Terminal<TestBackend> terminal = new Terminal<>(new TestBackend(20, 5));
+        terminal.addFrameStatsListener(new FrameStatsListener() {
+            @Override
+            public void onFrame(FrameStats stats) {
+                frames.add(stats);
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+        });
+
+        long[] token = new long[1];
+        terminal.draw(frame -> token[0] = FrameTimer.start());
+
+        assertThat(frames).isEmpty();
+        assertThat(token[0]).isZero();
+    }
+
+    @Test
+    @DisplayName("removed listeners no longer receive frames")
+    void removeListener() {
+        List<FrameStats> frames = new ArrayList<>();
+        FrameStatsListener listener = frames::add;
+        Terminal<TestBackend> terminal = new Terminal<>(new TestBackend(20, 5));
+        terminal.addFrameStatsListener(listener);
+        terminal.draw(frame -> { });
+
+        terminal.removeFrameStatsListener(listener);
+        terminal.draw(frame -> { });
+
+        assertThat(frames).extracting(FrameStats::frameNumber).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("phases outside of a frame are not timed")
+    void outsideFrame() {
+        assertThat(FrameTimer.start()).isZero();
+        FrameTimer.stop(FramePhase.LAYOUT, 0L);
+    }
+
+    @Test
+    @DisplayName("treeNanos excludes layout, style and post-render time")
+    void treeNanos() {
+        long[] nanos = new long[FramePhase.values().length];
+        nanos[FramePhase.RENDER.ordinal()] = 100;
+        nanos[FramePhase.LAYOUT.ordinal()] = 20;
+        nanos[FramePhase.STYLE.ordinal()] = 30;
+        nanos[FramePhase.POST_RENDER.ordinal()] = 10;
+
+        FrameStats stats = new FrameStats(1, 0, 150, nanos, new int[nanos.length], 0);
+
+        assertThat(stats.treeNanos()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("FrameStats requires one entry per phase")
+    void validatesArrays() {
+        assertThatThrownBy(() -> new FrameStats(1, 0, 0, new long[1], new int[FramePhase.values().length], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.Queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.layout.Position;
+import dev.tamboui.layout.Size;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TerminalProbeTest {
+
+    private static final String KITTY_OK = "\033_Gi=31;OK\033\\";
+    private static final String DA1_SIXEL = "\033[?62;4;22c";
+    private static final String DA1_PLAIN = "\033[?62;22c";
+
+    @Nested
+    @DisplayName("probeWithoutCache")
+    class ProbeTests {
+
+        @Test
+        @DisplayName("sends all queries in one write, ending with DA1")
+        void sendsQueries() throws IOException {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            MockBackend backend = new MockBackend(output);
+            backend.setResponse(DA1_PLAIN);
+
+            TerminalProbe.probeWithoutCache(backend, 100);
+
+            String sent = new String(output.toByteArray(), StandardCharsets.UTF_8);
+            assertThat(sent).isEqualTo(TerminalProbe.querySequence());
+            assertThat(sent).startsWith("\033[?2027$p").endsWith("\033[c");
+            assertThat(backend.writeCount).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("parses every reply of a capable terminal")
+        void parsesReplies() throws IOException {
+            MockBackend backend = new MockBackend(new ByteArrayOutputStream());
+            backend.setResponse("\033[?2027;2$y\033[?2026;2$y" + KITTY_OK + DA1_SIXEL);
+
+            TerminalCapabilities capabilities = TerminalProbe.probeWithoutCache(backend, 100);
+
+            assertThat(capabilities).isEqualTo(new TerminalCapabilities(
+                    Mode2027Status.SUPPORTED_DISABLED, true, true, true, true));
+        }
+
+        @Test
+        @DisplayName("a terminal answering only DA1 supports nothing but completes")
+        void onlyDa1() throws IOException {
+            MockBackend backend = new MockBackend(new ByteArrayOutputStream());
+            backend.setResponse(DA1_PLAIN);
+
+            TerminalCapabilities capabilities = TerminalProbe.probeWithoutCache(backend, 100);
+
+            assertThat(capabilities.mode2027()).isEqualTo(Mode2027Status.NOT_SUPPORTED);
+            assertThat(capabilities.synchronizedOutput()).isFalse();
+            assertThat(capabilities.kittyGraphics()).isFalse();
+            assertThat(capabilities.sixel()).isFalse();
+            assertThat(capabilities.isComplete()).isTrue();
+        }
+
+        @Test
+        @DisplayName("stops reading at the DA1 reply")
+        void stopsAtDa1() throws IOException {
+            MockBackend backend = new MockBackend(new ByteArrayOutputStream());
+            backend.setResponse("\033[?2027;1$y" + DA1_PLAIN + "q");
+
+            TerminalCapabilities capabilities = TerminalProbe.probeWithoutCache(backend, 100);
+
+            assertThat(capabilities.mode2027()).isEqualTo(Mode2027Status.ENABLED);
+            assertThat(backend.remaining()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("a kitty graphics error reply means no kitty graphics")
+        void kittyError() throws IOException {
+            MockBackend backend = new MockBackend(new ByteArrayOutputStream());
+            backend.setResponse("\033_Gi=31;EINVAL:unsupported\033\\" + DA1_PLAIN);
+
+            assertThat(TerminalProbe.probeWithoutCache(backend, 100).kittyGraphics()).isFalse();
+        }
+
+        @Test
+        @DisplayName("an unanswered probe is incomplete")
+        void noReply() throws IOException {
+            MockBackend backend = new MockBackend(new ByteArrayOutputStream());
+
+            TerminalCapabilities capabilities = TerminalProbe.probeWithoutCache(backend, 50);
+
+            assertThat(capabilities).isEqualTo(TerminalCapabilities.NONE);
+            assertThat(capabilities.isComplete()).isFalse();
+        }
+
+        @Test
+        @DisplayName("only probing the local terminal updates the current capabilities")
+        void onlyProbeUpdatesCurrent() throws IOException {
+            String previous = System.getProperty(TerminalCapabilityCache.CACHE_PROPERTY);
+            System.setProperty(TerminalCapabilityCache.CACHE_PROPERTY, "false");
+            try {
+                MockBackend local = new MockBackend(new ByteArrayOutputStream());
+                local.setResponse(DA1_PLAIN);
+                TerminalCapabilities capabilities = TerminalProbe.probe(local, 100);
+
+                MockBackend remote = new MockBackend(new ByteArrayOutputStream());
+                remote.setResponse(KITTY_OK + DA1_SIXEL);
+                TerminalCapabilities remoteCapabilities = TerminalProbe.probeWithoutCache(remote, 100);
+
+                assertThat(remoteCapabilities.sixel()).isTrue();
+                assertThat(TerminalProbe.current()).isSameAs(capabilities);
+            } finally {
+                if (previous != null) {
+                    System.setProperty(TerminalCapabilityCache.CACHE_PROPERTY, previous);
+                } else {
+                    System.clearProperty(TerminalCapabilityCache.CACHE_PROPERTY);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("TerminalCapabilityCache")
+    class CacheTests {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("stored capabilities are loaded back")
+        void roundTrip() {
+            Path file = tempDir.resolve("cache").resolve("capabilities.properties");
+            TerminalCapabilities capabilities = new TerminalCapabilities(
+                    Mode2027Status.ENABLED, true, false, true, true);
+
+            new TerminalCapabilityCache(file, "xterm-256color|WezTerm|1").store(capabilities);
+
+            assertThat(new TerminalCapabilityCache(file, "xterm-256color|WezTerm|1").load()).isEqualTo(capabilities);
+            assertThat(new TerminalCapabilityCache(file, "xterm-256color|WezTerm|2").load()).isNull();
+        }
+
+        @Test
+        @DisplayName("entries of other terminals are kept")
+        void keepsOtherEntries() {
+            Path file = tempDir.resolve("capabilities.properties");
+            TerminalCapabilities kitty = new TerminalCapabilities(Mode2027Status.SUPPORTED_DISABLED, true, true, false, true);
+
+            new TerminalCapabilityCache(file, "xterm-kitty|kitty|0.35").store(kitty);
+            new TerminalCapabilityCache(file, "xterm-256color|iTerm.app|3.5").store(TerminalCapabilities.NONE);
+
+            assertThat(new TerminalCapabilityCache(file, "xterm-kitty|kitty|0.35").load()).isEqualTo(kitty);
+        }
+
+        @Test
+        @DisplayName("a terminal without TERM_PROGRAM is not cached")
+        void requiresTermProgram() {
+            assertThat(TerminalCapabilityCache.key("xterm-256color", null, null)).isNull();
+            assertThat(TerminalCapabilityCache.key("xterm-256color", "WezTerm", null)).isEqualTo("xterm-256color|WezTerm|");
+        }
+
+        @Test
+        @DisplayName("malformed entries are ignored")
+        void malformedEntry() {
+            assertThat(TerminalCapabilityCache.decode("ENABLED,true")).isNull();
+            assertThat(TerminalCapabilityCache.decode("BOGUS,true,true,true")).isNull();
+        }
+    }
+
+    private static class MockBackend implements Backend {
+        private final ByteArrayOutputStream output;
+        private final Queue<Integer> responseQueue = new LinkedList<>();
+        int writeCount = 0;
+
+        MockBackend(ByteArrayOutputStream output) {
+            this.output = output;
+        }
+
+        void setResponse(String response) {
+            for (char c : response.toCharArray()) {
+                responseQueue.add((int) c);
+            }
+        }
+
+        int remaining() {
+            return responseQueue.size();
+        }
+
+        @Override
+        public void writeRaw(byte[] data) throws IOException {
+            writeCount++;
+            output.write(data);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Not used
+        }
+
+        @Override
+        public int read(int timeoutMs) throws IOException {
+            if (responseQueue.isEmpty()) {
+                return -2; // timeout
+            }
+            return responseQueue.poll();
+        }
+
+        @Override
+        public void draw(Iterable<CellUpdate> updates) throws IOException {
+            // Not used
+        }
+
+        @Override
+        public void clear() throws IOException {
+            // Not used
+        }
+
+        @Override
+        public Size size() throws IOException {
+            return new Size(80, 24);
+        }
+
+        @Override
+        public void showCursor() throws IOException {
+            // Not used
+        }
+
+        @Override
+        public void hideCursor() throws IOException {
+            // Not used
+        }
+
+        @Override
+        public Position getCursorPosition() throws IOException {
+            return Position.ORIGIN;
+        }
+
+        @Override
+        public void setCursorPosition(Position position) throws IOException {
+            // Not used
+        }
+
+        @Override
+        public void enterAlternateScreen() throws IOException {
+            // Not used
+        }
+
+        @Override
+        public void leaveAlternateScreen() throws IOException {
+            // Not used
+        }
+
+        @Override
+        public void enableRawMode() throws IOException {
+            // Not used
+        }
+
+        @Override
+        public void disableRawMode() throws IOException {
+            // Not used
+        }
+
+        @Override
+        public void onResize(Runnable handler) {
+            // Not used
+        }
+
+        @Override
+        public int peek(int timeoutMs) throws IOException {
+            return responseQueue.isEmpty() ? -2 : responseQueue.peek();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Not used
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+import java.util.function.Consumer;
+
+import org.assertj.core.api.Assumptions;
+
+import dev.tamboui.widget.Widget;
+
+/**
+ * Measures the bytes allocated per frame by a renderer drawn through {@link Terminal#draw(Consumer)}.
+ * <p>
+ * The renderer is drawn on a {@link TestBackend} for a number of warmup frames,
+ * then for a number of measured frames while the allocations of the current
+ * thread are read from the JVM's {@code ThreadMXBean}. Since the content does
+ * not change between frames, the measurement covers the steady state of the
+ * render loop: element tree, layout, diff and terminal bookkeeping.
+ * <pre>{@code
+ * AllocationBudget.forWidget(paragraph)
+ *     .size(40, 10)
+ *     .assertAtMost(2_048);
+ * }</pre>
+ * <p>
+ * On JVMs that cannot measure thread allocations, {@link #assertAtMost(long)}
+ * aborts the test instead of failing it.
+ */
+public final class AllocationBudget {
+
+    private final Consumer<Frame> renderer;
+    private int width = 80;
+    private int height = 24;
+    private int warmupFrames = 200;
+    private int frames = 100;
+
+    private AllocationBudget(Consumer<Frame> renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Creates a budget for a frame renderer.
+     *
+     * @param renderer the renderer
+     * @return a new budget
+     */
+    public static AllocationBudget forRenderer(Consumer<Frame> renderer) {
+        return new AllocationBudget(renderer);
+    }
+
+    /**
+     * Creates a budget for a widget rendered over the whole frame.
+     *
+     * @param widget the widget
+     * @return a new budget
+     */
+    public static AllocationBudget forWidget(Widget widget) {
+        return new AllocationBudget(frame -> frame.renderWidget(widget, frame.area()));
+    }
+
+    /**
+     * Returns whether this JVM reports the bytes allocated per thread.
+     *
+     * @return true if allocations can be measured
+     */
+    public static boolean isSupported() {
+        return ThreadAllocations.isSupported();
+    }
+
+    /**
+     * Sets the terminal size. Defaults to 80x24.
+     *
+     * @param width the width
+     * @param height the height
+     * @return this budget
+     */
+    public AllocationBudget size(int width, int height) {
+        this.width = width;
+        this.height = height;
+        return this;
+    }
+
+    /**
+     * Sets the number of frames drawn before measuring. Defaults to 200.
+     *
+     * @param warmupFrames the number of warmup frames
+     * @return this budget
+     */
+    public AllocationBudget warmupFrames(int warmupFrames) {
+        this.warmupFrames = warmupFrames;
+        return this;
+    }
+
+    /**
+     * Sets the number of measured frames. Defaults to 100.
+     *
+     * @param frames the number of measured frames
+     * @return this budget
+     */
+    public AllocationBudget frames(int frames) {
+        if (frames <= 0) {
+            throw new IllegalArgumentException("frames must be positive: " + frames);
+        }
+        this.frames = frames;
+        return this;
+    }
+
+    /**
+     * Draws the frames and measures their allocations.
+     *
+     * @return the measurement
+     * @throws IllegalStateException if allocations cannot be measured on this JVM
+     */
+    public Result measure() {
+        if (!isSupported()) {
+            throw new IllegalStateException("Thread allocation measurement is not supported by this JVM");
+        }
+        Terminal<TestBackend> terminal = new Terminal<>(new TestBackend(width, height));
+        for (int i = 0; i < warmupFrames; i++) {
+            terminal.draw(renderer);
+        }
+
+        // Reading the counter may allocate itself; subtract what an empty measurement costs
+        long calibration = Long.MAX_VALUE;
+        for (int i = 0; i < 16; i++) {
+            long before = ThreadAllocations.currentThread();
+            long after = ThreadAllocations.currentThread();
+            calibration = Math.min(calibration, after - before);
+        }
+
+        long total = 0;
+        long max = 0;
+        for (int i = 0; i < frames; i++) {
+            long before = ThreadAllocations.currentThread();
+            terminal.draw(renderer);
+            long allocated = Math.max(0, ThreadAllocations.currentThread() - before - calibration);
+            total += allocated;
+            max = Math.max(max, allocated);
+        }
+        return new Result(frames, total / frames, max);
+    }
+
+    /**
+     * Measures the allocations and fails if the mean per frame exceeds the budget.
+     * <p>
+     * Aborts the test if allocations cannot be measured on this JVM.
+     *
+     * @param bytesPerFrame the budget in bytes per frame
+     * @return the measurement
+     */
+    public Result assertAtMost(long bytesPerFrame) {
+        Assumptions.assumeThat(isSupported())
+                .as("thread allocation measurement is supported")
+                .isTrue();
+        Result result = measure();
+        if (result.bytesPerFrame() > bytesPerFrame) {
+            throw new AssertionError(String.format(
+                    "Expected at most %d bytes allocated per frame but was %d (max %d over %d frames)",
+                    bytesPerFrame, result.bytesPerFrame(), result.maxBytesPerFrame(), result.frames()));
+        }
+        return result;
+    }
+
+    /**
+     * Allocations measured over the drawn frames.
+     */
+    public static final class Result {
+        private final int frames;
+        private final long bytesPerFrame;
+        private final long maxBytesPerFrame;
+
+        Result(int frames, long bytesPerFrame, long maxBytesPerFrame) {
+            this.frames = frames;
+            this.bytesPerFrame = bytesPerFrame;
+            this.maxBytesPerFrame = maxBytesPerFrame;
+        }
+
+        /**
+         * Returns the number of measured frames.
+         *
+         * @return the frame count
+         */
+        public int frames() {
+            return frames;
+        }
+
+        /**
+         * Returns the mean bytes allocated per frame.
+         *
+         * @return the bytes per frame
+         */
+        public long bytesPerFrame() {
+            return bytesPerFrame;
+        }
+
+        /**
+         * Returns the most bytes allocated by a single frame.
+         *
+         * @return the maximum bytes per frame
+         */
+        public long maxBytesPerFrame() {
+            return maxBytesPerFrame;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("AllocationBudget.Result[frames=%d, bytesPerFrame=%d, maxBytesPerFrame=%d]",
+                    frames, bytesPerFrame, maxBytesPerFrame);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.terminal;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reads the bytes allocated by the current thread from the JVM's
+ * {@code com.sun.management.ThreadMXBean}, when the JVM supports it.
+ * <p>
+ * JVMs without {@code com.sun.management}, or with thread allocation
+ * measurement disabled, report no measurement instead of failing.
+ * Used by {@link AllocationBudget} and by the benchmarks.
+ */
+public final class ThreadAllocations {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private ThreadAllocations() {
+        // Utility class
+    }
+
+    /**
+     * Returns whether this JVM reports the bytes allocated per thread.
+     *
+     * @return true if allocations can be measured
+     */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Returns the total bytes allocated so far by the current thread.
+     * <p>
+     * The value is only meaningful when compared to another value of the same thread.
+     *
+     * @return the allocated bytes, or -1 if allocations cannot be measured
+     */
+    public static long currentThread() {
+        try {
+            return THREADS != null ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+        } catch (LinkageError e) {
+            return -1;
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+                if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                    return threads;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException e) {
+            // Not available on this JVM
+        }
+        return null;
+    }
+}
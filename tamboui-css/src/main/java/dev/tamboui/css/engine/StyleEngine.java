@@ -23,6 +23,8 @@ import dev.tamboui.css.property.PropertyConverter;
 import dev.tamboui.error.RuntimeIOException;
 import dev.tamboui.style.Color;
 import dev.tamboui.style.ColorConverter;
+import dev.tamboui.terminal.FramePhase;
+import dev.tamboui.terminal.FrameTimer;
 
 /**
  * Main entry point for CSS styling.
@@ -276,10 +278,15 @@ public final class StyleEngine {
     public CssStyleResolver resolve(Styleable element,
                                      PseudoClassState state,
                                      List<Styleable> ancestors) {
-        List<Rule> allRules = collectRules();
-        Map<String, String> allVariables = collectVariables();
-
-        return cascadeResolver.resolve(element, state, ancestors, allRules, allVariables);
+        long resolveStart = FrameTimer.start();
+        try {
+            List<Rule> allRules = collectRules();
+            Map<String, String> allVariables = collectVariables();
+
+            return cascadeResolver.resolve(element, state, ancestors, allRules, allVariables);
+        } finally {
+            FrameTimer.stop(FramePhase.STYLE, resolveStart);
+        }
     }
 
     /**
@@ -13,12 +13,16 @@ import dev.tamboui.image.protocol.ITermProtocol;
 import dev.tamboui.image.protocol.ImageProtocol;
 import dev.tamboui.image.protocol.KittyProtocol;
 import dev.tamboui.image.protocol.SixelProtocol;
+import dev.tamboui.terminal.TerminalCapabilities;
+import dev.tamboui.terminal.TerminalProbe;
 
 /**
  * Detects and caches terminal image capabilities.
  * <p>
  * Detection is performed using environment variables to identify the terminal emulator.
- * This approach is fast (no I/O) and works in most cases.
+ * This approach is fast (no I/O) and works in most cases. When the backend has
+ * probed the terminal (see {@link TerminalProbe}), the kitty graphics and sixel
+ * support reported by the terminal itself is added as well.
  *
  * <pre>{@code
  * TerminalImageCapabilities caps = TerminalImageCapabilities.detect();
@@ -243,6 +247,17 @@ public final class TerminalImageCapabilities {
             }
         }
 
+        // Capabilities reported by the terminal in reply to the backend's probe
+        TerminalCapabilities probed = TerminalProbe.current();
+        if (probed != null) {
+            if (probed.kittyGraphics()) {
+                supported.add(TerminalImageProtocol.KITTY);
+            }
+            if (probed.sixel()) {
+                supported.add(TerminalImageProtocol.SIXEL);
+            }
+        }
+
         return new TerminalImageCapabilities(supported);
     }
 
@@ -0,0 +1,22 @@
+plugins {
+    id("dev.tamboui.java-library")
+}
+
+description = "Java Flight Recorder events for TamboUI frame timings"
+
+tasks.withType<JavaCompile>().configureEach {
+    // jdk.jfr is only part of the platform since Java 11
+    options.release = 11
+}
+
+dependencies {
+    api(projects.tambouiCore)
+    testImplementation(testFixtures(projects.tambouiCore))
+}
+
+// This project is compiled with Java 11, but at runtime we want
+// it to be harmless for applications still running on Java 8,
+// in which case the listener simply fails to load and is skipped.
+configurations.runtimeElements {
+    attributes.attribute(TargetJvmVersion.TARGET_JVM_VERSION_ATTRIBUTE, 8)
+}
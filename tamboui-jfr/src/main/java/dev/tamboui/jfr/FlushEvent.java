@@ -0,0 +1,31 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The flush of a frame's output to the terminal.
+ */
+@Name("dev.tamboui.Flush")
+@Label("Flush")
+@Category("TamboUI")
+@Description("Flush of a frame's output to the terminal")
+@StackTrace(false)
+final class FlushEvent extends Event {
+
+    @Label("Frame Number")
+    long frameNumber;
+
+    @Label("Total Time")
+    @Timespan
+    long totalTime;
+}
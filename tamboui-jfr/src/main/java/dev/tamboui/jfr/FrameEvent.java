@@ -0,0 +1,68 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A frame drawn by a terminal, with the time spent in each phase.
+ */
+@Name("dev.tamboui.Frame")
+@Label("Frame")
+@Category("TamboUI")
+@Description("A frame drawn by a terminal, broken down by phase")
+@StackTrace(false)
+final class FrameEvent extends Event {
+
+    @Label("Frame Number")
+    long frameNumber;
+
+    @Label("Total Time")
+    @Timespan
+    long totalTime;
+
+    @Label("Render")
+    @Description("Time spent rendering, including layout, style and post-render processing")
+    @Timespan
+    long render;
+
+    @Label("Tree")
+    @Description("Time spent rendering elements and widgets, excluding layout, style and post-render processing")
+    @Timespan
+    long tree;
+
+    @Label("Layout")
+    @Timespan
+    long layout;
+
+    @Label("Style")
+    @Timespan
+    long style;
+
+    @Label("Post-Render")
+    @Timespan
+    long postRender;
+
+    @Label("Diff")
+    @Timespan
+    long diff;
+
+    @Label("Encode")
+    @Timespan
+    long encode;
+
+    @Label("Flush")
+    @Timespan
+    long flush;
+
+    @Label("Cells Changed")
+    int cellsChanged;
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.jfr;
+
+import dev.tamboui.terminal.FramePhase;
+import dev.tamboui.terminal.FrameStats;
+import dev.tamboui.terminal.FrameStatsListener;
+
+import jdk.jfr.EventType;
+
+/**
+ * Emits Java Flight Recorder events for the frames drawn by a terminal.
+ * <p>
+ * Registered as a {@link FrameStatsListener} service, so adding this module to
+ * the classpath is enough for {@code TuiRunner} to pick it up. Frames are only
+ * timed while a recording has one of the events enabled, for example:
+ *
+ * <pre>{@code
+ * java -XX:StartFlightRecording:filename=app.jfr -jar app.jar
+ * jfr print --events dev.tamboui.Frame app.jfr
+ * }</pre>
+ *
+ * Events are committed once per frame, after it was flushed; the phase
+ * durations are recorded as timespan fields rather than as the event duration.
+ * <ul>
+ *   <li>{@code dev.tamboui.Frame}: the total and per-phase times of the frame</li>
+ *   <li>{@code dev.tamboui.LayoutSolve}: time and count of layout splits</li>
+ *   <li>{@code dev.tamboui.StyleResolve}: time and count of CSS style resolutions</li>
+ *   <li>{@code dev.tamboui.Flush}: time spent flushing the output</li>
+ * </ul>
+ */
+public final class JfrFrameStatsListener implements FrameStatsListener {
+
+    private final EventType frameType = EventType.getEventType(FrameEvent.class);
+    private final EventType layoutType = EventType.getEventType(LayoutSolveEvent.class);
+    private final EventType styleType = EventType.getEventType(StyleResolveEvent.class);
+    private final EventType flushType = EventType.getEventType(FlushEvent.class);
+
+    /**
+     * Creates a listener.
+     */
+    public JfrFrameStatsListener() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return frameType.isEnabled() || layoutType.isEnabled()
+                || styleType.isEnabled() || flushType.isEnabled();
+    }
+
+    @Override
+    public void onFrame(FrameStats stats) {
+        FrameEvent frame = new FrameEvent();
+        if (frame.shouldCommit()) {
+            frame.frameNumber = stats.frameNumber();
+            frame.totalTime = stats.totalNanos();
+            frame.render = stats.nanos(FramePhase.RENDER);
+            frame.tree = stats.treeNanos();
+            frame.layout = stats.nanos(FramePhase.LAYOUT);
+            frame.style = stats.nanos(FramePhase.STYLE);
+            frame.postRender = stats.nanos(FramePhase.POST_RENDER);
+            frame.diff = stats.nanos(FramePhase.DIFF);
+            frame.encode = stats.nanos(FramePhase.ENCODE);
+            frame.flush = stats.nanos(FramePhase.FLUSH);
+            frame.cellsChanged = stats.cellsChanged();
+            frame.commit();
+        }
+
+        LayoutSolveEvent layout = new LayoutSolveEvent();
+        if (layout.shouldCommit() && stats.count(FramePhase.LAYOUT) > 0) {
+            layout.frameNumber = stats.frameNumber();
+            layout.totalTime = stats.nanos(FramePhase.LAYOUT);
+            layout.solves = stats.count(FramePhase.LAYOUT);
+            layout.commit();
+        }
+
+        StyleResolveEvent style = new StyleResolveEvent();
+        if (style.shouldCommit() && stats.count(FramePhase.STYLE) > 0) {
+            style.frameNumber = stats.frameNumber();
+            style.totalTime = stats.nanos(FramePhase.STYLE);
+            style.resolves = stats.count(FramePhase.STYLE);
+            style.commit();
+        }
+
+        FlushEvent flush = new FlushEvent();
+        if (flush.shouldCommit()) {
+            flush.frameNumber = stats.frameNumber();
+            flush.totalTime = stats.nanos(FramePhase.FLUSH);
+            flush.commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The layout solves of a frame.
+ */
+@Name("dev.tamboui.LayoutSolve")
+@Label("Layout Solve")
+@Category("TamboUI")
+@Description("Layout splits performed while rendering a frame")
+@StackTrace(false)
+final class LayoutSolveEvent extends Event {
+
+    @Label("Frame Number")
+    long frameNumber;
+
+    @Label("Total Time")
+    @Timespan
+    long totalTime;
+
+    @Label("Solves")
+    int solves;
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The CSS style resolutions of a frame.
+ */
+@Name("dev.tamboui.StyleResolve")
+@Label("Style Resolve")
+@Category("TamboUI")
+@Description("CSS style resolutions performed while rendering a frame")
+@StackTrace(false)
+final class StyleResolveEvent extends Event {
+
+    @Label("Frame Number")
+    long frameNumber;
+
+    @Label("Total Time")
+    @Timespan
+    long totalTime;
+
+    @Label("Resolves")
+    int resolves;
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.jfr;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Layout;
+import dev.tamboui.style.Style;
+import dev.tamboui.terminal.FrameStatsListener;
+import dev.tamboui.terminal.Terminal;
+import dev.tamboui.terminal.TestBackend;
+import dev.tamboui.util.SafeServiceLoader;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrFrameStatsListenerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("is disabled without a recording")
+    void disabledWithoutRecording() {
+        assertThat(new JfrFrameStatsListener().isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("is discovered as a FrameStatsListener service")
+    void serviceLoader() {
+        assertThat(SafeServiceLoader.load(FrameStatsListener.class))
+                .hasAtLeastOneElementOfType(JfrFrameStatsListener.class);
+    }
+
+    @Test
+    @DisplayName("emits one event of each type per frame while recording")
+    void emitsEvents() throws Exception {
+        Terminal<TestBackend> terminal = new Terminal<>(new TestBackend(20, 5));
+        terminal.addFrameStatsListener(new JfrFrameStatsListener());
+        Path file = tempDir.resolve("frames.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("dev.tamboui.Frame");
+            recording.enable("dev.tamboui.LayoutSolve");
+            recording.enable("dev.tamboui.StyleResolve");
+            recording.enable("dev.tamboui.Flush");
+            recording.start();
+            for (int i = 0; i < 3; i++) {
+                terminal.draw(frame -> {
+                    Layout.horizontal()
+                            .constraints(Constraint.percentage(50), Constraint.fill())
+                            .split(frame.area());
+                    frame.buffer().setString(0, 0, "frame", Style.EMPTY);
+                });
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> frames = ofType(events, "dev.tamboui.Frame");
+        assertThat(frames).hasSize(3);
+        assertThat(frames).extracting(e -> e.getLong("frameNumber")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        RecordedEvent first = frames.stream().filter(e -> e.getLong("frameNumber") == 1).findFirst().get();
+        assertThat(first.getInt("cellsChanged")).isEqualTo(5);
+        assertThat(first.getDuration("totalTime")).isPositive();
+
+        List<RecordedEvent> layouts = ofType(events, "dev.tamboui.LayoutSolve");
+        assertThat(layouts).hasSize(3);
+        assertThat(layouts).allSatisfy(e -> assertThat(e.getInt("solves")).isEqualTo(1));
+        assertThat(ofType(events, "dev.tamboui.Flush")).hasSize(3);
+        assertThat(ofType(events, "dev.tamboui.StyleResolve")).as("no CSS involved").isEmpty();
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
@@ -4,8 +4,10 @@
  */
 package dev.tamboui.backend.jline3;
 
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
 
 import org.jline.terminal.Attributes;
 import org.jline.terminal.Terminal;
@@ -17,18 +19,24 @@ import org.jline.utils.NonBlockingReader;
 import dev.tamboui.layout.Position;
 import dev.tamboui.layout.Size;
 import dev.tamboui.terminal.AbstractBackend;
-import dev.tamboui.terminal.Mode2027Status;
 import dev.tamboui.terminal.Mode2027Support;
+import dev.tamboui.terminal.OutputStatistics;
+import dev.tamboui.terminal.TerminalCapabilities;
+import dev.tamboui.terminal.TerminalProbe;
 
 /**
  * JLine 3 based backend for terminal operations.
+ * <p>
+ * The output written to the terminal is reported through {@link OutputStatistics},
+ * counting one write per non-empty {@link #flush()}.
  */
-public class JLineBackend extends AbstractBackend {
+public class JLineBackend extends AbstractBackend implements OutputStatistics {
 
     private static final String ESC = "\033";
     private static final String CSI = ESC + "[";
 
     private final Terminal terminal;
+    private final CountingWriter counter;
     private final PrintWriter writer;
     private final NonBlockingReader reader;
     private Attributes savedAttributes;
@@ -46,7 +54,8 @@ public class JLineBackend extends AbstractBackend {
             .system(true)
             .jansi(true)
             .build();
-        this.writer = terminal.writer();
+        this.counter = new CountingWriter(terminal.writer());
+        this.writer = new PrintWriter(counter);
         this.reader = terminal.reader();
         this.inAlternateScreen = false;
         this.mouseEnabled = false;
@@ -58,6 +67,16 @@ public class JLineBackend extends AbstractBackend {
         writer.flush();
     }
 
+    @Override
+    public long bytesWritten() {
+        return counter.bytesWritten;
+    }
+
+    @Override
+    public long writeCount() {
+        return counter.writeCount;
+    }
+
     @Override
     public void clear() throws IOException {
         writer.print(CSI + "2J");  // Clear entire screen
@@ -113,10 +132,10 @@ public class JLineBackend extends AbstractBackend {
         attrs.setLocalFlag(Attributes.LocalFlag.ISIG, false);
         terminal.setAttributes(attrs);
 
-        // Query and enable Mode 2027 (grapheme cluster mode) after entering raw mode
-        // to prevent the response from being echoed to the terminal
-        Mode2027Status status = Mode2027Support.query(this, 500);
-        if (status.isSupported()) {
+        // Probe the terminal (or reuse the cached result) after entering raw mode
+        // to prevent the responses from being echoed to the terminal
+        TerminalCapabilities capabilities = TerminalProbe.probe(this, 500);
+        if (capabilities.mode2027().isSupported()) {
             Mode2027Support.enable(this);
             mode2027Enabled = true;
         }
@@ -229,6 +248,8 @@ public class JLineBackend extends AbstractBackend {
     @Override
     public void writeRaw(byte[] data) throws IOException {
         terminal.output().write(data);
+        counter.bytesWritten += data.length;
+        counter.writeCount++;
     }
 
     @Override
@@ -279,4 +300,54 @@ public class JLineBackend extends AbstractBackend {
     public Terminal jlineTerminal() {
         return terminal;
     }
+
+    /**
+     * Counts the UTF-8 encoded size of the characters written to the terminal.
+     */
+    private static final class CountingWriter extends FilterWriter {
+        private long pendingBytes;
+        private volatile long bytesWritten;
+        private volatile long writeCount;
+
+        CountingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.write(c);
+            pendingBytes += utf8Length((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            out.write(cbuf, off, len);
+            for (int i = off; i < off + len; i++) {
+                pendingBytes += utf8Length(cbuf[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, len);
+            for (int i = off; i < off + len; i++) {
+                pendingBytes += utf8Length(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+            if (pendingBytes > 0) {
+                bytesWritten += pendingBytes;
+                writeCount++;
+                pendingBytes = 0;
+            }
+        }
+
+        // A surrogate pair encodes to 4 bytes, 2 per surrogate
+        private static int utf8Length(char c) {
+            return c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+        }
+    }
 }
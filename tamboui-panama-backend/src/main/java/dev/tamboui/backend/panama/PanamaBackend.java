@@ -13,8 +13,10 @@ import dev.tamboui.backend.panama.windows.WindowsTerminal;
 import dev.tamboui.layout.Position;
 import dev.tamboui.layout.Size;
 import dev.tamboui.terminal.AbstractBackend;
-import dev.tamboui.terminal.Mode2027Status;
 import dev.tamboui.terminal.Mode2027Support;
+import dev.tamboui.terminal.OutputStatistics;
+import dev.tamboui.terminal.TerminalCapabilities;
+import dev.tamboui.terminal.TerminalProbe;
 
 /**
  * Terminal backend implementation using Panama FFI.
@@ -25,13 +27,18 @@ import dev.tamboui.terminal.Mode2027Support;
  * platform functions directly.
  * <p>
  * Supports Unix-like systems (Linux and macOS) and Windows.
+ * <p>
+ * Output is buffered and written with a single native call per {@link #flush()};
+ * the bytes and writes issued are reported through {@link OutputStatistics}.
  */
-public class PanamaBackend extends AbstractBackend {
+public class PanamaBackend extends AbstractBackend implements OutputStatistics {
 
     private static final int INITIAL_BUFFER_SIZE = 8192;
 
     private final PlatformTerminal terminal;
     private final ByteArrayBuilder outputBuffer;
+    private volatile long bytesWritten;
+    private volatile long writeCount;
     private boolean inAlternateScreen;
     private boolean mouseEnabled;
     private boolean mode2027Enabled;
@@ -72,10 +79,22 @@ public class PanamaBackend extends AbstractBackend {
     public void flush() throws IOException {
         if (outputBuffer.length() > 0) {
             terminal.write(outputBuffer.buffer(), 0, outputBuffer.length());
+            bytesWritten += outputBuffer.length();
+            writeCount++;
             outputBuffer.reset();
         }
     }
 
+    @Override
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public long writeCount() {
+        return writeCount;
+    }
+
     @Override
     public void clear() throws IOException {
         outputBuffer.csi().appendAscii("2J");  // Clear entire screen
@@ -125,10 +144,10 @@ public class PanamaBackend extends AbstractBackend {
     public void enableRawMode() throws IOException {
         terminal.enableRawMode();
 
-        // Query and enable Mode 2027 (grapheme cluster mode) after entering raw mode
-        // to prevent the response from being echoed to the terminal
-        Mode2027Status status = Mode2027Support.query(this, 500);
-        if (status.isSupported()) {
+        // Probe the terminal (or reuse the cached result) after entering raw mode
+        // to prevent the responses from being echoed to the terminal
+        TerminalCapabilities capabilities = TerminalProbe.probe(this, 500);
+        if (capabilities.mode2027().isSupported()) {
             Mode2027Support.enable(this);
             mode2027Enabled = true;
         }
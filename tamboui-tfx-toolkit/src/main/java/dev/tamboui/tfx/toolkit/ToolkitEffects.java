@@ -67,6 +67,8 @@ public final class ToolkitEffects {
 
     private final ElementEffectRegistry registry;
     private Duration lastElapsed;
+    private volatile int activeEffects;
+    private boolean gaugeRegistered;
 
     /**
      * Creates a new ToolkitEffects instance.
@@ -167,6 +169,8 @@ public final class ToolkitEffects {
      * <ul>
      *   <li>Captures elapsed time from {@link TickEvent}s</li>
      *   <li>Forces redraws when effects are active</li>
+     *   <li>Reports the number of active effects as the {@code activeEffects}
+     *       gauge of the runner's runtime metrics, when collected</li>
      * </ul>
      *
      * @param handler the event handler to wrap
@@ -182,6 +186,15 @@ public final class ToolkitEffects {
             // Delegate to wrapped handler
             boolean shouldRedraw = handler.handle(event, runner);
 
+            // Publish the effect count while runtime metrics are collected
+            if (runner.runtimeMetrics().isEnabled()) {
+                if (!gaugeRegistered) {
+                    runner.runtimeMetrics().gauge("activeEffects", () -> activeEffects);
+                    gaugeRegistered = true;
+                }
+                activeEffects = registry.runningCount();
+            }
+
             // Force redraw if effects are running
             if (registry.isRunning()) {
                 return true;
@@ -52,6 +52,8 @@ public final class TfxIntegration {
      * safe visibility between event handler and renderer.
      */
     private final AtomicReference<Duration> lastElapsed = new AtomicReference<>(Duration.ZERO);
+    private volatile int activeEffects;
+    private boolean gaugeRegistered;
 
     /**
      * Creates a new TfxIntegration instance.
@@ -119,6 +121,8 @@ public final class TfxIntegration {
      *   <li>Captures elapsed time from {@link TickEvent}s for effect timing</li>
      *   <li>Forces redraws (returns true) when effects are active</li>
      *   <li>Delegates all events to the wrapped handler</li>
+     *   <li>Reports the number of active effects as the {@code activeEffects}
+     *       gauge of the runner's runtime metrics, when collected</li>
      * </ul>
      *
      * @param handler the event handler to wrap
@@ -134,6 +138,15 @@ public final class TfxIntegration {
             // Delegate to wrapped handler
             boolean shouldRedraw = handler.handle(event, runner);
 
+            // Publish the effect count while runtime metrics are collected
+            if (runner.runtimeMetrics().isEnabled()) {
+                if (!gaugeRegistered) {
+                    runner.runtimeMetrics().gauge("activeEffects", () -> activeEffects);
+                    gaugeRegistered = true;
+                }
+                activeEffects = effectManager.size();
+            }
+
             // Force redraw if effects are running
             if (effectManager.isRunning()) {
                 return true;
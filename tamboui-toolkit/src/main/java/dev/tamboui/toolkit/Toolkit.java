@@ -33,6 +33,7 @@ import dev.tamboui.toolkit.elements.LineGaugeElement;
 import dev.tamboui.toolkit.elements.ListElement;
 import dev.tamboui.toolkit.elements.MarkupTextAreaElement;
 import dev.tamboui.toolkit.elements.MarkupTextElement;
+import dev.tamboui.toolkit.elements.MemoElement;
 import dev.tamboui.toolkit.elements.Panel;
 import dev.tamboui.toolkit.elements.RichTextAreaElement;
 import dev.tamboui.toolkit.elements.RichTextElement;
@@ -670,6 +671,23 @@ public final class Toolkit {
         return new LazyElement(supplier);
     }
 
+    /**
+     * Creates a memoized element that renders its content once and reuses the
+     * rendered cells while the dependencies and the area stay the same.
+     * <pre>{@code
+     * memo("help", () -> panel("Help", text(helpText)), helpText)
+     * }</pre>
+     *
+     * @param key the key under which the rendered cells are kept across frames, unique per frame
+     * @param supplier builds the content when the dependencies change
+     * @param dependencies the values the content depends on, compared with {@code equals}
+     * @return a new memoized element
+     * @see MemoElement
+     */
+    public static Element memo(String key, Supplier<? extends Element> supplier, Object... dependencies) {
+        return new MemoElement(key, supplier, dependencies);
+    }
+
     /**
      * Creates a panel with a title and lazy content.
      * The content supplier is evaluated on each render.
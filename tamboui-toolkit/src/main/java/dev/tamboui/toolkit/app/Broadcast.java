@@ -0,0 +1,412 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.app;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.buffer.Cell;
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.Size;
+import dev.tamboui.terminal.AnsiCellWriter;
+import dev.tamboui.terminal.Backend;
+import dev.tamboui.terminal.BackpressureAware;
+import dev.tamboui.terminal.Frame;
+import dev.tamboui.toolkit.element.DefaultRenderContext;
+import dev.tamboui.toolkit.element.Element;
+import dev.tamboui.toolkit.element.ElementRegistry;
+import dev.tamboui.toolkit.event.EventRouter;
+import dev.tamboui.toolkit.focus.FocusManager;
+
+/**
+ * Mirrors the UI of a {@link ToolkitRunner} to any number of read-only viewers.
+ * <p>
+ * The runner's own session is the controller: it receives input and drives the
+ * application. Every frame, the element tree is rendered once per distinct viewer
+ * terminal size, the difference to the previously published frame of that size
+ * is encoded to ANSI once, and the same output is written to every viewer of that
+ * size. Viewers whose terminal has the controller's size reuse the controller's
+ * rendered buffer, so a room full of identical terminals costs one render and one
+ * encode per frame regardless of the number of viewers.
+ * <p>
+ * Viewers that join late, change size, or fall behind (see {@link BackpressureAware})
+ * receive a full repaint on the next frame.
+ *
+ * <pre>{@code
+ * Broadcast broadcast = Broadcast.create();
+ * ToolkitRunner runner = ToolkitRunner.builder()
+ *         .config(controllerConfig)
+ *         .broadcast(broadcast)
+ *         .build();
+ *
+ * // From a connection handler thread:
+ * Broadcast.Viewer viewer = broadcast.subscribe(new AeshBackend(connection));
+ * ...
+ * viewer.close();
+ * }</pre>
+ * <p>
+ * Mirrored sizes other than the controller's are rendered without the runner's
+ * post-render processors, since those may keep per-frame animation state.
+ *
+ * @see ToolkitRunner.Builder#broadcast(Broadcast)
+ */
+public final class Broadcast {
+
+    private static final String CLEAR_SCREEN = "\u001b[2J";
+
+    private final List<Viewer> viewers;
+    private final Map<Size, SizeGroup> groups;
+
+    private Broadcast() {
+        this.viewers = new CopyOnWriteArrayList<>();
+        this.groups = new HashMap<>();
+    }
+
+    /**
+     * Creates a new broadcast without viewers.
+     *
+     * @return a new broadcast
+     */
+    public static Broadcast create() {
+        return new Broadcast();
+    }
+
+    /**
+     * Subscribes a read-only viewer.
+     * <p>
+     * The viewer's terminal is switched to the alternate screen with a hidden
+     * cursor, and receives a full repaint with the next published frame. Input
+     * from the viewer's backend is never read; the caller keeps ownership of the
+     * backend and closes it after closing the viewer.
+     *
+     * @param backend the viewer's backend
+     * @return a handle used to unsubscribe the viewer
+     * @throws IOException if the viewer's terminal cannot be prepared
+     */
+    public Viewer subscribe(Backend backend) throws IOException {
+        Objects.requireNonNull(backend, "backend");
+        backend.enterAlternateScreen();
+        backend.hideCursor();
+        Viewer viewer = new Viewer(this, backend);
+        viewers.add(viewer);
+        return viewer;
+    }
+
+    /**
+     * Returns the number of subscribed viewers.
+     *
+     * @return the viewer count
+     */
+    public int viewerCount() {
+        return viewers.size();
+    }
+
+    /**
+     * Renders the element tree once for every distinct viewer size that differs
+     * from the controller's size.
+     * <p>
+     * Called on the render thread before the controller renders, so that state
+     * adjusted during rendering (such as scroll offsets) ends up reflecting the
+     * controller's layout.
+     *
+     * @param root the root element of this frame
+     * @param controllerArea the controller's frame area
+     * @param controllerContext the controller's render context, whose style engine,
+     *                          bindings and focus are applied to the mirrors
+     */
+    void renderMirrors(Element root, Rect controllerArea, DefaultRenderContext controllerContext) {
+        for (Viewer viewer : viewers) {
+            Size size = viewer.querySize();
+            if (root == null || size == null
+                    || (size.width() == controllerArea.width() && size.height() == controllerArea.height())) {
+                continue;
+            }
+            SizeGroup group = groups.computeIfAbsent(size, SizeGroup::new);
+            if (group.renderedThisFrame) {
+                continue;
+            }
+            group.render(root, controllerContext);
+        }
+    }
+
+    /**
+     * Publishes the current frame to all viewers.
+     * <p>
+     * For each distinct size, the difference to the last published frame is
+     * encoded once and the same output is written to every viewer of that size.
+     *
+     * @param controllerBuffer the controller's fully rendered buffer
+     */
+    void publish(Buffer controllerBuffer) {
+        if (viewers.isEmpty()) {
+            groups.clear();
+            return;
+        }
+        Rect controllerArea = controllerBuffer.area();
+        Size controllerSize = new Size(controllerArea.width(), controllerArea.height());
+
+        Map<Size, List<Viewer>> viewersBySize = new HashMap<>();
+        for (Viewer viewer : viewers) {
+            Size size = viewer.lastSize;
+            if (size != null) {
+                viewersBySize.computeIfAbsent(size, s -> new ArrayList<>()).add(viewer);
+            }
+        }
+
+        for (Map.Entry<Size, List<Viewer>> entry : viewersBySize.entrySet()) {
+            Size size = entry.getKey();
+            SizeGroup group = groups.computeIfAbsent(size, SizeGroup::new);
+            Buffer current = size.equals(controllerSize)
+                    ? controllerBuffer
+                    : (group.renderedThisFrame ? group.current : null);
+            if (current == null) {
+                // Size appeared after mirrors were rendered; picked up next frame
+                continue;
+            }
+            group.publish(current, entry.getValue());
+        }
+
+        // Forget sizes nobody is watching anymore
+        Iterator<Map.Entry<Size, SizeGroup>> it = groups.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Size, SizeGroup> entry = it.next();
+            entry.getValue().renderedThisFrame = false;
+            if (!viewersBySize.containsKey(entry.getKey())) {
+                it.remove();
+            }
+        }
+    }
+
+    private void remove(Viewer viewer) {
+        viewers.remove(viewer);
+    }
+
+    /**
+     * Encodes cell updates into an ANSI string, positioning the cursor for each cell.
+     */
+    private static String encode(List<CellUpdate> updates, boolean clearFirst) {
+        if (updates.isEmpty() && !clearFirst) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(updates.size() * 8 + 16);
+        if (clearFirst) {
+            out.append(CLEAR_SCREEN);
+        }
+        try (AnsiCellWriter writer = new AnsiCellWriter(out::append)) {
+            for (CellUpdate update : updates) {
+                Cell cell = update.cell();
+                if (cell.isContinuation()) {
+                    continue;
+                }
+                // ANSI uses 1-based coordinates
+                out.append("\u001b[").append(update.y() + 1).append(';').append(update.x() + 1).append('H');
+                writer.writeCell(cell);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Render and diff state shared by all viewers of one terminal size.
+     */
+    private static final class SizeGroup {
+        private final Rect area;
+        private final FocusManager focusManager;
+        private final DefaultRenderContext renderContext;
+        private Buffer previous;
+        private Buffer current;
+        private boolean renderedThisFrame;
+
+        SizeGroup(Size size) {
+            this.area = Rect.of(size.width(), size.height());
+            this.focusManager = new FocusManager();
+            this.renderContext = new DefaultRenderContext(focusManager, new EventRouter(focusManager, new ElementRegistry()));
+        }
+
+        void render(Element root, DefaultRenderContext controllerContext) {
+            renderContext.setStyleEngine(controllerContext.styleEngine().orElse(null));
+            renderContext.setBindings(controllerContext.bindings());
+            renderContext.setFaultTolerant(controllerContext.isFaultTolerant());
+            focusManager.clearFocusables();
+            renderContext.eventRouter().beginFrame();
+            String focusedId = controllerContext.focusManager().focusedId();
+            if (focusedId != null) {
+                focusManager.setFocus(focusedId);
+            } else {
+                focusManager.clearFocus();
+            }
+
+            if (current == null) {
+                current = Buffer.empty(area);
+            } else {
+                current.clear();
+            }
+            Frame frame = Frame.forTesting(current);
+            renderContext.beginFrame();
+            try {
+                root.render(frame, area, renderContext);
+            } finally {
+                renderContext.endFrame();
+            }
+            renderedThisFrame = true;
+        }
+
+        void publish(Buffer frameBuffer, List<Viewer> groupViewers) {
+            String incremental = null;
+            String repaint = null;
+            for (Viewer viewer : groupViewers) {
+                if (viewer.isBehind()) {
+                    // Skip and resynchronise with a full repaint once drained
+                    viewer.needsRepaint = true;
+                    continue;
+                }
+                String output;
+                if (viewer.needsRepaint || previous == null) {
+                    if (repaint == null) {
+                        repaint = encode(Buffer.empty(area).diff(frameBuffer), true);
+                    }
+                    output = repaint;
+                } else {
+                    if (incremental == null) {
+                        incremental = encode(previous.diff(frameBuffer), false);
+                    }
+                    output = incremental;
+                }
+                viewer.send(output);
+            }
+
+            if (frameBuffer == current) {
+                // Mirror buffers are double-buffered
+                Buffer temp = previous;
+                previous = current;
+                current = temp;
+            } else if (previous != null && previous.area().equals(frameBuffer.area())) {
+                // The controller's buffer is reused by the runner: keep its cells in our own
+                previous.copyFrom(frameBuffer, frameBuffer.area());
+            } else {
+                previous = frameBuffer.copy();
+            }
+        }
+    }
+
+    /**
+     * A read-only viewer subscribed to a {@link Broadcast}.
+     */
+    public static final class Viewer implements AutoCloseable {
+        private final Broadcast broadcast;
+        private final Backend backend;
+        // Guards the backend, which the render thread and the closing thread both use
+        private final Object lock = new Object();
+        private volatile boolean needsRepaint;
+        private volatile boolean closed;
+        private Size lastSize;
+
+        private Viewer(Broadcast broadcast, Backend backend) {
+            this.broadcast = broadcast;
+            this.backend = backend;
+            this.needsRepaint = true;
+        }
+
+        /**
+         * Returns the viewer's backend.
+         *
+         * @return the backend
+         */
+        public Backend backend() {
+            return backend;
+        }
+
+        /**
+         * Returns whether this viewer is still subscribed.
+         *
+         * @return true if subscribed
+         */
+        public boolean isSubscribed() {
+            return !closed;
+        }
+
+        /**
+         * Requests a full repaint with the next published frame.
+         */
+        public void repaint() {
+            needsRepaint = true;
+        }
+
+        private Size querySize() {
+            Size size;
+            synchronized (lock) {
+                if (closed) {
+                    return null;
+                }
+                try {
+                    size = backend.size();
+                } catch (IOException e) {
+                    close();
+                    return null;
+                }
+            }
+            if (!size.equals(lastSize)) {
+                lastSize = size;
+                needsRepaint = true;
+            }
+            return size;
+        }
+
+        private boolean isBehind() {
+            return backend instanceof BackpressureAware
+                    && ((BackpressureAware) backend).bytesInFlight() > 0;
+        }
+
+        private void send(String output) {
+            if (output.isEmpty()) {
+                return;
+            }
+            synchronized (lock) {
+                if (closed) {
+                    return;
+                }
+                try {
+                    backend.writeRaw(output);
+                    backend.flush();
+                    needsRepaint = false;
+                } catch (IOException | RuntimeException e) {
+                    close();
+                }
+            }
+        }
+
+        /**
+         * Unsubscribes this viewer and restores its cursor and main screen.
+         * <p>
+         * If a frame is being written to the viewer, waits for it to be written
+         * first. The backend itself is not closed.
+         */
+        @Override
+        public void close() {
+            synchronized (lock) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                broadcast.remove(this);
+                try {
+                    backend.showCursor();
+                    backend.leaveAlternateScreen();
+                    backend.flush();
+                } catch (IOException | RuntimeException e) {
+                    // Best effort: the connection may already be gone
+                }
+            }
+        }
+    }
+}
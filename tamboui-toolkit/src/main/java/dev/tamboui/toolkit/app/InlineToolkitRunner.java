@@ -5,7 +5,6 @@
 package dev.tamboui.toolkit.app;
 
 import java.time.Duration;
-import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -136,37 +135,35 @@ public final class InlineToolkitRunner implements AutoCloseable {
             frame -> {
                 // Clear state before each render
                 focusManager.clearFocusables();
-                eventRouter.clear();
-                elementRegistry.clear();
+                eventRouter.beginFrame();
 
                 // Get the current element tree
                 Element root = elementSupplier.get();
 
-                // Calculate and set content height for dynamic resizing.
-                // A preferredHeight of 0 means the element doesn't report a known
-                // height (e.g. TableElement), so keep the configured viewport height.
-                if (root != null) {
-                    Size size = root.preferredSize(frame.area().width(), -1, renderContext);
-                    int preferredHeight = size.heightOr(0);
-                    if (preferredHeight > 0) {
-                        tuiRunner.setContentHeight(preferredHeight);
+                renderContext.beginFrame();
+                try {
+                    // Calculate and set content height for dynamic resizing.
+                    // A preferredHeight of 0 means the element doesn't report a known
+                    // height (e.g. TableElement), so keep the configured viewport height.
+                    if (root != null) {
+                        Size size = renderContext.measure(root, frame.area().width(), -1);
+                        int preferredHeight = size.heightOr(0);
+                        if (preferredHeight > 0) {
+                            tuiRunner.setContentHeight(preferredHeight);
+                        }
                     }
-                }
 
-                // Render the element tree and register root for events
-                if (root != null) {
-                    root.render(frame, frame.area(), renderContext);
-                    renderContext.registerElement(root, frame.area());
+                    // Render the element tree and register root for events
+                    if (root != null) {
+                        root.render(frame, frame.area(), renderContext);
+                        renderContext.registerElement(root, frame.area());
+                    }
+                } finally {
+                    renderContext.endFrame();
                 }
 
                 // Auto-focus first focusable element if nothing is focused or focus is stale
-                String currentFocus = focusManager.focusedId();
-                List<String> focusOrder = focusManager.focusOrder();
-                if (!focusOrder.isEmpty()) {
-                    if (currentFocus == null || !focusOrder.contains(currentFocus)) {
-                        focusManager.setFocus(focusOrder.get(0));
-                    }
-                }
+                focusManager.ensureFocus();
             }
         );
     }
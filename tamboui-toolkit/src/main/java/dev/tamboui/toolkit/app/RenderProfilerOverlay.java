@@ -0,0 +1,89 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.app;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.tamboui.layout.Rect;
+import dev.tamboui.style.Color;
+import dev.tamboui.style.Style;
+import dev.tamboui.terminal.Frame;
+import dev.tamboui.text.Line;
+import dev.tamboui.text.Span;
+import dev.tamboui.text.Text;
+import dev.tamboui.toolkit.element.RenderProfiler;
+import dev.tamboui.widgets.Clear;
+import dev.tamboui.widgets.block.Block;
+import dev.tamboui.widgets.block.BorderType;
+import dev.tamboui.widgets.block.Borders;
+import dev.tamboui.widgets.block.Title;
+import dev.tamboui.widgets.paragraph.Paragraph;
+
+/**
+ * Overlay listing the elements with the most self render time in the last frame.
+ * <p>
+ * Each row shows the element key, its self time, the share of it spent
+ * resolving CSS and the number of renders. Toggle with CTRL+SHIFT+F11.
+ */
+final class RenderProfilerOverlay {
+
+    private static final int MAX_ROWS = 12;
+    private static final int WIDTH = 52;
+    private static final int KEY_WIDTH = 24;
+    private static final long SLOW_ELEMENT_NANOS = 2_000_000L;  // 2ms, an eighth of a 60fps frame
+
+    private final RenderProfiler profiler;
+
+    RenderProfilerOverlay(RenderProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    void render(Frame frame, Rect area) {
+        if (!profiler.isActive() || area.isEmpty()) {
+            return;
+        }
+        List<RenderProfiler.HotElement> hot = profiler.hotElements(MAX_ROWS);
+
+        int width = Math.min(WIDTH, area.width());
+        int height = Math.min(hot.size() + 3, area.height());
+        // Top-left corner with margin, the debug overlay uses the top-right one
+        Rect overlayArea = new Rect(area.x() + 1, area.y() + 1, width, height).intersection(area);
+        if (overlayArea.isEmpty()) {
+            return;
+        }
+
+        frame.renderWidget(Clear.INSTANCE, overlayArea);
+        Block block = Block.builder()
+                .borders(Borders.ALL)
+                .borderType(BorderType.ROUNDED)
+                .borderStyle(Style.EMPTY.fg(Color.DARK_GRAY))
+                .title(Title.from(Line.from(Span.styled("Render profile", Style.EMPTY.fg(Color.CYAN).bold()))))
+                .build();
+        frame.renderWidget(block, overlayArea);
+
+        Rect innerArea = block.inner(overlayArea);
+        if (innerArea.isEmpty()) {
+            return;
+        }
+
+        List<Line> lines = new ArrayList<>();
+        lines.add(Line.from(Span.styled(
+                String.format("%-" + KEY_WIDTH + "s %7s %7s %5s", "Element", "self", "css", "n"),
+                Style.EMPTY.fg(Color.GRAY).bold())));
+        for (RenderProfiler.HotElement element : hot) {
+            String key = element.key().length() > KEY_WIDTH
+                    ? element.key().substring(0, KEY_WIDTH - 1) + "…"
+                    : element.key();
+            Style style = element.selfNanos() > SLOW_ELEMENT_NANOS
+                    ? Style.EMPTY.fg(Color.YELLOW)
+                    : Style.EMPTY.fg(Color.WHITE);
+            lines.add(Line.from(Span.styled(String.format("%-" + KEY_WIDTH + "s %5.2fms %5.2fms %5d",
+                    key, element.selfNanos() / 1_000_000.0, element.styleNanos() / 1_000_000.0,
+                    element.count()), style)));
+        }
+        frame.renderWidget(Paragraph.builder().text(Text.from(lines)).build(), innerArea);
+    }
+}
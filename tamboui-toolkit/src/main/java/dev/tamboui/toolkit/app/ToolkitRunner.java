@@ -16,15 +16,18 @@ import java.util.function.Supplier;
 
 import dev.tamboui.css.engine.StyleEngine;
 import dev.tamboui.style.StyledAreaRegistry;
+import dev.tamboui.terminal.Frame;
 import dev.tamboui.toolkit.element.DefaultRenderContext;
 import dev.tamboui.toolkit.element.Element;
 import dev.tamboui.toolkit.element.ElementRegistry;
+import dev.tamboui.toolkit.element.RenderProfiler;
 import dev.tamboui.toolkit.event.EventResult;
 import dev.tamboui.toolkit.event.EventRouter;
 import dev.tamboui.toolkit.focus.FocusManager;
 import dev.tamboui.tui.TuiConfig;
 import dev.tamboui.tui.TuiRunner;
 import dev.tamboui.tui.bindings.ActionHandler;
+import dev.tamboui.tui.bindings.Actions;
 import dev.tamboui.tui.bindings.BindingSets;
 import dev.tamboui.tui.bindings.Bindings;
 import dev.tamboui.tui.event.Event;
@@ -79,12 +82,16 @@ public final class ToolkitRunner implements AutoCloseable {
     private final DefaultRenderContext renderContext;
     private final boolean faultTolerant;
     private final List<ToolkitPostRenderProcessor> postRenderProcessors;
+    private final Broadcast broadcast;
+    private final RenderProfiler renderProfiler;
+    private final RenderProfilerOverlay renderProfilerOverlay;
     private volatile Duration lastElapsed = Duration.ZERO;
 
     private ToolkitRunner(TuiRunner tuiRunner,
                           boolean faultTolerant,
                           PrintStream errorOutput,
-                          List<ToolkitPostRenderProcessor> toolkitPostRenderProcessors) {
+                          List<ToolkitPostRenderProcessor> toolkitPostRenderProcessors,
+                          Broadcast broadcast) {
         this.tuiRunner = tuiRunner;
         this.focusManager = new FocusManager();
         this.elementRegistry = new ElementRegistry();
@@ -94,10 +101,14 @@ public final class ToolkitRunner implements AutoCloseable {
         this.renderContext.setFaultTolerant(faultTolerant);
         this.faultTolerant = faultTolerant;
         this.postRenderProcessors = toolkitPostRenderProcessors;
+        this.broadcast = broadcast;
+        this.renderProfiler = new RenderProfiler();
+        this.renderProfilerOverlay = new RenderProfilerOverlay(renderProfiler);
+        this.renderContext.setRenderProfiler(renderProfiler);
     }
 
     private ToolkitRunner(TuiRunner tuiRunner) {
-        this(tuiRunner, false, NULL_OUTPUT, Collections.emptyList());
+        this(tuiRunner, false, NULL_OUTPUT, Collections.emptyList(), null);
     }
 
     /**
@@ -139,41 +150,75 @@ public final class ToolkitRunner implements AutoCloseable {
     public void run(Supplier<Element> elementSupplier) throws Exception {
         tuiRunner.run(
             (event, runner) -> handleEvent(event),
-            frame -> {
-                // All rendering now happens on render thread - no lock needed
-                // Clear state before each render
-                focusManager.clearFocusables();
-                eventRouter.clear();
-                elementRegistry.clear();
-                styledAreaRegistry.clear();
-
-                // Configure frame with styled area registry for auto-registration
-                frame.setStyledAreaRegistry(styledAreaRegistry);
-
-                // Get the current element tree
-                Element root = elementSupplier.get();
-
-                // Render the element tree and register root for events
-                if (root != null) {
-                    root.render(frame, frame.area(), renderContext);
-                    renderContext.registerElement(root, frame.area());
-                }
+            frame -> renderFrame(frame, elementSupplier)
+        );
+    }
 
-                // Auto-focus first focusable element if nothing is focused or focus is stale
-                String currentFocus = focusManager.focusedId();
-                List<String> focusOrder = focusManager.focusOrder();
-                if (!focusOrder.isEmpty()) {
-                    if (currentFocus == null || !focusOrder.contains(currentFocus)) {
-                        focusManager.setFocus(focusOrder.get(0));
-                    }
-                }
+    /**
+     * Renders a single frame outside the event loop.
+     * <p>
+     * The frame goes through the same pipeline as a frame of {@link #run(Supplier)}:
+     * registries are rebuilt, focus is updated, post-render processors run and
+     * the differences are written to the backend. This is useful for headless
+     * rendering and benchmarks.
+     *
+     * @param elementSupplier provides the root element to render
+     */
+    public void draw(Supplier<Element> elementSupplier) {
+        tuiRunner.draw(frame -> renderFrame(frame, elementSupplier));
+    }
+
+    private void renderFrame(Frame frame, Supplier<Element> elementSupplier) {
+        // All rendering now happens on render thread - no lock needed
+        // Start a new frame: elements are reconciled with the previous frame's as they register
+        focusManager.clearFocusables();
+        eventRouter.beginFrame();
+        styledAreaRegistry.clear();
+
+        // Configure frame with styled area registry for auto-registration
+        frame.setStyledAreaRegistry(styledAreaRegistry);
 
-                // Apply post-render processors (e.g., effects, overlays)
-                for (ToolkitPostRenderProcessor processor : postRenderProcessors) {
-                    processor.process(frame, elementRegistry, styledAreaRegistry, focusManager, lastElapsed);
+        // Get the current element tree
+        Element root = elementSupplier.get();
+
+        // Mirrors at other sizes render first so the controller's layout wins
+        if (broadcast != null) {
+            broadcast.renderMirrors(root, frame.area(), renderContext);
+        }
+
+        // Render the element tree and register root for events
+        renderProfiler.beginFrame();
+        renderContext.beginFrame();
+        try {
+            if (root != null) {
+                long profileStart = renderProfiler.enter(root);
+                try {
+                    root.render(frame, frame.area(), renderContext);
+                } finally {
+                    renderProfiler.exit(profileStart);
                 }
+                renderContext.registerElement(root, frame.area());
             }
-        );
+        } finally {
+            renderContext.endFrame();
+        }
+        renderProfiler.endFrame();
+
+        // Auto-focus first focusable element if nothing is focused or focus is stale
+        focusManager.ensureFocus();
+
+        // Apply post-render processors (e.g., effects, overlays)
+        for (ToolkitPostRenderProcessor processor : postRenderProcessors) {
+            processor.process(frame, elementRegistry, styledAreaRegistry, focusManager, lastElapsed);
+        }
+
+        // Fan the finished frame out to read-only viewers
+        if (broadcast != null) {
+            broadcast.publish(frame.buffer());
+        }
+
+        // Drawn after publishing, so that viewers never see the profiler
+        renderProfilerOverlay.render(frame, frame.area());
     }
 
     /**
@@ -192,6 +237,11 @@ public final class ToolkitRunner implements AutoCloseable {
             return true;
         }
 
+        if (renderContext.bindings().matches(event, Actions.TOGGLE_RENDER_PROFILER)) {
+            renderProfiler.toggle();
+            return true;
+        }
+
         // Route to elements first - they handle their own events
         EventResult result = eventRouter.route(event);
 
@@ -228,6 +278,8 @@ public final class ToolkitRunner implements AutoCloseable {
     /**
      * Schedules an action to run after a delay.
      * <p>
+     * Delays of this and the other {@code schedule} methods are measured on the
+     * configured {@link dev.tamboui.tui.TuiConfig#timeSource() time source}.
      * The action runs on the scheduler thread. If the action modifies UI state,
      * use {@link #runOnRenderThread(Runnable)} to ensure thread safety:
      *
@@ -411,6 +463,30 @@ public final class ToolkitRunner implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Returns the broadcast mirroring this runner's UI, if any.
+     *
+     * @return the broadcast, or null if broadcasting is not enabled
+     * @see Builder#broadcast(Broadcast)
+     */
+    public Broadcast broadcast() {
+        return broadcast;
+    }
+
+    /**
+     * Returns the profiler timing the rendering of each element.
+     * <p>
+     * Profiling is toggled with the {@link Actions#TOGGLE_RENDER_PROFILER} binding
+     * (CTRL+SHIFT+F11 by default), which also shows the hottest elements of the
+     * last frame in an overlay. Use {@link RenderProfiler#writeCollapsedStacks(Appendable)}
+     * to produce a flame graph of the frames profiled so far.
+     *
+     * @return the render profiler
+     */
+    public RenderProfiler renderProfiler() {
+        return renderProfiler;
+    }
+
     /**
      * Returns the underlying TuiRunner.
      *
@@ -463,6 +539,7 @@ public final class ToolkitRunner implements AutoCloseable {
         private boolean faultTolerant;
         private PrintStream errorOutput = NULL_OUTPUT;
         private final List<ToolkitPostRenderProcessor> toolkitPostRenderProcessors = new ArrayList<>();
+        private Broadcast broadcast;
 
         private Builder() {
         }
@@ -572,6 +649,21 @@ public final class ToolkitRunner implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Mirrors the runner's UI to the viewers of the given broadcast.
+         * <p>
+         * The runner's own backend remains the controller that receives input;
+         * viewers subscribed to the broadcast are read-only.
+         *
+         * @param broadcast the broadcast to publish frames to
+         * @return this builder
+         * @see Broadcast
+         */
+        public Builder broadcast(Broadcast broadcast) {
+            this.broadcast = broadcast;
+            return this;
+        }
+
         /**
          * Builds and returns a configured ToolkitRunner.
          *
@@ -580,7 +672,8 @@ public final class ToolkitRunner implements AutoCloseable {
          */
         public ToolkitRunner build() throws Exception {
             TuiRunner tuiRunner = TuiRunner.create(config);
-            ToolkitRunner runner = new ToolkitRunner(tuiRunner, faultTolerant, errorOutput, toolkitPostRenderProcessors);
+            ToolkitRunner runner = new ToolkitRunner(tuiRunner, faultTolerant, errorOutput,
+                    toolkitPostRenderProcessors, broadcast);
 
             // Set bindings on render context for Component auto-registration
             runner.renderContext.setBindings(bindings);
@@ -9,10 +9,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import dev.tamboui.css.Styleable;
@@ -52,9 +56,18 @@ public final class DefaultRenderContext implements RenderContext {
     private final Deque<Style> styleStack = new ArrayDeque<>();
     private final Deque<Styleable> elementStack = new ArrayDeque<>();
     private final Deque<CssStyleResolver> resolverStack = new ArrayDeque<>();
+    // Sizes measured during the current frame, by element identity
+    private final Map<Element, Measurements> measurements = new IdentityHashMap<>();
+    private boolean inFrame;
+    // State kept across frames by key, with the last frame that requested it
+    private final Map<String, Retained> retained = new HashMap<>();
+    private long frameCount;
+    // Registrations of the memoized subtree being rendered, if any
+    private List<Registration> recording;
     private StyleEngine styleEngine;
     private Bindings bindings = BindingSets.defaults();
     private boolean faultTolerant;
+    private RenderProfiler profiler;
 
     /**
      * Creates a new render context.
@@ -138,6 +151,24 @@ public final class DefaultRenderContext implements RenderContext {
         return faultTolerant;
     }
 
+    /**
+     * Sets the profiler timing the rendering of child elements.
+     *
+     * @param profiler the profiler, or null to disable profiling
+     */
+    public void setRenderProfiler(RenderProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Returns the profiler timing the rendering of child elements, if configured.
+     *
+     * @return the profiler, or empty if not configured
+     */
+    public Optional<RenderProfiler> renderProfiler() {
+        return Optional.ofNullable(profiler);
+    }
+
     // ═══════════════════════════════════════════════════════════════
     // Public API (from RenderContext interface)
     // ═══════════════════════════════════════════════════════════════
@@ -157,7 +188,18 @@ public final class DefaultRenderContext implements RenderContext {
         if (styleEngine == null) {
             return Optional.empty();
         }
+        if (isProfiling()) {
+            long start = System.nanoTime();
+            try {
+                return resolveStyleUnprofiled(element);
+            } finally {
+                profiler.recordStyle(System.nanoTime() - start);
+            }
+        }
+        return resolveStyleUnprofiled(element);
+    }
 
+    private Optional<CssStyleResolver> resolveStyleUnprofiled(Styleable element) {
         // Build pseudo-class state based on focus
         PseudoClassState state = PseudoClassState.NONE;
         if (element instanceof Element) {
@@ -188,11 +230,15 @@ public final class DefaultRenderContext implements RenderContext {
             return Optional.empty();
         }
 
+        long start = isProfiling() ? System.nanoTime() : 0;
         Set<String> classes = cssClasses.length > 0
                 ? new HashSet<>(Arrays.asList(cssClasses))
                 : Collections.emptySet();
         Styleable virtual = new VirtualStyleable(styleType, classes);
         CssStyleResolver resolved = styleEngine.resolve(virtual, PseudoClassState.NONE, Collections.emptyList());
+        if (start != 0) {
+            profiler.recordStyle(System.nanoTime() - start);
+        }
         return resolved.hasProperties() ? Optional.of(resolved) : Optional.empty();
     }
 
@@ -239,6 +285,23 @@ public final class DefaultRenderContext implements RenderContext {
 
     @Override
     public void renderChild(Element child, Frame frame, Rect area) {
+        if (!isProfiling()) {
+            renderChildUnprofiled(child, frame, area);
+            return;
+        }
+        long start = profiler.enter(child);
+        try {
+            renderChildUnprofiled(child, frame, area);
+        } finally {
+            profiler.exit(start);
+        }
+    }
+
+    private boolean isProfiling() {
+        return profiler != null && profiler.isProfiling();
+    }
+
+    private void renderChildUnprofiled(Element child, Frame frame, Rect area) {
         String childId = child.id();
 
         if (faultTolerant) {
@@ -285,6 +348,83 @@ public final class DefaultRenderContext implements RenderContext {
         }
     }
 
+    @Override
+    public Size measure(Element child, int availableWidth, int availableHeight) {
+        if (!inFrame) {
+            return child.preferredSize(availableWidth, availableHeight, this);
+        }
+        // Styles resolve descendant selectors through the element stack, so the
+        // size of an element depends on the element it is measured under
+        Styleable parent = elementStack.peek();
+        Measurements measured = measurements.get(child);
+        Size size = measured != null ? measured.get(availableWidth, availableHeight, parent) : null;
+        if (size == null) {
+            size = child.preferredSize(availableWidth, availableHeight, this);
+            if (size != null) {
+                measurements.computeIfAbsent(child, e -> new Measurements())
+                    .put(availableWidth, availableHeight, parent, size);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * The sizes of an element, for each available space and parent it was measured with.
+     * Elements are typically measured with one to three available spaces per frame,
+     * under a single parent.
+     */
+    private static final class Measurements {
+        private long[] spaces = new long[2];
+        private Styleable[] parents = new Styleable[2];
+        private Size[] sizes = new Size[2];
+        private int count;
+
+        Size get(int availableWidth, int availableHeight, Styleable parent) {
+            long space = space(availableWidth, availableHeight);
+            for (int i = 0; i < count; i++) {
+                if (spaces[i] == space && parents[i] == parent) {
+                    return sizes[i];
+                }
+            }
+            return null;
+        }
+
+        void put(int availableWidth, int availableHeight, Styleable parent, Size size) {
+            if (count == spaces.length) {
+                spaces = Arrays.copyOf(spaces, count * 2);
+                parents = Arrays.copyOf(parents, count * 2);
+                sizes = Arrays.copyOf(sizes, count * 2);
+            }
+            spaces[count] = space(availableWidth, availableHeight);
+            parents[count] = parent;
+            sizes[count] = size;
+            count++;
+        }
+
+        private static long space(int availableWidth, int availableHeight) {
+            return ((long) availableWidth << 32) | (availableHeight & 0xFFFFFFFFL);
+        }
+    }
+
+    @Override
+    public <T> T retainedState(String key, Class<T> type, Supplier<? extends T> initial) {
+        Retained state = retained.get(key);
+        if (state == null) {
+            state = new Retained();
+            retained.put(key, state);
+        }
+        state.frame = frameCount;
+        if (!type.isInstance(state.value)) {
+            state.value = initial.get();
+        }
+        return type.cast(state.value);
+    }
+
+    private static final class Retained {
+        private Object value;
+        private long frame;
+    }
+
     @Override
     public Style currentStyle() {
         return styleStack.isEmpty() ? Style.EMPTY : styleStack.peek();
@@ -296,6 +436,7 @@ public final class DefaultRenderContext implements RenderContext {
             return currentStyle();
         }
 
+        long start = isProfiling() ? System.nanoTime() : 0;
         Styleable parent = elementStack.peek();
         String childType = parent.styleType() + "-" + childName;
         Styleable virtual = new VirtualChild(childType, parent);
@@ -305,6 +446,9 @@ public final class DefaultRenderContext implements RenderContext {
         ancestors.add(parent);
 
         CssStyleResolver resolved = styleEngine.resolve(virtual, state, ancestors);
+        if (start != 0) {
+            profiler.recordStyle(System.nanoTime() - start);
+        }
         return resolved.hasProperties()
             ? currentStyle().patch(resolved.toStyle())
             : currentStyle();
@@ -377,6 +521,37 @@ public final class DefaultRenderContext implements RenderContext {
     // Internal API (for framework use only)
     // ═══════════════════════════════════════════════════════════════
 
+    /**
+     * Starts a frame: until {@link #endFrame()}, each element is measured at
+     * most once per available space and parent element by
+     * {@link #measure(Element, int, int)}.
+     * <p>
+     * Elements must not change while a frame is rendered. Measurements are
+     * keyed by element identity, so an element rebuilt for the frame is
+     * measured anew.
+     * <p>
+     * Internal use only - called by the runners around rendering a frame.
+     */
+    public void beginFrame() {
+        measurements.clear();
+        frameCount++;
+        inFrame = true;
+    }
+
+    /**
+     * Ends a frame, discarding the sizes measured during the frame and the
+     * {@linkplain #retainedState retained state} the frame did not request.
+     * <p>
+     * Internal use only - called by the runners around rendering a frame.
+     */
+    public void endFrame() {
+        measurements.clear();
+        if (inFrame && !retained.isEmpty()) {
+            retained.values().removeIf(state -> state.frame != frameCount);
+        }
+        inFrame = false;
+    }
+
     /**
      * Returns the focus manager.
      * <p>
@@ -411,6 +586,9 @@ public final class DefaultRenderContext implements RenderContext {
      * @param area the rendered area
      */
     public void registerElement(Element element, Rect area) {
+        if (recording != null) {
+            recording.add(new Registration(element, area));
+        }
         // EventRouter handles both event routing and ElementRegistry population
         eventRouter.registerElement(element, area);
 
@@ -427,6 +605,79 @@ public final class DefaultRenderContext implements RenderContext {
         }
     }
 
+    /**
+     * Runs an action, recording the elements it registers.
+     * <p>
+     * The registrations are also recorded by an enclosing recording, so that
+     * nested memoized subtrees can be replayed as part of their parent.
+     * <p>
+     * Internal use only - called by memoized elements rendering their content.
+     *
+     * @param action the action rendering a subtree
+     * @return the elements registered by the action with their areas, in registration order
+     */
+    public List<Registration> recordRegistrations(Runnable action) {
+        List<Registration> outer = recording;
+        List<Registration> recorded = new ArrayList<>();
+        recording = recorded;
+        try {
+            action.run();
+        } finally {
+            recording = outer;
+        }
+        if (outer != null) {
+            outer.addAll(recorded);
+        }
+        return recorded;
+    }
+
+    /**
+     * Registers recorded elements again, in their recorded order, for event
+     * routing and focus management, without rendering them. Registered at the
+     * same position as in the previous frame, they keep their entries of the
+     * previous frame.
+     * <p>
+     * Internal use only - called by memoized elements reusing their cells.
+     *
+     * @param registrations the registrations recorded by {@link #recordRegistrations(Runnable)}
+     */
+    public void replayRegistrations(List<Registration> registrations) {
+        for (Registration registration : registrations) {
+            registerElement(registration.element, registration.area);
+        }
+    }
+
+    /**
+     * An element registered with its rendered area.
+     */
+    public static final class Registration {
+        private final Element element;
+        private final Rect area;
+
+        Registration(Element element, Rect area) {
+            this.element = element;
+            this.area = area;
+        }
+
+        /**
+         * Returns the registered element.
+         *
+         * @return the element
+         */
+        public Element element() {
+            return element;
+        }
+
+        /**
+         * Returns the area the element was rendered in.
+         *
+         * @return the rendered area
+         */
+        public Rect area() {
+            return area;
+        }
+    }
+
     /**
      * Returns the element registry for ID-based area lookups.
      * <p>
@@ -7,15 +7,23 @@ package dev.tamboui.toolkit.element;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
 import dev.tamboui.css.Styleable;
 import dev.tamboui.css.cascade.PseudoClassState;
+import dev.tamboui.css.selector.ChildSelector;
+import dev.tamboui.css.selector.ClassSelector;
+import dev.tamboui.css.selector.CompoundSelector;
+import dev.tamboui.css.selector.DescendantSelector;
+import dev.tamboui.css.selector.IdSelector;
 import dev.tamboui.css.selector.Selector;
 import dev.tamboui.css.selector.SelectorParser;
+import dev.tamboui.css.selector.TypeSelector;
 import dev.tamboui.layout.Rect;
 import dev.tamboui.tui.RenderThread;
 
@@ -27,8 +35,18 @@ import dev.tamboui.tui.RenderThread;
  * effect systems that need to target specific elements without holding
  * direct references to Element objects.
  * <p>
- * The registry should be cleared at the start of each render cycle and
- * repopulated as elements render themselves.
+ * The registry should be reset with {@link #beginFrame()} at the start of each
+ * render cycle and repopulated as elements render themselves. Each frame is
+ * reconciled with the previous one, keyed by the position of the elements in
+ * registration order: an element registered with the same ID, type, classes,
+ * attributes and parent as the element at its position in the previous frame
+ * keeps its {@link ElementInfo} and its index entries, and only its area is
+ * updated. From the first element that differs, the remaining elements of the
+ * previous frame are discarded.
+ * <p>
+ * Queries only match the elements that can match the last compound of the
+ * selector: elements are indexed by ID, type and class as they register,
+ * and parsed selectors are kept in a bounded cache.
  *
  * <h2>Supported Selectors</h2>
  * <ul>
@@ -67,6 +85,8 @@ import dev.tamboui.tui.RenderThread;
  */
 public final class ElementRegistry {
 
+    private static final int MAX_CACHED_SELECTORS = 256;
+
     /**
      * Creates a new empty element registry.
      */
@@ -74,7 +94,21 @@ public final class ElementRegistry {
     }
 
     private final Map<String, ElementInfo> elementsById = new HashMap<>();
+    // Elements in registration order; those from index `registered` on are
+    // the previous frame's, until they are registered again or discarded
     private final List<ElementInfo> allElements = new ArrayList<>();
+    private int registered;
+    // Elements of the current frame by ID, type and class, in registration order
+    private final Index idIndex = new Index();
+    private final Index typeIndex = new Index();
+    private final Index classIndex = new Index();
+
+    private final Map<String, Query> queries = new LinkedHashMap<String, Query>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Query> eldest) {
+            return size() > MAX_CACHED_SELECTORS;
+        }
+    };
 
     /**
      * Information about a registered element.
@@ -86,8 +120,9 @@ public final class ElementRegistry {
         private final String type;
         private final Set<String> cssClasses;
         private final Map<String, String> attributes;
-        private final Rect area;
         private final ElementInfo parent;
+        private Rect area;
+        private List<Styleable> ancestors;
 
         ElementInfo(String id, String type, Set<String> cssClasses,
                     Map<String, String> attributes, Rect area, ElementInfo parent) {
@@ -118,7 +153,7 @@ public final class ElementRegistry {
         }
 
         /**
-         * Returns the element's rendered area.
+         * Returns the element's rendered area, in the last frame it was registered in.
          *
          * @return the rendered area
          */
@@ -135,6 +170,15 @@ public final class ElementRegistry {
             return parent;
         }
 
+        boolean hasKey(String id, String type, Set<String> cssClasses,
+                       Map<String, String> attributes, ElementInfo parent) {
+            return this.parent == parent
+                && Objects.equals(this.id, id)
+                && Objects.equals(this.type, type)
+                && this.cssClasses.equals(cssClasses != null ? cssClasses : Collections.emptySet())
+                && this.attributes.equals(attributes != null ? attributes : Collections.emptyMap());
+        }
+
         // Styleable implementation
 
         @Override
@@ -163,18 +207,22 @@ public final class ElementRegistry {
         }
 
         /**
-         * Builds the ancestor chain for selector matching.
+         * Returns the ancestor chain for selector matching.
          * <p>
          * Returns the ancestors in order from root to immediate parent.
+         * The chain is built once per element.
          *
-         * @return the ancestor chain
+         * @return the unmodifiable ancestor chain
          */
         public List<Styleable> ancestors() {
-            List<Styleable> ancestors = new ArrayList<>();
-            ElementInfo current = parent;
-            while (current != null) {
-                ancestors.add(0, current); // Add at beginning for root-to-parent order
-                current = current.parent;
+            if (ancestors == null) {
+                if (parent == null) {
+                    ancestors = Collections.emptyList();
+                } else {
+                    List<Styleable> chain = new ArrayList<>(parent.ancestors());
+                    chain.add(parent);
+                    ancestors = Collections.unmodifiableList(chain);
+                }
             }
             return ancestors;
         }
@@ -210,10 +258,25 @@ public final class ElementRegistry {
         if (area == null) {
             return;
         }
+        if (registered < allElements.size()) {
+            ElementInfo previous = allElements.get(registered);
+            if (previous.hasKey(elementId, type, cssClasses, attributes, parent)) {
+                previous.area = area;
+                registered++;
+                return;
+            }
+            discardPreviousFrame();
+        }
         ElementInfo info = new ElementInfo(elementId, type, cssClasses, attributes, area, parent);
         allElements.add(info);
+        registered++;
         if (elementId != null) {
             elementsById.put(elementId, info);
+            idIndex.add(elementId, info);
+        }
+        typeIndex.add(info.styleType(), info);
+        for (String cssClass : info.cssClasses) {
+            classIndex.add(cssClass, info);
         }
     }
 
@@ -253,23 +316,21 @@ public final class ElementRegistry {
             return Optional.empty();
         }
 
+        discardPreviousFrame();
         try {
-            Selector parsed = SelectorParser.parse(selector);
+            Query query = compile(selector);
 
             // Fast path for ID-only selector
-            if (selector.startsWith("#") && !selector.contains(" ") && !selector.contains(">")
-                    && !selector.contains(".") && !selector.contains(":") && !selector.contains("[")) {
-                String id = selector.substring(1);
-                ElementInfo info = elementsById.get(id);
-                if (info != null && parsed.matches(info, state, info.ancestors())) {
+            if (query.selector instanceof IdSelector) {
+                ElementInfo info = elementsById.get(query.id);
+                if (info != null && query.selector.matches(info, state, info.ancestors())) {
                     return Optional.of(info);
                 }
                 return Optional.empty();
             }
 
-            // Search all elements
-            for (ElementInfo info : allElements) {
-                if (parsed.matches(info, state, info.ancestors())) {
+            for (ElementInfo info : candidates(query)) {
+                if (query.selector.matches(info, state, info.ancestors())) {
                     return Optional.of(info);
                 }
             }
@@ -303,12 +364,13 @@ public final class ElementRegistry {
             return Collections.emptyList();
         }
 
+        discardPreviousFrame();
         try {
-            Selector parsed = SelectorParser.parse(selector);
+            Query query = compile(selector);
             List<ElementInfo> results = new ArrayList<>();
 
-            for (ElementInfo info : allElements) {
-                if (parsed.matches(info, state, info.ancestors())) {
+            for (ElementInfo info : candidates(query)) {
+                if (query.selector.matches(info, state, info.ancestors())) {
                     results.add(info);
                 }
             }
@@ -319,6 +381,38 @@ public final class ElementRegistry {
         }
     }
 
+    private Query compile(String selector) {
+        Query query = queries.get(selector);
+        if (query == null) {
+            query = new Query(SelectorParser.parse(selector));
+            queries.put(selector, query);
+        }
+        return query;
+    }
+
+    /**
+     * Returns the elements that can match the query, in registration order:
+     * the smallest of the indexed elements with the ID, type and classes the
+     * query requires, or else all elements.
+     */
+    private List<ElementInfo> candidates(Query query) {
+        List<ElementInfo> candidates = allElements;
+        if (query.id != null) {
+            candidates = smallest(candidates, idIndex.get(query.id));
+        }
+        if (query.type != null) {
+            candidates = smallest(candidates, typeIndex.get(query.type));
+        }
+        for (String cssClass : query.classes) {
+            candidates = smallest(candidates, classIndex.get(cssClass));
+        }
+        return candidates;
+    }
+
+    private static List<ElementInfo> smallest(List<ElementInfo> a, List<ElementInfo> b) {
+        return b.size() < a.size() ? b : a;
+    }
+
     /**
      * Returns the rendered area for an element by ID.
      * <p>
@@ -331,6 +425,7 @@ public final class ElementRegistry {
         if (elementId == null) {
             return null;
         }
+        discardPreviousFrame();
         ElementInfo info = elementsById.get(elementId);
         return info != null ? info.area : null;
     }
@@ -345,19 +440,54 @@ public final class ElementRegistry {
         if (elementId == null) {
             return false;
         }
+        discardPreviousFrame();
         return elementsById.containsKey(elementId);
     }
 
+    /**
+     * Starts registering the elements of a new frame, which are reconciled
+     * with those of the previous frame as they register.
+     * Should be called at the start of each render cycle.
+     * Must be called from the render thread.
+     */
+    public void beginFrame() {
+        RenderThread.checkRenderThread();
+        registered = 0;
+    }
+
+    // Forgets the previous frame's elements that were not registered again
+    private void discardPreviousFrame() {
+        for (int i = allElements.size() - 1; i >= registered; i--) {
+            ElementInfo info = allElements.remove(i);
+            if (info.id != null) {
+                idIndex.removeLast(info.id, info);
+                List<ElementInfo> others = idIndex.get(info.id);
+                if (others.isEmpty()) {
+                    elementsById.remove(info.id);
+                } else {
+                    elementsById.put(info.id, others.get(others.size() - 1));
+                }
+            }
+            typeIndex.removeLast(info.styleType(), info);
+            for (String cssClass : info.cssClasses) {
+                classIndex.removeLast(cssClass, info);
+            }
+        }
+    }
+
     /**
      * Clears all registered elements.
      * <p>
-     * Should be called at the start of each render cycle.
      * Must be called from the render thread.
      */
     public void clear() {
         RenderThread.checkRenderThread();
+        registered = 0;
         elementsById.clear();
         allElements.clear();
+        idIndex.clear();
+        typeIndex.clear();
+        classIndex.clear();
     }
 
     /**
@@ -366,6 +496,78 @@ public final class ElementRegistry {
      * @return the count
      */
     public int size() {
+        discardPreviousFrame();
         return allElements.size();
     }
+
+    /**
+     * A parsed selector, with the ID, type and classes that the last compound
+     * of the selector requires.
+     */
+    private static final class Query {
+        private final Selector selector;
+        private String id;
+        private String type;
+        private final List<String> classes = new ArrayList<>();
+
+        Query(Selector selector) {
+            this.selector = selector;
+            Selector last = selector;
+            while (last instanceof DescendantSelector || last instanceof ChildSelector) {
+                last = last instanceof DescendantSelector
+                    ? ((DescendantSelector) last).descendant()
+                    : ((ChildSelector) last).child();
+            }
+            if (last instanceof CompoundSelector) {
+                for (Selector part : ((CompoundSelector) last).parts()) {
+                    require(part);
+                }
+            } else {
+                require(last);
+            }
+        }
+
+        private void require(Selector part) {
+            if (part instanceof IdSelector) {
+                id = ((IdSelector) part).id();
+            } else if (part instanceof TypeSelector) {
+                type = ((TypeSelector) part).typeName();
+            } else if (part instanceof ClassSelector) {
+                classes.add(((ClassSelector) part).className());
+            }
+        }
+    }
+
+    /**
+     * Elements by key, in registration order. The elements kept from the
+     * previous frame keep their place in the lists.
+     */
+    private static final class Index {
+        private final Map<String, List<ElementInfo>> entries = new HashMap<>();
+
+        void add(String key, ElementInfo info) {
+            entries.computeIfAbsent(key, k -> new ArrayList<>()).add(info);
+        }
+
+        List<ElementInfo> get(String key) {
+            List<ElementInfo> infos = entries.get(key);
+            return infos != null ? infos : Collections.emptyList();
+        }
+
+        // Elements are discarded in reverse registration order, so each is the last of its lists
+        void removeLast(String key, ElementInfo info) {
+            List<ElementInfo> infos = entries.get(key);
+            if (infos != null && !infos.isEmpty() && infos.get(infos.size() - 1) == info) {
+                infos.remove(infos.size() - 1);
+                if (infos.isEmpty()) {
+                    entries.remove(key);
+                }
+            }
+        }
+
+        void clear() {
+            entries.values().removeIf(List::isEmpty);
+            entries.values().forEach(List::clear);
+        }
+    }
 }
@@ -5,6 +5,7 @@
 package dev.tamboui.toolkit.element;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import dev.tamboui.css.Styleable;
 import dev.tamboui.css.cascade.CssStyleResolver;
@@ -199,6 +200,49 @@ public interface RenderContext {
         child.render(frame, area, this);
     }
 
+    /**
+     * Measures the preferred size of a child element for the given available space.
+     * <p>
+     * Container elements should use this method instead of calling
+     * {@code child.preferredSize()} directly. During a frame, the infrastructure
+     * remembers the size of each element for each available space, so that
+     * containers measuring their children before laying them out, and children
+     * measuring their own children again when rendered, only measure every
+     * element once per available space.
+     *
+     * @param child the child element to measure
+     * @param availableWidth the available width in cells, or -1 if unconstrained
+     * @param availableHeight the available height in cells, or -1 if unconstrained
+     * @return the preferred size of the child
+     */
+    default Size measure(Element child, int availableWidth, int availableHeight) {
+        return child.preferredSize(availableWidth, availableHeight, this);
+    }
+
+    /**
+     * Returns the state kept for a key across frames, creating it on first use.
+     * <p>
+     * Elements are typically rebuilt every frame, so state that must outlive a
+     * frame, such as a scroll offset or a cache, cannot be kept in the element
+     * itself. The infrastructure matches state by key with the previous frame:
+     * state is kept as long as its key is requested during every frame, and
+     * discarded after a frame that did not request it.
+     * <p>
+     * Example usage in an element:
+     * <pre>{@code
+     * ScrollState scroll = context.retainedState(id(), ScrollState.class, ScrollState::new);
+     * }</pre>
+     *
+     * @param key the stable key of the state, such as the ID of its element
+     * @param type the type of the state
+     * @param initial creates the state when the key has no state of this type
+     * @param <T> the type of the state
+     * @return the state for the key
+     */
+    default <T> T retainedState(String key, Class<T> type, Supplier<? extends T> initial) {
+        return initial.get();
+    }
+
     /**
      * Creates an empty context for simple rendering without focus management.
      * Primarily useful for testing.
@@ -0,0 +1,383 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.element;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.tamboui.css.Styleable;
+
+/**
+ * Profiles the render time of each element of the toolkit tree.
+ * <p>
+ * While active, every {@link RenderContext#renderChild(Element, dev.tamboui.terminal.Frame, dev.tamboui.layout.Rect)
+ * renderChild} call is timed, along with the CSS resolution done on behalf of
+ * the element being rendered. Timings are kept in a call tree whose nodes are
+ * keyed by element type and id ({@code Panel#sidebar}, {@code ListItem}), so
+ * unidentified siblings of the same type, such as list items, share one node.
+ * <p>
+ * Two views are available:
+ * <ul>
+ *   <li>{@link #hotElements(int)}: the elements of the last frame with the most
+ *       self time, aggregated by key wherever they appear in the tree</li>
+ *   <li>{@link #writeCollapsedStacks(Appendable)}: the tree accumulated since
+ *       profiling started, in the collapsed-stack format read by
+ *       {@code flamegraph.pl} and speedscope</li>
+ * </ul>
+ * <p>
+ * The profiler is confined to the render thread. When inactive, it costs one
+ * field read per rendered child.
+ */
+public final class RenderProfiler {
+
+    /**
+     * Frame name of the CSS resolution time in collapsed stacks.
+     */
+    public static final String CSS_FRAME = "[css]";
+
+    private static final String ROOT_KEY = "frame";
+    private static final String OVERFLOW_KEY = "[other]";
+    private static final int MAX_NODES = 10_000;
+
+    private Node root = new Node(ROOT_KEY, null);
+    private Node current;
+    private int nodeCount = 1;
+    private long frame;
+    private long frameStart;
+    private boolean active;
+
+    /**
+     * Returns whether elements are being profiled.
+     *
+     * @return true if active
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Starts or stops profiling. Accumulated timings are kept.
+     *
+     * @param active true to profile
+     */
+    public void setActive(boolean active) {
+        this.active = active;
+        current = null;
+    }
+
+    /**
+     * Toggles profiling.
+     */
+    public void toggle() {
+        setActive(!active);
+    }
+
+    /**
+     * Discards all accumulated timings.
+     */
+    public void reset() {
+        root = new Node(ROOT_KEY, null);
+        current = null;
+        nodeCount = 1;
+    }
+
+    /**
+     * Marks the start of a frame.
+     */
+    public void beginFrame() {
+        if (!active) {
+            return;
+        }
+        frame++;
+        root.touch(frame);
+        current = root;
+        frameStart = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a frame.
+     */
+    public void endFrame() {
+        if (current != root) {
+            return;
+        }
+        root.add(System.nanoTime() - frameStart);
+        current = null;
+    }
+
+    /**
+     * Enters the render of an element.
+     *
+     * @param element the element about to render
+     * @return the start timestamp to pass to {@link #exit(long)}
+     */
+    public long enter(Element element) {
+        Node parent = current;
+        if (parent == null) {
+            return 0;
+        }
+        current = parent.child(keyOf(element), this);
+        current.touch(frame);
+        return System.nanoTime();
+    }
+
+    /**
+     * Leaves the render of the element entered last.
+     *
+     * @param start the value returned by {@link #enter(Element)}
+     */
+    public void exit(long start) {
+        Node node = current;
+        if (node == null || node == root) {
+            return;
+        }
+        node.add(System.nanoTime() - start);
+        current = node.parent;
+    }
+
+    /**
+     * Adds CSS resolution time to the element being rendered.
+     *
+     * @param nanos the resolution time
+     */
+    public void recordStyle(long nanos) {
+        Node node = current;
+        if (node != null) {
+            node.frameStyleNanos += nanos;
+            node.styleNanos += nanos;
+        }
+    }
+
+    /**
+     * Returns whether a frame is being profiled.
+     *
+     * @return true between {@link #beginFrame()} and {@link #endFrame()} while active
+     */
+    boolean isProfiling() {
+        return current != null;
+    }
+
+    /**
+     * Returns the elements of the last profiled frame with the most self time.
+     *
+     * @param limit the maximum number of elements
+     * @return the elements, hottest first
+     */
+    public List<HotElement> hotElements(int limit) {
+        Map<String, HotElement> byKey = new HashMap<>();
+        collectHot(root, byKey);
+        List<HotElement> hot = new ArrayList<>(byKey.values());
+        Collections.sort(hot, (a, b) -> Long.compare(b.selfNanos, a.selfNanos));
+        return hot.size() > limit ? new ArrayList<>(hot.subList(0, limit)) : hot;
+    }
+
+    private void collectHot(Node node, Map<String, HotElement> byKey) {
+        for (Node child : node.children) {
+            if (child.frame != frame) {
+                continue;
+            }
+            HotElement entry = byKey.get(child.key);
+            if (entry == null) {
+                entry = new HotElement(child.key);
+                byKey.put(child.key, entry);
+            }
+            long childrenNanos = 0;
+            for (Node grandChild : child.children) {
+                if (grandChild.frame == frame) {
+                    childrenNanos += grandChild.frameNanos;
+                }
+            }
+            entry.totalNanos += child.frameNanos;
+            entry.selfNanos += Math.max(0, child.frameNanos - childrenNanos);
+            entry.styleNanos += child.frameStyleNanos;
+            entry.count += child.frameCount;
+            collectHot(child, byKey);
+        }
+    }
+
+    /**
+     * Returns the accumulated tree in collapsed-stack format.
+     *
+     * @return one {@code frame;Parent;Child nanos} line per call path
+     * @see #writeCollapsedStacks(Appendable)
+     */
+    public String collapsedStacks() {
+        StringBuilder out = new StringBuilder();
+        try {
+            writeCollapsedStacks(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes the tree accumulated since profiling started in collapsed-stack format.
+     * <p>
+     * Each line holds a semicolon-separated call path and the self time of its
+     * last element in nanoseconds. CSS resolution time is reported as a
+     * {@value #CSS_FRAME} child of the element that requested it.
+     *
+     * @param out where to write
+     * @throws IOException if writing fails
+     */
+    public void writeCollapsedStacks(Appendable out) throws IOException {
+        writeStacks(root, new StringBuilder(ROOT_KEY), out);
+    }
+
+    private static void writeStacks(Node node, StringBuilder path, Appendable out) throws IOException {
+        long self = node.nanos - node.styleNanos;
+        for (Node child : node.children) {
+            self -= child.nanos;
+        }
+        if (self > 0) {
+            out.append(path).append(' ').append(Long.toString(self)).append('\n');
+        }
+        if (node.styleNanos > 0) {
+            out.append(path).append(';').append(CSS_FRAME).append(' ')
+                    .append(Long.toString(node.styleNanos)).append('\n');
+        }
+        int length = path.length();
+        for (Node child : node.children) {
+            path.append(';').append(child.key);
+            writeStacks(child, path, out);
+            path.setLength(length);
+        }
+    }
+
+    private static String keyOf(Element element) {
+        String type = element instanceof Styleable
+                ? ((Styleable) element).styleType()
+                : element.getClass().getSimpleName();
+        String id = element.id();
+        // Semicolons and spaces are separators of the collapsed-stack format
+        String key = id != null ? type + '#' + id : type;
+        return key.replace(';', '_').replace(' ', '_');
+    }
+
+    /**
+     * Render timings of the elements sharing a key in one frame.
+     */
+    public static final class HotElement {
+        private final String key;
+        private long selfNanos;
+        private long totalNanos;
+        private long styleNanos;
+        private int count;
+
+        HotElement(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Returns the element type, followed by {@code #id} for identified elements.
+         *
+         * @return the key
+         */
+        public String key() {
+            return key;
+        }
+
+        /**
+         * Returns the render time excluding child elements.
+         *
+         * @return the self time in nanoseconds
+         */
+        public long selfNanos() {
+            return selfNanos;
+        }
+
+        /**
+         * Returns the render time including child elements.
+         *
+         * @return the total time in nanoseconds
+         */
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Returns the CSS resolution time, included in the self time.
+         *
+         * @return the style time in nanoseconds
+         */
+        public long styleNanos() {
+            return styleNanos;
+        }
+
+        /**
+         * Returns the number of renders.
+         *
+         * @return the render count
+         */
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("HotElement[key=%s, self=%d, total=%d, style=%d, count=%d]",
+                    key, selfNanos, totalNanos, styleNanos, count);
+        }
+    }
+
+    /**
+     * A call path of the tree. Frame fields hold the latest frame the node was
+     * rendered in, the others accumulate since profiling started.
+     */
+    private static final class Node {
+        final String key;
+        final Node parent;
+        final List<Node> children = new ArrayList<>(4);
+        long frame;
+        long frameNanos;
+        long frameStyleNanos;
+        int frameCount;
+        long nanos;
+        long styleNanos;
+
+        Node(String key, Node parent) {
+            this.key = key;
+            this.parent = parent;
+        }
+
+        void touch(long frameNumber) {
+            if (frame != frameNumber) {
+                frame = frameNumber;
+                frameNanos = 0;
+                frameStyleNanos = 0;
+                frameCount = 0;
+            }
+        }
+
+        void add(long elapsed) {
+            frameNanos += elapsed;
+            frameCount++;
+            nanos += elapsed;
+        }
+
+        Node child(String childKey, RenderProfiler profiler) {
+            for (int i = 0; i < children.size(); i++) {
+                Node child = children.get(i);
+                if (child.key.equals(childKey)) {
+                    return child;
+                }
+            }
+            if (profiler.nodeCount >= MAX_NODES && !OVERFLOW_KEY.equals(childKey)) {
+                // Unbounded keys, such as generated ids, must not grow the tree forever
+                return child(OVERFLOW_KEY, profiler);
+            }
+            Node child = new Node(childKey, this);
+            children.add(child);
+            profiler.nodeCount++;
+            return child;
+        }
+    }
+}
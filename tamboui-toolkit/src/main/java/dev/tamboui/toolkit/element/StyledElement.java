@@ -424,6 +424,24 @@ public abstract class StyledElement<T extends StyledElement<T>> implements Eleme
      */
     protected abstract void renderContent(Frame frame, Rect area, RenderContext context);
 
+    /**
+     * Measures a child element through the context, so that the child is
+     * measured once per available space during a frame.
+     *
+     * @param child the child element to measure
+     * @param availableWidth the available width in cells, or -1 if unconstrained
+     * @param availableHeight the available height in cells, or -1 if unconstrained
+     * @param context the render context, may be null when this element is measured without one
+     * @return the preferred size of the child
+     * @see RenderContext#measure(Element, int, int)
+     */
+    protected static Size measureChild(Element child, int availableWidth, int availableHeight,
+                                       RenderContext context) {
+        return context != null
+            ? context.measure(child, availableWidth, availableHeight)
+            : child.preferredSize(availableWidth, availableHeight, null);
+    }
+
     /**
      * Resolves a style for a sub-component following the priority: explicit > CSS > default.
      * <p>
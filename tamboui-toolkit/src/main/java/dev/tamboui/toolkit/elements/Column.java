@@ -15,6 +15,7 @@ import dev.tamboui.layout.Flex;
 import dev.tamboui.layout.Layout;
 import dev.tamboui.layout.Margin;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
 import dev.tamboui.style.Style;
 import dev.tamboui.terminal.Frame;
 import dev.tamboui.toolkit.element.ContainerElement;
@@ -44,6 +45,8 @@ public final class Column extends ContainerElement<Column> {
     private Integer spacing;
     private Flex flex;
     private Margin margin;
+    // Layout of the last render, rebuilt only when the constraints or the flex change
+    private Layout layout;
 
     /**
      * Creates a new empty column.
@@ -123,7 +126,7 @@ public final class Column extends ContainerElement<Column> {
         // Calculate width: max of children widths
         int maxWidth = 0;
         for (Element child : children) {
-            Size childSize = child.preferredSize(availableWidth, availableHeight, context);
+            Size childSize = measureChild(child, availableWidth, availableHeight, context);
             maxWidth = Math.max(maxWidth, childSize.widthOr(0));
         }
         if (margin != null) {
@@ -133,7 +136,7 @@ public final class Column extends ContainerElement<Column> {
         // Calculate height: sum of children heights + spacing
         int totalHeight = 0;
         for (Element child : children) {
-            Size childSize = child.preferredSize(availableWidth, -1, context);
+            Size childSize = measureChild(child, availableWidth, -1, context);
             totalHeight += childSize.heightOr(1);
         }
         totalHeight += totalSpacing;
@@ -205,12 +208,12 @@ public final class Column extends ContainerElement<Column> {
                 // First try text element special case
                 c = calculateDefaultConstraint(child);
                 if (c == null) {
-                    Size size = child.preferredSize(-1, -1, context);
+                    Size size = measureChild(child, -1, -1, context);
                     int preferred = size.height();
                     c = preferred >= 0 ? Constraint.length(preferred) : Constraint.fill();
                 }
             } else if (c instanceof Constraint.Fit) {
-                Size size = child.preferredSize(-1, -1, context);
+                Size size = measureChild(child, -1, -1, context);
                 int preferred = size.height();
                 c = preferred >= 0 ? Constraint.length(preferred) : Constraint.fill();
             }
@@ -222,27 +225,30 @@ public final class Column extends ContainerElement<Column> {
             }
         }
 
-        // Build layout - only apply flex if explicitly set
-        Layout layout = Layout.vertical()
-            .constraints(constraints.toArray(new Constraint[0]));
-
-        if (effectiveFlex != null) {
-            layout = layout.flex(effectiveFlex);
+        // Build layout - START, the default of layouts, if flex is not set
+        Flex layoutFlex = effectiveFlex != null ? effectiveFlex : Flex.START;
+        Layout layout = this.layout;
+        if (layout == null || layout.flex() != layoutFlex || !layout.constraints().equals(constraints)) {
+            layout = Layout.vertical()
+                .flex(layoutFlex)
+                .constraints(constraints);
+            this.layout = layout;
         }
 
-        List<Rect> areas = layout.split(effectiveArea);
+        try (SplitResult areas = SplitResult.acquire()) {
+            layout.split(effectiveArea, areas);
 
-        // Render children (skipping spacing areas)
-        int childIndex = 0;
-        for (int i = 0; i < areas.size() && childIndex < children.size(); i++) {
-            if (effectiveSpacing > 0 && i % 2 == 1) {
-                // Skip spacing area
-                continue;
+            // Render children (skipping spacing areas)
+            int childIndex = 0;
+            for (int i = 0; i < areas.count() && childIndex < children.size(); i++) {
+                if (effectiveSpacing > 0 && i % 2 == 1) {
+                    // Skip spacing area
+                    continue;
+                }
+                Element child = children.get(childIndex);
+                context.renderChild(child, frame, areas.area(i));
+                childIndex++;
             }
-            Element child = children.get(childIndex);
-            Rect childArea = areas.get(i);
-            context.renderChild(child, frame, childArea);
-            childIndex++;
         }
     }
 
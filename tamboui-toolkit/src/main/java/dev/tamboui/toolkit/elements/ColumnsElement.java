@@ -15,6 +15,7 @@ import dev.tamboui.layout.Flex;
 import dev.tamboui.layout.Layout;
 import dev.tamboui.layout.Margin;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
 import dev.tamboui.layout.columns.ColumnOrder;
 import dev.tamboui.layout.columns.Columns;
 import dev.tamboui.style.IntegerConverter;
@@ -80,6 +81,10 @@ public final class ColumnsElement extends ContainerElement<ColumnsElement> {
     private Margin margin;
     private Integer columnCount;
     private ColumnOrder order;
+    // Layout of the columns in the last render, rebuilt only when their count, spacing or flex change
+    private Layout columnLayout;
+    private int columnLayoutCount;
+    private int columnLayoutSpacing;
 
     /**
      * Creates an empty columns layout.
@@ -206,7 +211,7 @@ public final class ColumnsElement extends ContainerElement<ColumnsElement> {
         // Calculate width
         int maxChildWidth = 0;
         for (Element child : children) {
-            maxChildWidth = Math.max(maxChildWidth, child.preferredSize(availableWidth, availableHeight, context).widthOr(0));
+            maxChildWidth = Math.max(maxChildWidth, measureChild(child, availableWidth, availableHeight, context).widthOr(0));
         }
 
         int cols = columnCount != null ? columnCount : children.size();
@@ -222,7 +227,7 @@ public final class ColumnsElement extends ContainerElement<ColumnsElement> {
         int totalHeight;
         if (availableWidth > 0 && context != null) {
             // Context-aware height calculation
-            cols = computeColumnCount(availableWidth, effectiveSpacing, this.columnCount);
+            cols = computeColumnCount(availableWidth, effectiveSpacing, this.columnCount, context);
             int rows = (children.size() + cols - 1) / cols;
             ColumnOrder effectiveOrder = this.order != null ? this.order : ColumnOrder.ROW_FIRST;
 
@@ -234,7 +239,7 @@ public final class ColumnsElement extends ContainerElement<ColumnsElement> {
                     if (childIndex < children.size()) {
                         Element child = children.get(childIndex);
                         int childWidth = Math.max(1, (availableWidth - effectiveSpacing * (cols - 1)) / cols);
-                        rowHeight = Math.max(rowHeight, child.preferredSize(childWidth, -1, context).heightOr(1));
+                        rowHeight = Math.max(rowHeight, measureChild(child, childWidth, -1, context).heightOr(1));
                     }
                 }
                 totalHeight += rowHeight;
@@ -248,7 +253,7 @@ public final class ColumnsElement extends ContainerElement<ColumnsElement> {
                 for (int col = 0; col < cols; col++) {
                     int childIndex = row * cols + col;
                     if (childIndex < children.size()) {
-                        rowHeight = Math.max(rowHeight, children.get(childIndex).preferredSize(-1, -1, null).heightOr(1));
+                        rowHeight = Math.max(rowHeight, measureChild(children.get(childIndex), -1, -1, context).heightOr(1));
                     }
                 }
                 totalHeight += rowHeight;
@@ -264,16 +269,17 @@ public final class ColumnsElement extends ContainerElement<ColumnsElement> {
      * @param availableWidth the available width in cells
      * @param spacing        the spacing between columns
      * @param explicitCount  explicit column count override, or {@code null} for auto-detection
+     * @param context        the render context measuring the children, or {@code null}
      * @return the computed column count
      */
-    private int computeColumnCount(int availableWidth, int spacing, Integer explicitCount) {
+    private int computeColumnCount(int availableWidth, int spacing, Integer explicitCount, RenderContext context) {
         if (explicitCount != null) {
             return Math.min(explicitCount, children.size());
         }
 
         int maxChildWidth = 0;
         for (Element child : children) {
-            maxChildWidth = Math.max(maxChildWidth, child.preferredSize(-1, -1, null).widthOr(0));
+            maxChildWidth = Math.max(maxChildWidth, measureChild(child, -1, -1, context).widthOr(0));
         }
 
         if (maxChildWidth <= 0) {
@@ -343,45 +349,47 @@ public final class ColumnsElement extends ContainerElement<ColumnsElement> {
         }
 
         // Compute column count from effective area
-        int cols = computeColumnCount(effectiveArea.width(), effectiveSpacing, effectiveColumnCount);
+        int cols = computeColumnCount(effectiveArea.width(), effectiveSpacing, effectiveColumnCount, context);
         int rows = (children.size() + cols - 1) / cols;
 
         // Build horizontal constraints to compute column widths for preferred height
-        List<Constraint> hConstraints = new ArrayList<>();
-        for (int c = 0; c < cols; c++) {
-            hConstraints.add(Constraint.fill());
-            if (effectiveSpacing > 0 && c < cols - 1) {
-                hConstraints.add(Constraint.length(effectiveSpacing));
-            }
-        }
-
-        List<Rect> colAreas = Layout.horizontal()
-            .constraints(hConstraints.toArray(new Constraint[0]))
-            .flex(effectiveFlex)
-            .split(effectiveArea);
-
-        // Extract only the column areas (skip spacing areas)
-        List<Rect> columnRects = new ArrayList<>();
-        for (int i = 0; i < colAreas.size(); i++) {
-            if (effectiveSpacing > 0 && i % 2 == 1) {
-                continue;
+        Layout layout = columnLayout;
+        if (layout == null || layout.flex() != effectiveFlex
+                || columnLayoutCount != cols || columnLayoutSpacing != effectiveSpacing) {
+            List<Constraint> hConstraints = new ArrayList<>();
+            for (int c = 0; c < cols; c++) {
+                hConstraints.add(Constraint.fill());
+                if (effectiveSpacing > 0 && c < cols - 1) {
+                    hConstraints.add(Constraint.length(effectiveSpacing));
+                }
             }
-            columnRects.add(colAreas.get(i));
+            layout = Layout.horizontal()
+                .flex(effectiveFlex)
+                .constraints(hConstraints);
+            columnLayout = layout;
+            columnLayoutCount = cols;
+            columnLayoutSpacing = effectiveSpacing;
         }
 
         // Compute per-row heights from children's preferred heights
         int[] rowHeights = new int[rows];
-        for (int row = 0; row < rows; row++) {
-            int rowHeight = 1;
-            for (int col = 0; col < cols; col++) {
-                int childIndex = effectiveOrder.resolveIndex(row, col, rows, cols);
-                if (childIndex < children.size()) {
-                    Element child = children.get(childIndex);
-                    int colWidth = col < columnRects.size() ? columnRects.get(col).width() : 1;
-                    rowHeight = Math.max(rowHeight, child.preferredSize(colWidth, -1, context).heightOr(1));
+        try (SplitResult colAreas = SplitResult.acquire()) {
+            layout.split(effectiveArea, colAreas);
+
+            // Column areas alternate with spacing areas
+            int stride = effectiveSpacing > 0 ? 2 : 1;
+            for (int row = 0; row < rows; row++) {
+                int rowHeight = 1;
+                for (int col = 0; col < cols; col++) {
+                    int childIndex = effectiveOrder.resolveIndex(row, col, rows, cols);
+                    if (childIndex < children.size()) {
+                        Element child = children.get(childIndex);
+                        int colWidth = colAreas.size(col * stride);
+                        rowHeight = Math.max(rowHeight, measureChild(child, colWidth, -1, context).heightOr(1));
+                    }
                 }
+                rowHeights[row] = rowHeight;
             }
-            rowHeights[row] = rowHeight;
         }
 
         // Wrap each child Element as a lambda Widget
@@ -18,6 +18,7 @@ import dev.tamboui.layout.Direction;
 import dev.tamboui.layout.Flex;
 import dev.tamboui.layout.Layout;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
 import dev.tamboui.style.Color;
 import dev.tamboui.terminal.Frame;
 import dev.tamboui.text.Line;
@@ -335,7 +336,7 @@ public final class DialogElement extends ContainerElement<DialogElement> {
                 if (effectiveDirection == Direction.HORIZONTAL) {
                     // Horizontal: sum widths of all children
                     for (Element child : children) {
-                        childrenWidth += child.preferredSize(availableWidth, availableHeight, context).widthOr(0);
+                        childrenWidth += measureChild(child, availableWidth, availableHeight, context).widthOr(0);
                     }
 
                     // Add spacing between children (n-1 spacings)
@@ -346,7 +347,7 @@ public final class DialogElement extends ContainerElement<DialogElement> {
                 } else {
                     // Vertical: max width of all children
                     for (Element child : children) {
-                        childrenWidth = Math.max(childrenWidth, child.preferredSize(availableWidth, availableHeight, context).widthOr(0));
+                        childrenWidth = Math.max(childrenWidth, measureChild(child, availableWidth, availableHeight, context).widthOr(0));
                     }
                 }
             }
@@ -463,7 +464,7 @@ public final class DialogElement extends ContainerElement<DialogElement> {
             }
             if (c == null) {
                 // Use child's preferred size when no constraint is specified
-                Size childSize = child.preferredSize(-1, -1, context);
+                Size childSize = measureChild(child, -1, -1, context);
                 int preferredSizeValue = isHorizontal ? childSize.widthOr(1) : childSize.heightOr(1);
                 c = Constraint.length(Math.max(1, preferredSizeValue));
             }
@@ -474,18 +475,20 @@ public final class DialogElement extends ContainerElement<DialogElement> {
             ? Layout.horizontal()
             : Layout.vertical();
 
-        layout = layout.constraints(constraints.toArray(new Constraint[0]))
+        layout = layout.constraints(constraints)
             .flex(effectiveFlex);
 
         if (effectiveSpacing > 0) {
             layout = layout.spacing(effectiveSpacing);
         }
 
-        List<Rect> areas = layout.split(innerArea);
+        try (SplitResult areas = SplitResult.acquire()) {
+            layout.split(innerArea, areas);
 
-        // Render children
-        for (int i = 0; i < children.size() && i < areas.size(); i++) {
-            context.renderChild(children.get(i), frame, areas.get(i));
+            // Render children
+            for (int i = 0; i < children.size() && i < areas.count(); i++) {
+                context.renderChild(children.get(i), frame, areas.area(i));
+            }
         }
     }
 
@@ -281,7 +281,7 @@ public final class DockElement extends StyledElement<DockElement> {
 
         // Calculate width
         int leftW = leftElement != null ? constraintHint(resolveLeftWidth(resolver)) : 0;
-        int centerW = centerElement != null ? centerElement.preferredSize(availableWidth, availableHeight, context).widthOr(0) : 0;
+        int centerW = centerElement != null ? measureChild(centerElement, availableWidth, availableHeight, context).widthOr(0) : 0;
         int rightW = rightElement != null ? constraintHint(resolveRightWidth(resolver)) : 0;
         int width = leftW + centerW + rightW;
         if (margin != null) {
@@ -295,9 +295,9 @@ public final class DockElement extends StyledElement<DockElement> {
             int topH = topElement != null ? constraintHint(resolveTopHeight(resolver, topElement, availableWidth, context)) : 0;
             int bottomH = bottomElement != null ? constraintHint(resolveBottomHeight(resolver, bottomElement, availableWidth, context)) : 0;
 
-            int leftH = leftElement != null ? leftElement.preferredSize(availableWidth, -1, context).heightOr(0) : 0;
-            int centerH = centerElement != null ? centerElement.preferredSize(availableWidth, -1, context).heightOr(0) : 0;
-            int rightH = rightElement != null ? rightElement.preferredSize(availableWidth, -1, context).heightOr(0) : 0;
+            int leftH = leftElement != null ? measureChild(leftElement, availableWidth, -1, context).heightOr(0) : 0;
+            int centerH = centerElement != null ? measureChild(centerElement, availableWidth, -1, context).heightOr(0) : 0;
+            int rightH = rightElement != null ? measureChild(rightElement, availableWidth, -1, context).heightOr(0) : 0;
             int middleH = Math.max(leftH, Math.max(centerH, rightH));
 
             height = topH + middleH + bottomH;
@@ -419,7 +419,7 @@ public final class DockElement extends StyledElement<DockElement> {
         }
         // Fall back to element's preferred height
         if (element != null) {
-            int preferredHeight = element.preferredSize(availableWidth, -1, context).heightOr(0);
+            int preferredHeight = measureChild(element, availableWidth, -1, context).heightOr(0);
             if (preferredHeight > 0) {
                 return Constraint.length(preferredHeight);
             }
@@ -435,7 +435,7 @@ public final class DockElement extends StyledElement<DockElement> {
         }
         // Fall back to element's preferred height
         if (element != null) {
-            int preferredHeight = element.preferredSize(availableWidth, -1, context).heightOr(0);
+            int preferredHeight = measureChild(element, availableWidth, -1, context).heightOr(0);
             if (preferredHeight > 0) {
                 return Constraint.length(preferredHeight);
             }
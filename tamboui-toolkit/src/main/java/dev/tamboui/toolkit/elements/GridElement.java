@@ -17,6 +17,7 @@ import dev.tamboui.layout.Flex;
 import dev.tamboui.layout.Layout;
 import dev.tamboui.layout.Margin;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
 import dev.tamboui.layout.grid.Grid;
 import dev.tamboui.layout.grid.GridArea;
 import dev.tamboui.style.PropertyDefinition;
@@ -326,7 +327,7 @@ public final class GridElement extends ContainerElement<GridElement> {
         } else {
             int maxChildWidth = 0;
             for (Element child : children) {
-                maxChildWidth = Math.max(maxChildWidth, child.preferredSize(availableWidth, availableHeight, context).widthOr(0));
+                maxChildWidth = Math.max(maxChildWidth, measureChild(child, availableWidth, availableHeight, context).widthOr(0));
             }
             width = maxChildWidth * cols;
         }
@@ -356,7 +357,7 @@ public final class GridElement extends ContainerElement<GridElement> {
                     int childIndex = row * cols + col;
                     if (childIndex < children.size()) {
                         Element child = children.get(childIndex);
-                        rowHeight = Math.max(rowHeight, child.preferredSize(colWidth, -1, context).heightOr(1));
+                        rowHeight = Math.max(rowHeight, measureChild(child, colWidth, -1, context).heightOr(1));
                     }
                 }
                 totalHeight += rowHeight;
@@ -510,7 +511,7 @@ public final class GridElement extends ContainerElement<GridElement> {
 
         // Build area-based Grid widget
         Grid.AreaBuilder areaBuilder = Grid.builder()
-            .gridAreas(effectiveGridArea.toTemplates());
+            .gridAreas(effectiveGridArea);
 
         // Add widgets for each area
         for (Map.Entry<String, Element> entry : effectiveAreaElements.entrySet()) {
@@ -577,7 +578,7 @@ public final class GridElement extends ContainerElement<GridElement> {
                     for (int row = 0; row < rows; row++) {
                         int childIndex = row * cols + c;
                         if (childIndex < childCount) {
-                            maxPreferred = Math.max(maxPreferred, children.get(childIndex).preferredSize(-1, -1, context).widthOr(0));
+                            maxPreferred = Math.max(maxPreferred, measureChild(children.get(childIndex), -1, -1, context).widthOr(0));
                         }
                     }
                     hConstraints.add(maxPreferred > 0 ? Constraint.length(maxPreferred) : Constraint.fill());
@@ -587,32 +588,27 @@ public final class GridElement extends ContainerElement<GridElement> {
                 }
             }
 
-            List<Rect> colAreas = Layout.horizontal()
-                .constraints(hConstraints.toArray(new Constraint[0]))
-                .flex(effectiveFlex)
-                .split(effectiveArea);
-
-            // Extract only column areas (skip gutter areas)
-            List<Rect> columnRects = new ArrayList<>();
-            for (int i = 0; i < colAreas.size(); i++) {
-                if (hGutter > 0 && i % 2 == 1) {
-                    continue;
-                }
-                columnRects.add(colAreas.get(i));
-            }
-
             rowHeights = new int[rows];
-            for (int row = 0; row < rows; row++) {
-                int rowHeight = 1;
-                for (int col = 0; col < cols; col++) {
-                    int childIndex = row * cols + col;
-                    if (childIndex < childCount) {
-                        Element child = children.get(childIndex);
-                        int colWidth = col < columnRects.size() ? columnRects.get(col).width() : 1;
-                        rowHeight = Math.max(rowHeight, child.preferredSize(colWidth, -1, context).heightOr(1));
+            try (SplitResult colAreas = SplitResult.acquire()) {
+                Layout.horizontal()
+                    .constraints(hConstraints)
+                    .flex(effectiveFlex)
+                    .split(effectiveArea, colAreas);
+
+                // Column areas alternate with gutter areas
+                int stride = hGutter > 0 ? 2 : 1;
+                for (int row = 0; row < rows; row++) {
+                    int rowHeight = 1;
+                    for (int col = 0; col < cols; col++) {
+                        int childIndex = row * cols + col;
+                        if (childIndex < childCount) {
+                            Element child = children.get(childIndex);
+                            int colWidth = colAreas.size(col * stride);
+                            rowHeight = Math.max(rowHeight, measureChild(child, colWidth, -1, context).heightOr(1));
+                        }
                     }
+                    rowHeights[row] = rowHeight;
                 }
-                rowHeights[row] = rowHeight;
             }
         }
 
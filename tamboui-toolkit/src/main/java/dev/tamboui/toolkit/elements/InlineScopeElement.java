@@ -11,6 +11,7 @@ import java.util.List;
 import dev.tamboui.layout.Constraint;
 import dev.tamboui.layout.Layout;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
 import dev.tamboui.style.Style;
 import dev.tamboui.terminal.Frame;
 import dev.tamboui.toolkit.element.ContainerElement;
@@ -177,14 +178,14 @@ public final class InlineScopeElement extends ContainerElement<InlineScopeElemen
         // Calculate width: max of children
         int maxWidth = 0;
         for (Element child : children) {
-            Size size = child.preferredSize(availableWidth, availableHeight, context);
+            Size size = measureChild(child, availableWidth, availableHeight, context);
             maxWidth = Math.max(maxWidth, size.widthOr(0));
         }
 
         // Calculate height: sum of children
         int totalHeight = 0;
         for (Element child : children) {
-            Size size = child.preferredSize(availableWidth, -1, context);
+            Size size = measureChild(child, availableWidth, -1, context);
             totalHeight += size.heightOr(1);
         }
 
@@ -215,12 +216,12 @@ public final class InlineScopeElement extends ContainerElement<InlineScopeElemen
                     c = ((TextElement) child).calculateHeightConstraint();
                 }
                 if (c == null) {
-                    Size size = child.preferredSize(-1, -1, context);
+                    Size size = measureChild(child, -1, -1, context);
                     int preferred = size.height();
                     c = preferred >= 0 ? Constraint.length(preferred) : Constraint.fill();
                 }
             } else if (c instanceof Constraint.Fit) {
-                Size size = child.preferredSize(-1, -1, context);
+                Size size = measureChild(child, -1, -1, context);
                 int preferred = size.height();
                 c = preferred >= 0 ? Constraint.length(preferred) : Constraint.fill();
             }
@@ -229,14 +230,14 @@ public final class InlineScopeElement extends ContainerElement<InlineScopeElemen
 
         // Layout children vertically
         Layout layout = Layout.vertical()
-                .constraints(constraints.toArray(new Constraint[0]));
-        List<Rect> areas = layout.split(area);
-
-        // Render each child
-        for (int i = 0; i < areas.size() && i < children.size(); i++) {
-            Element child = children.get(i);
-            Rect childArea = areas.get(i);
-            context.renderChild(child, frame, childArea);
+                .constraints(constraints);
+        try (SplitResult areas = SplitResult.acquire()) {
+            layout.split(area, areas);
+
+            // Render each child
+            for (int i = 0; i < areas.count() && i < children.size(); i++) {
+                context.renderChild(children.get(i), frame, areas.area(i));
+            }
         }
     }
 }
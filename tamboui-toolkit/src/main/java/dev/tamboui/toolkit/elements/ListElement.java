@@ -561,7 +561,7 @@ public final class ListElement<T> extends StyledElement<ListElement<T>> {
         }
 
         for (StyledElement<?> item : effectiveItems) {
-            Size itemSize = item.preferredSize(availableWidth, availableHeight, context);
+            Size itemSize = measureChild(item, availableWidth, availableHeight, context);
             maxWidth = Math.max(maxWidth, itemSize.widthOr(0));
         }
 
@@ -726,7 +726,7 @@ public final class ListElement<T> extends StyledElement<ListElement<T>> {
                                           Rect listArea,
                                           RenderContext context) {
         int availableWidth = listArea.width();
-        Size size = element.preferredSize(availableWidth, -1, context);
+        Size size = measureChild(element, availableWidth, -1, context);
         int preferredWidth = size.widthOr(0);
         int preferredHeight = size.heightOr(0);
 
@@ -0,0 +1,235 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.elements;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.layout.Position;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.style.Style;
+import dev.tamboui.style.StyledAreaInfo;
+import dev.tamboui.style.StyledAreaRegistry;
+import dev.tamboui.terminal.Frame;
+import dev.tamboui.toolkit.element.DefaultRenderContext;
+import dev.tamboui.toolkit.element.Element;
+import dev.tamboui.toolkit.element.RenderContext;
+import dev.tamboui.toolkit.element.Size;
+
+/**
+ * An element that renders its content once and reuses the rendered cells
+ * while its dependencies and area stay the same.
+ * <p>
+ * The content is only built and rendered when the dependencies change, when
+ * the area changes, or when focus moves in or out of a content with focusable
+ * elements. Otherwise the cells rendered last are copied into the frame, row
+ * by row, and the elements of the content are registered again for event
+ * routing and focus management without rendering them. As the same element
+ * instances register in the same order, they keep the router slots, registry
+ * entries and focus entries of the previous frame. The cursor position and
+ * the styled areas the content set are replayed as well.
+ * <pre>{@code
+ * memo("help", () -> panel("Help", text(helpText)), helpText)
+ * }</pre>
+ * <p>
+ * The dependencies must cover everything the content depends on, including
+ * the styles inherited from its parents. The cached cells are kept under the
+ * key as long as the element is rendered every frame, so keys must be unique
+ * among the memoized elements of a frame.
+ */
+public final class MemoElement implements Element {
+
+    private final String key;
+    private final Supplier<? extends Element> supplier;
+    private final Object[] dependencies;
+    private Element lastElement;
+
+    /**
+     * Creates a new memoized element.
+     *
+     * @param key the key under which the rendered cells are kept across frames
+     * @param supplier builds the content when the dependencies change
+     * @param dependencies the values the content depends on, compared with {@code equals}
+     */
+    public MemoElement(String key, Supplier<? extends Element> supplier, Object... dependencies) {
+        this.key = Objects.requireNonNull(key, "key");
+        this.supplier = Objects.requireNonNull(supplier, "supplier");
+        this.dependencies = dependencies.clone();
+    }
+
+    @Override
+    public void render(Frame frame, Rect area, RenderContext context) {
+        if (!(context instanceof DefaultRenderContext)) {
+            // Fallback for non-default contexts (e.g., testing)
+            Element element = element(context);
+            if (element != null) {
+                context.renderChild(element, frame, area);
+            }
+            return;
+        }
+        DefaultRenderContext ctx = (DefaultRenderContext) context;
+        Cache cache = ctx.retainedState(key, Cache.class, Cache::new);
+        Element element = cache.element(supplier, dependencies);
+        lastElement = element;
+        if (element == null) {
+            return;
+        }
+
+        String focusedId = ctx.focusManager().focusedId();
+        StyledAreaRegistry styledAreas = frame.styledAreaRegistry();
+        if (cache.cells != null && area.equals(cache.cells.area())
+                && (!cache.focusable || Objects.equals(focusedId, cache.focusedId))
+                && (styledAreas == null || cache.styledAreas != null)) {
+            frame.buffer().copyFrom(cache.cells, area);
+            ctx.replayRegistrations(cache.registrations);
+            if (styledAreas != null) {
+                for (StyledArea styledArea : cache.styledAreas) {
+                    styledAreas.register(styledArea.style, styledArea.area, styledArea.contextKey);
+                }
+            }
+            if (cache.cursor != null) {
+                frame.setCursorPosition(cache.cursor);
+            }
+            return;
+        }
+
+        // Record the cursor and the styled areas the content sets
+        Position previousCursor = frame.cursorPosition().orElse(null);
+        frame.clearCursor();
+        List<StyledArea> styledAreaRecords = null;
+        if (styledAreas != null) {
+            styledAreaRecords = new ArrayList<>();
+            frame.setStyledAreaRegistry(new RecordingRegistry(styledAreas, styledAreaRecords));
+        }
+        List<DefaultRenderContext.Registration> registrations;
+        try {
+            registrations = ctx.recordRegistrations(() -> ctx.renderChild(element, frame, area));
+        } finally {
+            if (styledAreas != null) {
+                frame.setStyledAreaRegistry(styledAreas);
+            }
+            cache.cursor = frame.cursorPosition().orElse(null);
+            if (cache.cursor == null && previousCursor != null) {
+                frame.setCursorPosition(previousCursor);
+            }
+        }
+        Buffer cells = cache.cells != null && area.equals(cache.cells.area()) ? cache.cells : Buffer.empty(area);
+        cells.copyFrom(frame.buffer(), area);
+        cache.cells = cells;
+        cache.registrations = registrations;
+        cache.styledAreas = styledAreaRecords;
+        cache.focusable = false;
+        for (DefaultRenderContext.Registration registration : registrations) {
+            cache.focusable |= registration.element().isFocusable();
+        }
+        cache.focusedId = focusedId;
+    }
+
+    @Override
+    public Size preferredSize(int availableWidth, int availableHeight, RenderContext context) {
+        Element element = element(context);
+        if (element == null) {
+            return Size.UNKNOWN;
+        }
+        return context != null
+            ? context.measure(element, availableWidth, availableHeight)
+            : element.preferredSize(availableWidth, availableHeight, null);
+    }
+
+    @Override
+    public Constraint constraint() {
+        Element element = element(null);
+        return element != null ? element.constraint() : null;
+    }
+
+    private Element element(RenderContext context) {
+        if (lastElement == null) {
+            lastElement = context != null
+                ? context.retainedState(key, Cache.class, Cache::new).element(supplier, dependencies)
+                : supplier.get();
+        }
+        return lastElement;
+    }
+
+    /**
+     * The content of a memoized element, with the cells and registrations of
+     * its last rendering.
+     */
+    private static final class Cache {
+        private Object[] dependencies;
+        private Element element;
+        private Buffer cells;
+        private List<DefaultRenderContext.Registration> registrations;
+        private List<StyledArea> styledAreas;
+        private Position cursor;
+        private boolean focusable;
+        private String focusedId;
+
+        Element element(Supplier<? extends Element> supplier, Object[] newDependencies) {
+            if (dependencies == null || !Arrays.deepEquals(dependencies, newDependencies)) {
+                element = supplier.get();
+                dependencies = newDependencies;
+                cells = null;
+                registrations = null;
+            }
+            return element;
+        }
+    }
+
+    /**
+     * A styled area registered by the content.
+     */
+    private static final class StyledArea {
+        private final Style style;
+        private final Rect area;
+        private final String contextKey;
+
+        StyledArea(Style style, Rect area, String contextKey) {
+            this.style = style;
+            this.area = area;
+            this.contextKey = contextKey;
+        }
+    }
+
+    /**
+     * Forwards the styled areas of the content to the frame's registry and
+     * records them for replay.
+     */
+    private static final class RecordingRegistry implements StyledAreaRegistry {
+        private final StyledAreaRegistry delegate;
+        private final List<StyledArea> records;
+
+        RecordingRegistry(StyledAreaRegistry delegate, List<StyledArea> records) {
+            this.delegate = delegate;
+            this.records = records;
+        }
+
+        @Override
+        public void register(Style style, Rect area, String contextKey) {
+            records.add(new StyledArea(style, area, contextKey));
+            delegate.register(style, area, contextKey);
+        }
+
+        @Override
+        public List<StyledAreaInfo> all() {
+            return delegate.all();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import dev.tamboui.layout.Layout;
 import dev.tamboui.layout.Margin;
 import dev.tamboui.layout.Padding;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
 import dev.tamboui.style.Color;
 import dev.tamboui.style.Overflow;
 import dev.tamboui.style.Style;
@@ -410,7 +411,7 @@ public final class Panel extends ContainerElement<Panel> {
             if (effectiveDirection == Direction.HORIZONTAL) {
                 // Horizontal: sum widths of all children
                 for (Element child : children) {
-                    Size childSize = child.preferredSize(availableWidth, availableHeight, context);
+                    Size childSize = measureChild(child, availableWidth, availableHeight, context);
                     childrenWidth += childSize.widthOr(0);
                 }
                 // Add spacing between children (n-1 spacings)
@@ -420,7 +421,7 @@ public final class Panel extends ContainerElement<Panel> {
             } else {
                 // Vertical: max width of all children
                 for (Element child : children) {
-                    Size childSize = child.preferredSize(availableWidth, availableHeight, context);
+                    Size childSize = measureChild(child, availableWidth, availableHeight, context);
                     childrenWidth = Math.max(childrenWidth, childSize.widthOr(0));
                 }
             }
@@ -449,7 +450,7 @@ public final class Panel extends ContainerElement<Panel> {
             if (effectiveDirection == Direction.VERTICAL) {
                 int totalSpacing = effectiveSpacing * Math.max(0, children.size() - 1);
                 for (Element child : children) {
-                    Size childSize = child.preferredSize(contentWidth, -1, context);
+                    Size childSize = measureChild(child, contentWidth, -1, context);
                     height += childSize.heightOr(1);
                 }
                 height += totalSpacing;
@@ -460,7 +461,7 @@ public final class Panel extends ContainerElement<Panel> {
                         : -1;
                 int maxChildHeight = 1;
                 for (Element child : children) {
-                    Size childSize = child.preferredSize(childWidth, -1, context);
+                    Size childSize = measureChild(child, childWidth, -1, context);
                     maxChildHeight = Math.max(maxChildHeight, childSize.heightOr(1));
                 }
                 height += maxChildHeight;
@@ -618,7 +619,7 @@ public final class Panel extends ContainerElement<Panel> {
             }
             // Handle null constraint by querying preferred size
             if (c == null) {
-                Size size = child.preferredSize(-1, -1, context);
+                Size size = measureChild(child, -1, -1, context);
                 int preferred = isHorizontal ? size.width() : size.height();
                 c = preferred >= 0 ? Constraint.length(preferred) : Constraint.fill();
             }
@@ -629,7 +630,7 @@ public final class Panel extends ContainerElement<Panel> {
                 ? Layout.horizontal()
                 : Layout.vertical();
 
-        layout = layout.constraints(constraints.toArray(new Constraint[0]));
+        layout = layout.constraints(constraints);
 
         if (effectiveFlex != null) {
             layout = layout.flex(effectiveFlex);
@@ -638,13 +639,13 @@ public final class Panel extends ContainerElement<Panel> {
             layout = layout.spacing(effectiveSpacing);
         }
 
-        List<Rect> areas = layout.split(innerArea);
+        try (SplitResult areas = SplitResult.acquire()) {
+            layout.split(innerArea, areas);
 
-        // Render children
-        for (int i = 0; i < children.size() && i < areas.size(); i++) {
-            Element child = children.get(i);
-            Rect childArea = areas.get(i);
-            context.renderChild(child, frame, childArea);
+            // Render children
+            for (int i = 0; i < children.size() && i < areas.count(); i++) {
+                context.renderChild(children.get(i), frame, areas.area(i));
+            }
         }
     }
 
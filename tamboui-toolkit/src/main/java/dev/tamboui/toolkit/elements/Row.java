@@ -15,6 +15,7 @@ import dev.tamboui.layout.Flex;
 import dev.tamboui.layout.Layout;
 import dev.tamboui.layout.Margin;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
 import dev.tamboui.style.Style;
 import dev.tamboui.terminal.Frame;
 import dev.tamboui.toolkit.element.ContainerElement;
@@ -44,6 +45,8 @@ public final class Row extends ContainerElement<Row> {
     private Integer spacing;
     private Flex flex;
     private Margin margin;
+    // Layout of the last render, rebuilt only when the constraints or the flex change
+    private Layout layout;
 
     /** Creates an empty row. */
     public Row() {
@@ -120,7 +123,7 @@ public final class Row extends ContainerElement<Row> {
         // Calculate width: sum of children widths + spacing
         int width = 0;
         for (Element child : children) {
-            Size childSize = child.preferredSize(availableWidth, availableHeight, context);
+            Size childSize = measureChild(child, availableWidth, availableHeight, context);
             width += childSize.widthOr(0);
         }
         if (children.size() > 1) {
@@ -137,7 +140,7 @@ public final class Row extends ContainerElement<Row> {
 
         int maxHeight = 1;
         for (Element child : children) {
-            Size childSize = child.preferredSize(childWidth, availableHeight, context);
+            Size childSize = measureChild(child, childWidth, availableHeight, context);
             maxHeight = Math.max(maxHeight, childSize.heightOr(1));
         }
 
@@ -207,7 +210,7 @@ public final class Row extends ContainerElement<Row> {
             }
             // Handle null or Fit constraint by querying preferred width
             if (c == null || c instanceof Constraint.Fit) {
-                Size size = child.preferredSize(-1, -1, context);
+                Size size = measureChild(child, -1, -1, context);
                 int preferred = size.width();
                 c = preferred >= 0 ? Constraint.length(preferred) : Constraint.fill();
             }
@@ -219,22 +222,28 @@ public final class Row extends ContainerElement<Row> {
             }
         }
 
-        List<Rect> areas = Layout.horizontal()
-            .constraints(constraints.toArray(new Constraint[0]))
-            .flex(effectiveFlex)
-            .split(effectiveArea);
-
-        // Render children (skipping spacing areas)
-        int childIndex = 0;
-        for (int i = 0; i < areas.size() && childIndex < children.size(); i++) {
-            if (effectiveSpacing > 0 && i % 2 == 1) {
-                // Skip spacing area
-                continue;
+        Layout layout = this.layout;
+        if (layout == null || layout.flex() != effectiveFlex || !layout.constraints().equals(constraints)) {
+            layout = Layout.horizontal()
+                .flex(effectiveFlex)
+                .constraints(constraints);
+            this.layout = layout;
+        }
+
+        try (SplitResult areas = SplitResult.acquire()) {
+            layout.split(effectiveArea, areas);
+
+            // Render children (skipping spacing areas)
+            int childIndex = 0;
+            for (int i = 0; i < areas.count() && childIndex < children.size(); i++) {
+                if (effectiveSpacing > 0 && i % 2 == 1) {
+                    // Skip spacing area
+                    continue;
+                }
+                Element child = children.get(childIndex);
+                context.renderChild(child, frame, areas.area(i));
+                childIndex++;
             }
-            Element child = children.get(childIndex);
-            Rect childArea = areas.get(i);
-            context.renderChild(child, frame, childArea);
-            childIndex++;
         }
     }
 }
@@ -127,7 +127,7 @@ public final class StackElement extends ContainerElement<StackElement> {
         int maxWidth = 0;
         int maxHeight = 0;
         for (Element child : children) {
-            Size childSize = child.preferredSize(availableWidth, availableHeight, context);
+            Size childSize = measureChild(child, availableWidth, availableHeight, context);
             maxWidth = Math.max(maxWidth, childSize.widthOr(0));
             maxHeight = Math.max(maxHeight, childSize.heightOr(0));
         }
@@ -182,7 +182,7 @@ public final class StackElement extends ContainerElement<StackElement> {
             if (effectiveAlignment == ContentAlignment.STRETCH) {
                 childArea = effectiveArea;
             } else {
-                Size childSize = child.preferredSize(effectiveArea.width(), -1, context);
+                Size childSize = measureChild(child, effectiveArea.width(), -1, context);
                 int childWidth = childSize.widthOr(effectiveArea.width());
                 int childHeight = childSize.heightOr(effectiveArea.height());
                 childArea = effectiveAlignment.align(effectiveArea, childWidth, childHeight);
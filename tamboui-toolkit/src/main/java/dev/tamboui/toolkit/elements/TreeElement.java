@@ -685,7 +685,7 @@ public final class TreeElement<T> extends StyledElement<TreeElement<T>> {
         }
 
         int availableWidth = treeArea.width();
-        Size size = element.preferredSize(availableWidth, -1, context);
+        Size size = measureChild(element, availableWidth, -1, context);
         int preferredWidth = size.widthOr(0);
         int preferredHeight = size.heightOr(0);
 
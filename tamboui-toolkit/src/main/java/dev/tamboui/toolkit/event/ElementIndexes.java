@@ -0,0 +1,114 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.event;
+
+import java.util.Arrays;
+import java.util.List;
+
+import dev.tamboui.toolkit.element.Element;
+
+/**
+ * Finds the index of an element in the list of registered elements, by identity.
+ * <p>
+ * An open-addressing table of primitive indexes: slots hold the index of an
+ * element plus one, 0 marking an empty slot, and the element itself is read
+ * from the list. Nothing is boxed, and the table is kept from one frame to the
+ * next, so registering the elements of a frame allocates nothing once it has
+ * grown to the size of the tree.
+ * <p>
+ * Replacing an element of the list, or removing the end of the list, leaves
+ * stale slots behind: they are skipped, as the element read from the list no
+ * longer matches, and dropped when the table is rebuilt.
+ */
+final class ElementIndexes {
+
+    private final List<Element> elements;
+    private int[] slots = new int[16];
+    private int used;
+
+    /**
+     * Creates an index of the given list.
+     *
+     * @param elements the registered elements
+     */
+    ElementIndexes(List<Element> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns the index of an element below a bound.
+     *
+     * @param element the element
+     * @param limit   the exclusive upper bound of the indexes to consider
+     * @return the index of the element in the list, or -1 if it is not below the bound
+     */
+    int indexOf(Element element, int limit) {
+        int mask = slots.length - 1;
+        for (int i = hash(element) & mask; slots[i] != 0; i = (i + 1) & mask) {
+            int index = slots[i] - 1;
+            if (index < limit && index < elements.size() && elements.get(index) == element) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Indexes the element at the given position of the list, after it was
+     * added or replaced.
+     *
+     * @param index the index of the element
+     */
+    void add(int index) {
+        if ((used + 1) * 2 > slots.length) {
+            // Drops the stale slots and indexes every element, including this one
+            rebuild();
+        } else {
+            insert(index);
+        }
+    }
+
+    /**
+     * Removes all indexes, keeping the table.
+     */
+    void clear() {
+        if (used > 0) {
+            Arrays.fill(slots, 0);
+            used = 0;
+        }
+    }
+
+    private void rebuild() {
+        int length = slots.length;
+        while ((elements.size() + 1) * 2 > length) {
+            length *= 2;
+        }
+        if (length == slots.length) {
+            Arrays.fill(slots, 0);
+        } else {
+            slots = new int[length];
+        }
+        used = 0;
+        for (int index = 0; index < elements.size(); index++) {
+            insert(index);
+        }
+    }
+
+    private void insert(int index) {
+        int mask = slots.length - 1;
+        int i = hash(elements.get(index)) & mask;
+        while (slots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        slots[i] = index + 1;
+        used++;
+    }
+
+    private static int hash(Element element) {
+        // Fold the well-mixed high bits of the product into the low bits used by the mask
+        int hash = System.identityHashCode(element) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -6,12 +6,12 @@ package dev.tamboui.toolkit.event;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 
 import dev.tamboui.css.Styleable;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SpatialIndex;
 import dev.tamboui.toolkit.element.Element;
 import dev.tamboui.toolkit.element.ElementRegistry;
 import dev.tamboui.toolkit.element.StyledElement;
@@ -37,13 +37,23 @@ import dev.tamboui.tui.event.MouseEventKind;
  * <p>
  * The router uses an {@link ElementRegistry} to track element areas by ID,
  * which can be used by external systems (like effects) to look up element positions.
+ * <p>
+ * Each frame is reconciled with the previous one: the element registered at a
+ * given position in registration order takes the slot of the element
+ * registered at that position in the previous frame, and the hit-testing
+ * index is only updated for the areas that changed.
  */
 public final class EventRouter {
 
     private final FocusManager focusManager;
     private final ElementRegistry elementRegistry;
+    // Elements in registration order; the slots from index `registered` on are
+    // the previous frame's, until they are registered again or discarded
     private final List<Element> elements = new ArrayList<>();
-    private final IdentityHashMap<Element, Rect> elementAreas = new IdentityHashMap<>();
+    private final ElementIndexes elementIndexes = new ElementIndexes(elements);
+    // Element areas in z-order, indexed like elements, for mouse hit-testing
+    private final SpatialIndex elementAreas = new SpatialIndex();
+    private int registered;
     private final List<GlobalEventHandler> globalHandlers = new ArrayList<>();
 
     // Drag state
@@ -112,10 +122,21 @@ public final class EventRouter {
      */
     public void registerElement(Element element, Rect area) {
         // Prevent duplicate registration (element identity check)
-        if (!elementAreas.containsKey(element)) {
+        int index = elementIndexes.indexOf(element, registered);
+        if (index >= 0) {
+            elementAreas.update(index, area);
+        } else if (registered < elements.size()) {
+            // Take the slot of the previous frame's element at this position
+            if (elements.get(registered) != element) {
+                elements.set(registered, element);
+                elementIndexes.add(registered);
+            }
+            elementAreas.update(registered++, area);
+        } else {
             elements.add(element);
+            elementIndexes.add(elementAreas.add(area));
+            registered++;
         }
-        elementAreas.put(element, area);
 
         // Register in ElementRegistry for CSS-like queries
         String id = element.id();
@@ -132,18 +153,31 @@ public final class EventRouter {
     }
 
     /**
-     * Gets the rendered area for an element.
+     * Starts registering the elements of a new frame, which take the slots of
+     * the previous frame's elements as they register. The slots that are not
+     * registered again are discarded before the next event is routed.
+     * Should be called at the start of each render cycle.
      */
-    private Rect getArea(Element element) {
-        return elementAreas.get(element);
+    public void beginFrame() {
+        registered = 0;
+        elementRegistry.beginFrame();
+    }
+
+    // Forgets the previous frame's elements that were not registered again
+    private void discardPreviousFrame() {
+        if (elements.size() > registered) {
+            elements.subList(registered, elements.size()).clear();
+            elementAreas.truncate(registered);
+        }
     }
 
     /**
      * Clears all registered elements.
-     * Should be called at the start of each render cycle.
      */
     public void clear() {
+        registered = 0;
         elements.clear();
+        elementIndexes.clear();
         elementAreas.clear();
         elementRegistry.clear();
     }
@@ -159,6 +193,7 @@ public final class EventRouter {
      * @return HANDLED if any handler handled the event, UNHANDLED otherwise
      */
     public EventResult route(Event event) {
+        discardPreviousFrame();
         if (event instanceof KeyEvent) {
             return routeKeyEvent((KeyEvent) event);
         }
@@ -285,47 +320,45 @@ public final class EventRouter {
         // Handle new press - check for drag or focus
         if (event.kind() == MouseEventKind.PRESS && event.isLeftButton()) {
             // Find element at position (reverse order for z-ordering)
-            for (int i = elements.size() - 1; i >= 0; i--) {
+            for (int i = elementAreas.findLast(event.x(), event.y()); i >= 0;
+                 i = elementAreas.findLast(event.x(), event.y(), i)) {
                 Element element = elements.get(i);
-                Rect area = getArea(element);
-                if (area != null && area.contains(event.x(), event.y())) {
-                    // Focus the element first (before potential drag)
-                    boolean wasFocused = false;
-                    if (element.isFocusable() && element.id() != null) {
-                        focusManager.setFocus(element.id());
-                        wasFocused = true;
-                    }
+                // Focus the element first (before potential drag)
+                boolean wasFocused = false;
+                if (element.isFocusable() && element.id() != null) {
+                    focusManager.setFocus(element.id());
+                    wasFocused = true;
+                }
 
-                    // Check if draggable
-                    if (element.isDraggable() && element instanceof StyledElement) {
-                        StyledElement<?> styled = (StyledElement<?>) element;
-                        DragHandler handler = styled.dragHandler();
-                        if (handler != null) {
-                            startDrag(element, handler, event.x(), event.y());
-                            return EventResult.HANDLED;
-                        }
+                // Check if draggable
+                if (element.isDraggable() && element instanceof StyledElement) {
+                    StyledElement<?> styled = (StyledElement<?>) element;
+                    DragHandler handler = styled.dragHandler();
+                    if (handler != null) {
+                        startDrag(element, handler, event.x(), event.y());
+                        return EventResult.HANDLED;
                     }
+                }
 
-                    // Route to element's handler
-                    EventResult result = element.handleMouseEvent(event);
+                // Route to element's handler
+                EventResult result = element.handleMouseEvent(event);
+                if (result.isHandled()) {
+                    return result;
+                }
+                MouseEventHandler handler = element.mouseEventHandler();
+                if (handler != null) {
+                    result = handler.handle(event);
                     if (result.isHandled()) {
                         return result;
                     }
-                    MouseEventHandler handler = element.mouseEventHandler();
-                    if (handler != null) {
-                        result = handler.handle(event);
-                        if (result.isHandled()) {
-                            return result;
-                        }
-                    }
+                }
 
-                    // Only stop here if we actually did something (focused or had handlers)
-                    // Otherwise continue to check elements underneath
-                    if (wasFocused) {
-                        return EventResult.HANDLED;
-                    }
-                    // Continue checking other elements - this one didn't handle the click
+                // Only stop here if we actually did something (focused or had handlers)
+                // Otherwise continue to check elements underneath
+                if (wasFocused) {
+                    return EventResult.HANDLED;
                 }
+                // Continue checking other elements - this one didn't handle the click
             }
 
             // Clicked outside all elements - clear focus
@@ -337,21 +370,19 @@ public final class EventRouter {
             event.kind() == MouseEventKind.SCROLL_UP ||
             event.kind() == MouseEventKind.SCROLL_DOWN) {
 
-            for (int i = elements.size() - 1; i >= 0; i--) {
+            for (int i = elementAreas.findLast(event.x(), event.y()); i >= 0;
+                 i = elementAreas.findLast(event.x(), event.y(), i)) {
                 Element element = elements.get(i);
-                Rect area = getArea(element);
-                if (area != null && area.contains(event.x(), event.y())) {
-                    EventResult result = element.handleMouseEvent(event);
+                EventResult result = element.handleMouseEvent(event);
+                if (result.isHandled()) {
+                    return result;
+                }
+                MouseEventHandler handler = element.mouseEventHandler();
+                if (handler != null) {
+                    result = handler.handle(event);
                     if (result.isHandled()) {
                         return result;
                     }
-                    MouseEventHandler handler = element.mouseEventHandler();
-                    if (handler != null) {
-                        result = handler.handle(event);
-                        if (result.isHandled()) {
-                            return result;
-                        }
-                    }
                 }
             }
         }
@@ -399,6 +430,7 @@ public final class EventRouter {
      * @return the number of registered elements
      */
     public int elementCount() {
+        discardPreviousFrame();
         return elements.size();
     }
 
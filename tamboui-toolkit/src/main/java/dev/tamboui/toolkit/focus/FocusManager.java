@@ -5,17 +5,25 @@
 package dev.tamboui.toolkit.focus;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SpatialIndex;
 
 import static dev.tamboui.util.CollectionUtil.listCopyOf;
 
 /**
  * Manages focus state for focusable elements.
  * Handles tab navigation and click-to-focus.
+ * <p>
+ * Focusable elements are indexed by ID and by area, so that focus
+ * traversal and click-to-focus don't depend on the number of focusable
+ * elements. Each frame is reconciled with the previous one: as long as it
+ * registers the same IDs in the same order, the entries of the previous
+ * frame are kept and only their areas are updated. From the first ID that
+ * differs, the remaining entries of the previous frame are discarded.
  */
 public final class FocusManager {
 
@@ -26,8 +34,12 @@ public final class FocusManager {
     }
 
     private String focusedId;
+    // Focusable IDs and areas in tab order; the entries from index `registered`
+    // on are the previous frame's, until they are registered again or discarded
     private final List<String> focusOrder = new ArrayList<>();
-    private final Map<String, Rect> focusableAreas = new LinkedHashMap<>();
+    private final Map<String, Integer> focusIndexes = new HashMap<>();
+    private final SpatialIndex focusableAreas = new SpatialIndex();
+    private int registered;
 
     /**
      * Returns the ID of the currently focused element.
@@ -76,11 +88,23 @@ public final class FocusManager {
      */
     public void registerFocusable(String elementId, Rect area) {
         if (elementId != null) {
-            boolean isFirst = focusOrder.isEmpty();
-            if (!focusOrder.contains(elementId)) {
-                focusOrder.add(elementId);
+            boolean isFirst = registered == 0;
+            Integer index = focusIndexes.get(elementId);
+            if (index != null && index < registered) {
+                focusableAreas.update(index, area);
+            } else {
+                if (index != null && index == registered) {
+                    // Same entry as in the previous frame
+                    focusableAreas.update(registered, area);
+                } else {
+                    // The order diverges from the previous frame's
+                    discardPreviousFrame();
+                    focusOrder.add(elementId);
+                    focusIndexes.put(elementId, registered);
+                    focusableAreas.add(area);
+                }
+                registered++;
             }
-            focusableAreas.put(elementId, area);
 
             // Auto-focus first focusable element if nothing is focused
             if (isFirst && focusedId == null) {
@@ -90,12 +114,39 @@ public final class FocusManager {
     }
 
     /**
-     * Clears all registered focusable elements.
+     * Starts registering the focusable elements of a new frame, which are
+     * reconciled with those of the previous frame as they register.
      * Should be called at the start of each render cycle.
      */
     public void clearFocusables() {
-        focusOrder.clear();
-        focusableAreas.clear();
+        registered = 0;
+    }
+
+    /**
+     * Focuses the first focusable element if nothing is focused or if the
+     * focused element is no longer registered.
+     * Should be called at the end of each render cycle.
+     */
+    public void ensureFocus() {
+        discardPreviousFrame();
+        if (registered > 0 && focusedIndex() < 0) {
+            focusedId = focusOrder.get(0);
+        }
+    }
+
+    // Forgets the previous frame's focusables that were not registered again
+    private void discardPreviousFrame() {
+        for (int i = focusOrder.size() - 1; i >= registered; i--) {
+            focusIndexes.remove(focusOrder.remove(i));
+        }
+        if (focusableAreas.size() > registered) {
+            focusableAreas.truncate(registered);
+        }
+    }
+
+    private int focusedIndex() {
+        Integer index = focusedId != null ? focusIndexes.get(focusedId) : null;
+        return index != null && index < registered ? index : -1;
     }
 
     /**
@@ -104,6 +155,7 @@ public final class FocusManager {
      * @return true if focus changed
      */
     public boolean focusNext() {
+        discardPreviousFrame();
         if (focusOrder.isEmpty()) {
             return false;
         }
@@ -113,7 +165,7 @@ public final class FocusManager {
             return true;
         }
 
-        int index = focusOrder.indexOf(focusedId);
+        int index = focusedIndex();
         if (index < 0) {
             focusedId = focusOrder.get(0);
             return true;
@@ -134,6 +186,7 @@ public final class FocusManager {
      * @return true if focus changed
      */
     public boolean focusPrevious() {
+        discardPreviousFrame();
         if (focusOrder.isEmpty()) {
             return false;
         }
@@ -143,7 +196,7 @@ public final class FocusManager {
             return true;
         }
 
-        int index = focusOrder.indexOf(focusedId);
+        int index = focusedIndex();
         if (index < 0) {
             focusedId = focusOrder.get(focusOrder.size() - 1);
             return true;
@@ -166,11 +219,11 @@ public final class FocusManager {
      * @return true if an element was focused
      */
     public boolean focusAt(int x, int y) {
-        for (Map.Entry<String, Rect> entry : focusableAreas.entrySet()) {
-            if (entry.getValue().contains(x, y)) {
-                focusedId = entry.getKey();
-                return true;
-            }
+        discardPreviousFrame();
+        int index = focusableAreas.findFirst(x, y);
+        if (index >= 0) {
+            focusedId = focusOrder.get(index);
+            return true;
         }
         return false;
     }
@@ -181,7 +234,8 @@ public final class FocusManager {
      * @return the focused element's area, or null
      */
     public Rect focusedArea() {
-        return focusedId != null ? focusableAreas.get(focusedId) : null;
+        int index = focusedIndex();
+        return index >= 0 ? focusableAreas.area(index) : null;
     }
 
     /**
@@ -190,6 +244,7 @@ public final class FocusManager {
      * @return the focus order
      */
     public List<String> focusOrder() {
+        discardPreviousFrame();
         return listCopyOf(focusOrder);
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.app;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.terminal.Frame;
+import dev.tamboui.terminal.TestBackend;
+import dev.tamboui.toolkit.element.DefaultRenderContext;
+import dev.tamboui.toolkit.element.Element;
+
+import static dev.tamboui.toolkit.Toolkit.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for Broadcast.
+ */
+class BroadcastTest {
+
+    private final DefaultRenderContext context = DefaultRenderContext.createEmpty();
+
+    private Buffer renderController(Broadcast broadcast, Element root, int width, int height) {
+        Buffer buffer = Buffer.empty(Rect.of(width, height));
+        broadcast.renderMirrors(root, buffer.area(), context);
+        root.render(Frame.forTesting(buffer), buffer.area(), context);
+        broadcast.publish(buffer);
+        return buffer;
+    }
+
+    @Test
+    @DisplayName("Viewers of the controller's size receive the same encoded frame")
+    void sameSizeViewersShareOutput() throws Exception {
+        Broadcast broadcast = Broadcast.create();
+        TestBackend first = new TestBackend(20, 3);
+        TestBackend second = new TestBackend(20, 3);
+        broadcast.subscribe(first);
+        broadcast.subscribe(second);
+
+        renderController(broadcast, text("Hello"), 20, 3);
+
+        assertThat(first.rawOutput()).contains("H").contains("\u001b[2J");
+        assertThat(second.rawOutput()).isEqualTo(first.rawOutput());
+    }
+
+    @Test
+    @DisplayName("Unchanged frames send nothing, changed cells are sent incrementally")
+    void sendsOnlyDifferences() throws Exception {
+        Broadcast broadcast = Broadcast.create();
+        TestBackend viewer = new TestBackend(20, 3);
+        broadcast.subscribe(viewer);
+
+        renderController(broadcast, text("Hello"), 20, 3);
+        viewer.reset();
+        renderController(broadcast, text("Hello"), 20, 3);
+        assertThat(viewer.rawOutput()).isEmpty();
+
+        renderController(broadcast, text("Hallo"), 20, 3);
+        assertThat(viewer.rawOutput())
+                .doesNotContain("\u001b[2J")
+                .contains("\u001b[1;2H")
+                .contains("a")
+                .doesNotContain("\u001b[1;1H");
+    }
+
+    @Test
+    @DisplayName("A controller buffer reused across frames is diffed against its previous cells")
+    void reusedControllerBuffer() throws Exception {
+        Broadcast broadcast = Broadcast.create();
+        TestBackend viewer = new TestBackend(20, 3);
+        broadcast.subscribe(viewer);
+        Buffer buffer = Buffer.empty(Rect.of(20, 3));
+
+        for (String content : new String[] {"Hello", "Hello", "Hallo"}) {
+            viewer.reset();
+            buffer.clear();
+            broadcast.renderMirrors(text(content), buffer.area(), context);
+            text(content).render(Frame.forTesting(buffer), buffer.area(), context);
+            broadcast.publish(buffer);
+            if (content.equals("Hello") && !viewer.rawOutput().contains("\u001b[2J")) {
+                assertThat(viewer.rawOutput()).isEmpty();
+            }
+        }
+        assertThat(viewer.rawOutput())
+                .doesNotContain("\u001b[2J")
+                .contains("\u001b[1;2H")
+                .contains("a");
+    }
+
+    @Test
+    @DisplayName("Late joiners receive a full repaint")
+    void lateJoinerGetsFullRepaint() throws Exception {
+        Broadcast broadcast = Broadcast.create();
+        TestBackend early = new TestBackend(20, 3);
+        broadcast.subscribe(early);
+        renderController(broadcast, text("Hello"), 20, 3);
+
+        TestBackend late = new TestBackend(20, 3);
+        broadcast.subscribe(late);
+        early.reset();
+        renderController(broadcast, text("Hello"), 20, 3);
+
+        assertThat(early.rawOutput()).isEmpty();
+        assertThat(late.rawOutput()).contains("\u001b[2J").contains("H");
+    }
+
+    @Test
+    @DisplayName("Viewers with a different size get the tree rendered at their size")
+    void differentSizeIsRenderedSeparately() throws Exception {
+        Broadcast broadcast = Broadcast.create();
+        TestBackend small = new TestBackend(4, 1);
+        broadcast.subscribe(small);
+
+        renderController(broadcast, text("Hello"), 20, 3);
+
+        // Rendered at width 4, the fifth character cannot appear
+        assertThat(small.rawOutput()).contains("H").doesNotContain("o");
+    }
+
+    @Test
+    @DisplayName("Closing a viewer unsubscribes it and restores its screen")
+    void closeUnsubscribes() throws Exception {
+        Broadcast broadcast = Broadcast.create();
+        TestBackend backend = new TestBackend(20, 3);
+        Broadcast.Viewer viewer = broadcast.subscribe(backend);
+        assertThat(broadcast.viewerCount()).isEqualTo(1);
+
+        viewer.close();
+        backend.reset();
+        renderController(broadcast, text("Hello"), 20, 3);
+
+        assertThat(broadcast.viewerCount()).isZero();
+        assertThat(viewer.isSubscribed()).isFalse();
+        assertThat(backend.rawOutput()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Closing a viewer while a frame is written to it waits for the frame")
+    void closeWaitsForFrameBeingWritten() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> writes = new CopyOnWriteArrayList<>();
+        TestBackend backend = new TestBackend(20, 3) {
+            @Override
+            public void writeRaw(String data) throws IOException {
+                writing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                writes.add("frame");
+            }
+
+            @Override
+            public void showCursor() throws IOException {
+                writes.add("showCursor");
+            }
+        };
+        Broadcast broadcast = Broadcast.create();
+        Broadcast.Viewer viewer = broadcast.subscribe(backend);
+
+        Thread render = new Thread(() -> renderController(broadcast, text("Hello"), 20, 3));
+        render.start();
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread closer = new Thread(viewer::close);
+        closer.start();
+        closer.join(100);
+        assertThat(closer.isAlive()).isTrue();
+
+        release.countDown();
+        closer.join(5000);
+        render.join(5000);
+        assertThat(writes).containsExactly("frame", "showCursor");
+        assertThat(viewer.isSubscribed()).isFalse();
+    }
+}
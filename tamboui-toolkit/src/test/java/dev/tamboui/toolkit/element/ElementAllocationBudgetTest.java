@@ -0,0 +1,54 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.element;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.terminal.AllocationBudget;
+
+import static dev.tamboui.toolkit.Toolkit.column;
+import static dev.tamboui.toolkit.Toolkit.list;
+import static dev.tamboui.toolkit.Toolkit.panel;
+import static dev.tamboui.toolkit.Toolkit.text;
+
+/**
+ * Allocation budgets of the steady-state render loop of toolkit element trees.
+ * <p>
+ * Budgets are set at about one and a half times the allocations measured on
+ * an 80x24 terminal. Lower them when allocations are removed.
+ */
+class ElementAllocationBudgetTest {
+
+    private static AllocationBudget forElement(Element root) {
+        DefaultRenderContext context = DefaultRenderContext.createEmpty();
+        return AllocationBudget.forRenderer(frame -> {
+            // Same per-frame reset as ToolkitRunner
+            context.focusManager().clearFocusables();
+            context.eventRouter().beginFrame();
+            context.beginFrame();
+            try {
+                root.render(frame, frame.area(), context);
+                context.registerElement(root, frame.area());
+            } finally {
+                context.endFrame();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("a panel of text stays within its allocation budget")
+    void panelOfText() {
+        Element root = panel("Status", column(text("Connected"), text("3 jobs running").bold()));
+        forElement(root).assertAtMost(128_000);
+    }
+
+    @Test
+    @DisplayName("a list stays within its allocation budget")
+    void listElement() {
+        Element root = list("alpha", "beta", "gamma", "delta", "epsilon").id("items");
+        forElement(root).assertAtMost(128_000);
+    }
+}
@@ -437,6 +437,139 @@ class ElementRegistryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Frames")
+    class Frames {
+
+        @Test
+        @DisplayName("elements registered again are found with their new area")
+        void elementsRegisteredAgainHaveNewArea() {
+            registry.register("header", "Panel", setOf("main"), area1);
+
+            registry.beginFrame();
+            registry.register("header", "Panel", setOf("main"), area2);
+
+            assertThat(registry.getArea("header")).isEqualTo(area2);
+            assertThat(registry.queryAll(".main")).extracting(ElementRegistry.ElementInfo::area)
+                .containsExactly(area2);
+            assertThat(registry.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("elements not registered again are gone")
+        void elementsNotRegisteredAgainAreGone() {
+            registry.register("header", "Panel", setOf("main"), area1);
+            registry.register("footer", "Panel", setOf(), area3);
+
+            registry.beginFrame();
+            registry.register("header", "Panel", setOf("main"), area1);
+
+            assertThat(registry.contains("footer")).isFalse();
+            assertThat(registry.queryAll("Panel")).extracting(ElementRegistry.ElementInfo::id)
+                .containsExactly("header");
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconciliation")
+    class Reconciliation {
+
+        @Test
+        @DisplayName("unchanged elements keep their element info with their new area")
+        void unchangedElementsKeepTheirInfo() {
+            ElementRegistry.ElementInfo panel = registerAndGet("panel", "Panel", setOf("main"), area1, null);
+            ElementRegistry.ElementInfo button = registerAndGet("ok", "Button", setOf(), area2, panel);
+
+            registry.beginFrame();
+            registry.register("panel", "Panel", setOf("main"), null, area1, null);
+            registry.register("ok", "Button", setOf(), null, area3, panel);
+
+            assertThat(registry.query("#panel")).containsSame(panel);
+            assertThat(registry.query("Panel > Button")).containsSame(button);
+            assertThat(button.area()).isEqualTo(area3);
+            assertThat(registry.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("the elements after the first change are registered anew")
+        void elementsAfterChangeAreReplaced() {
+            ElementRegistry.ElementInfo first = registerAndGet("item", "Text", setOf(), area1, null);
+            registry.register("item", "Text", setOf(), area2);
+            ElementRegistry.ElementInfo last = registerAndGet("last", "Text", setOf(), area3, null);
+
+            registry.beginFrame();
+            registry.register("item", "Text", setOf(), area1);
+            registry.register("other", "Text", setOf(), area2);
+            registry.register("last", "Text", setOf(), area3);
+
+            assertThat(registry.query("#item")).containsSame(first);
+            assertThat(registry.getArea("item")).isEqualTo(area1);
+            assertThat(registry.query("#last").get()).isNotSameAs(last);
+            assertThat(registry.queryAll("Text")).extracting(ElementRegistry.ElementInfo::id)
+                .containsExactly("item", "other", "last");
+        }
+    }
+
+    @Nested
+    @DisplayName("Indexed queries")
+    class IndexedQueries {
+
+        @Test
+        @DisplayName("results follow registration order across indexes")
+        void resultsFollowRegistrationOrder() {
+            ElementRegistry.ElementInfo form = registerAndGet("form", "Panel", setOf("form"), area1, null);
+            for (int i = 0; i < 50; i++) {
+                registry.register("field" + i, i % 2 == 0 ? "Input" : "Text",
+                    setOf(i % 5 == 0 ? "wide" : "narrow"), null, area2, form);
+            }
+
+            assertThat(registry.queryAll("Panel Input.wide")).extracting(ElementRegistry.ElementInfo::id)
+                .containsExactly("field0", "field10", "field20", "field30", "field40");
+            assertThat(registry.queryAll(".form > Text#field5")).extracting(ElementRegistry.ElementInfo::id)
+                .containsExactly("field5");
+            assertThat(registry.queryAll("Input.missing")).isEmpty();
+            assertThat(registry.queryAll("*")).hasSize(51);
+        }
+
+        @Test
+        @DisplayName("elements sharing an ID are all matched")
+        void duplicateIdsAreAllMatched() {
+            registry.register("item", "Text", setOf(), area1);
+            registry.register("item", "Text", setOf(), area2);
+
+            assertThat(registry.queryAll("#item")).extracting(ElementRegistry.ElementInfo::area)
+                .containsExactly(area1, area2);
+            assertThat(registry.query("Text#item").get().area()).isEqualTo(area1);
+        }
+
+        @Test
+        @DisplayName("indexes only hold the elements of the current frame")
+        void indexesFollowFrames() {
+            registry.register("header", "Panel", setOf("main"), area1);
+            registry.register("footer", "Panel", setOf("main"), area3);
+
+            registry.beginFrame();
+            registry.register("footer", "Text", setOf("side"), area3);
+
+            assertThat(registry.queryAll(".main")).isEmpty();
+            assertThat(registry.queryAll("Panel")).isEmpty();
+            assertThat(registry.queryAll("Text.side")).extracting(ElementRegistry.ElementInfo::id)
+                .containsExactly("footer");
+        }
+
+        @Test
+        @DisplayName("the ancestor chain is built once per element")
+        void ancestorsAreBuiltOnce() {
+            ElementRegistry.ElementInfo root = registerAndGet("root", "Panel", setOf(), area1, null);
+            ElementRegistry.ElementInfo child = registerAndGet("child", "Row", setOf(), area2, root);
+            ElementRegistry.ElementInfo leaf = registerAndGet("leaf", "Text", setOf(), area3, child);
+
+            assertThat(leaf.ancestors()).containsExactly(root, child);
+            assertThat(leaf.ancestors()).isSameAs(leaf.ancestors());
+            assertThat(root.ancestors()).isEmpty();
+        }
+    }
+
     // Helper methods
 
     private static Set<String> setOf(String... values) {
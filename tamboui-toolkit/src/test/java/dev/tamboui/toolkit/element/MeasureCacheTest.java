@@ -0,0 +1,153 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.element;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.css.Styleable;
+import dev.tamboui.css.engine.StyleEngine;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.style.Style;
+import dev.tamboui.terminal.Frame;
+import dev.tamboui.toolkit.elements.Column;
+import dev.tamboui.toolkit.elements.ColumnsElement;
+import dev.tamboui.toolkit.elements.Panel;
+import dev.tamboui.toolkit.elements.Row;
+import dev.tamboui.toolkit.elements.TextElement;
+
+import static dev.tamboui.toolkit.Toolkit.panel;
+import static dev.tamboui.toolkit.Toolkit.text;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the per-frame measure cache of {@link DefaultRenderContext}.
+ */
+class MeasureCacheTest {
+
+    private DefaultRenderContext context;
+    private Frame frame;
+    private Rect area;
+
+    @BeforeEach
+    void setUp() {
+        context = DefaultRenderContext.createEmpty();
+        area = new Rect(0, 0, 40, 10);
+        frame = Frame.forTesting(Buffer.empty(area));
+    }
+
+    @Test
+    @DisplayName("each element is measured once per available space and parent during a frame")
+    void measuresOncePerAvailableSpace() {
+        CountingElement leaf = new CountingElement();
+        Element root = new Column(new Row(leaf, new CountingElement()), new CountingElement());
+
+        context.beginFrame();
+        try {
+            context.measure(root, 40, -1);
+            root.render(frame, area, context);
+        } finally {
+            context.endFrame();
+        }
+
+        assertThat(leaf.measurements).isNotEmpty().doesNotHaveDuplicates();
+        assertThat(leaf.measurements).anyMatch(measurement -> measurement.endsWith(" in Row"));
+    }
+
+    @Test
+    @DisplayName("columns measure their children through the frame's cache")
+    void columnsMeasureThroughContext() {
+        CountingElement child = new CountingElement();
+        Element root = new ColumnsElement(child, new CountingElement(), new CountingElement());
+
+        context.beginFrame();
+        try {
+            context.measure(root, 40, -1);
+            root.render(frame, area, context);
+        } finally {
+            context.endFrame();
+        }
+
+        assertThat(child.measuredSpaces).contains("-1x-1");
+        assertThat(child.measurements).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("nested containers measure their descendants again without a frame")
+    void measuresEveryTimeOutsideFrames() {
+        CountingElement leaf = new CountingElement();
+        Element root = new Column(new Row(leaf, new CountingElement()), new CountingElement());
+
+        context.measure(root, 40, -1);
+        root.render(frame, area, context);
+
+        assertThat(leaf.measuredSpaces)
+            .hasSizeGreaterThan((int) leaf.measuredSpaces.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("measurements are discarded when the frame ends")
+    void discardsMeasurementsAtFrameEnd() {
+        CountingElement element = new CountingElement();
+
+        context.beginFrame();
+        Size first = context.measure(element, 10, 5);
+        Size second = context.measure(element, 10, 5);
+        context.measure(element, 12, 5);
+        context.endFrame();
+        context.beginFrame();
+        context.measure(element, 10, 5);
+        context.endFrame();
+
+        assertThat(second).isSameAs(first);
+        assertThat(element.measuredSpaces).containsExactly("10x5", "12x5", "10x5");
+    }
+
+    @Test
+    @DisplayName("an element measured under another parent is measured again with that parent's styles")
+    void measuresAgainUnderOtherParent() {
+        StyleEngine styleEngine = StyleEngine.create();
+        styleEngine.addStylesheet("test", "Panel > TextElement { padding: 1; text-overflow: wrap-character; }");
+        styleEngine.setActiveStylesheet("test");
+        context.setStyleEngine(styleEngine);
+        TextElement text = text("abcdefgh");
+        Panel panel = panel(text);
+        Size[] sizes = new Size[2];
+
+        context.beginFrame();
+        try {
+            sizes[0] = context.measure(text, 4, -1);
+            context.withElement(panel, Style.EMPTY, () -> sizes[1] = context.measure(text, 4, -1));
+        } finally {
+            context.endFrame();
+        }
+
+        assertThat(sizes[0].height()).isEqualTo(1);
+        assertThat(sizes[1].height()).isEqualTo(2);
+    }
+
+    private static final class CountingElement implements Element {
+        private final List<String> measuredSpaces = new ArrayList<>();
+        // Spaces along with the type of the element measuring this one
+        private final List<String> measurements = new ArrayList<>();
+
+        @Override
+        public void render(Frame frame, Rect area, RenderContext context) {
+        }
+
+        @Override
+        public Size preferredSize(int availableWidth, int availableHeight, RenderContext context) {
+            measuredSpaces.add(availableWidth + "x" + availableHeight);
+            measurements.add(availableWidth + "x" + availableHeight + " in "
+                + ((DefaultRenderContext) context).currentElement().map(Styleable::styleType).orElse("frame"));
+            return Size.of(3, 1);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.element;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.terminal.Frame;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenderProfilerTest {
+
+    private final Rect area = new Rect(0, 0, 20, 5);
+    private final Frame frame = Frame.forTesting(Buffer.empty(area));
+    private DefaultRenderContext context;
+    private RenderProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        context = DefaultRenderContext.createEmpty();
+        profiler = new RenderProfiler();
+        context.setRenderProfiler(profiler);
+    }
+
+    private void renderFrame(Element root) {
+        profiler.beginFrame();
+        context.renderChild(root, frame, area);
+        profiler.endFrame();
+    }
+
+    @Test
+    @DisplayName("elements are keyed by type and id, and siblings of a type are aggregated")
+    void hotElements() {
+        profiler.setActive(true);
+        Element root = new Node("list", new Node(null), new Node(null), new Node(null));
+
+        renderFrame(root);
+
+        List<RenderProfiler.HotElement> hot = profiler.hotElements(10);
+        assertThat(hot).extracting(RenderProfiler.HotElement::key)
+                .containsExactlyInAnyOrder("Node#list", "Node");
+        RenderProfiler.HotElement items = hot.stream().filter(e -> e.key().equals("Node")).findFirst().get();
+        assertThat(items.count()).isEqualTo(3);
+        RenderProfiler.HotElement list = hot.stream().filter(e -> e.key().equals("Node#list")).findFirst().get();
+        assertThat(list.totalNanos()).isGreaterThanOrEqualTo(items.totalNanos());
+    }
+
+    @Test
+    @DisplayName("collapsed stacks follow the call path of each element")
+    void collapsedStacks() {
+        profiler.setActive(true);
+        Element root = new Node("app", new Node("sidebar", new Node(null)), new Node(null));
+
+        renderFrame(root);
+        renderFrame(root);
+
+        List<String> paths = Arrays.stream(profiler.collapsedStacks().split("\n"))
+                .map(line -> line.substring(0, line.lastIndexOf(' ')))
+                .collect(Collectors.toList());
+        assertThat(paths).contains(
+                "frame;Node#app;Node#sidebar;Node",
+                "frame;Node#app;Node");
+        assertThat(profiler.collapsedStacks().split("\n"))
+                .allMatch(line -> line.matches("[^ ]+ \\d+"));
+    }
+
+    @Test
+    @DisplayName("nothing is recorded while inactive")
+    void inactive() {
+        renderFrame(new Node("app", new Node(null)));
+
+        assertThat(profiler.hotElements(10)).isEmpty();
+        assertThat(profiler.collapsedStacks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("the hot list only covers the last frame")
+    void lastFrameOnly() {
+        profiler.setActive(true);
+        renderFrame(new Node("first"));
+        renderFrame(new Node("second"));
+
+        assertThat(profiler.hotElements(10)).extracting(RenderProfiler.HotElement::key)
+                .containsExactly("Node#second");
+    }
+
+    private static final class Node implements Element {
+        private final String id;
+        private final Element[] children;
+
+        Node(String id, Element... children) {
+            this.id = id;
+            this.children = children;
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public void render(Frame frame, Rect area, RenderContext context) {
+            for (Element child : children) {
+                context.renderChild(child, frame, area);
+            }
+        }
+
+        @Override
+        public Size preferredSize(int availableWidth, int availableHeight, RenderContext context) {
+            return Size.UNKNOWN;
+        }
+    }
+}
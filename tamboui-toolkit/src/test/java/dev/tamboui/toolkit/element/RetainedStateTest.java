@@ -0,0 +1,63 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.element;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the state {@link DefaultRenderContext} retains across frames.
+ */
+class RetainedStateTest {
+
+    @Test
+    @DisplayName("state is kept while its key is requested during every frame")
+    void keepsRequestedState() {
+        DefaultRenderContext context = DefaultRenderContext.createEmpty();
+
+        context.beginFrame();
+        AtomicInteger first = context.retainedState("counter", AtomicInteger.class, AtomicInteger::new);
+        first.incrementAndGet();
+        context.endFrame();
+        context.beginFrame();
+        AtomicInteger second = context.retainedState("counter", AtomicInteger.class, AtomicInteger::new);
+        context.endFrame();
+
+        assertThat(second).isSameAs(first).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("state is discarded after a frame that did not request it")
+    void discardsUnrequestedState() {
+        DefaultRenderContext context = DefaultRenderContext.createEmpty();
+
+        context.beginFrame();
+        AtomicInteger first = context.retainedState("counter", AtomicInteger.class, AtomicInteger::new);
+        context.endFrame();
+        context.beginFrame();
+        context.endFrame();
+        context.beginFrame();
+        AtomicInteger second = context.retainedState("counter", AtomicInteger.class, AtomicInteger::new);
+        context.endFrame();
+
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("state of another type replaces the state of a key")
+    void replacesStateOfAnotherType() {
+        DefaultRenderContext context = DefaultRenderContext.createEmpty();
+
+        context.retainedState("key", StringBuilder.class, StringBuilder::new).append("old");
+        AtomicInteger state = context.retainedState("key", AtomicInteger.class, AtomicInteger::new);
+
+        assertThat(state).hasValue(0);
+        assertThat(context.retainedState("key", AtomicInteger.class, AtomicInteger::new)).isSameAs(state);
+    }
+}
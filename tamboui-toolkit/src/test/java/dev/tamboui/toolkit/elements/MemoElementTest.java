@@ -0,0 +1,231 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.elements;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.layout.Position;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.style.Style;
+import dev.tamboui.style.StyledAreaInfo;
+import dev.tamboui.style.StyledAreaRegistry;
+import dev.tamboui.style.Tags;
+import dev.tamboui.terminal.Frame;
+import dev.tamboui.text.Span;
+import dev.tamboui.toolkit.element.DefaultRenderContext;
+import dev.tamboui.toolkit.element.Element;
+import dev.tamboui.toolkit.element.ElementRegistry;
+import dev.tamboui.toolkit.element.RenderContext;
+import dev.tamboui.toolkit.element.Size;
+
+import static dev.tamboui.assertj.BufferAssertions.assertThat;
+import static dev.tamboui.toolkit.Toolkit.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for MemoElement.
+ */
+class MemoElementTest {
+
+    private DefaultRenderContext context;
+    private Buffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        context = DefaultRenderContext.createEmpty();
+        buffer = Buffer.empty(new Rect(0, 0, 20, 3));
+    }
+
+    @Test
+    @DisplayName("content is built and rendered once while dependencies are unchanged")
+    void reusesCellsWhileDependenciesAreUnchanged() {
+        AtomicInteger builds = new AtomicInteger();
+        AtomicInteger renders = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            renderFrame(memo("label", () -> {
+                builds.incrementAndGet();
+                return new CountingText("Hello", renders);
+            }, "Hello"), buffer.area());
+            assertThat(buffer).hasSymbolAt(0, 0, "H").hasSymbolAt(4, 0, "o");
+        }
+
+        assertThat(builds).hasValue(1);
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("changed dependencies rebuild the content")
+    void rebuildsOnChangedDependencies() {
+        renderFrame(memo("label", () -> text("first"), 1), buffer.area());
+        renderFrame(memo("label", () -> text("second"), 2), buffer.area());
+
+        assertThat(buffer).hasSymbolAt(0, 0, "s");
+    }
+
+    @Test
+    @DisplayName("a changed area renders the content again")
+    void rendersAgainInChangedArea() {
+        AtomicInteger renders = new AtomicInteger();
+        CountingText content = new CountingText("Hi", renders);
+
+        renderFrame(memo("label", () -> content), new Rect(0, 0, 10, 1));
+        renderFrame(memo("label", () -> content), new Rect(5, 1, 10, 1));
+
+        assertThat(renders).hasValue(2);
+        assertThat(buffer).hasSymbolAt(5, 1, "H");
+        assertThat(buffer.get(0, 0).symbol()).isEqualTo(" ");
+    }
+
+    @Test
+    @DisplayName("elements of reused content are registered again and keep their entries")
+    void replaysRegistrations() {
+        renderFrame(memo("form", () -> text("OK").id("ok").focusable()), buffer.area());
+        ElementRegistry.ElementInfo info = context.elementRegistry().query("#ok").orElse(null);
+        renderFrame(memo("form", () -> text("OK").id("ok").focusable()), buffer.area());
+
+        assertThat(context.focusManager().focusOrder()).containsExactly("ok");
+        assertThat(context.elementRegistry().query("#ok")).isPresent().containsSame(info);
+        assertThat(context.eventRouter().elementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("moving focus renders focusable content again")
+    void rendersAgainWhenFocusMoves() {
+        AtomicInteger renders = new AtomicInteger();
+        CountingText content = new CountingText("OK", renders, "ok");
+
+        renderFrame(memo("form", () -> content), buffer.area());
+        renderFrame(memo("form", () -> content), buffer.area());
+        context.focusManager().clearFocus();
+        renderFrame(memo("form", () -> content), buffer.area());
+
+        assertThat(renders).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("the cursor set by the content is set again when its cells are reused")
+    void replaysCursor() {
+        AtomicInteger renders = new AtomicInteger();
+        TaggedInput content = new TaggedInput("abc", renders);
+
+        renderFrame(memo("input", () -> content), buffer.area(), null);
+        Frame frame = renderFrame(memo("input", () -> content), buffer.area(), null);
+
+        assertThat(renders).hasValue(1);
+        assertThat(frame.cursorPosition()).contains(new Position(3, 0));
+    }
+
+    @Test
+    @DisplayName("the styled areas of the content are registered again when its cells are reused")
+    void replaysStyledAreas() {
+        AtomicInteger renders = new AtomicInteger();
+        TaggedInput content = new TaggedInput("abc", renders);
+        StyledAreaRegistry styledAreas = StyledAreaRegistry.create();
+
+        renderFrame(memo("input", () -> content), buffer.area(), styledAreas);
+        styledAreas.clear();
+        renderFrame(memo("input", () -> content), buffer.area(), styledAreas);
+
+        assertThat(renders).hasValue(1);
+        assertThat(styledAreas.all()).extracting(StyledAreaInfo::area)
+            .containsExactly(new Rect(0, 0, 3, 1));
+        assertThat(styledAreas.all().get(0).tags().contains("input")).isTrue();
+    }
+
+    @Test
+    @DisplayName("measures and constrains like its content")
+    void measuresLikeContent() {
+        Element memo = memo("label", () -> text("Hello").length(3));
+
+        assertThat(memo.preferredSize(-1, -1, null)).isEqualTo(Size.of(5, 1));
+        assertThat(memo.constraint()).isEqualTo(text("x").length(3).constraint());
+    }
+
+    private void renderFrame(Element root, Rect area) {
+        renderFrame(root, area, null);
+    }
+
+    private Frame renderFrame(Element root, Rect area, StyledAreaRegistry styledAreas) {
+        context.focusManager().clearFocusables();
+        context.eventRouter().beginFrame();
+        buffer.clear();
+        Frame frame = Frame.forTesting(buffer);
+        frame.setStyledAreaRegistry(styledAreas);
+        context.beginFrame();
+        try {
+            root.render(frame, area, context);
+            context.registerElement(root, area);
+        } finally {
+            context.endFrame();
+        }
+        return frame;
+    }
+
+    private static final class CountingText implements Element {
+        private final String content;
+        private final AtomicInteger renders;
+        private final String id;
+
+        CountingText(String content, AtomicInteger renders) {
+            this(content, renders, null);
+        }
+
+        CountingText(String content, AtomicInteger renders, String id) {
+            this.content = content;
+            this.renders = renders;
+            this.id = id;
+        }
+
+        @Override
+        public void render(Frame frame, Rect area, RenderContext context) {
+            renders.incrementAndGet();
+            frame.buffer().setString(area.x(), area.y(), content, Style.EMPTY);
+        }
+
+        @Override
+        public Size preferredSize(int availableWidth, int availableHeight, RenderContext context) {
+            return Size.of(content.length(), 1);
+        }
+
+        @Override
+        public boolean isFocusable() {
+            return id != null;
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+    }
+
+    private static final class TaggedInput implements Element {
+        private final String content;
+        private final AtomicInteger renders;
+
+        TaggedInput(String content, AtomicInteger renders) {
+            this.content = content;
+            this.renders = renders;
+        }
+
+        @Override
+        public void render(Frame frame, Rect area, RenderContext context) {
+            renders.incrementAndGet();
+            Style style = Style.EMPTY.withExtension(Tags.class, Tags.of("input"));
+            frame.buffer().setSpan(area.x(), area.y(), Span.styled(content, style));
+            frame.setCursorPosition(area.x() + content.length(), area.y());
+        }
+
+        @Override
+        public Size preferredSize(int availableWidth, int availableHeight, RenderContext context) {
+            return Size.of(content.length() + 1, 1);
+        }
+    }
+}
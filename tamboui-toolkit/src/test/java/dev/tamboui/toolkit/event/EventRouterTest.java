@@ -4,7 +4,9 @@
  */
 package dev.tamboui.toolkit.event;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,14 +19,17 @@ import dev.tamboui.toolkit.elements.FormFieldElement;
 import dev.tamboui.toolkit.focus.FocusManager;
 import dev.tamboui.tui.event.KeyCode;
 import dev.tamboui.tui.event.KeyEvent;
+import dev.tamboui.tui.event.MouseButton;
+import dev.tamboui.tui.event.MouseEvent;
 import dev.tamboui.widgets.form.SelectFieldState;
 import dev.tamboui.widgets.input.TextInputState;
 
 import static dev.tamboui.toolkit.Toolkit.formField;
+import static dev.tamboui.toolkit.Toolkit.text;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
- * Tests for EventRouter focus navigation.
+ * Tests for EventRouter focus navigation and mouse routing.
  */
 class EventRouterTest {
 
@@ -222,4 +227,94 @@ class EventRouterTest {
         // Focus stays on field1
         assertThat(focusManager.focusedId()).isEqualTo("field1");
     }
+
+    @Test
+    @DisplayName("mouse events go to the topmost element at the position")
+    void mouseEventsGoToTopmostElement() {
+        List<String> received = new ArrayList<>();
+        registerElement(text("back").onMouseEvent(e -> record(received, "back")), new Rect(0, 0, 80, 24));
+        registerElement(text("left").onMouseEvent(e -> record(received, "left")), new Rect(0, 0, 40, 24));
+        registerElement(text("button").onMouseEvent(e -> record(received, "button")), new Rect(10, 10, 8, 1));
+
+        router.route(MouseEvent.move(12, 10));
+        router.route(MouseEvent.scrollDown(12, 11));
+        router.route(MouseEvent.move(60, 3));
+        assertThat(router.route(MouseEvent.move(90, 3))).isEqualTo(EventResult.UNHANDLED);
+
+        assertThat(received).containsExactly("button", "left", "back");
+    }
+
+    @Test
+    @DisplayName("clicks reach the element at its latest area")
+    void clicksFollowUpdatedAreas() {
+        Element field = text("OK").id("ok").focusable();
+        registerElement(field, new Rect(0, 0, 5, 1));
+        registerElement(text("other").id("other").focusable(), new Rect(0, 5, 5, 1));
+        router.registerElement(field, new Rect(60, 20, 5, 1));
+
+        router.route(MouseEvent.press(MouseButton.LEFT, 1, 5));
+        assertThat(focusManager.focusedId()).isEqualTo("other");
+        router.route(MouseEvent.press(MouseButton.LEFT, 1, 0));
+        assertThat(focusManager.focusedId()).isNull();
+        router.route(MouseEvent.press(MouseButton.LEFT, 62, 20));
+        assertThat(focusManager.focusedId()).isEqualTo("ok");
+        assertThat(router.elementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("a new frame starts without the elements of the previous one")
+    void beginFrameForgetsElements() {
+        List<String> received = new ArrayList<>();
+        registerElement(text("old").onMouseEvent(e -> record(received, "old")), new Rect(0, 0, 10, 1));
+        router.beginFrame();
+        registerElement(text("new").onMouseEvent(e -> record(received, "new")), new Rect(5, 0, 10, 1));
+
+        router.route(MouseEvent.move(2, 0));
+        router.route(MouseEvent.move(7, 0));
+
+        assertThat(received).containsExactly("new");
+    }
+
+    @Test
+    @DisplayName("elements of the previous frame that are not registered again are discarded")
+    void discardsElementsNotRegisteredAgain() {
+        List<String> received = new ArrayList<>();
+        Element kept = text("kept").onMouseEvent(e -> record(received, "kept"));
+        registerElement(kept, new Rect(0, 0, 10, 1));
+        registerElement(text("gone").onMouseEvent(e -> record(received, "gone")), new Rect(0, 1, 10, 1));
+
+        router.beginFrame();
+        registerElement(kept, new Rect(0, 2, 10, 1));
+
+        assertThat(router.route(MouseEvent.move(2, 1))).isEqualTo(EventResult.UNHANDLED);
+        router.route(MouseEvent.move(2, 0));
+        router.route(MouseEvent.move(2, 2));
+        assertThat(received).containsExactly("kept");
+        assertThat(router.elementCount()).isEqualTo(1);
+        assertThat(elementRegistry.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("many elements are each registered once, frame after frame")
+    void registersManyElementsOnce() {
+        List<Element> texts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            texts.add(text("item " + i));
+        }
+        for (int frame = 0; frame < 2; frame++) {
+            router.beginFrame();
+            for (int i = 0; i < texts.size(); i++) {
+                router.registerElement(texts.get(i), new Rect(0, i, 10, 1));
+            }
+            for (int i = 0; i < texts.size(); i += 2) {
+                router.registerElement(texts.get(i), new Rect(20, i, 10, 1));
+            }
+            assertThat(router.elementCount()).isEqualTo(100);
+        }
+    }
+
+    private static EventResult record(List<String> received, String name) {
+        received.add(name);
+        return EventResult.HANDLED;
+    }
 }
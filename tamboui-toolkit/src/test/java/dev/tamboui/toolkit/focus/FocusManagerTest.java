@@ -0,0 +1,119 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.toolkit.focus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.Rect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for FocusManager.
+ */
+class FocusManagerTest {
+
+    private FocusManager focusManager;
+
+    @BeforeEach
+    void setUp() {
+        focusManager = new FocusManager();
+    }
+
+    @Test
+    @DisplayName("tab navigation follows registration order and wraps around")
+    void navigatesInRegistrationOrder() {
+        frame("a", "b", "c");
+
+        assertThat(focusManager.focusedId()).isEqualTo("a");
+        assertThat(focusManager.focusNext()).isTrue();
+        assertThat(focusManager.focusedId()).isEqualTo("b");
+        focusManager.focusNext();
+        focusManager.focusNext();
+        assertThat(focusManager.focusedId()).isEqualTo("a");
+        assertThat(focusManager.focusPrevious()).isTrue();
+        assertThat(focusManager.focusedId()).isEqualTo("c");
+    }
+
+    @Test
+    @DisplayName("each frame has the focus order of its own registrations")
+    void focusOrderFollowsFrames() {
+        frame("a", "b", "c");
+        frame("a", "b", "c");
+        assertThat(focusManager.focusOrder()).containsExactly("a", "b", "c");
+
+        frame("a", "x", "c", "b");
+        assertThat(focusManager.focusOrder()).containsExactly("a", "x", "c", "b");
+
+        frame("a", "x");
+        assertThat(focusManager.focusOrder()).containsExactly("a", "x");
+
+        frame("a", "x", "c");
+        focusManager.setFocus("x");
+        assertThat(focusManager.focusNext()).isTrue();
+        assertThat(focusManager.focusedId()).isEqualTo("c");
+    }
+
+    @Test
+    @DisplayName("focus moves to the first element when the focused one is gone")
+    void ensureFocusReplacesStaleFocus() {
+        frame("a", "b", "c");
+        focusManager.setFocus("c");
+        frame("a", "b");
+
+        assertThat(focusManager.focusedId()).isEqualTo("a");
+        assertThat(focusManager.focusedArea()).isEqualTo(new Rect(0, 0, 10, 1));
+
+        focusManager.clearFocusables();
+        focusManager.ensureFocus();
+        assertThat(focusManager.focusOrder()).isEmpty();
+        assertThat(focusManager.focusedArea()).isNull();
+    }
+
+    @Test
+    @DisplayName("clicks focus the first registered element at the position")
+    void focusAtFindsFirstElementAtPosition() {
+        focusManager.clearFocusables();
+        focusManager.registerFocusable("panel", new Rect(0, 0, 40, 10));
+        focusManager.registerFocusable("button", new Rect(5, 5, 10, 1));
+        focusManager.registerFocusable("moved", new Rect(0, 20, 10, 1));
+        focusManager.registerFocusable("moved", new Rect(50, 20, 10, 1));
+
+        assertThat(focusManager.focusAt(6, 5)).isTrue();
+        assertThat(focusManager.focusedId()).isEqualTo("panel");
+        assertThat(focusManager.focusAt(1, 20)).isFalse();
+        assertThat(focusManager.focusAt(55, 20)).isTrue();
+        assertThat(focusManager.focusedId()).isEqualTo("moved");
+        assertThat(focusManager.focusedArea()).isEqualTo(new Rect(50, 20, 10, 1));
+        assertThat(focusManager.focusOrder()).containsExactly("panel", "button", "moved");
+    }
+
+    @Test
+    @DisplayName("clicks only find the focusable elements of the last frame, at their last area")
+    void focusAtFollowsFrames() {
+        frame("a", "b", "c");
+        focusManager.clearFocusables();
+        focusManager.registerFocusable("a", new Rect(20, 0, 10, 1));
+        focusManager.registerFocusable("b", new Rect(0, 1, 10, 1));
+        focusManager.ensureFocus();
+
+        assertThat(focusManager.focusAt(1, 0)).isFalse();
+        assertThat(focusManager.focusAt(1, 2)).isFalse();
+        assertThat(focusManager.focusAt(21, 0)).isTrue();
+        assertThat(focusManager.focusedId()).isEqualTo("a");
+        assertThat(focusManager.focusAt(1, 1)).isTrue();
+        assertThat(focusManager.focusedId()).isEqualTo("b");
+    }
+
+    private void frame(String... ids) {
+        focusManager.clearFocusables();
+        for (int i = 0; i < ids.length; i++) {
+            focusManager.registerFocusable(ids[i], new Rect(0, i, 10, 1));
+        }
+        focusManager.ensureFocus();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.tamboui.terminal.BackpressureAware;
+
+/**
+ * Adapts the frame rate to a backend that can fall behind the render loop.
+ * <p>
+ * While the backend still has output of a previous frame in flight, frames
+ * are dropped instead of being drawn. As soon as the output has drained, a
+ * single redraw is requested, which sends only the latest state. The effective
+ * frame rate therefore follows the throughput of the connection and recovers
+ * automatically once the link catches up.
+ */
+final class FrameThrottle {
+
+    private final BackpressureAware backend;
+    private final AtomicBoolean redrawPending;
+    private final AtomicLong droppedFrames;
+
+    /**
+     * Creates a throttle for the given backend.
+     *
+     * @param backend the backend to monitor
+     * @param redraw  called (from the backend's writer thread) to request a redraw
+     *                after frames were dropped and the output has drained
+     */
+    FrameThrottle(BackpressureAware backend, Runnable redraw) {
+        this.backend = backend;
+        this.redrawPending = new AtomicBoolean(false);
+        this.droppedFrames = new AtomicLong(0);
+        backend.onDrain(() -> {
+            if (redrawPending.getAndSet(false)) {
+                redraw.run();
+            }
+        });
+    }
+
+    /**
+     * Returns whether a frame may be drawn now.
+     * <p>
+     * If the backend is still busy, the frame is counted as dropped and a
+     * redraw is scheduled for when the output drains.
+     *
+     * @return true if the frame should be drawn
+     */
+    boolean tryBeginFrame() {
+        if (backend.bytesInFlight() == 0) {
+            return true;
+        }
+        redrawPending.set(true);
+        // The output may have drained between the check and setting the flag,
+        // in which case the drain listener already ran and would not redraw.
+        if (backend.bytesInFlight() == 0 && redrawPending.getAndSet(false)) {
+            return true;
+        }
+        droppedFrames.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Returns the number of frames dropped so far.
+     *
+     * @return the dropped frame count
+     */
+    long droppedFrames() {
+        return droppedFrames.get();
+    }
+
+    /**
+     * Returns the number of bytes the backend still has in flight.
+     *
+     * @return the backlog in bytes
+     */
+    long bytesInFlight() {
+        return backend.bytesInFlight();
+    }
+
+    /**
+     * Returns the latency of the backend's most recent write.
+     *
+     * @return the write latency in nanoseconds
+     */
+    long lastWriteLatencyNanos() {
+        return backend.lastWriteLatencyNanos();
+    }
+}
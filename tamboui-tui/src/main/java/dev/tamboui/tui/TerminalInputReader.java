@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import dev.tamboui.terminal.Backend;
 import dev.tamboui.tui.bindings.Bindings;
@@ -34,6 +35,7 @@ public final class TerminalInputReader implements Runnable {
     private final Bindings bindings;
     private final AtomicBoolean running;
     private final int pollTimeoutMs;
+    private final AtomicLong inputArrivalNanos;
     private volatile Thread thread;
 
     /**
@@ -48,11 +50,25 @@ public final class TerminalInputReader implements Runnable {
     public TerminalInputReader(Backend backend, BlockingQueue<Event> eventQueue,
                                Bindings bindings, AtomicBoolean running,
                                Duration pollTimeout) {
+        this(backend, eventQueue, bindings, running, pollTimeout, null);
+    }
+
+    /**
+     * Creates a new terminal input reader that stamps the arrival of input.
+     * <p>
+     * When an event is queued while {@code inputArrivalNanos} is 0, it is set
+     * to the current {@link System#nanoTime()}; the consumer resets it to 0
+     * once the input has been painted.
+     */
+    TerminalInputReader(Backend backend, BlockingQueue<Event> eventQueue,
+                        Bindings bindings, AtomicBoolean running,
+                        Duration pollTimeout, AtomicLong inputArrivalNanos) {
         this.backend = backend;
         this.eventQueue = eventQueue;
         this.bindings = bindings;
         this.running = running;
         this.pollTimeoutMs = (int) pollTimeout.toMillis();
+        this.inputArrivalNanos = inputArrivalNanos;
     }
 
     /**
@@ -100,6 +116,9 @@ public final class TerminalInputReader implements Runnable {
             try {
                 Event event = EventParser.readEvent(backend, pollTimeoutMs, bindings);
                 if (event != null) {
+                    if (inputArrivalNanos != null) {
+                        inputArrivalNanos.compareAndSet(0, System.nanoTime());
+                    }
                     eventQueue.offer(event);
                     consecutiveErrors = 0;
                 }
@@ -14,10 +14,13 @@ import java.util.concurrent.ScheduledExecutorService;
 
 import dev.tamboui.terminal.Backend;
 import dev.tamboui.terminal.BackendFactory;
+import dev.tamboui.terminal.FrameStatsListener;
 import dev.tamboui.tui.bindings.BindingSets;
 import dev.tamboui.tui.bindings.Bindings;
 import dev.tamboui.tui.error.RenderErrorHandler;
 import dev.tamboui.tui.error.RenderErrorHandlers;
+import dev.tamboui.tui.metrics.RunnerMetrics;
+import dev.tamboui.tui.time.TimeSource;
 
 /**
  * Configuration options for {@link TuiRunner}.
@@ -46,6 +49,9 @@ public final class TuiConfig {
     private final PrintStream errorOutput;
     private final boolean fpsOverlayEnabled;
     private final List<PostRenderProcessor> postRenderProcessors;
+    private final List<FrameStatsListener> frameStatsListeners;
+    private final boolean jmx;
+    private final TimeSource timeSource;
     private final Backend backend;
     private final ScheduledExecutorService scheduler;
 
@@ -53,6 +59,9 @@ public final class TuiConfig {
      * Creates a new TUI configuration with the specified options.
      * <p>
      * Prefer using {@link #builder()} or {@link #defaults()} instead of this constructor.
+     * Options added since, such as {@linkplain Builder#frameStatsListener frame
+     * statistics listeners}, {@linkplain Builder#jmx JMX} and the
+     * {@linkplain Builder#timeSource time source}, take their builder defaults.
      *
      * @param rawMode whether to enable raw terminal mode
      * @param alternateScreen whether to use the alternate screen buffer
@@ -86,6 +95,54 @@ public final class TuiConfig {
             List<PostRenderProcessor> postRenderProcessors, 
             Backend backend,
             ScheduledExecutorService scheduler
+    ) {
+        this(rawMode, alternateScreen, hideCursor, mouseCapture, pollTimeout, tickRate, resizeGracePeriod,
+                shutdownHook, bindings, errorHandler, errorOutput, fpsOverlayEnabled, postRenderProcessors,
+                backend, scheduler, Collections.emptyList(), Boolean.getBoolean(RunnerMetrics.JMX_PROPERTY),
+                TimeSource.fromSystemProperty());
+    }
+
+    /**
+     * Creates a new TUI configuration with all the options; used by {@link Builder#build()}.
+     *
+     * @param rawMode whether to enable raw terminal mode
+     * @param alternateScreen whether to use the alternate screen buffer
+     * @param hideCursor whether to hide the cursor
+     * @param mouseCapture whether to capture mouse events
+     * @param pollTimeout timeout for polling events
+     * @param tickRate interval between tick events, or null to disable
+     * @param resizeGracePeriod grace period for resize events, or null to disable
+     * @param shutdownHook whether to register a JVM shutdown hook
+     * @param bindings the key/mouse bindings for semantic actions
+     * @param errorHandler the handler for render errors
+     * @param errorOutput the output stream for error logging
+     * @param fpsOverlayEnabled whether to show the FPS overlay
+     * @param postRenderProcessors list of post-render processors
+     * @param backend the backend to use (optional)
+     * @param scheduler external scheduler to use, or null to create an internal one
+     * @param frameStatsListeners listeners receiving per-frame timings
+     * @param jmx whether to register the runner metrics in the platform MBean server
+     * @param timeSource the clock driving ticks and scheduled actions, or null for the system clock
+     */
+    private TuiConfig(
+            boolean rawMode,
+            boolean alternateScreen,
+            boolean hideCursor,
+            boolean mouseCapture,
+            Duration pollTimeout,
+            Duration tickRate,
+            Duration resizeGracePeriod,
+            boolean shutdownHook,
+            Bindings bindings,
+            RenderErrorHandler errorHandler,
+            PrintStream errorOutput,
+            boolean fpsOverlayEnabled,
+            List<PostRenderProcessor> postRenderProcessors, 
+            Backend backend,
+            ScheduledExecutorService scheduler,
+            List<FrameStatsListener> frameStatsListeners,
+            boolean jmx,
+            TimeSource timeSource
     ) {
         this.rawMode = rawMode;
         this.alternateScreen = alternateScreen;
@@ -104,6 +161,11 @@ public final class TuiConfig {
                 : Collections.emptyList();
         this.backend = backend;
         this.scheduler = scheduler;
+        this.frameStatsListeners = frameStatsListeners != null
+                ? Collections.unmodifiableList(new ArrayList<>(frameStatsListeners))
+                : Collections.emptyList();
+        this.jmx = jmx;
+        this.timeSource = timeSource != null ? timeSource : TimeSource.system();
     }
 
     /**
@@ -130,7 +192,10 @@ public final class TuiConfig {
                 false,                       // fpsOverlayEnabled
                 Collections.emptyList(),     // postRenderProcessors
                 null,                          // backend (allows for lazy backend creation)
-                null                         // scheduler
+                null,                        // scheduler
+                Collections.emptyList(),     // frameStatsListeners
+                Boolean.getBoolean(RunnerMetrics.JMX_PROPERTY),  // jmx
+                TimeSource.fromSystemProperty()  // timeSource
             );
     }
 
@@ -314,6 +379,37 @@ public final class TuiConfig {
         return scheduler;
     }
 
+    /**
+     * Returns the listeners receiving per-frame timings.
+     * <p>
+     * Listeners registered as a {@link java.util.ServiceLoader service} are
+     * added by the runner in addition to these.
+     *
+     * @return an unmodifiable list of frame statistics listeners
+     */
+    public List<FrameStatsListener> frameStatsListeners() {
+        return frameStatsListeners;
+    }
+
+    /**
+     * Returns whether the runner metrics are registered in the platform MBean server.
+     *
+     * @return true if JMX is enabled
+     */
+    public boolean jmx() {
+        return jmx;
+    }
+
+    /**
+     * Returns the clock driving tick events and scheduled actions.
+     *
+     * @return the time source, {@link TimeSource#system()} unless the
+     *         {@value TimeSource#PROPERTY} system property selects another
+     */
+    public TimeSource timeSource() {
+        return timeSource;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -384,6 +480,9 @@ public final class TuiConfig {
         private PrintStream errorOutput = System.err;
         private boolean fpsOverlayEnabled = false;
         private final List<PostRenderProcessor> postRenderProcessors = new ArrayList<>();
+        private final List<FrameStatsListener> frameStatsListeners = new ArrayList<>();
+        private boolean jmx = Boolean.getBoolean(RunnerMetrics.JMX_PROPERTY);
+        private TimeSource timeSource = TimeSource.fromSystemProperty();
         private Backend backend;
         private ScheduledExecutorService scheduler;
 
@@ -604,6 +703,57 @@ public final class TuiConfig {
             return this;
         }
 
+        /**
+         * Adds a listener receiving the per-phase timings of every frame.
+         * <p>
+         * Frames are only timed while at least one listener is enabled.
+         *
+         * @param listener the listener to add
+         * @return this builder
+         * @see FrameStatsListener
+         */
+        public Builder frameStatsListener(FrameStatsListener listener) {
+            if (listener != null) {
+                this.frameStatsListeners.add(listener);
+            }
+            return this;
+        }
+
+        /**
+         * Sets whether to register the runner metrics in the platform MBean server.
+         * <p>
+         * The metrics are published as {@code dev.tamboui:type=TuiRunner,id=<n>}
+         * and can be browsed with JConsole or JDK Mission Control. Defaults to the
+         * value of the {@value RunnerMetrics#JMX_PROPERTY} system property.
+         *
+         * @param jmx true to enable JMX
+         * @return this builder
+         * @see RunnerMetrics
+         */
+        public Builder jmx(boolean jmx) {
+            this.jmx = jmx;
+            return this;
+        }
+
+        /**
+         * Sets the clock driving tick events and scheduled actions.
+         * <p>
+         * The elapsed time of {@link dev.tamboui.tui.event.TickEvent tick events},
+         * and so the progress of animations driven by ticks, follows this clock,
+         * as do the actions scheduled on {@link TuiRunner#scheduler()}. Use a
+         * {@link dev.tamboui.tui.time.ManualTimeSource} or
+         * {@link TimeSource#fastForward(double)} to simulate long runs quickly.
+         * Defaults to the clock selected by the {@value TimeSource#PROPERTY}
+         * system property.
+         *
+         * @param timeSource the time source, or null for the system clock
+         * @return this builder
+         */
+        public Builder timeSource(TimeSource timeSource) {
+            this.timeSource = timeSource != null ? timeSource : TimeSource.system();
+            return this;
+        }
+
         /**
          * Builds the configuration.
          *
@@ -625,7 +775,10 @@ public final class TuiConfig {
                     fpsOverlayEnabled,
                     postRenderProcessors,
                     backend,
-                    scheduler
+                    scheduler,
+                    frameStatsListeners,
+                    jmx,
+                    timeSource
             );
         }
     }
@@ -7,12 +7,12 @@ package dev.tamboui.tui;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -27,7 +27,12 @@ import dev.tamboui.style.Color;
 import dev.tamboui.style.Style;
 import dev.tamboui.terminal.Backend;
 import dev.tamboui.terminal.BackendFactory;
+import dev.tamboui.terminal.BackpressureAware;
 import dev.tamboui.terminal.Frame;
+import dev.tamboui.terminal.FramePhase;
+import dev.tamboui.terminal.FrameStatsListener;
+import dev.tamboui.terminal.FrameTimer;
+import dev.tamboui.terminal.OutputStatistics;
 import dev.tamboui.terminal.Terminal;
 import dev.tamboui.text.Line;
 import dev.tamboui.text.Span;
@@ -42,10 +47,15 @@ import dev.tamboui.tui.error.RenderErrorHandler;
 import dev.tamboui.tui.event.Event;
 import dev.tamboui.tui.event.KeyCode;
 import dev.tamboui.tui.event.KeyEvent;
+import dev.tamboui.tui.event.MouseEvent;
 import dev.tamboui.tui.event.ResizeEvent;
 import dev.tamboui.tui.event.TickEvent;
 import dev.tamboui.tui.event.UiRunnable;
+import dev.tamboui.tui.metrics.FrameMetrics;
+import dev.tamboui.tui.metrics.RunnerMetrics;
 import dev.tamboui.tui.overlay.DebugOverlay;
+import dev.tamboui.tui.time.TimeSource;
+import dev.tamboui.util.SafeServiceLoader;
 import dev.tamboui.widgets.block.Block;
 import dev.tamboui.widgets.block.BorderType;
 import dev.tamboui.widgets.block.Borders;
@@ -84,19 +94,27 @@ public final class TuiRunner implements AutoCloseable {
     private final AtomicBoolean running;
     private final AtomicBoolean cleanedUp;
     private final ScheduledExecutorService scheduler;
+    private final ScheduledExecutorService realTimeScheduler;
     private final boolean schedulerOwned;
+    private final ScheduledFuture<?> schedulerTask;
+    private final TimeSource timeSource;
     private final AtomicLong frameCount;
     private final Thread shutdownHook;
     private final RenderErrorHandler errorHandler;
     private final PrintStream errorOutput;
-    private final AtomicReference<Instant> lastTick;
-    private final AtomicReference<Instant> nextTickTime;
+    private final AtomicLong lastTickNanos;
+    private final AtomicLong nextTickNanos;
     private final AtomicReference<Size> lastSize;
     private final AtomicBoolean resizePending;
     private final AtomicReference<Renderer> activeRenderer;
     private final TerminalInputReader inputReader;
     private final DebugOverlay debugOverlay;
+    private final FrameThrottle frameThrottle;
     private final List<PostRenderProcessor> postRenderProcessors;
+    private final FrameMetrics frameMetrics;
+    private final RunnerMetrics runtimeMetrics;
+    private final OutputStatistics outputStatistics;
+    private final AtomicLong inputArrivalNanos;
     private volatile RenderError lastError;
     private volatile boolean inErrorState;
     private volatile int errorScroll;
@@ -111,9 +129,10 @@ public final class TuiRunner implements AutoCloseable {
         this.resizePending = new AtomicBoolean(false);
         this.activeRenderer = new AtomicReference<>();
         this.frameCount = new AtomicLong(0);
-        this.lastTick = new AtomicReference<>(Instant.now());
-        this.nextTickTime = new AtomicReference<>(
-            config.tickRate() != null ? Instant.now().plus(config.tickRate()) : null);
+        this.timeSource = config.timeSource();
+        long now = timeSource.nanoTime();
+        this.lastTickNanos = new AtomicLong(now);
+        this.nextTickNanos = new AtomicLong(config.tickRate() != null ? now + config.tickRate().toNanos() : 0);
         this.errorHandler = config.errorHandler();
         this.errorOutput = config.errorOutput();
 
@@ -140,23 +159,57 @@ public final class TuiRunner implements AutoCloseable {
         });
 
         // Set up scheduler - use provided scheduler or create one
+        // and run it at the times of the configured clock
         Schedulers.Scheduler schedulerResult = Schedulers.resolve(config.scheduler());
-        this.scheduler = schedulerResult.scheduler();
+        this.realTimeScheduler = schedulerResult.scheduler();
         this.schedulerOwned = schedulerResult.owned();
+        this.scheduler = timeSource.scheduler(realTimeScheduler);
 
         // Only schedule the internal callback if tick/resize needed
         Duration schedulerPeriod = computeSchedulerPeriod(config);
         if (schedulerPeriod != null) {
             long periodMs = schedulerPeriod.toMillis();
-            scheduler.scheduleAtFixedRate(this::schedulerCallback, periodMs, periodMs, TimeUnit.MILLISECONDS);
+            this.schedulerTask = scheduler.scheduleAtFixedRate(this::schedulerCallback, periodMs, periodMs,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            this.schedulerTask = null;
         }
 
+        // Frame time, input latency and output size histograms
+        this.frameMetrics = new FrameMetrics();
+        this.outputStatistics = backend instanceof OutputStatistics ? (OutputStatistics) backend : null;
+        this.inputArrivalNanos = new AtomicLong();
+
         // Create and start the input reader thread
-        this.inputReader = new TerminalInputReader(backend, eventQueue, config.bindings(), running, config.pollTimeout());
+        this.inputReader = new TerminalInputReader(backend, eventQueue, config.bindings(), running,
+                config.pollTimeout(), inputArrivalNanos);
         this.inputReader.start();
 
         // Create debug overlay
-        this.debugOverlay = new DebugOverlay(backend.getClass().getSimpleName(), config.pollTimeout(), config.tickRate());
+        this.debugOverlay = new DebugOverlay(backend.getClass().getSimpleName(), config.pollTimeout(),
+                config.tickRate(), frameMetrics, timeSource);
+
+        // Per-phase frame timings go to the overlay, configured and discovered listeners
+        terminal.addFrameStatsListener(debugOverlay);
+        for (FrameStatsListener listener : config.frameStatsListeners()) {
+            terminal.addFrameStatsListener(listener);
+        }
+        for (FrameStatsListener listener : SafeServiceLoader.load(FrameStatsListener.class)) {
+            terminal.addFrameStatsListener(listener);
+        }
+
+        // Drop intermediate frames while a remote backend is still writing the previous one
+        this.frameThrottle = backend instanceof BackpressureAware
+                ? new FrameThrottle((BackpressureAware) backend, () -> runLater(this::redraw))
+                : null;
+
+        // Runtime metrics, only collected while registered as an MBean
+        this.runtimeMetrics = new RunnerMetrics(frameMetrics, eventQueue::size,
+                () -> frameThrottle != null ? frameThrottle.droppedFrames() : 0, outputStatistics);
+        terminal.addFrameStatsListener(runtimeMetrics);
+        if (config.jmx()) {
+            runtimeMetrics.register();
+        }
 
         // Store post-render processors
         this.postRenderProcessors = config.postRenderProcessors();
@@ -231,9 +284,14 @@ public final class TuiRunner implements AutoCloseable {
             // Wrap renderer to add post-render processors and FPS overlay
             Renderer wrappedRenderer = frame -> {
                 debugOverlay.recordFrame();
+                if (frameThrottle != null) {
+                    debugOverlay.recordBackpressure(frameThrottle.bytesInFlight(),
+                            frameThrottle.lastWriteLatencyNanos(), frameThrottle.droppedFrames());
+                }
                 renderer.render(frame);
 
                 // Call post-render processors
+                long postRenderStart = FrameTimer.start();
                 for (PostRenderProcessor processor : postRenderProcessors) {
                     processor.process(frame);
                 }
@@ -242,6 +300,7 @@ public final class TuiRunner implements AutoCloseable {
                 if (debugOverlay.isVisible()) {
                     debugOverlay.render(frame, frame.area());
                 }
+                FrameTimer.stop(FramePhase.POST_RENDER, postRenderStart);
             };
 
             // Store renderer for scheduler-triggered redraws (e.g., on resize)
@@ -258,6 +317,8 @@ public final class TuiRunner implements AutoCloseable {
 
                 Event event = pollEvent(config.pollTimeout());
                 if (event != null) {
+                    runtimeMetrics.recordEvent(event);
+
                     // Handle UiRunnable events (scheduled work from other threads)
                     if (event instanceof UiRunnable) {
                         try {
@@ -290,6 +351,9 @@ public final class TuiRunner implements AutoCloseable {
                     }
                     if (shouldRedraw && running.get() && !inErrorState) {
                         safeRender(wrappedRenderer);
+                    } else if (event instanceof KeyEvent || event instanceof MouseEvent) {
+                        // Nothing to paint: the input must not count towards the latency of a later frame
+                        inputArrivalNanos.set(0);
                     }
                 }
             }
@@ -301,13 +365,37 @@ public final class TuiRunner implements AutoCloseable {
 
     private void safeRender(Renderer renderer) {
         RenderThread.checkRenderThread();
+        if (frameThrottle != null && !frameThrottle.tryBeginFrame()) {
+            // Backend is behind; the latest state is drawn once its output drains
+            return;
+        }
         try {
+            long bytesBefore = outputStatistics != null ? outputStatistics.bytesWritten() : 0;
+            long allocatedBefore = runtimeMetrics.beginFrame();
+            long start = System.nanoTime();
             terminal.draw(renderer::render);
+            long end = System.nanoTime();
+            runtimeMetrics.recordFrame(allocatedBefore);
+            frameMetrics.recordFrame(end - start);
+            if (outputStatistics != null) {
+                frameMetrics.recordBytes(outputStatistics.bytesWritten() - bytesBefore);
+            }
+            long inputArrival = inputArrivalNanos.getAndSet(0);
+            if (inputArrival != 0) {
+                frameMetrics.recordInputLatency(end - inputArrival);
+            }
         } catch (Throwable t) {
             handleRenderError(t);
         }
     }
 
+    private void redraw() {
+        Renderer renderer = activeRenderer.get();
+        if (renderer != null && running.get() && !inErrorState) {
+            safeRender(renderer);
+        }
+    }
+
     private void handleRenderError(Throwable t) {
         lastError = RenderError.from(t);
         errorScroll = 0;
@@ -597,6 +685,31 @@ public final class TuiRunner implements AutoCloseable {
         return RenderThread.isRenderThread();
     }
 
+    /**
+     * Returns the frame time, input latency and output size histograms of this runner.
+     * <p>
+     * Frames drawn by the event loop are recorded; use
+     * {@link FrameMetrics#snapshotAndReset()} to export them periodically.
+     *
+     * @return the frame metrics
+     */
+    public FrameMetrics frameMetrics() {
+        return frameMetrics;
+    }
+
+    /**
+     * Returns the runtime metrics of this runner.
+     * <p>
+     * They are only collected while registered in the platform MBean server,
+     * see {@link TuiConfig.Builder#jmx(boolean)}. Integrations may add their
+     * own {@linkplain RunnerMetrics#gauge(String, java.util.function.LongSupplier) gauges}.
+     *
+     * @return the runtime metrics
+     */
+    public RunnerMetrics runtimeMetrics() {
+        return runtimeMetrics;
+    }
+
     /**
      * Returns the underlying terminal.
      *
@@ -621,6 +734,10 @@ public final class TuiRunner implements AutoCloseable {
      * This scheduler runs on a dedicated daemon thread. Tasks scheduled here
      * execute on the scheduler thread, not the render thread. To modify UI state
      * from a scheduled task, use {@link #runOnRenderThread(Runnable)}.
+     * <p>
+     * Delays follow the configured {@link TuiConfig#timeSource() time source}:
+     * with a {@link dev.tamboui.tui.time.ManualTimeSource}, tasks run on the
+     * thread advancing the clock.
      *
      * @return the scheduler (never null)
      */
@@ -628,6 +745,15 @@ public final class TuiRunner implements AutoCloseable {
         return scheduler;
     }
 
+    /**
+     * Returns the clock driving tick events and scheduled tasks.
+     *
+     * @return the time source
+     */
+    public TimeSource timeSource() {
+        return timeSource;
+    }
+
     /**
      * Computes the scheduler period based on tick rate and resize grace period.
      *
@@ -674,17 +800,17 @@ public final class TuiRunner implements AutoCloseable {
 
         // Generate tick event if ticks are enabled AND it's time for the next tick
         if (config.ticksEnabled() && config.tickRate() != null) {
-            Instant now = Instant.now();
-            Instant targetTime = nextTickTime.get();
+            long now = timeSource.nanoTime();
+            long targetTime = nextTickNanos.get();
 
-            if (targetTime != null && !now.isBefore(targetTime)) {
+            if (now - targetTime >= 0) {
                 // Compute elapsed since last tick for the event
-                Instant previous = lastTick.getAndSet(now);
-                Duration elapsed = Duration.between(previous, now);
+                long previous = lastTickNanos.getAndSet(now);
+                Duration elapsed = Duration.ofNanos(now - previous);
 
                 // Schedule next tick from the target time to maintain steady rate
                 // This ensures we don't lose ticks due to scheduler jitter
-                nextTickTime.set(targetTime.plus(config.tickRate()));
+                nextTickNanos.set(targetTime + config.tickRate().toNanos());
 
                 long frame = frameCount.incrementAndGet();
                 eventQueue.offer(TickEvent.of(frame, elapsed));
@@ -717,11 +843,16 @@ public final class TuiRunner implements AutoCloseable {
             }
         }
 
+        // Stop the internal callback, which the scheduler may outlive
+        if (schedulerTask != null) {
+            schedulerTask.cancel(false);
+        }
+
         // Shutdown scheduler only if we own it
         if (schedulerOwned) {
-            scheduler.shutdownNow();
+            realTimeScheduler.shutdownNow();
             try {
-                scheduler.awaitTermination(100, TimeUnit.MILLISECONDS);
+                realTimeScheduler.awaitTermination(100, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
@@ -740,6 +871,7 @@ public final class TuiRunner implements AutoCloseable {
         if (!cleanedUp.compareAndSet(false, true)) {
             return;
         }
+        runtimeMetrics.unregister();
 
         // Restore terminal state
         try {
@@ -140,4 +140,9 @@ public final class Actions {
      * Toggle the debug overlay.
      */
     public static final String TOGGLE_DEBUG_OVERLAY = "toggleDebugOverlay";
+
+    /**
+     * Toggle the element render profiler of toolkit applications.
+     */
+    public static final String TOGGLE_RENDER_PROFILER = "toggleRenderProfiler";
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frame-level latency and throughput histograms of a runner.
+ * <p>
+ * Three {@link Histogram}s are kept in fixed memory for the whole session:
+ * <ul>
+ *   <li>frame time: how long drawing each frame took, in nanoseconds</li>
+ *   <li>input latency: from the arrival of an input event to the end of the
+ *       frame showing its effect, in nanoseconds</li>
+ *   <li>bytes per frame: the output written to the terminal for each frame,
+ *       for backends reporting {@link dev.tamboui.terminal.OutputStatistics}</li>
+ * </ul>
+ * Percentiles expose the occasional long stall that an average frame rate
+ * hides. The durations of the most recent frames are kept as well, for
+ * sparklines.
+ * <p>
+ * Use {@link #snapshotAndReset()} to ship interval histograms to a monitoring
+ * system.
+ */
+public final class FrameMetrics {
+
+    /**
+     * Number of recent frame times kept for {@link #recentFrameNanos()}.
+     */
+    public static final int RECENT_FRAMES = 64;
+
+    private static final int PRECISION_BITS = 6;
+    private static final long MAX_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long MAX_BYTES = 256L * 1024 * 1024;
+
+    private final Histogram frameNanos = new Histogram(MAX_NANOS, PRECISION_BITS);
+    private final Histogram inputLatencyNanos = new Histogram(MAX_NANOS, PRECISION_BITS);
+    private final Histogram bytesPerFrame = new Histogram(MAX_BYTES, PRECISION_BITS);
+    private final long[] recent = new long[RECENT_FRAMES];
+    private int recentCount;
+    private int recentNext;
+
+    /**
+     * Creates empty frame metrics.
+     */
+    public FrameMetrics() {
+    }
+
+    /**
+     * Records the duration of a drawn frame.
+     *
+     * @param nanos the frame duration in nanoseconds
+     */
+    public void recordFrame(long nanos) {
+        frameNanos.record(nanos);
+        synchronized (recent) {
+            recent[recentNext] = nanos;
+            recentNext = (recentNext + 1) % RECENT_FRAMES;
+            recentCount = Math.min(recentCount + 1, RECENT_FRAMES);
+        }
+    }
+
+    /**
+     * Records the latency between an input event and the frame that painted it.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordInputLatency(long nanos) {
+        inputLatencyNanos.record(nanos);
+    }
+
+    /**
+     * Records the output written for a frame.
+     *
+     * @param bytes the number of bytes
+     */
+    public void recordBytes(long bytes) {
+        bytesPerFrame.record(bytes);
+    }
+
+    /**
+     * Returns the live frame time histogram, in nanoseconds.
+     *
+     * @return the histogram
+     */
+    public Histogram frameNanos() {
+        return frameNanos;
+    }
+
+    /**
+     * Returns the live input-to-paint latency histogram, in nanoseconds.
+     *
+     * @return the histogram
+     */
+    public Histogram inputLatencyNanos() {
+        return inputLatencyNanos;
+    }
+
+    /**
+     * Returns the live bytes-per-frame histogram.
+     *
+     * @return the histogram
+     */
+    public Histogram bytesPerFrame() {
+        return bytesPerFrame;
+    }
+
+    /**
+     * Returns the durations of the most recent frames, oldest first.
+     *
+     * @return up to {@link #RECENT_FRAMES} durations in nanoseconds
+     */
+    public long[] recentFrameNanos() {
+        synchronized (recent) {
+            long[] result = new long[recentCount];
+            int start = (recentNext - recentCount + RECENT_FRAMES) % RECENT_FRAMES;
+            for (int i = 0; i < recentCount; i++) {
+                result[i] = recent[(start + i) % RECENT_FRAMES];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Returns a copy of all histograms.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(frameNanos.snapshot(), inputLatencyNanos.snapshot(), bytesPerFrame.snapshot());
+    }
+
+    /**
+     * Returns a copy of all histograms and resets them, so that the next
+     * snapshot only covers the frames drawn in between.
+     *
+     * @return the snapshot taken before the reset
+     */
+    public Snapshot snapshotAndReset() {
+        return new Snapshot(frameNanos.snapshotAndReset(), inputLatencyNanos.snapshotAndReset(),
+                bytesPerFrame.snapshotAndReset());
+    }
+
+    /**
+     * Resets all histograms and the recent frame times.
+     */
+    public void reset() {
+        frameNanos.reset();
+        inputLatencyNanos.reset();
+        bytesPerFrame.reset();
+        synchronized (recent) {
+            recentCount = 0;
+            recentNext = 0;
+        }
+    }
+
+    /**
+     * Immutable copy of the histograms of a {@link FrameMetrics}.
+     */
+    public static final class Snapshot {
+        private final HistogramSnapshot frameNanos;
+        private final HistogramSnapshot inputLatencyNanos;
+        private final HistogramSnapshot bytesPerFrame;
+
+        private Snapshot(HistogramSnapshot frameNanos, HistogramSnapshot inputLatencyNanos,
+                         HistogramSnapshot bytesPerFrame) {
+            this.frameNanos = frameNanos;
+            this.inputLatencyNanos = inputLatencyNanos;
+            this.bytesPerFrame = bytesPerFrame;
+        }
+
+        /**
+         * Returns the frame times, in nanoseconds.
+         *
+         * @return the frame time histogram
+         */
+        public HistogramSnapshot frameNanos() {
+            return frameNanos;
+        }
+
+        /**
+         * Returns the input-to-paint latencies, in nanoseconds.
+         *
+         * @return the input latency histogram
+         */
+        public HistogramSnapshot inputLatencyNanos() {
+            return inputLatencyNanos;
+        }
+
+        /**
+         * Returns the bytes written per frame.
+         *
+         * @return the bytes per frame histogram
+         */
+        public HistogramSnapshot bytesPerFrame() {
+            return bytesPerFrame;
+        }
+
+        @Override
+        public String toString() {
+            return "FrameMetrics.Snapshot[frameNanos=" + frameNanos
+                    + ", inputLatencyNanos=" + inputLatencyNanos
+                    + ", bytesPerFrame=" + bytesPerFrame + "]";
+        }
+    }
+}
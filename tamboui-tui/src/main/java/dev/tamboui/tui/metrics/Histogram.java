@@ -0,0 +1,176 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-memory histogram of non-negative values with logarithmic buckets.
+ * <p>
+ * Like an HDR histogram, values below {@code 2^precisionBits} are counted
+ * exactly, and larger values fall into buckets whose width doubles with every
+ * power of two, so that the relative error of any reported value stays below
+ * {@code 2^(1 - precisionBits)}. The number of buckets is fixed at construction
+ * and recording never allocates, whatever the distribution of values.
+ * <p>
+ * Values above the configured maximum are counted in the last bucket; the
+ * exact maximum is kept separately. Methods are synchronized: values are
+ * recorded by the render thread while snapshots may be taken from any thread.
+ *
+ * @see HistogramSnapshot
+ */
+public final class Histogram {
+
+    private final int precisionBits;
+    private final long highestTrackableValue;
+    private final long[] counts;
+    private long totalCount;
+    private long sum;
+    private long min;
+    private long max;
+
+    /**
+     * Creates a histogram.
+     *
+     * @param highestTrackableValue the highest value told apart from larger ones
+     * @param precisionBits the number of significant bits kept per value, between 2 and 16
+     */
+    public Histogram(long highestTrackableValue, int precisionBits) {
+        if (precisionBits < 2 || precisionBits > 16) {
+            throw new IllegalArgumentException("precisionBits must be between 2 and 16: " + precisionBits);
+        }
+        if (highestTrackableValue < 1) {
+            throw new IllegalArgumentException("highestTrackableValue must be positive: " + highestTrackableValue);
+        }
+        this.precisionBits = precisionBits;
+        this.highestTrackableValue = highestTrackableValue;
+        this.counts = new long[bucketIndex(highestTrackableValue, precisionBits) + 1];
+        this.min = Long.MAX_VALUE;
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value, negative values are recorded as 0
+     */
+    public synchronized void record(long value) {
+        long v = Math.max(0, value);
+        counts[bucketIndex(Math.min(v, highestTrackableValue), precisionBits)]++;
+        totalCount++;
+        sum += v;
+        if (v < min) {
+            min = v;
+        }
+        if (v > max) {
+            max = v;
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the count
+     */
+    public synchronized long count() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the value below which the given percentage of the recorded values fall.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value, or 0 if nothing was recorded
+     */
+    public synchronized long valueAtPercentile(double percentile) {
+        return valueAtPercentile(counts, totalCount, max, precisionBits, percentile);
+    }
+
+    /**
+     * Returns the highest recorded value.
+     *
+     * @return the maximum, or 0 if nothing was recorded
+     */
+    public synchronized long max() {
+        return max;
+    }
+
+    /**
+     * Returns an immutable copy of the current state.
+     *
+     * @return the snapshot
+     */
+    public synchronized HistogramSnapshot snapshot() {
+        return new HistogramSnapshot(counts.clone(), totalCount, sum,
+                totalCount > 0 ? min : 0, max, precisionBits);
+    }
+
+    /**
+     * Returns an immutable copy of the current state and resets the histogram,
+     * without losing values recorded concurrently.
+     *
+     * @return the snapshot taken before the reset
+     */
+    public synchronized HistogramSnapshot snapshotAndReset() {
+        HistogramSnapshot snapshot = snapshot();
+        reset();
+        return snapshot;
+    }
+
+    /**
+     * Discards all recorded values.
+     */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * Returns the bucket of a value: exact below {@code 2^precisionBits}, then
+     * {@code 2^(precisionBits - 1)} buckets per power of two.
+     */
+    static int bucketIndex(long value, int precisionBits) {
+        int subBuckets = 1 << precisionBits;
+        if (value < subBuckets) {
+            return (int) value;
+        }
+        int shift = 64 - Long.numberOfLeadingZeros(value) - precisionBits;
+        long mantissa = value >>> shift;
+        return subBuckets + (shift - 1) * (subBuckets >> 1) + (int) (mantissa - (subBuckets >> 1));
+    }
+
+    /**
+     * Returns the highest value falling into a bucket.
+     */
+    static long highestValueInBucket(int index, int precisionBits) {
+        int subBuckets = 1 << precisionBits;
+        if (index < subBuckets) {
+            return index;
+        }
+        int half = subBuckets >> 1;
+        int shift = (index - subBuckets) / half + 1;
+        long mantissa = half + (index - subBuckets) % half;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    static long valueAtPercentile(long[] counts, long totalCount, long max, int precisionBits, double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double p = Math.min(100.0, Math.max(0.0, percentile));
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // The last bucket also holds the clamped values, which only the max describes
+                return i == counts.length - 1 ? max : Math.min(highestValueInBucket(i, precisionBits), max);
+            }
+        }
+        return max;
+    }
+}
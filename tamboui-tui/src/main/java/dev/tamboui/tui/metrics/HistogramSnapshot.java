@@ -0,0 +1,116 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.metrics;
+
+import java.util.Locale;
+
+/**
+ * Immutable copy of a {@link Histogram}.
+ * <p>
+ * Exposes the raw bucket counts along with the usual summary statistics, so
+ * that snapshots can be shipped to external monitoring systems as-is.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long totalCount;
+    private final long sum;
+    private final long min;
+    private final long max;
+    private final int precisionBits;
+
+    HistogramSnapshot(long[] counts, long totalCount, long sum, long min, long max, int precisionBits) {
+        this.counts = counts;
+        this.totalCount = totalCount;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.precisionBits = precisionBits;
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the count
+     */
+    public long count() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the lowest recorded value.
+     *
+     * @return the minimum, or 0 if nothing was recorded
+     */
+    public long min() {
+        return min;
+    }
+
+    /**
+     * Returns the highest recorded value.
+     *
+     * @return the maximum, or 0 if nothing was recorded
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * Returns the arithmetic mean of the recorded values.
+     *
+     * @return the mean, or 0 if nothing was recorded
+     */
+    public double mean() {
+        return totalCount > 0 ? (double) sum / totalCount : 0;
+    }
+
+    /**
+     * Returns the value below which the given percentage of the recorded values fall.
+     * <p>
+     * The result is the highest value of the bucket holding the percentile,
+     * capped at {@link #max()}.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value, or 0 if nothing was recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        return Histogram.valueAtPercentile(counts, totalCount, max, precisionBits, percentile);
+    }
+
+    /**
+     * Returns the number of buckets.
+     *
+     * @return the bucket count
+     */
+    public int bucketCount() {
+        return counts.length;
+    }
+
+    /**
+     * Returns the number of values recorded in a bucket.
+     *
+     * @param index the bucket index, from 0 to {@link #bucketCount()} - 1
+     * @return the count
+     */
+    public long countInBucket(int index) {
+        return counts[index];
+    }
+
+    /**
+     * Returns the highest value falling into a bucket.
+     *
+     * @param index the bucket index, from 0 to {@link #bucketCount()} - 1
+     * @return the upper bound of the bucket, inclusive
+     */
+    public long bucketUpperBound(int index) {
+        return Histogram.highestValueInBucket(index, precisionBits);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "HistogramSnapshot[count=%d, min=%d, p50=%d, p99=%d, max=%d]",
+                totalCount, min, valueAtPercentile(50), valueAtPercentile(99), max);
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import dev.tamboui.layout.cassowary.LayoutCache;
+import dev.tamboui.terminal.FramePhase;
+import dev.tamboui.terminal.FrameStats;
+import dev.tamboui.terminal.FrameStatsListener;
+import dev.tamboui.terminal.OutputStatistics;
+
+/**
+ * Live runtime metrics of a runner session, exposed over JMX.
+ * <p>
+ * Every runner owns an instance, but metrics are only collected once it is
+ * {@linkplain #register() registered} in the platform MBean server, which the
+ * runner does when {@code TuiConfig.Builder.jmx(true)} is set or the
+ * {@value #JMX_PROPERTY} system property is {@code true}. While registered,
+ * frames are timed through {@link FrameStatsListener} to count layout splits
+ * and CSS style resolutions, and the allocations of the render thread are
+ * measured with the JVM's {@code ThreadMXBean}.
+ * <p>
+ * Integrations contribute their own values as {@linkplain #gauge(String, LongSupplier) gauges};
+ * gauges are evaluated on the JMX thread and must tolerate racy reads.
+ */
+public final class RunnerMetrics implements RunnerMetricsMXBean, FrameStatsListener {
+
+    /**
+     * System property enabling JMX registration for all runners.
+     */
+    public static final String JMX_PROPERTY = "tamboui.jmx";
+
+    private static final String DOMAIN = "dev.tamboui";
+    private static final AtomicLong SESSION_IDS = new AtomicLong();
+    private static final long MIN_RATE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final FrameMetrics frameMetrics;
+    private final IntSupplier eventQueueDepth;
+    private final LongSupplier framesSkipped;
+    private final OutputStatistics output;
+    private final Map<Class<?>, AtomicLong> eventCounts = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    private volatile ObjectName objectName;
+    private volatile long framesRendered;
+    private volatile long layoutSolves;
+    private volatile long styleResolves;
+    private volatile long styleResolveNanos;
+    private volatile long allocatedLastFrame = -1;
+    private volatile long allocatedTotal;
+    private volatile long allocationFrames;
+
+    // Last sample of getEventsPerSecond(), guarded by this
+    private long rateSampleNanos;
+    private Map<Class<?>, Long> rateSampleCounts;
+    private Map<String, Double> rates;
+
+    /**
+     * Creates runner metrics.
+     *
+     * @param frameMetrics the frame histograms of the runner
+     * @param eventQueueDepth supplies the number of queued events
+     * @param framesSkipped supplies the number of frames skipped so far
+     * @param output the output statistics of the backend, or null if not reported
+     */
+    public RunnerMetrics(FrameMetrics frameMetrics, IntSupplier eventQueueDepth,
+                         LongSupplier framesSkipped, OutputStatistics output) {
+        this.frameMetrics = frameMetrics;
+        this.eventQueueDepth = eventQueueDepth;
+        this.framesSkipped = framesSkipped;
+        this.output = output;
+    }
+
+    /**
+     * Registers these metrics in the platform MBean server.
+     *
+     * @return true if registered, false if the MBean server refused the registration
+     */
+    public boolean register() {
+        if (objectName != null) {
+            return true;
+        }
+        try {
+            ObjectName name = new ObjectName(DOMAIN + ":type=TuiRunner,id=" + SESSION_IDS.incrementAndGet());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            rateSampleNanos = System.nanoTime();
+            objectName = name;
+            return true;
+        } catch (JMException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Unregisters these metrics from the platform MBean server, if registered.
+     */
+    public void unregister() {
+        ObjectName name = objectName;
+        if (name == null) {
+            return;
+        }
+        objectName = null;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException | SecurityException e) {
+            // Best effort
+        }
+    }
+
+    /**
+     * Returns the name under which these metrics are registered.
+     *
+     * @return the object name, or null if not registered
+     */
+    public ObjectName objectName() {
+        return objectName;
+    }
+
+    /**
+     * Adds or replaces a gauge reported by {@link #getGauges()}.
+     *
+     * @param name the gauge name
+     * @param supplier supplies the current value
+     */
+    public void gauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    /**
+     * Counts a handled event.
+     *
+     * @param event the event
+     */
+    public void recordEvent(Object event) {
+        if (objectName == null) {
+            return;
+        }
+        AtomicLong count = eventCounts.get(event.getClass());
+        if (count == null) {
+            AtomicLong created = new AtomicLong();
+            count = eventCounts.putIfAbsent(event.getClass(), created);
+            if (count == null) {
+                count = created;
+            }
+        }
+        count.incrementAndGet();
+    }
+
+    /**
+     * Returns the allocation counter of the current thread, to pass to
+     * {@link #recordFrame(long)} once the frame is drawn.
+     *
+     * @return the bytes allocated so far by the current thread, or -1 if not measured
+     */
+    public long beginFrame() {
+        return objectName != null ? Allocations.currentThread() : -1;
+    }
+
+    /**
+     * Records a frame drawn on the current thread.
+     *
+     * @param allocatedBefore the value returned by {@link #beginFrame()}
+     */
+    public void recordFrame(long allocatedBefore) {
+        framesRendered++;
+        if (objectName == null) {
+            return;
+        }
+        if (allocatedBefore >= 0) {
+            long allocated = Allocations.currentThread() - allocatedBefore;
+            allocatedLastFrame = allocated;
+            allocatedTotal += allocated;
+            allocationFrames++;
+        }
+    }
+
+    /**
+     * Frames are only timed while registered.
+     *
+     * @return true if registered in the MBean server
+     */
+    @Override
+    public boolean isEnabled() {
+        return objectName != null;
+    }
+
+    @Override
+    public void onFrame(FrameStats stats) {
+        layoutSolves += stats.count(FramePhase.LAYOUT);
+        styleResolves += stats.count(FramePhase.STYLE);
+        styleResolveNanos += stats.nanos(FramePhase.STYLE);
+    }
+
+    @Override
+    public long getFramesRendered() {
+        return framesRendered;
+    }
+
+    @Override
+    public long getFramesSkipped() {
+        return framesSkipped.getAsLong();
+    }
+
+    @Override
+    public int getEventQueueDepth() {
+        return eventQueueDepth.getAsInt();
+    }
+
+    @Override
+    public Map<String, Long> getEventCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<Class<?>, AtomicLong> entry : eventCounts.entrySet()) {
+            counts.put(entry.getKey().getSimpleName(), entry.getValue().get());
+        }
+        return counts;
+    }
+
+    @Override
+    public synchronized Map<String, Double> getEventsPerSecond() {
+        long now = System.nanoTime();
+        if (rates != null && now - rateSampleNanos < MIN_RATE_INTERVAL_NANOS) {
+            return rates;
+        }
+        double seconds = Math.max(now - rateSampleNanos, 1) / 1_000_000_000.0;
+        Map<Class<?>, Long> counts = new ConcurrentHashMap<>();
+        Map<String, Double> result = new TreeMap<>();
+        for (Map.Entry<Class<?>, AtomicLong> entry : eventCounts.entrySet()) {
+            long count = entry.getValue().get();
+            Long previous = rateSampleCounts != null ? rateSampleCounts.get(entry.getKey()) : null;
+            counts.put(entry.getKey(), count);
+            result.put(entry.getKey().getSimpleName(), (count - (previous != null ? previous : 0)) / seconds);
+        }
+        rateSampleNanos = now;
+        rateSampleCounts = counts;
+        rates = result;
+        return result;
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return output != null ? output.bytesWritten() : -1;
+    }
+
+    @Override
+    public long getWriteCount() {
+        return output != null ? output.writeCount() : -1;
+    }
+
+    @Override
+    public double getLayoutCacheHitRate() {
+        LayoutCache cache = LayoutCache.instance();
+        long hits = cache.hits();
+        long total = hits + cache.misses();
+        return total > 0 ? (double) hits / total : 0;
+    }
+
+    @Override
+    public long getLayoutCacheEvictions() {
+        return LayoutCache.instance().evictions();
+    }
+
+    @Override
+    public long getLayoutSolveCount() {
+        return layoutSolves;
+    }
+
+    @Override
+    public long getStyleResolveCount() {
+        return styleResolves;
+    }
+
+    @Override
+    public long getStyleResolveTimeNanos() {
+        return styleResolveNanos;
+    }
+
+    @Override
+    public long getAllocatedBytesLastFrame() {
+        return allocatedLastFrame;
+    }
+
+    @Override
+    public double getAllocatedBytesPerFrame() {
+        long frames = allocationFrames;
+        return frames > 0 ? (double) allocatedTotal / frames : -1;
+    }
+
+    @Override
+    public double getFrameTimeP50Millis() {
+        return frameMetrics.frameNanos().valueAtPercentile(50) / 1_000_000.0;
+    }
+
+    @Override
+    public double getFrameTimeP99Millis() {
+        return frameMetrics.frameNanos().valueAtPercentile(99) / 1_000_000.0;
+    }
+
+    @Override
+    public double getFrameTimeMaxMillis() {
+        return frameMetrics.frameNanos().max() / 1_000_000.0;
+    }
+
+    @Override
+    public Map<String, Long> getGauges() {
+        Map<String, Long> values = new TreeMap<>();
+        for (Map.Entry<String, LongSupplier> entry : gauges.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().getAsLong());
+        }
+        return values;
+    }
+
+    /**
+     * Per-thread allocation counter, isolated so that JVMs without
+     * {@code com.sun.management} only lose this measurement.
+     */
+    private static final class Allocations {
+        private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+        private static com.sun.management.ThreadMXBean threadMXBean() {
+            try {
+                java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+                if (bean instanceof com.sun.management.ThreadMXBean) {
+                    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+                    if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                        return threads;
+                    }
+                }
+            } catch (LinkageError | UnsupportedOperationException e) {
+                // Not available on this JVM
+            }
+            return null;
+        }
+
+        static long currentThread() {
+            try {
+                return THREADS != null ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+            } catch (LinkageError e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of a runner session, registered as
+ * {@code dev.tamboui:type=TuiRunner,id=<n>} in the platform MBean server.
+ *
+ * @see RunnerMetrics
+ */
+public interface RunnerMetricsMXBean {
+
+    /**
+     * Returns the number of frames drawn.
+     *
+     * @return the frame count
+     */
+    long getFramesRendered();
+
+    /**
+     * Returns the number of frames skipped because the backend was behind.
+     *
+     * @return the skipped frame count
+     */
+    long getFramesSkipped();
+
+    /**
+     * Returns the number of events waiting to be handled.
+     *
+     * @return the event queue depth
+     */
+    int getEventQueueDepth();
+
+    /**
+     * Returns the number of events handled per type since the session started.
+     *
+     * @return the event counts keyed by event type
+     */
+    Map<String, Long> getEventCounts();
+
+    /**
+     * Returns the rate of events handled per type, over the interval since
+     * the previous call (at least one second).
+     *
+     * @return the events per second keyed by event type
+     */
+    Map<String, Double> getEventsPerSecond();
+
+    /**
+     * Returns the total bytes written to the terminal.
+     *
+     * @return the bytes written, or -1 if the backend does not report it
+     */
+    long getBytesWritten();
+
+    /**
+     * Returns the total number of writes issued to the terminal.
+     *
+     * @return the write count, or -1 if the backend does not report it
+     */
+    long getWriteCount();
+
+    /**
+     * Returns the fraction of layout splits answered from the layout cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 if no layout was split
+     */
+    double getLayoutCacheHitRate();
+
+    /**
+     * Returns the number of entries evicted from the layout cache.
+     *
+     * @return the eviction count
+     */
+    long getLayoutCacheEvictions();
+
+    /**
+     * Returns the number of layout splits performed while drawing frames.
+     *
+     * @return the layout split count
+     */
+    long getLayoutSolveCount();
+
+    /**
+     * Returns the number of CSS style resolutions performed while drawing frames.
+     *
+     * @return the style resolution count
+     */
+    long getStyleResolveCount();
+
+    /**
+     * Returns the total time spent resolving CSS styles.
+     *
+     * @return the time in nanoseconds
+     */
+    long getStyleResolveTimeNanos();
+
+    /**
+     * Returns the bytes allocated by the render thread while drawing the last frame.
+     *
+     * @return the allocated bytes, or -1 if the JVM does not report allocations
+     */
+    long getAllocatedBytesLastFrame();
+
+    /**
+     * Returns the mean bytes allocated by the render thread per frame.
+     *
+     * @return the mean allocated bytes, or -1 if the JVM does not report allocations
+     */
+    double getAllocatedBytesPerFrame();
+
+    /**
+     * Returns the median frame time.
+     *
+     * @return the p50 frame time in milliseconds
+     */
+    double getFrameTimeP50Millis();
+
+    /**
+     * Returns the 99th percentile frame time.
+     *
+     * @return the p99 frame time in milliseconds
+     */
+    double getFrameTimeP99Millis();
+
+    /**
+     * Returns the longest frame time.
+     *
+     * @return the maximum frame time in milliseconds
+     */
+    double getFrameTimeMaxMillis();
+
+    /**
+     * Returns the values of the gauges registered by integrations, such as
+     * the number of active effects.
+     *
+     * @return the gauge values keyed by name
+     */
+    Map<String, Long> getGauges();
+}
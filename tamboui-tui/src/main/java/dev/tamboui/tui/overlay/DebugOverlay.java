@@ -5,33 +5,56 @@
 package dev.tamboui.tui.overlay;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import dev.tamboui.layout.Rect;
 import dev.tamboui.style.Color;
 import dev.tamboui.style.Style;
 import dev.tamboui.terminal.Frame;
+import dev.tamboui.terminal.FramePhase;
+import dev.tamboui.terminal.FrameStats;
+import dev.tamboui.terminal.FrameStatsListener;
 import dev.tamboui.text.Line;
 import dev.tamboui.text.Span;
 import dev.tamboui.text.Text;
+import dev.tamboui.tui.metrics.FrameMetrics;
+import dev.tamboui.tui.metrics.Histogram;
+import dev.tamboui.tui.time.TimeSource;
 import dev.tamboui.widgets.Clear;
 import dev.tamboui.widgets.block.Block;
 import dev.tamboui.widgets.block.BorderType;
 import dev.tamboui.widgets.block.Borders;
 import dev.tamboui.widgets.block.Title;
 import dev.tamboui.widgets.paragraph.Paragraph;
+import dev.tamboui.widgets.sparkline.Sparkline;
 
 /**
  * Debug overlay that displays performance metrics and system information.
  * <p>
  * Shows the backend name, actual frame rate (computed from render timing),
- * configured poll timeout, and tick rate.
+ * configured poll timeout, and tick rate. For backends that report output
+ * backpressure, the output backlog, latest write latency and number of
+ * dropped frames are shown as well.
+ * <p>
+ * While visible, the overlay also listens to the per-phase frame timings of the
+ * terminal and shows where the previous frame spent its time: element tree,
+ * layout, style resolution, diff, encoding and flush.
+ * <p>
+ * When given the {@link FrameMetrics} of the runner, the p50, p99 and maximum
+ * frame times since the start (or the last reset) are shown, with a sparkline
+ * of the most recent frame times.
  * Toggle visibility with CTRL+SHIFT+F12.
  */
-public final class DebugOverlay {
+public final class DebugOverlay implements FrameStatsListener {
 
     private static final int OVERLAY_HEIGHT = 7;
+    private static final int BACKPRESSURE_LINES = 3;
+    private static final int PHASE_LINES = 7;
+    private static final int HISTOGRAM_LINES = 4;
     private static final int MIN_OVERLAY_WIDTH = 18;
     private static final long MIN_WINDOW_NANOS = 2_000_000_000L;  // 2 seconds minimum
+    private static final long SLOW_FRAME_NANOS = 50_000_000L;  // 50ms, a visible stall
     private final int overlayWidth;
 
     private boolean visible;
@@ -39,6 +62,8 @@ public final class DebugOverlay {
     private final Duration pollTimeout;
     private final Duration tickRate;
     private final long startTimeNanos;
+    private final TimeSource timeSource;
+    private final FrameMetrics frameMetrics;
     private long renderCount;
 
     // FPS measurement window
@@ -47,6 +72,15 @@ public final class DebugOverlay {
     private int windowFrameCount;
     private double lastFps;
 
+    // Output backpressure, only tracked for backends that report it
+    private boolean backpressureTracked;
+    private long bytesInFlight;
+    private long writeLatencyNanos;
+    private long droppedFrames;
+
+    // Per-phase timings of the latest timed frame
+    private FrameStats lastFrameStats;
+
     /**
      * Creates a new debug overlay.
      *
@@ -55,18 +89,46 @@ public final class DebugOverlay {
      * @param tickRate the configured tick rate (may be null if ticks disabled)
      */
     public DebugOverlay(String backendName, Duration pollTimeout, Duration tickRate) {
+        this(backendName, pollTimeout, tickRate, null);
+    }
+
+    /**
+     * Creates a new debug overlay showing frame time percentiles.
+     *
+     * @param backendName the name of the backend being used
+     * @param pollTimeout the configured poll timeout
+     * @param tickRate the configured tick rate (may be null if ticks disabled)
+     * @param frameMetrics the frame metrics of the runner (may be null)
+     */
+    public DebugOverlay(String backendName, Duration pollTimeout, Duration tickRate, FrameMetrics frameMetrics) {
+        this(backendName, pollTimeout, tickRate, frameMetrics, TimeSource.system());
+    }
+
+    /**
+     * Creates a new debug overlay whose runtime and frame rate follow the given clock.
+     *
+     * @param backendName the name of the backend being used
+     * @param pollTimeout the configured poll timeout
+     * @param tickRate the configured tick rate (may be null if ticks disabled)
+     * @param frameMetrics the frame metrics of the runner (may be null)
+     * @param timeSource the clock of the runner
+     */
+    public DebugOverlay(String backendName, Duration pollTimeout, Duration tickRate, FrameMetrics frameMetrics,
+                        TimeSource timeSource) {
         this.backendName = backendName;
+        this.timeSource = timeSource;
+        this.frameMetrics = frameMetrics;
         this.pollTimeout = pollTimeout;
         this.tickRate = tickRate;
         this.visible = false;
-        this.startTimeNanos = System.nanoTime();
+        this.startTimeNanos = timeSource.nanoTime();
         // Width = "Backend: " (9) + backend name + border (2)
         this.overlayWidth = Math.max(MIN_OVERLAY_WIDTH, 9 + backendName.length() + 2);
 
         // FPS window = max(tickRate, 2 seconds)
         long tickRateNanos = tickRate != null ? tickRate.toNanos() : 0;
         this.windowDurationNanos = Math.max(tickRateNanos, MIN_WINDOW_NANOS);
-        this.windowStartNanos = System.nanoTime();
+        this.windowStartNanos = timeSource.nanoTime();
         this.windowFrameCount = 0;
         this.lastFps = 0;
     }
@@ -98,7 +160,7 @@ public final class DebugOverlay {
         windowFrameCount++;
 
         // Check if measurement window has elapsed
-        long now = System.nanoTime();
+        long now = timeSource.nanoTime();
         long elapsed = now - windowStartNanos;
         if (elapsed >= windowDurationNanos) {
             // Calculate FPS for this window and start a new one
@@ -109,11 +171,50 @@ public final class DebugOverlay {
         }
     }
 
+    /**
+     * Records the output backpressure of the backend.
+     * <p>
+     * Once called, the overlay additionally shows the output backlog,
+     * the latest write latency and the number of dropped frames.
+     *
+     * @param bytesInFlight the bytes flushed but not yet written
+     * @param writeLatencyNanos the latency of the latest write in nanoseconds
+     * @param droppedFrames the total number of frames dropped so far
+     */
+    public void recordBackpressure(long bytesInFlight, long writeLatencyNanos, long droppedFrames) {
+        this.backpressureTracked = true;
+        this.bytesInFlight = bytesInFlight;
+        this.writeLatencyNanos = writeLatencyNanos;
+        this.droppedFrames = droppedFrames;
+    }
+
+    /**
+     * Records the per-phase timings of a frame.
+     * <p>
+     * Called by the terminal while the overlay is visible.
+     *
+     * @param stats the frame timings
+     */
+    @Override
+    public void onFrame(FrameStats stats) {
+        this.lastFrameStats = stats;
+    }
+
+    /**
+     * Frames are only timed for the overlay while it is visible.
+     *
+     * @return true if the overlay is visible
+     */
+    @Override
+    public boolean isEnabled() {
+        return visible;
+    }
+
     /**
      * Computes runtime in seconds.
      */
     private double computeRuntimeSeconds() {
-        return (System.nanoTime() - startTimeNanos) / 1_000_000_000.0;
+        return (timeSource.nanoTime() - startTimeNanos) / 1_000_000_000.0;
     }
 
     /**
@@ -130,7 +231,7 @@ public final class DebugOverlay {
         if (windowFrameCount < 2) {
             return 0;
         }
-        long elapsed = System.nanoTime() - windowStartNanos;
+        long elapsed = timeSource.nanoTime() - windowStartNanos;
         if (elapsed <= 0) {
             return 0;
         }
@@ -177,7 +278,13 @@ public final class DebugOverlay {
         }
 
         int width = Math.min(overlayWidth, area.width());
-        int height = Math.min(OVERLAY_HEIGHT, area.height());
+        FrameStats stats = lastFrameStats;
+        boolean histogram = frameMetrics != null && frameMetrics.frameNanos().count() > 0;
+        int overlayHeight = OVERLAY_HEIGHT
+                + (backpressureTracked ? BACKPRESSURE_LINES : 0)
+                + (histogram ? HISTOGRAM_LINES : 0)
+                + (stats != null ? PHASE_LINES : 0);
+        int height = Math.min(overlayHeight, area.height());
 
         Rect overlayArea = new Rect(x, y, width, height);
 
@@ -217,18 +324,57 @@ public final class DebugOverlay {
         }
 
         // Render debug text
-        Text content = Text.from(
-                Line.from(Span.styled(backendLine, Style.EMPTY.fg(Color.MAGENTA))),
-                Line.from(Span.styled(runtimeLine, Style.EMPTY.fg(Color.WHITE))),
-                Line.from(Span.styled(fpsLine, Style.EMPTY.fg(fpsColor).bold())),
-                Line.from(Span.styled(pollLine, Style.EMPTY.fg(Color.GRAY))),
-                Line.from(Span.styled(tickLine, Style.EMPTY.fg(Color.GRAY)))
-        );
+        List<Line> lines = new ArrayList<>();
+        lines.add(Line.from(Span.styled(backendLine, Style.EMPTY.fg(Color.MAGENTA))));
+        lines.add(Line.from(Span.styled(runtimeLine, Style.EMPTY.fg(Color.WHITE))));
+        lines.add(Line.from(Span.styled(fpsLine, Style.EMPTY.fg(fpsColor).bold())));
+        lines.add(Line.from(Span.styled(pollLine, Style.EMPTY.fg(Color.GRAY))));
+        lines.add(Line.from(Span.styled(tickLine, Style.EMPTY.fg(Color.GRAY))));
+        if (backpressureTracked) {
+            String backlogLine = String.format("Backlog: %.1fKB", bytesInFlight / 1024.0);
+            String writeLine = String.format("Write: %.1fms", writeLatencyNanos / 1_000_000.0);
+            String droppedLine = String.format("Dropped: %d", droppedFrames);
+            lines.add(Line.from(Span.styled(backlogLine, Style.EMPTY.fg(bytesInFlight > 0 ? Color.YELLOW : Color.GREEN))));
+            lines.add(Line.from(Span.styled(writeLine, Style.EMPTY.fg(Color.GRAY))));
+            lines.add(Line.from(Span.styled(droppedLine, Style.EMPTY.fg(droppedFrames > 0 ? Color.YELLOW : Color.GRAY))));
+        }
+        int sparklineRow = -1;
+        if (histogram) {
+            Histogram frameNanos = frameMetrics.frameNanos();
+            lines.add(phaseLine("p50", frameNanos.valueAtPercentile(50), Style.EMPTY.fg(Color.GRAY)));
+            lines.add(phaseLine("p99", frameNanos.valueAtPercentile(99), Style.EMPTY.fg(Color.GRAY)));
+            long max = frameNanos.max();
+            lines.add(phaseLine("Max", max, Style.EMPTY.fg(max > SLOW_FRAME_NANOS ? Color.YELLOW : Color.GRAY)));
+            sparklineRow = lines.size();
+            lines.add(Line.from(Span.raw("")));
+        }
+        if (stats != null) {
+            lines.add(phaseLine("Frame", stats.totalNanos(), Style.EMPTY.fg(Color.WHITE).bold()));
+            lines.add(phaseLine("Tree", stats.treeNanos(), Style.EMPTY.fg(Color.GRAY)));
+            lines.add(phaseLine("Layout", stats.nanos(FramePhase.LAYOUT), Style.EMPTY.fg(Color.GRAY)));
+            lines.add(phaseLine("Style", stats.nanos(FramePhase.STYLE), Style.EMPTY.fg(Color.GRAY)));
+            lines.add(phaseLine("Diff", stats.nanos(FramePhase.DIFF), Style.EMPTY.fg(Color.GRAY)));
+            lines.add(phaseLine("Encode", stats.nanos(FramePhase.ENCODE), Style.EMPTY.fg(Color.GRAY)));
+            lines.add(phaseLine("Flush", stats.nanos(FramePhase.FLUSH), Style.EMPTY.fg(Color.GRAY)));
+        }
+        Text content = Text.from(lines);
 
         Paragraph paragraph = Paragraph.builder()
                 .text(content)
                 .build();
 
         frame.renderWidget(paragraph, innerArea);
+
+        if (sparklineRow >= 0 && sparklineRow < innerArea.height()) {
+            Sparkline sparkline = Sparkline.builder()
+                    .data(frameMetrics.recentFrameNanos())
+                    .style(Style.EMPTY.fg(Color.CYAN))
+                    .build();
+            frame.renderWidget(sparkline, new Rect(innerArea.x(), innerArea.y() + sparklineRow, innerArea.width(), 1));
+        }
+    }
+
+    private static Line phaseLine(String label, long nanos, Style style) {
+        return Line.from(Span.styled(String.format("%-7s%6.2fms", label + ":", nanos / 1_000_000.0), style));
     }
 }
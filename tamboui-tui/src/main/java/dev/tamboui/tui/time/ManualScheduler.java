@@ -0,0 +1,212 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.time;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler of a {@link ManualTimeSource}: tasks only run when the clock is advanced.
+ */
+final class ManualScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final ManualTimeSource clock;
+    private final PriorityQueue<Task<?>> queue = new PriorityQueue<>();
+    private long sequence;
+    private boolean shutdown;
+
+    ManualScheduler(ManualTimeSource clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Runs the tasks due at or before the given time, in order of due time.
+     */
+    void runUntil(long targetNanos) {
+        Task<?> task;
+        while ((task = pollDue(targetNanos)) != null) {
+            clock.set(task.dueNanos);
+            task.run();
+            if (task.isPeriodic() && !task.isDone()) {
+                task.dueNanos = task.period > 0 ? task.dueNanos + task.period : clock.nanoTime() - task.period;
+                enqueue(task);
+            }
+        }
+    }
+
+    /**
+     * Returns the due time of the next task, or {@code Long.MIN_VALUE} if there is none.
+     */
+    synchronized long nextDueNanos() {
+        purgeCancelled();
+        Task<?> next = queue.peek();
+        return next != null ? next.dueNanos : Long.MIN_VALUE;
+    }
+
+    private synchronized Task<?> pollDue(long targetNanos) {
+        purgeCancelled();
+        Task<?> next = queue.peek();
+        if (next == null || next.dueNanos > targetNanos) {
+            return null;
+        }
+        return queue.poll();
+    }
+
+    private void purgeCancelled() {
+        while (!queue.isEmpty() && queue.peek().isCancelled()) {
+            queue.poll();
+        }
+    }
+
+    private synchronized <T> Task<T> enqueue(Task<T> task) {
+        if (shutdown) {
+            if (task.sequence < 0) {
+                throw new RejectedExecutionException("Scheduler is shut down");
+            }
+            task.cancel(false);
+            return task;
+        }
+        if (task.sequence < 0) {
+            task.sequence = sequence++;
+        }
+        queue.add(task);
+        return task;
+    }
+
+    private long dueTime(long delay, TimeUnit unit) {
+        return clock.nanoTime() + Math.max(0, unit.toNanos(delay));
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return enqueue(new Task<Object>(Executors.callable(command), dueTime(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return enqueue(new Task<>(callable, dueTime(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        return enqueue(new Task<Object>(Executors.callable(command), dueTime(initialDelay, unit), unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay must be positive: " + delay);
+        }
+        return enqueue(new Task<Object>(Executors.callable(command), dueTime(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        for (Task<?> task : queue) {
+            if (task.isPeriodic()) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> pending = new ArrayList<>(queue);
+        for (Task<?> task : queue) {
+            task.cancel(false);
+        }
+        queue.clear();
+        return pending;
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        purgeCancelled();
+        return shutdown && queue.isEmpty();
+    }
+
+    /**
+     * Waits for nothing: tasks only run while the clock is advanced.
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return isTerminated();
+    }
+
+    /**
+     * A task due at a time of the manual clock. A positive period means a
+     * fixed rate, a negative one a fixed delay.
+     */
+    private final class Task<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        private final long period;
+        private long dueNanos;
+        private long sequence = -1;
+
+        Task(Callable<V> callable, long dueNanos, long period) {
+            super(callable);
+            this.dueNanos = dueNanos;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - clock.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            if (other instanceof Task) {
+                Task<?> task = (Task<?>) other;
+                int byDue = Long.compare(dueNanos, task.dueNanos);
+                return byDue != 0 ? byDue : Long.compare(sequence, task.sequence);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public void run() {
+            if (isPeriodic()) {
+                runAndReset();
+            } else {
+                super.run();
+            }
+        }
+    }
+}
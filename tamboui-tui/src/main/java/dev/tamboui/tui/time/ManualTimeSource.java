@@ -0,0 +1,125 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.time;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A clock that only moves when {@link #advance(Duration) advanced}.
+ * <p>
+ * Tasks scheduled on its {@link #scheduler(ScheduledExecutorService) scheduler}
+ * never run on their own: {@link #advance(Duration)} runs the tasks falling
+ * due in the advanced interval on the calling thread, in the order of their
+ * due times, with the clock set to each task's due time while it runs.
+ * A runner using this clock therefore receives exactly one tick per tick
+ * period of advanced time, each reporting the tick period as its elapsed time,
+ * however long advancing takes in real time:
+ *
+ * <pre>{@code
+ * ManualTimeSource clock = new ManualTimeSource();
+ * TuiConfig config = TuiConfig.builder()
+ *         .tickRate(Duration.ofMillis(16))
+ *         .timeSource(clock)
+ *         .build();
+ * // ... start the runner, then simulate ten seconds of animation
+ * clock.advance(Duration.ofSeconds(10));
+ * }</pre>
+ *
+ * Tasks are kept until they run or are cancelled; a runner cancels its own
+ * tasks when closed, so a clock may be shared by successive runners.
+ */
+public final class ManualTimeSource implements TimeSource {
+
+    private final AtomicLong nanos;
+    private final ManualScheduler scheduler;
+
+    /**
+     * Creates a clock at time zero.
+     */
+    public ManualTimeSource() {
+        this(0);
+    }
+
+    /**
+     * Creates a clock at the given time.
+     *
+     * @param startNanos the initial time in nanoseconds
+     */
+    public ManualTimeSource(long startNanos) {
+        this.nanos = new AtomicLong(startNanos);
+        this.scheduler = new ManualScheduler(this);
+    }
+
+    @Override
+    public long nanoTime() {
+        return nanos.get();
+    }
+
+    /**
+     * Returns the scheduler of this clock, whatever the real-time scheduler.
+     *
+     * @param realTime ignored
+     * @return the scheduler running tasks when the clock is advanced
+     */
+    @Override
+    public ScheduledExecutorService scheduler(ScheduledExecutorService realTime) {
+        return scheduler;
+    }
+
+    /**
+     * Returns the scheduler of this clock.
+     *
+     * @return the scheduler running tasks when the clock is advanced
+     */
+    public ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Advances the clock, running the tasks falling due on the calling thread.
+     *
+     * @param duration the time to advance by
+     * @throws IllegalArgumentException if the duration is negative
+     */
+    public void advance(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Cannot go back in time: " + duration);
+        }
+        long target = nanos.get() + duration.toNanos();
+        scheduler.runUntil(target);
+        set(target);
+    }
+
+    /**
+     * Advances the clock to the due time of the next scheduled task and runs it,
+     * along with any task due at the same time.
+     *
+     * @return true if a task was due, false if no task is scheduled
+     */
+    public boolean advanceToNextTask() {
+        long next = scheduler.nextDueNanos();
+        if (next == Long.MIN_VALUE) {
+            return false;
+        }
+        long target = Math.max(next, nanos.get());
+        scheduler.runUntil(target);
+        set(target);
+        return true;
+    }
+
+    /**
+     * Moves the clock forward to the given time, never backwards.
+     */
+    void set(long targetNanos) {
+        nanos.accumulateAndGet(targetNanos, Math::max);
+    }
+
+    @Override
+    public String toString() {
+        return "ManualTimeSource[" + Duration.ofNanos(nanos.get()) + "]";
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.time;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A clock running a fixed number of times faster than real time.
+ */
+final class ScaledTimeSource implements TimeSource {
+
+    private final double speed;
+    private final long originNanos;
+
+    ScaledTimeSource(double speed) {
+        if (!(speed > 0) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException("speed must be positive: " + speed);
+        }
+        this.speed = speed;
+        this.originNanos = System.nanoTime();
+    }
+
+    @Override
+    public long nanoTime() {
+        return originNanos + (long) ((System.nanoTime() - originNanos) * speed);
+    }
+
+    @Override
+    public ScheduledExecutorService scheduler(ScheduledExecutorService realTime) {
+        return new ScaledScheduler(realTime);
+    }
+
+    /**
+     * Converts a duration of this clock to real nanoseconds.
+     */
+    long toRealNanos(long duration, TimeUnit unit) {
+        return (long) (unit.toNanos(duration) / speed);
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSource.fastForward(" + speed + ")";
+    }
+
+    /**
+     * Delegates to a real-time scheduler, dividing delays and periods by the speed.
+     * The delays of the returned futures are in real time.
+     */
+    private final class ScaledScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+        private final ScheduledExecutorService delegate;
+
+        ScaledScheduler(ScheduledExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return delegate.schedule(command, toRealNanos(delay, unit), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            return delegate.schedule(callable, toRealNanos(delay, unit), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            return delegate.scheduleAtFixedRate(command, toRealNanos(initialDelay, unit),
+                    realPeriod(period, unit), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            return delegate.scheduleWithFixedDelay(command, toRealNanos(initialDelay, unit),
+                    realPeriod(delay, unit), TimeUnit.NANOSECONDS);
+        }
+
+        private long realPeriod(long period, TimeUnit unit) {
+            if (period <= 0) {
+                throw new IllegalArgumentException("period must be positive: " + period);
+            }
+            return Math.max(1, toRealNanos(period, unit));
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
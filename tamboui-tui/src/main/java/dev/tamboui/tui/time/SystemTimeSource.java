@@ -0,0 +1,33 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.time;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * The real-time clock.
+ */
+final class SystemTimeSource implements TimeSource {
+
+    static final SystemTimeSource INSTANCE = new SystemTimeSource();
+
+    private SystemTimeSource() {
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public ScheduledExecutorService scheduler(ScheduledExecutorService realTime) {
+        return realTime;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSource.system()";
+    }
+}
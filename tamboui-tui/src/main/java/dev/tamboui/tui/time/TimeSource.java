@@ -0,0 +1,116 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.time;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * The clock driving a runner's ticks and scheduled actions.
+ * <p>
+ * The runner reads the time of its tick events from {@link #nanoTime()} and
+ * schedules its tick callback, as well as the actions scheduled through
+ * {@link dev.tamboui.tui.TuiRunner#scheduler()}, on the scheduler returned by
+ * {@link #scheduler(ScheduledExecutorService)}. Animations driven by the
+ * elapsed time of tick events, such as effects, therefore follow this clock.
+ * <p>
+ * Besides the {@link #system() system} clock, a {@link ManualTimeSource}
+ * only moves when told to, and a {@link #fastForward(double) fast-forward}
+ * clock runs faster than real time. Both let tests and benchmarks simulate
+ * minutes of UI time in a fraction of that.
+ * <p>
+ * The default clock of a {@link dev.tamboui.tui.TuiConfig} is given by the
+ * {@value #PROPERTY} system property, so that an unmodified application can
+ * be run fast-forward, e.g. with {@code -Dtamboui.time=fast:10}.
+ *
+ * @see dev.tamboui.tui.TuiConfig.Builder#timeSource(TimeSource)
+ */
+public interface TimeSource {
+
+    /**
+     * The system property selecting the default clock: {@code system}, or
+     * {@code fast:<speed>} for a {@link #fastForward(double) fast-forward} clock.
+     */
+    String PROPERTY = "tamboui.time";
+
+    /**
+     * Returns the current time of this clock.
+     * <p>
+     * Like {@link System#nanoTime()}, the value is only meaningful when
+     * compared to another value of the same clock.
+     *
+     * @return the current time in nanoseconds
+     */
+    long nanoTime();
+
+    /**
+     * Returns a scheduler running tasks at the times of this clock.
+     * <p>
+     * The runner passes the real-time scheduler it would otherwise use; the
+     * runner remains responsible for shutting that scheduler down.
+     *
+     * @param realTime the real-time scheduler of the runner
+     * @return the scheduler to use
+     */
+    ScheduledExecutorService scheduler(ScheduledExecutorService realTime);
+
+    /**
+     * Returns the system clock, which uses {@link System#nanoTime()} and
+     * schedules tasks in real time.
+     *
+     * @return the system clock
+     */
+    static TimeSource system() {
+        return SystemTimeSource.INSTANCE;
+    }
+
+    /**
+     * Returns a clock running {@code speed} times faster than real time.
+     * <p>
+     * Scheduled delays and periods are divided by the speed, so that at a
+     * speed of 100 a tick rate of 40 ms delivers ticks every 0.4 ms, each
+     * reporting 40 ms of elapsed time.
+     *
+     * @param speed how many times faster than real time the clock runs
+     * @return the fast-forward clock, starting at the current system time
+     * @throws IllegalArgumentException if speed is not positive
+     */
+    static TimeSource fastForward(double speed) {
+        return new ScaledTimeSource(speed);
+    }
+
+    /**
+     * Returns the clock selected by the {@value #PROPERTY} system property.
+     *
+     * @return the selected clock, or the system clock if the property is not set
+     * @throws IllegalArgumentException if the property value is invalid
+     * @see #parse(String)
+     */
+    static TimeSource fromSystemProperty() {
+        return parse(System.getProperty(PROPERTY));
+    }
+
+    /**
+     * Parses a clock specification: {@code system}, or {@code fast:<speed>}
+     * for a {@link #fastForward(double) fast-forward} clock.
+     *
+     * @param spec the specification, or null for the system clock
+     * @return the clock
+     * @throws IllegalArgumentException if the specification is invalid
+     */
+    static TimeSource parse(String spec) {
+        if (spec == null || spec.trim().isEmpty() || "system".equals(spec.trim())) {
+            return system();
+        }
+        String value = spec.trim();
+        if (value.startsWith("fast:")) {
+            try {
+                return fastForward(Double.parseDouble(value.substring("fast:".length())));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid speed in time source: " + spec, e);
+            }
+        }
+        throw new IllegalArgumentException("Unknown time source: " + spec + " (expected system or fast:<speed>)");
+    }
+}
@@ -13,10 +13,14 @@ module dev.tamboui.tui {
     requires transitive dev.tamboui.annotations;
     requires transitive dev.tamboui.core;
     requires transitive dev.tamboui.widgets;
+    requires java.management;
+    requires static jdk.management;
 
     exports dev.tamboui.tui;
     exports dev.tamboui.tui.bindings;
     exports dev.tamboui.tui.event;
+    exports dev.tamboui.tui.metrics;
+    exports dev.tamboui.tui.time;
 
     opens dev.tamboui.tui.bindings;
     exports dev.tamboui.tui.error;
@@ -0,0 +1,97 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.terminal.BackpressureAware;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for FrameThrottle.
+ */
+class FrameThrottleTest {
+
+    @Test
+    @DisplayName("Frames are drawn while nothing is in flight")
+    void drawsWhenDrained() {
+        FakeBackend backend = new FakeBackend();
+        FrameThrottle throttle = new FrameThrottle(backend, () -> { });
+
+        assertThat(throttle.tryBeginFrame()).isTrue();
+        assertThat(throttle.tryBeginFrame()).isTrue();
+        assertThat(throttle.droppedFrames()).isZero();
+    }
+
+    @Test
+    @DisplayName("Frames are dropped while output is in flight")
+    void dropsWhileBehind() {
+        FakeBackend backend = new FakeBackend();
+        FrameThrottle throttle = new FrameThrottle(backend, () -> { });
+        backend.inFlight = 4096;
+
+        assertThat(throttle.tryBeginFrame()).isFalse();
+        assertThat(throttle.tryBeginFrame()).isFalse();
+        assertThat(throttle.droppedFrames()).isEqualTo(2);
+        assertThat(throttle.bytesInFlight()).isEqualTo(4096);
+    }
+
+    @Test
+    @DisplayName("A single redraw is requested when the output drains after dropped frames")
+    void redrawsOnceAfterDrain() {
+        FakeBackend backend = new FakeBackend();
+        AtomicInteger redraws = new AtomicInteger();
+        FrameThrottle throttle = new FrameThrottle(backend, redraws::incrementAndGet);
+
+        backend.inFlight = 100;
+        throttle.tryBeginFrame();
+        throttle.tryBeginFrame();
+        backend.drain();
+        backend.drain();
+
+        assertThat(redraws.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("No redraw is requested on drain when no frame was dropped")
+    void noRedrawWithoutDrops() {
+        FakeBackend backend = new FakeBackend();
+        AtomicInteger redraws = new AtomicInteger();
+        new FrameThrottle(backend, redraws::incrementAndGet);
+
+        backend.drain();
+
+        assertThat(redraws.get()).isZero();
+    }
+
+    private static final class FakeBackend implements BackpressureAware {
+        private long inFlight;
+        private Runnable drainListener;
+
+        void drain() {
+            inFlight = 0;
+            drainListener.run();
+        }
+
+        @Override
+        public long bytesInFlight() {
+            return inFlight;
+        }
+
+        @Override
+        public long lastWriteLatencyNanos() {
+            return 0;
+        }
+
+        @Override
+        public void onDrain(Runnable listener) {
+            this.drainListener = listener;
+        }
+    }
+}
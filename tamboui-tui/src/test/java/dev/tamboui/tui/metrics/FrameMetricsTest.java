@@ -0,0 +1,61 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrameMetricsTest {
+
+    @Test
+    @DisplayName("recent frame times are returned oldest first and capped")
+    void recentFrames() {
+        FrameMetrics metrics = new FrameMetrics();
+        for (int i = 1; i <= FrameMetrics.RECENT_FRAMES + 3; i++) {
+            metrics.recordFrame(i);
+        }
+
+        long[] recent = metrics.recentFrameNanos();
+
+        assertThat(recent).hasSize(FrameMetrics.RECENT_FRAMES);
+        assertThat(recent[0]).isEqualTo(4);
+        assertThat(recent[recent.length - 1]).isEqualTo(FrameMetrics.RECENT_FRAMES + 3);
+    }
+
+    @Test
+    @DisplayName("snapshotAndReset covers each interval once")
+    void intervalSnapshots() {
+        FrameMetrics metrics = new FrameMetrics();
+        metrics.recordFrame(1_000_000);
+        metrics.recordInputLatency(3_000_000);
+        metrics.recordBytes(512);
+
+        FrameMetrics.Snapshot first = metrics.snapshotAndReset();
+        metrics.recordFrame(2_000_000);
+        FrameMetrics.Snapshot second = metrics.snapshotAndReset();
+
+        assertThat(first.frameNanos().count()).isEqualTo(1);
+        assertThat(first.inputLatencyNanos().max()).isEqualTo(3_000_000);
+        assertThat(first.bytesPerFrame().max()).isEqualTo(512);
+        assertThat(second.frameNanos().count()).isEqualTo(1);
+        assertThat(second.frameNanos().max()).isEqualTo(2_000_000);
+        assertThat(second.inputLatencyNanos().count()).isZero();
+        assertThat(metrics.recentFrameNanos()).containsExactly(1_000_000, 2_000_000);
+    }
+
+    @Test
+    @DisplayName("reset clears the recent frame times as well")
+    void reset() {
+        FrameMetrics metrics = new FrameMetrics();
+        metrics.recordFrame(1_000_000);
+
+        metrics.reset();
+
+        assertThat(metrics.frameNanos().count()).isZero();
+        assertThat(metrics.recentFrameNanos()).isEmpty();
+    }
+}
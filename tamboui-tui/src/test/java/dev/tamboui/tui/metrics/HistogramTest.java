@@ -0,0 +1,109 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HistogramTest {
+
+    @Test
+    @DisplayName("small values are counted exactly")
+    void exactSmallValues() {
+        Histogram histogram = new Histogram(1000, 6);
+        for (int i = 1; i <= 50; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.valueAtPercentile(50)).isEqualTo(25);
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(50);
+        assertThat(histogram.max()).isEqualTo(50);
+        assertThat(histogram.count()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("large values keep the configured relative precision")
+    void relativePrecision() {
+        int precisionBits = 6;
+        double maxError = 1.0 / (1 << (precisionBits - 1));
+        for (long value = 1; value < TimeUnit.SECONDS.toNanos(30); value = value * 3 + 7) {
+            int index = Histogram.bucketIndex(value, precisionBits);
+            long upper = Histogram.highestValueInBucket(index, precisionBits);
+            assertThat(upper).isGreaterThanOrEqualTo(value);
+            assertThat((double) (upper - value) / value).isLessThanOrEqualTo(maxError);
+        }
+    }
+
+    @Test
+    @DisplayName("buckets are contiguous")
+    void contiguousBuckets() {
+        for (int index = 0; index < 500; index++) {
+            long upper = Histogram.highestValueInBucket(index, 5);
+            assertThat(Histogram.bucketIndex(upper, 5)).isEqualTo(index);
+            assertThat(Histogram.bucketIndex(upper + 1, 5)).isEqualTo(index + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("p99 exposes a rare stall hidden by the mean")
+    void p99ShowsStalls() {
+        Histogram histogram = new Histogram(TimeUnit.MINUTES.toNanos(1), 6);
+        for (int i = 0; i < 980; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(2));
+        }
+        for (int i = 0; i < 20; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(200));
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.valueAtPercentile(50)).isCloseTo(TimeUnit.MILLISECONDS.toNanos(2), within(70_000L));
+        assertThat(snapshot.valueAtPercentile(99)).isCloseTo(TimeUnit.MILLISECONDS.toNanos(200), within(7_000_000L));
+        assertThat(snapshot.mean()).isLessThan(TimeUnit.MILLISECONDS.toNanos(6));
+        assertThat(snapshot.max()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    @DisplayName("values above the highest trackable value are clamped but the max is exact")
+    void clampsLargeValues() {
+        Histogram histogram = new Histogram(1000, 4);
+        histogram.record(5);
+        histogram.record(1_000_000);
+
+        assertThat(histogram.max()).isEqualTo(1_000_000);
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(1_000_000);
+        assertThat(histogram.snapshot().bucketCount()).isEqualTo(Histogram.bucketIndex(1000, 4) + 1);
+    }
+
+    @Test
+    @DisplayName("snapshotAndReset returns the values and empties the histogram")
+    void snapshotAndReset() {
+        Histogram histogram = new Histogram(1000, 6);
+        histogram.record(10);
+        histogram.record(-3);
+
+        HistogramSnapshot snapshot = histogram.snapshotAndReset();
+
+        assertThat(snapshot.count()).isEqualTo(2);
+        assertThat(snapshot.min()).isZero();
+        assertThat(snapshot.max()).isEqualTo(10);
+        assertThat(snapshot.countInBucket(10)).isEqualTo(1);
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.valueAtPercentile(99)).isZero();
+        assertThat(histogram.snapshot().min()).isZero();
+    }
+
+    @Test
+    @DisplayName("rejects invalid configurations")
+    void validatesArguments() {
+        assertThatThrownBy(() -> new Histogram(1000, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Histogram(0, 6)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
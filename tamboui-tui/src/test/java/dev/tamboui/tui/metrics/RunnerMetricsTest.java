@@ -0,0 +1,114 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.terminal.FramePhase;
+import dev.tamboui.terminal.FrameStats;
+import dev.tamboui.terminal.OutputStatistics;
+import dev.tamboui.tui.event.KeyEvent;
+import dev.tamboui.tui.event.TickEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RunnerMetricsTest {
+
+    private final FrameMetrics frameMetrics = new FrameMetrics();
+    private final RunnerMetrics metrics = new RunnerMetrics(frameMetrics, () -> 3, () -> 7, new OutputStatistics() {
+        @Override
+        public long bytesWritten() {
+            return 4096;
+        }
+
+        @Override
+        public long writeCount() {
+            return 12;
+        }
+    });
+
+    @AfterEach
+    void unregister() {
+        metrics.unregister();
+    }
+
+    @Test
+    @DisplayName("registered metrics are readable through the platform MBean server")
+    void readsAttributes() throws Exception {
+        assertThat(metrics.register()).isTrue();
+        ObjectName name = metrics.objectName();
+        assertThat(name.getDomain()).isEqualTo("dev.tamboui");
+        assertThat(name.getKeyProperty("type")).isEqualTo("TuiRunner");
+
+        metrics.recordEvent(KeyEvent.ofChar('a'));
+        metrics.recordEvent(KeyEvent.ofChar('b'));
+        metrics.recordEvent(TickEvent.of(1, Duration.ZERO));
+        metrics.recordFrame(metrics.beginFrame());
+        frameMetrics.recordFrame(2_000_000);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertThat(server.getAttribute(name, "FramesRendered")).isEqualTo(1L);
+        assertThat(server.getAttribute(name, "FramesSkipped")).isEqualTo(7L);
+        assertThat(server.getAttribute(name, "EventQueueDepth")).isEqualTo(3);
+        assertThat(server.getAttribute(name, "BytesWritten")).isEqualTo(4096L);
+        assertThat(server.getAttribute(name, "WriteCount")).isEqualTo(12L);
+        assertThat((Double) server.getAttribute(name, "FrameTimeMaxMillis")).isGreaterThanOrEqualTo(2.0);
+        assertThat(metrics.getEventCounts()).containsEntry("KeyEvent", 2L).containsEntry("TickEvent", 1L);
+    }
+
+    @Test
+    @DisplayName("unregistered metrics are not collected")
+    void disabledUntilRegistered() throws Exception {
+        assertThat(metrics.isEnabled()).isFalse();
+        assertThat(metrics.beginFrame()).isEqualTo(-1);
+        metrics.recordEvent(KeyEvent.ofChar('a'));
+        assertThat(metrics.getEventCounts()).isEmpty();
+
+        metrics.register();
+        ObjectName name = metrics.objectName();
+        metrics.unregister();
+
+        assertThat(metrics.isEnabled()).isFalse();
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(name)).isFalse();
+    }
+
+    @Test
+    @DisplayName("style and layout work is accumulated from frame stats")
+    void accumulatesFrameStats() {
+        long[] nanos = new long[FramePhase.values().length];
+        int[] counts = new int[nanos.length];
+        nanos[FramePhase.STYLE.ordinal()] = 500;
+        counts[FramePhase.STYLE.ordinal()] = 4;
+        counts[FramePhase.LAYOUT.ordinal()] = 2;
+
+        metrics.onFrame(new FrameStats(1, 0, 1000, nanos, counts, 0));
+        metrics.onFrame(new FrameStats(2, 0, 1000, nanos, counts, 0));
+
+        assertThat(metrics.getStyleResolveCount()).isEqualTo(8);
+        assertThat(metrics.getStyleResolveTimeNanos()).isEqualTo(1000);
+        assertThat(metrics.getLayoutSolveCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("gauges are evaluated when read")
+    void gauges() {
+        long[] value = {1};
+        metrics.gauge("activeEffects", () -> value[0]);
+        value[0] = 5;
+
+        Map<String, Long> gauges = metrics.getGauges();
+
+        assertThat(gauges).containsEntry("activeEffects", 5L);
+    }
+}
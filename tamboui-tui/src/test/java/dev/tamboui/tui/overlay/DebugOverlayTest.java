@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import dev.tamboui.buffer.Buffer;
 import dev.tamboui.layout.Rect;
 import dev.tamboui.terminal.Frame;
+import dev.tamboui.tui.metrics.FrameMetrics;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -144,4 +145,60 @@ class DebugOverlayTest {
 
         overlay.render(frame, area);
     }
+
+    @Test
+    @DisplayName("render() shows backlog and dropped frames once backpressure is recorded")
+    void renderShowsBackpressure() {
+        DebugOverlay overlay = new DebugOverlay("test", Duration.ofMillis(100), Duration.ofMillis(100));
+        overlay.recordBackpressure(2048, 3_000_000, 7);
+        overlay.toggle();
+
+        Rect area = new Rect(0, 0, 40, 15);
+        Buffer buffer = Buffer.empty(area);
+        Frame frame = Frame.forTesting(buffer);
+
+        overlay.render(frame, area);
+
+        StringBuilder rendered = new StringBuilder();
+        for (int y = 0; y < area.height(); y++) {
+            for (int x = 0; x < area.width(); x++) {
+                rendered.append(buffer.get(x, y).symbol());
+            }
+            rendered.append('\n');
+        }
+        assertThat(rendered.toString())
+                .contains("Backlog: 2.0KB")
+                .contains("Write: 3.0ms")
+                .contains("Dropped: 7");
+    }
+
+    @Test
+    @DisplayName("render() shows frame time percentiles and a sparkline")
+    void renderShowsPercentiles() {
+        FrameMetrics metrics = new FrameMetrics();
+        for (int i = 0; i < 99; i++) {
+            metrics.recordFrame(1_000_000);
+        }
+        metrics.recordFrame(120_000_000);
+        DebugOverlay overlay = new DebugOverlay("test", Duration.ofMillis(100), Duration.ofMillis(100), metrics);
+        overlay.toggle();
+
+        Rect area = new Rect(0, 0, 40, 15);
+        Buffer buffer = Buffer.empty(area);
+        Frame frame = Frame.forTesting(buffer);
+
+        overlay.render(frame, area);
+
+        StringBuilder rendered = new StringBuilder();
+        for (int y = 0; y < area.height(); y++) {
+            for (int x = 0; x < area.width(); x++) {
+                rendered.append(buffer.get(x, y).symbol());
+            }
+            rendered.append('\n');
+        }
+        assertThat(rendered.toString())
+                .contains("p50:     1.02ms")
+                .contains("Max:   120.00ms")
+                .contains("█");
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.tui.time;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.Size;
+import dev.tamboui.terminal.TestBackend;
+import dev.tamboui.tui.TuiConfig;
+import dev.tamboui.tui.event.Event;
+import dev.tamboui.tui.event.TickEvent;
+import dev.tamboui.tui.pilot.TuiTestRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ManualTimeSourceTest {
+
+    @Test
+    @DisplayName("tasks run in due order when the clock is advanced, at their due time")
+    void runsDueTasks() {
+        ManualTimeSource clock = new ManualTimeSource();
+        ScheduledExecutorService scheduler = clock.scheduler();
+        List<String> runs = new ArrayList<>();
+
+        scheduler.schedule(() -> runs.add("b@" + clock.nanoTime()), 20, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> runs.add("a@" + clock.nanoTime()), 10, TimeUnit.MILLISECONDS);
+        scheduler.schedule(() -> runs.add("c@" + clock.nanoTime()), 1, TimeUnit.SECONDS);
+
+        clock.advance(Duration.ofMillis(15));
+        assertThat(runs).containsExactly("a@10000000");
+        assertThat(clock.nanoTime()).isEqualTo(15_000_000);
+
+        clock.advance(Duration.ofMillis(10));
+        assertThat(runs).containsExactly("a@10000000", "b@20000000");
+    }
+
+    @Test
+    @DisplayName("fixed-rate tasks run once per period of advanced time")
+    void fixedRate() {
+        ManualTimeSource clock = new ManualTimeSource();
+        List<Long> runs = new ArrayList<>();
+        ScheduledFuture<?> task = clock.scheduler()
+                .scheduleAtFixedRate(() -> runs.add(clock.nanoTime()), 10, 10, TimeUnit.MILLISECONDS);
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(runs).hasSize(60_000);
+        assertThat(runs.get(1) - runs.get(0)).isEqualTo(10_000_000);
+
+        task.cancel(false);
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(runs).hasSize(60_000);
+    }
+
+    @Test
+    @DisplayName("fixed-delay tasks are rescheduled from the end of their run")
+    void fixedDelay() {
+        ManualTimeSource clock = new ManualTimeSource();
+        List<Long> runs = new ArrayList<>();
+        clock.scheduler().scheduleWithFixedDelay(() -> {
+            runs.add(clock.nanoTime());
+            clock.set(clock.nanoTime() + 5_000_000);
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        clock.advance(Duration.ofMillis(40));
+
+        assertThat(runs).containsExactly(0L, 15_000_000L, 30_000_000L);
+    }
+
+    @Test
+    @DisplayName("advanceToNextTask jumps straight to the next due task")
+    void advanceToNextTask() {
+        ManualTimeSource clock = new ManualTimeSource();
+        List<Long> runs = new ArrayList<>();
+        clock.scheduler().schedule(() -> runs.add(clock.nanoTime()), 3, TimeUnit.HOURS);
+
+        assertThat(clock.advanceToNextTask()).isTrue();
+        assertThat(runs).containsExactly(TimeUnit.HOURS.toNanos(3));
+        assertThat(clock.advanceToNextTask()).isFalse();
+    }
+
+    @Test
+    @DisplayName("a shut down scheduler rejects new tasks")
+    void shutdown() {
+        ManualTimeSource clock = new ManualTimeSource();
+        ScheduledExecutorService scheduler = clock.scheduler();
+        scheduler.scheduleAtFixedRate(() -> { }, 1, 1, TimeUnit.MILLISECONDS);
+
+        scheduler.shutdown();
+
+        assertThat(scheduler.isTerminated()).isTrue();
+        assertThatThrownBy(() -> scheduler.execute(() -> { }))
+                .isInstanceOf(java.util.concurrent.RejectedExecutionException.class);
+        assertThatThrownBy(() -> clock.advance(Duration.ofMillis(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("a runner ticks once per tick period of advanced time")
+    void drivesRunnerTicks() throws Exception {
+        ManualTimeSource clock = new ManualTimeSource();
+        List<Event> events = new CopyOnWriteArrayList<>();
+        TuiConfig config = TuiConfig.builder()
+                .rawMode(false)
+                .alternateScreen(false)
+                .hideCursor(false)
+                .shutdownHook(false)
+                .pollTimeout(Duration.ofMillis(10))
+                .tickRate(Duration.ofMillis(100))
+                .resizeGracePeriod(null)
+                .timeSource(clock)
+                .backend(new TestBackend(20, 5))
+                .build();
+
+        long start = System.nanoTime();
+        try (TuiTestRunner test = TuiTestRunner.runTest((event, runner) -> events.add(event),
+                frame -> { }, new Size(20, 5), config)) {
+            assertThat(test.runner().timeSource()).isSameAs(clock);
+            clock.advance(Duration.ofMinutes(1));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < 600 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+
+        assertThat(events).hasSize(600).allMatch(e -> e instanceof TickEvent);
+        assertThat(events).allMatch(e -> ((TickEvent) e).elapsedMillis() == 100);
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(10));
+    }
+
+    @Test
+    @DisplayName("a fast-forward clock divides delays by its speed")
+    void fastForward() throws Exception {
+        TimeSource clock = TimeSource.fastForward(1000);
+        ScheduledExecutorService realTime = java.util.concurrent.Executors.newSingleThreadScheduledExecutor();
+        try {
+            long start = clock.nanoTime();
+            ScheduledFuture<Long> task = clock.scheduler(realTime).schedule(clock::nanoTime, 10, TimeUnit.SECONDS);
+
+            assertThat(task.get(5, TimeUnit.SECONDS) - start).isGreaterThanOrEqualTo(TimeUnit.SECONDS.toNanos(10));
+        } finally {
+            realTime.shutdownNow();
+        }
+        assertThatThrownBy(() -> TimeSource.fastForward(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("the tamboui.time system property selects the default clock")
+    void systemProperty() {
+        assertThat(TimeSource.parse(null)).isSameAs(TimeSource.system());
+        assertThat(TimeSource.parse("system")).isSameAs(TimeSource.system());
+        assertThat(TimeSource.parse("fast:100")).hasToString("TimeSource.fastForward(100.0)");
+        assertThatThrownBy(() -> TimeSource.parse("fast:x")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimeSource.parse("slow")).isInstanceOf(IllegalArgumentException.class);
+
+        String previous = System.getProperty(TimeSource.PROPERTY);
+        System.setProperty(TimeSource.PROPERTY, "fast:50");
+        try {
+            assertThat(TuiConfig.builder().build().timeSource()).hasToString("TimeSource.fastForward(50.0)");
+            assertThat(TuiConfig.defaults().timeSource()).hasToString("TimeSource.fastForward(50.0)");
+        } finally {
+            if (previous == null) {
+                System.clearProperty(TimeSource.PROPERTY);
+            } else {
+                System.setProperty(TimeSource.PROPERTY, previous);
+            }
+        }
+        assertThat(TuiConfig.builder().build().timeSource()).isSameAs(TimeSource.system());
+    }
+}
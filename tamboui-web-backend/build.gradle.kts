@@ -0,0 +1,9 @@
+plugins {
+    id("dev.tamboui.java-library")
+}
+
+description = "Browser backend for TamboUI streaming binary cell diffs over WebSocket"
+
+dependencies {
+    api(projects.tambouiCore)
+}
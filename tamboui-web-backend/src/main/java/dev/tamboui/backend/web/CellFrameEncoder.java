@@ -0,0 +1,375 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.web;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import dev.tamboui.buffer.Cell;
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.style.Color;
+import dev.tamboui.style.Modifier;
+import dev.tamboui.style.Style;
+
+/**
+ * Encodes cell updates into the compact binary frame format understood by the
+ * bundled JavaScript renderer ({@code tamboui-web.js}).
+ * <p>
+ * Instead of cursor-positioning and SGR escape sequences, a frame is a sequence
+ * of operations. Styles are interned: the first time a style is used it is sent
+ * once as a {@code STYLE} operation and referred to by its id afterwards.
+ * Horizontally adjacent updates sharing a style are coalesced into a single
+ * {@code RUN}, which carries its position once followed by the UTF-8 text; a run
+ * on the same row as the previous one omits the row.
+ * <p>
+ * Integers are unsigned LEB128 varints unless noted, so coordinates and ids
+ * below 128 take a single byte. Operations:
+ * <pre>
+ * STYLE          0x01 id, modifiers, color fg, color bg, color underline
+ * RUN            0x02 x, y, styleId, header, u8[header &gt;&gt; 1] utf-8
+ * CLEAR          0x03
+ * CURSOR         0x04 x, y
+ * CURSOR_VISIBLE 0x05 u8 visible
+ * MOUSE          0x06 u8 enabled
+ * RESET_STYLES   0x07
+ * ROW_RUN        0x08 x, styleId, header, u8[header &gt;&gt; 1] utf-8    (y of the previous run)
+ *
+ * color          u8 kind: 0 = terminal default, 1 = indexed (u8 index), 2 = rgb (u8 r, u8 g, u8 b)
+ * modifiers      bit n set for the modifier with SGR code n
+ * header         text length in bytes shifted left by one, or'ed with the SEPARATED flag
+ * </pre>
+ * When the {@code SEPARATED} flag is clear, every code point of the text is one
+ * cell. Otherwise cell symbols are separated by NUL, and an empty symbol marks
+ * the continuation of a preceding wide character.
+ * <p>
+ * Instances are stateful (the style table is shared with the receiving renderer
+ * for the lifetime of a session) and not thread-safe.
+ */
+public final class CellFrameEncoder {
+
+    static final int OP_STYLE = 0x01;
+    static final int OP_RUN = 0x02;
+    static final int OP_CLEAR = 0x03;
+    static final int OP_CURSOR = 0x04;
+    static final int OP_CURSOR_VISIBLE = 0x05;
+    static final int OP_MOUSE = 0x06;
+    static final int OP_RESET_STYLES = 0x07;
+    static final int OP_ROW_RUN = 0x08;
+
+    static final int RUN_SEPARATED = 0x01;
+
+    static final int COLOR_DEFAULT = 0;
+    static final int COLOR_INDEXED = 1;
+    static final int COLOR_RGB = 2;
+
+    private static final int MAX_STYLES = 0xFFFF;
+    private static final int MAX_RUN_BYTES = 0x4000;
+
+    private final Map<Style, Integer> styleIds;
+    private final ByteSink frame;
+    private final ByteSink text;
+    private int lastRunY = -1;
+
+    // Open run state
+    private boolean runOpen;
+    private int runX;
+    private int runY;
+    private int runNextX;
+    private int runStyleId;
+    private Style runStyle;
+    private boolean runSeparated;
+
+    /**
+     * Creates a new encoder with an empty style table.
+     */
+    public CellFrameEncoder() {
+        this.styleIds = new HashMap<>();
+        this.frame = new ByteSink(4096);
+        this.text = new ByteSink(256);
+    }
+
+    /**
+     * Encodes cell updates, coalescing adjacent cells of the same style into runs.
+     *
+     * @param updates the cell updates, typically in row-major order
+     */
+    public void encodeCells(Iterable<CellUpdate> updates) {
+        for (CellUpdate update : updates) {
+            Cell cell = update.cell();
+            if (cell.isContinuation()) {
+                // Only meaningful directly after its wide character
+                if (runOpen && update.y() == runY && update.x() == runNextX) {
+                    appendSymbol("", true);
+                }
+                continue;
+            }
+            Style style = cell.style();
+            if (!runOpen || update.y() != runY || update.x() != runNextX
+                    || !sameStyle(style, runStyle) || text.length > MAX_RUN_BYTES) {
+                closeRun();
+                openRun(update.x(), update.y(), style);
+            }
+            appendSymbol(cell.symbol(), false);
+        }
+        closeRun();
+    }
+
+    /**
+     * Encodes a full clear of the screen.
+     */
+    public void encodeClear() {
+        closeRun();
+        frame.putByte(OP_CLEAR);
+    }
+
+    /**
+     * Encodes a cursor move.
+     *
+     * @param x the column
+     * @param y the row
+     */
+    public void encodeCursorPosition(int x, int y) {
+        closeRun();
+        frame.putByte(OP_CURSOR);
+        frame.putVarint(x);
+        frame.putVarint(y);
+    }
+
+    /**
+     * Encodes a change of the cursor visibility.
+     *
+     * @param visible whether the cursor is shown
+     */
+    public void encodeCursorVisible(boolean visible) {
+        closeRun();
+        frame.putByte(OP_CURSOR_VISIBLE);
+        frame.putByte(visible ? 1 : 0);
+    }
+
+    /**
+     * Encodes whether the renderer should report mouse events.
+     *
+     * @param enabled whether mouse capture is enabled
+     */
+    public void encodeMouseCapture(boolean enabled) {
+        closeRun();
+        frame.putByte(OP_MOUSE);
+        frame.putByte(enabled ? 1 : 0);
+    }
+
+    /**
+     * Returns the number of encoded bytes not yet taken.
+     *
+     * @return the pending frame size in bytes
+     */
+    public int pendingBytes() {
+        return frame.length;
+    }
+
+    /**
+     * Returns the number of interned styles known to the renderer.
+     *
+     * @return the style table size
+     */
+    public int styleCount() {
+        return styleIds.size();
+    }
+
+    /**
+     * Returns the encoded frame and starts a new one.
+     *
+     * @return the frame bytes, empty if nothing was encoded
+     */
+    public byte[] takeFrame() {
+        closeRun();
+        byte[] bytes = Arrays.copyOf(frame.data, frame.length);
+        frame.length = 0;
+        lastRunY = -1;
+        return bytes;
+    }
+
+    private void openRun(int x, int y, Style style) {
+        // Interning may emit a STYLE operation, which must precede the run
+        runStyleId = styleId(style);
+        runOpen = true;
+        runX = x;
+        runY = y;
+        runNextX = x;
+        runStyle = style;
+        runSeparated = false;
+        text.length = 0;
+    }
+
+    private void closeRun() {
+        if (!runOpen) {
+            return;
+        }
+        if (runY == lastRunY) {
+            frame.putByte(OP_ROW_RUN);
+            frame.putVarint(runX);
+        } else {
+            frame.putByte(OP_RUN);
+            frame.putVarint(runX);
+            frame.putVarint(runY);
+        }
+        frame.putVarint(runStyleId);
+        frame.putVarint((text.length << 1) | (runSeparated ? RUN_SEPARATED : 0));
+        frame.putBytes(text.data, text.length);
+        lastRunY = runY;
+        runOpen = false;
+        runStyle = null;
+    }
+
+    private void appendSymbol(String symbol, boolean continuation) {
+        if (!runSeparated && (continuation || !isSingleCodePoint(symbol))) {
+            separateRun();
+        }
+        if (runSeparated && runNextX > runX) {
+            text.putByte(0);
+        }
+        text.putUtf8(symbol);
+        runNextX++;
+    }
+
+    /**
+     * Rewrites the text of the open run with NUL separators between its cells.
+     */
+    private void separateRun() {
+        if (runNextX - runX > 1) {
+            byte[] original = Arrays.copyOf(text.data, text.length);
+            text.length = 0;
+            for (int i = 0; i < original.length; i++) {
+                // A new code point starts at every byte that is not a UTF-8 continuation byte
+                if (i > 0 && (original[i] & 0xC0) != 0x80) {
+                    text.putByte(0);
+                }
+                text.putByte(original[i]);
+            }
+        }
+        runSeparated = true;
+    }
+
+    private static boolean isSingleCodePoint(String symbol) {
+        int len = symbol.length();
+        if (len == 1) {
+            return symbol.charAt(0) != 0;
+        }
+        return len == 2 && Character.isHighSurrogate(symbol.charAt(0));
+    }
+
+    private static boolean sameStyle(Style a, Style b) {
+        return a == b || a.equals(b);
+    }
+
+    private int styleId(Style style) {
+        Integer id = styleIds.get(style);
+        if (id != null) {
+            return id;
+        }
+        if (styleIds.size() >= MAX_STYLES) {
+            styleIds.clear();
+            frame.putByte(OP_RESET_STYLES);
+        }
+        int newId = styleIds.size();
+        styleIds.put(style, newId);
+
+        frame.putByte(OP_STYLE);
+        frame.putVarint(newId);
+        int modifiers = 0;
+        for (Modifier modifier : style.effectiveModifiers()) {
+            modifiers |= 1 << modifier.code();
+        }
+        frame.putVarint(modifiers);
+        putColor(style.fg().orElse(null));
+        putColor(style.bg().orElse(null));
+        putColor(style.underlineColor().orElse(null));
+        return newId;
+    }
+
+    private void putColor(Color color) {
+        while (color instanceof Color.Named) {
+            color = ((Color.Named) color).defaultValue();
+        }
+        if (color == null || color instanceof Color.Reset) {
+            frame.putByte(COLOR_DEFAULT);
+        } else if (color instanceof Color.Ansi) {
+            frame.putByte(COLOR_INDEXED);
+            frame.putByte(((Color.Ansi) color).color().code());
+        } else if (color instanceof Color.Indexed) {
+            frame.putByte(COLOR_INDEXED);
+            frame.putByte(((Color.Indexed) color).index());
+        } else {
+            Color.Rgb rgb = color.toRgb();
+            frame.putByte(COLOR_RGB);
+            frame.putByte(rgb.r());
+            frame.putByte(rgb.g());
+            frame.putByte(rgb.b());
+        }
+    }
+
+    /**
+     * Growable byte array with the primitive writers used by the format.
+     */
+    private static final class ByteSink {
+        byte[] data;
+        int length;
+
+        ByteSink(int capacity) {
+            this.data = new byte[capacity];
+        }
+
+        void putByte(int b) {
+            ensureCapacity(1);
+            data[length++] = (byte) b;
+        }
+
+        void putBytes(byte[] bytes, int count) {
+            ensureCapacity(count);
+            System.arraycopy(bytes, 0, data, length, count);
+            length += count;
+        }
+
+        void putVarint(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+
+        void putUtf8(String s) {
+            ensureCapacity(s.length() * 3);
+            for (int i = 0; i < s.length(); i++) {
+                int c = s.charAt(i);
+                if (Character.isHighSurrogate((char) c) && i + 1 < s.length()) {
+                    c = Character.toCodePoint((char) c, s.charAt(++i));
+                }
+                if (c < 0x80) {
+                    data[length++] = (byte) c;
+                } else if (c < 0x800) {
+                    data[length++] = (byte) (0xC0 | (c >>> 6));
+                    data[length++] = (byte) (0x80 | (c & 0x3F));
+                } else if (c < 0x10000) {
+                    data[length++] = (byte) (0xE0 | (c >>> 12));
+                    data[length++] = (byte) (0x80 | ((c >>> 6) & 0x3F));
+                    data[length++] = (byte) (0x80 | (c & 0x3F));
+                } else {
+                    data[length++] = (byte) (0xF0 | (c >>> 18));
+                    data[length++] = (byte) (0x80 | ((c >>> 12) & 0x3F));
+                    data[length++] = (byte) (0x80 | ((c >>> 6) & 0x3F));
+                    data[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+            }
+        }
+    }
+}
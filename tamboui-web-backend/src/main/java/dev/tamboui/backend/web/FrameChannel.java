@@ -0,0 +1,32 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.web;
+
+import java.io.IOException;
+
+/**
+ * Transport delivering encoded frames to a browser renderer.
+ * <p>
+ * {@link WebSocketServer} provides an implementation on top of its own
+ * WebSocket connections; other servers can implement this interface to host
+ * a {@link WebBackend} on their own WebSocket stack.
+ */
+public interface FrameChannel {
+
+    /**
+     * Sends one encoded frame as a single binary message.
+     *
+     * @param frame the frame bytes
+     * @throws IOException if the frame cannot be sent
+     */
+    void send(byte[] frame) throws IOException;
+
+    /**
+     * Closes the channel.
+     *
+     * @throws IOException if closing fails
+     */
+    void close() throws IOException;
+}
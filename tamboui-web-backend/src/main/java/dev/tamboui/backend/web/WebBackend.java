@@ -0,0 +1,287 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.web;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.layout.Position;
+import dev.tamboui.layout.Size;
+import dev.tamboui.terminal.Backend;
+import dev.tamboui.terminal.IntRingBuffer;
+import dev.tamboui.terminal.OutputStatistics;
+
+/**
+ * Backend rendering into a browser through the bundled JavaScript renderer.
+ * <p>
+ * Unlike terminal backends, no ANSI text is produced: cell updates are encoded
+ * with a {@link CellFrameEncoder} and every {@link #flush()} sends the frame as
+ * one binary message over a {@link FrameChannel}. The browser does not need to
+ * parse escape sequences, and styles are transferred once per session instead
+ * of with every change.
+ * <p>
+ * Input travels the other way as text messages, which the transport passes to
+ * {@link #receive(String)}:
+ * <ul>
+ *   <li>{@code i<data>}: terminal input (keys and SGR mouse reports), encoded
+ *       the way a terminal would send it, so the regular event parser applies</li>
+ *   <li>{@code r<columns>,<rows>}: the renderer's grid size changed</li>
+ * </ul>
+ * <p>
+ * The browser has neither scrollback nor a line discipline, so alternate screen
+ * and raw mode are no-ops and raw output is not supported.
+ * <p>
+ * The size and number of binary messages sent are reported through
+ * {@link OutputStatistics}.
+ */
+public class WebBackend implements Backend, OutputStatistics {
+
+    private static final int EOF = -1;
+
+    private final FrameChannel channel;
+    private final CellFrameEncoder encoder;
+    private final IntRingBuffer input;
+    private volatile Size size;
+    private volatile boolean disconnected;
+    private volatile long bytesWritten;
+    private volatile long writeCount;
+    private volatile Runnable resizeHandler;
+    private volatile Runnable disconnectHandler;
+    private Position cursorPosition;
+
+    /**
+     * Creates a backend sending frames over the given channel.
+     *
+     * @param channel the channel to the browser renderer
+     * @param size the initial grid size reported by the renderer
+     */
+    public WebBackend(FrameChannel channel, Size size) {
+        this.channel = Objects.requireNonNull(channel, "channel cannot be null");
+        this.size = Objects.requireNonNull(size, "size cannot be null");
+        this.encoder = new CellFrameEncoder();
+        this.input = new IntRingBuffer();
+        this.cursorPosition = Position.ORIGIN;
+    }
+
+    /**
+     * Handles a text message received from the renderer.
+     * <p>
+     * Called by the transport, typically from its reader thread.
+     *
+     * @param message the message
+     */
+    public void receive(String message) {
+        if (message.isEmpty()) {
+            return;
+        }
+        switch (message.charAt(0)) {
+            case 'i':
+                input.offer(message.codePoints().skip(1).toArray());
+                break;
+            case 'r':
+                Size newSize = parseSize(message.substring(1));
+                if (newSize != null && !newSize.equals(size)) {
+                    size = newSize;
+                    Runnable handler = resizeHandler;
+                    if (handler != null) {
+                        handler.run();
+                    }
+                }
+                break;
+            default:
+                // Unknown message kinds are ignored for forward compatibility
+                break;
+        }
+    }
+
+    /**
+     * Marks the renderer as gone.
+     * <p>
+     * Called by the transport once the connection is closed. The next read
+     * returns EOF and the disconnect handler is notified.
+     */
+    public void disconnected() {
+        if (disconnected) {
+            return;
+        }
+        disconnected = true;
+        input.offer(EOF);
+        Runnable handler = disconnectHandler;
+        if (handler != null) {
+            handler.run();
+        }
+    }
+
+    /**
+     * Registers a handler called when the renderer disconnects, typically used
+     * to quit the application running on this backend.
+     *
+     * @param handler the handler
+     */
+    public void onDisconnect(Runnable handler) {
+        this.disconnectHandler = handler;
+        if (disconnected && handler != null) {
+            handler.run();
+        }
+    }
+
+    /**
+     * Returns whether the renderer is still connected.
+     *
+     * @return true if connected
+     */
+    public boolean isConnected() {
+        return !disconnected;
+    }
+
+    static Size parseSize(String value) {
+        int comma = value.indexOf(',');
+        if (comma < 0) {
+            return null;
+        }
+        try {
+            int columns = Integer.parseInt(value.substring(0, comma).trim());
+            int rows = Integer.parseInt(value.substring(comma + 1).trim());
+            if (columns <= 0 || rows <= 0) {
+                return null;
+            }
+            return new Size(columns, rows);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void draw(Iterable<CellUpdate> updates) throws IOException {
+        encoder.encodeCells(updates);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (encoder.pendingBytes() == 0) {
+            return;
+        }
+        byte[] frame = encoder.takeFrame();
+        if (disconnected) {
+            throw new IOException("Renderer disconnected");
+        }
+        channel.send(frame);
+        bytesWritten += frame.length;
+        writeCount++;
+    }
+
+    @Override
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public long writeCount() {
+        return writeCount;
+    }
+
+    @Override
+    public void clear() throws IOException {
+        encoder.encodeClear();
+        flush();
+    }
+
+    @Override
+    public Size size() throws IOException {
+        return size;
+    }
+
+    @Override
+    public void showCursor() throws IOException {
+        encoder.encodeCursorVisible(true);
+    }
+
+    @Override
+    public void hideCursor() throws IOException {
+        encoder.encodeCursorVisible(false);
+    }
+
+    @Override
+    public Position getCursorPosition() throws IOException {
+        return cursorPosition;
+    }
+
+    @Override
+    public void setCursorPosition(Position position) throws IOException {
+        cursorPosition = position;
+        encoder.encodeCursorPosition(position.x(), position.y());
+    }
+
+    @Override
+    public void enterAlternateScreen() throws IOException {
+        // The renderer has no scrollback; nothing to switch
+    }
+
+    @Override
+    public void leaveAlternateScreen() throws IOException {
+        // The renderer has no scrollback; nothing to switch
+    }
+
+    @Override
+    public void enableRawMode() throws IOException {
+        // Input is always delivered unbuffered by the renderer
+    }
+
+    @Override
+    public void disableRawMode() throws IOException {
+        // Input is always delivered unbuffered by the renderer
+    }
+
+    @Override
+    public void enableMouseCapture() throws IOException {
+        encoder.encodeMouseCapture(true);
+        flush();
+    }
+
+    @Override
+    public void disableMouseCapture() throws IOException {
+        encoder.encodeMouseCapture(false);
+        flush();
+    }
+
+    @Override
+    public void onResize(Runnable handler) {
+        this.resizeHandler = handler;
+    }
+
+    @Override
+    public int read(int timeoutMs) throws IOException {
+        try {
+            return input.poll(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return IntRingBuffer.TIMEOUT;
+        }
+    }
+
+    @Override
+    public int peek(int timeoutMs) throws IOException {
+        try {
+            return input.peek(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return IntRingBuffer.TIMEOUT;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!disconnected) {
+                encoder.encodeMouseCapture(false);
+                encoder.encodeCursorVisible(true);
+                flush();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Server side of an established RFC 6455 WebSocket connection.
+ * <p>
+ * Only what the renderer protocol needs is implemented: unmasked binary frames
+ * are sent, masked text frames (possibly fragmented) are received, pings are
+ * answered and close frames end the connection. Extensions are not negotiated.
+ */
+final class WebSocketConnection implements FrameChannel {
+
+    private static final int OP_CONTINUATION = 0x0;
+    private static final int OP_TEXT = 0x1;
+    private static final int OP_BINARY = 0x2;
+    private static final int OP_CLOSE = 0x8;
+    private static final int OP_PING = 0x9;
+    private static final int OP_PONG = 0xA;
+
+    private static final int MAX_MESSAGE_BYTES = 1 << 20;
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private final Object writeLock;
+    private volatile boolean closed;
+
+    WebSocketConnection(Socket socket, InputStream in, OutputStream out) {
+        this.socket = socket;
+        this.in = in;
+        this.out = out;
+        this.writeLock = new Object();
+    }
+
+    @Override
+    public void send(byte[] frame) throws IOException {
+        writeFrame(OP_BINARY, frame, frame.length);
+    }
+
+    /**
+     * Reads the next text message, answering control frames on the way.
+     *
+     * @return the message, or null once the peer closed the connection
+     * @throws IOException if reading fails or the peer violates the protocol
+     */
+    String readTextMessage() throws IOException {
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        boolean inMessage = false;
+        while (true) {
+            int b0 = in.read();
+            if (b0 < 0) {
+                return null;
+            }
+            int b1 = readByte();
+            boolean fin = (b0 & 0x80) != 0;
+            int opcode = b0 & 0x0F;
+            boolean masked = (b1 & 0x80) != 0;
+            long length = b1 & 0x7F;
+            if (length == 126) {
+                length = (readByte() << 8) | readByte();
+            } else if (length == 127) {
+                length = 0;
+                for (int i = 0; i < 8; i++) {
+                    length = (length << 8) | readByte();
+                }
+            }
+            if (!masked) {
+                throw new IOException("Client frames must be masked");
+            }
+            if (length < 0 || length + message.size() > MAX_MESSAGE_BYTES) {
+                throw new IOException("Message too large: " + length + " bytes");
+            }
+            byte[] mask = readFully(4);
+            byte[] payload = readFully((int) length);
+            for (int i = 0; i < payload.length; i++) {
+                payload[i] ^= mask[i & 3];
+            }
+
+            switch (opcode) {
+                case OP_CLOSE:
+                    closeQuietly(payload);
+                    return null;
+                case OP_PING:
+                    writeFrame(OP_PONG, payload, payload.length);
+                    break;
+                case OP_PONG:
+                    break;
+                case OP_TEXT:
+                case OP_BINARY:
+                case OP_CONTINUATION:
+                    if ((opcode == OP_CONTINUATION) != inMessage) {
+                        throw new IOException("Unexpected frame opcode " + opcode);
+                    }
+                    message.write(payload, 0, payload.length);
+                    inMessage = !fin;
+                    if (fin) {
+                        return new String(message.toByteArray(), StandardCharsets.UTF_8);
+                    }
+                    break;
+                default:
+                    throw new IOException("Unsupported frame opcode " + opcode);
+            }
+        }
+    }
+
+    private void writeFrame(int opcode, byte[] payload, int length) throws IOException {
+        byte[] header;
+        if (length < 126) {
+            header = new byte[] {(byte) (0x80 | opcode), (byte) length};
+        } else if (length <= 0xFFFF) {
+            header = new byte[] {(byte) (0x80 | opcode), 126, (byte) (length >>> 8), (byte) length};
+        } else {
+            header = new byte[10];
+            header[0] = (byte) (0x80 | opcode);
+            header[1] = 127;
+            for (int i = 0; i < 8; i++) {
+                header[9 - i] = (byte) ((long) length >>> (8 * i));
+            }
+        }
+        synchronized (writeLock) {
+            if (closed) {
+                throw new IOException("WebSocket closed");
+            }
+            out.write(header);
+            out.write(payload, 0, length);
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeQuietly(new byte[0]);
+    }
+
+    private void closeQuietly(byte[] reason) {
+        if (closed) {
+            return;
+        }
+        try {
+            writeFrame(OP_CLOSE, reason, Math.min(reason.length, 2));
+        } catch (IOException e) {
+            // The peer may already be gone
+        }
+        closed = true;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Ignore
+        }
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Connection closed mid-frame");
+        }
+        return b;
+    }
+
+    private byte[] readFully(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int n = in.read(bytes, offset, length - offset);
+            if (n < 0) {
+                throw new EOFException("Connection closed mid-frame");
+            }
+            offset += n;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.web;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import dev.tamboui.layout.Size;
+
+/**
+ * Minimal embedded HTTP and WebSocket server hosting {@link WebBackend} sessions.
+ * <p>
+ * The server only depends on the JDK. It serves the bundled renderer page at
+ * {@code /} and accepts WebSocket connections at {@code /ws}. Every connection
+ * gets its own {@link WebBackend}, passed to the handler on a dedicated thread;
+ * the connection is closed when the handler returns.
+ *
+ * <pre>{@code
+ * try (WebSocketServer server = WebSocketServer.start("localhost", 8081, backend -> {
+ *     TuiConfig config = TuiConfig.builder().backend(backend).build();
+ *     try (ToolkitRunner runner = ToolkitRunner.create(config)) {
+ *         backend.onDisconnect(runner::quit);
+ *         runner.run(app::render);
+ *     } catch (Exception e) {
+ *         // log
+ *     }
+ * })) {
+ *     // open http://localhost:8081
+ * }
+ * }</pre>
+ * <p>
+ * WebSocket upgrades from a browser page of another origin are rejected, so
+ * that the pages the user visits cannot send input to the application: the
+ * {@code Origin} header, when present, must match the {@code Host} header.
+ * Use {@link #start(String, int, boolean, Consumer)} to accept any origin, for
+ * example when the renderer page is served by another server.
+ * <p>
+ * This server is intended for local use, demos and tests. It does not provide
+ * TLS or authentication; put it behind a proper server when exposing it on a
+ * network.
+ */
+public final class WebSocketServer implements AutoCloseable {
+
+    private static final String WEBSOCKET_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+    private static final String RESOURCE_BASE = "/dev/tamboui/backend/web/";
+    private static final int HANDSHAKE_TIMEOUT_MS = 10_000;
+    private static final int INITIAL_SIZE_TIMEOUT_MS = 2_000;
+    private static final int MAX_HEADER_LINE = 8192;
+    private static final Size DEFAULT_SIZE = new Size(80, 24);
+
+    private final ServerSocket serverSocket;
+    private final Consumer<WebBackend> handler;
+    private final boolean allowAnyOrigin;
+    private final Set<Socket> sockets;
+    private final Thread acceptor;
+    private volatile boolean closed;
+
+    private WebSocketServer(ServerSocket serverSocket, Consumer<WebBackend> handler, boolean allowAnyOrigin) {
+        this.serverSocket = serverSocket;
+        this.handler = handler;
+        this.allowAnyOrigin = allowAnyOrigin;
+        this.sockets = ConcurrentHashMap.newKeySet();
+        this.acceptor = new Thread(this::acceptLoop, "tamboui-web-acceptor");
+        this.acceptor.setDaemon(true);
+    }
+
+    /**
+     * Starts a server listening on the given host and port.
+     *
+     * @param host the host to bind to
+     * @param port the port to bind to, or 0 for an ephemeral port
+     * @param handler called with the backend of every new session, on a
+     *                dedicated thread; typically runs an application until it quits
+     * @return the running server
+     * @throws IOException if the server socket cannot be bound
+     */
+    public static WebSocketServer start(String host, int port, Consumer<WebBackend> handler) throws IOException {
+        return start(host, port, false, handler);
+    }
+
+    /**
+     * Starts a server listening on the given host and port, optionally
+     * accepting WebSocket connections from pages of any origin.
+     *
+     * @param host the host to bind to
+     * @param port the port to bind to, or 0 for an ephemeral port
+     * @param allowAnyOrigin whether to accept WebSocket upgrades whose
+     *                       {@code Origin} header does not match the {@code Host} header
+     * @param handler called with the backend of every new session, on a
+     *                dedicated thread; typically runs an application until it quits
+     * @return the running server
+     * @throws IOException if the server socket cannot be bound
+     */
+    public static WebSocketServer start(String host, int port, boolean allowAnyOrigin,
+                                        Consumer<WebBackend> handler) throws IOException {
+        Objects.requireNonNull(handler, "handler cannot be null");
+        ServerSocket serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(host, port));
+        WebSocketServer server = new WebSocketServer(serverSocket, handler, allowAnyOrigin);
+        server.acceptor.start();
+        return server;
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return the local port
+     */
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections and closes all open sessions.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Ignore
+        }
+        for (Socket socket : sockets) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (closed) {
+                    return;
+                }
+                continue;
+            }
+            sockets.add(socket);
+            Thread session = new Thread(() -> serve(socket), "tamboui-web-session");
+            session.setDaemon(true);
+            session.start();
+        }
+    }
+
+    private void serve(Socket socket) {
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+
+            String requestLine = readLine(in);
+            if (requestLine == null) {
+                return;
+            }
+            Map<String, String> headers = readHeaders(in);
+            String[] parts = requestLine.split(" ");
+            if (parts.length < 3 || !"GET".equals(parts[0])) {
+                respond(out, "405 Method Not Allowed", "text/plain", new byte[0]);
+                return;
+            }
+            String path = parts[1];
+            int query = path.indexOf('?');
+            if (query >= 0) {
+                path = path.substring(0, query);
+            }
+
+            if ("/ws".equals(path) && "websocket".equalsIgnoreCase(headers.get("upgrade"))) {
+                String key = headers.get("sec-websocket-key");
+                if (key == null) {
+                    respond(out, "400 Bad Request", "text/plain", new byte[0]);
+                    return;
+                }
+                String origin = headers.get("origin");
+                if (!allowAnyOrigin && origin != null && !sameOrigin(origin, headers.get("host"))) {
+                    respond(out, "403 Forbidden", "text/plain", new byte[0]);
+                    return;
+                }
+                out.write(("HTTP/1.1 101 Switching Protocols\r\n"
+                        + "Upgrade: websocket\r\n"
+                        + "Connection: Upgrade\r\n"
+                        + "Sec-WebSocket-Accept: " + acceptKey(key) + "\r\n\r\n")
+                        .getBytes(StandardCharsets.ISO_8859_1));
+                out.flush();
+                runSession(socket, new WebSocketConnection(socket, in, out));
+            } else if ("/".equals(path) || "/index.html".equals(path)) {
+                respond(out, "200 OK", "text/html; charset=utf-8", resource("index.html"));
+            } else if ("/tamboui-web.js".equals(path)) {
+                respond(out, "200 OK", "text/javascript; charset=utf-8", resource("tamboui-web.js"));
+            } else {
+                respond(out, "404 Not Found", "text/plain", new byte[0]);
+            }
+        } catch (IOException e) {
+            // Connection dropped or malformed request
+        } finally {
+            sockets.remove(socket);
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+
+    private void runSession(Socket socket, WebSocketConnection connection) throws IOException {
+        // The renderer reports its grid size right after connecting
+        socket.setSoTimeout(INITIAL_SIZE_TIMEOUT_MS);
+        String first;
+        try {
+            first = connection.readTextMessage();
+        } catch (SocketTimeoutException e) {
+            first = "";
+        }
+        if (first == null) {
+            return;
+        }
+        socket.setSoTimeout(0);
+        Size size = first.startsWith("r") ? WebBackend.parseSize(first.substring(1)) : null;
+        WebBackend backend = new WebBackend(connection, size != null ? size : DEFAULT_SIZE);
+        if (size == null) {
+            backend.receive(first);
+        }
+
+        Thread app = new Thread(() -> {
+            try {
+                handler.accept(backend);
+            } finally {
+                try {
+                    backend.close();
+                } catch (IOException e) {
+                    // Ignore
+                }
+            }
+        }, "tamboui-web-app");
+        app.setDaemon(true);
+        app.start();
+
+        try {
+            String message;
+            while ((message = connection.readTextMessage()) != null) {
+                backend.receive(message);
+            }
+        } catch (IOException e) {
+            // Treated as a disconnect
+        } finally {
+            backend.disconnected();
+            connection.close();
+        }
+    }
+
+    /**
+     * Returns whether the origin of a page designates the host it was requested from.
+     */
+    static boolean sameOrigin(String origin, String host) {
+        if (host == null) {
+            return false;
+        }
+        try {
+            String authority = new URI(origin.trim()).getRawAuthority();
+            return authority != null && authority.equalsIgnoreCase(host.trim());
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+
+    static String acceptKey(String key) {
+        try {
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            byte[] digest = sha1.digest((key.trim() + WEBSOCKET_GUID).getBytes(StandardCharsets.ISO_8859_1));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+
+    private static byte[] resource(String name) throws IOException {
+        try (InputStream in = WebSocketServer.class.getResourceAsStream(RESOURCE_BASE + name)) {
+            if (in == null) {
+                throw new IOException("Missing resource " + name);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int n;
+            while ((n = in.read(chunk)) > 0) {
+                bytes.write(chunk, 0, n);
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    private static void respond(OutputStream out, String status, String contentType, byte[] body) throws IOException {
+        out.write(("HTTP/1.1 " + status + "\r\n"
+                + "Content-Type: " + contentType + "\r\n"
+                + "Content-Length: " + body.length + "\r\n"
+                + "Cache-Control: no-cache\r\n"
+                + "Connection: close\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        out.write(body);
+        out.flush();
+    }
+
+    private static Map<String, String> readHeaders(InputStream in) throws IOException {
+        Map<String, String> headers = new HashMap<>();
+        String line;
+        while ((line = readLine(in)) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) >= 0) {
+            if (c == '\n') {
+                int end = line.length();
+                if (end > 0 && line.charAt(end - 1) == '\r') {
+                    line.setLength(end - 1);
+                }
+                return line.toString();
+            }
+            if (line.length() >= MAX_HEADER_LINE) {
+                throw new IOException("Header line too long");
+            }
+            line.append((char) c);
+        }
+        return line.length() == 0 ? null : line.toString();
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * Browser backend for TamboUI.
+ * <p>
+ * This module provides a backend that streams binary cell diffs to a bundled
+ * JavaScript renderer over WebSocket, along with a small embedded server.
+ */
+module dev.tamboui.web.backend {
+    requires transitive dev.tamboui.core;
+
+    exports dev.tamboui.backend.web;
+}
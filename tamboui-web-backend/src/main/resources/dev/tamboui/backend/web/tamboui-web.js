@@ -0,0 +1,393 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ *
+ * Canvas renderer for the binary frame format produced by CellFrameEncoder.
+ * See the CellFrameEncoder Javadoc for the wire format.
+ */
+(function (global) {
+    'use strict';
+
+    var OP_STYLE = 0x01;
+    var OP_RUN = 0x02;
+    var OP_CLEAR = 0x03;
+    var OP_CURSOR = 0x04;
+    var OP_CURSOR_VISIBLE = 0x05;
+    var OP_MOUSE = 0x06;
+    var OP_RESET_STYLES = 0x07;
+    var OP_ROW_RUN = 0x08;
+    var RUN_SEPARATED = 0x01;
+
+    var BOLD = 1 << 1, DIM = 1 << 2, ITALIC = 1 << 3, UNDERLINED = 1 << 4;
+    var REVERSED = 1 << 7, HIDDEN = 1 << 8, CROSSED_OUT = 1 << 9;
+
+    var DEFAULT_FG = '#d0d0d0';
+    var DEFAULT_BG = '#101010';
+    var CONTINUATION = '';
+
+    var ANSI16 = [
+        '#000000', '#cd3131', '#0dbc79', '#e5e510', '#2472c8', '#bc3fbc', '#11a8cd', '#e5e5e5',
+        '#666666', '#f14c4c', '#23d18b', '#f5f543', '#3b8eea', '#d670d6', '#29b8db', '#ffffff'
+    ];
+
+    function indexedColor(index) {
+        if (index < 16) {
+            return ANSI16[index];
+        }
+        if (index < 232) {
+            var i = index - 16;
+            var steps = [0, 95, 135, 175, 215, 255];
+            return rgb(steps[Math.floor(i / 36)], steps[Math.floor(i / 6) % 6], steps[i % 6]);
+        }
+        var level = 8 + (index - 232) * 10;
+        return rgb(level, level, level);
+    }
+
+    function rgb(r, g, b) {
+        return 'rgb(' + r + ',' + g + ',' + b + ')';
+    }
+
+    var DEFAULT_STYLE = { modifiers: 0, fg: null, bg: null, underline: null };
+
+    function Terminal(canvas, options) {
+        options = options || {};
+        this.canvas = canvas;
+        this.ctx = canvas.getContext('2d');
+        this.fontSize = options.fontSize || 15;
+        this.fontFamily = options.fontFamily || 'Menlo, Consolas, "DejaVu Sans Mono", monospace';
+        this.styles = [];
+        this.symbols = [];
+        this.styleIds = [];
+        this.cursor = { x: 0, y: 0, visible: false };
+        this.mouse = false;
+        this.mouseButton = -1;
+        this.decoder = new TextDecoder('utf-8');
+        this.socket = null;
+        this.measure();
+    }
+
+    Terminal.prototype.measure = function () {
+        this.ctx.font = this.fontSize + 'px ' + this.fontFamily;
+        this.cellWidth = Math.ceil(this.ctx.measureText('M').width);
+        this.cellHeight = Math.ceil(this.fontSize * 1.25);
+    };
+
+    Terminal.prototype.fit = function () {
+        var ratio = global.devicePixelRatio || 1;
+        var columns = Math.max(1, Math.floor(this.canvas.clientWidth / this.cellWidth));
+        var rows = Math.max(1, Math.floor(this.canvas.clientHeight / this.cellHeight));
+        this.canvas.width = Math.floor(this.canvas.clientWidth * ratio);
+        this.canvas.height = Math.floor(this.canvas.clientHeight * ratio);
+        this.ctx.setTransform(ratio, 0, 0, ratio, 0, 0);
+        this.ctx.textBaseline = 'top';
+        var changed = columns !== this.columns || rows !== this.rows;
+        this.resizeGrid(columns, rows);
+        this.redrawAll();
+        if (changed) {
+            this.send('r' + columns + ',' + rows);
+        }
+    };
+
+    Terminal.prototype.resizeGrid = function (columns, rows) {
+        var symbols = new Array(columns * rows);
+        var styleIds = new Int32Array(columns * rows).fill(-1);
+        for (var y = 0; y < rows; y++) {
+            for (var x = 0; x < columns; x++) {
+                var old = (y < this.rows && x < this.columns) ? y * this.columns + x : -1;
+                symbols[y * columns + x] = old >= 0 ? this.symbols[old] : ' ';
+                if (old >= 0) {
+                    styleIds[y * columns + x] = this.styleIds[old];
+                }
+            }
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.symbols = symbols;
+        this.styleIds = styleIds;
+    };
+
+    Terminal.prototype.connect = function (url) {
+        var self = this;
+        var socket = new WebSocket(url);
+        socket.binaryType = 'arraybuffer';
+        socket.onopen = function () {
+            self.socket = socket;
+            self.send('r' + self.columns + ',' + self.rows);
+        };
+        socket.onmessage = function (event) {
+            if (event.data instanceof ArrayBuffer) {
+                self.apply(new DataView(event.data));
+            }
+        };
+        socket.onclose = function () {
+            self.socket = null;
+            self.canvas.style.opacity = '0.5';
+        };
+        this.bindInput();
+        global.addEventListener('resize', function () { self.fit(); });
+        this.fit();
+    };
+
+    Terminal.prototype.send = function (message) {
+        if (this.socket && this.socket.readyState === WebSocket.OPEN) {
+            this.socket.send(message);
+        }
+    };
+
+    Terminal.prototype.apply = function (view) {
+        var reader = { view: view, pos: 0 };
+        var end = view.byteLength;
+        var y = 0;
+        this.drawCursor(false);
+        while (reader.pos < end) {
+            var op = view.getUint8(reader.pos++);
+            switch (op) {
+                case OP_STYLE: {
+                    var id = readVarint(reader);
+                    var modifiers = readVarint(reader);
+                    this.styles[id] = {
+                        modifiers: modifiers,
+                        fg: readColor(reader),
+                        bg: readColor(reader),
+                        underline: readColor(reader)
+                    };
+                    break;
+                }
+                case OP_RUN:
+                case OP_ROW_RUN: {
+                    var x = readVarint(reader);
+                    if (op === OP_RUN) {
+                        y = readVarint(reader);
+                    }
+                    var styleId = readVarint(reader);
+                    var header = readVarint(reader);
+                    var length = header >>> 1;
+                    var text = this.decoder.decode(new Uint8Array(view.buffer, view.byteOffset + reader.pos, length));
+                    reader.pos += length;
+                    var cells = (header & RUN_SEPARATED) ? text.split('\u0000') : Array.from(text);
+                    for (var i = 0; i < cells.length; i++) {
+                        this.setCell(x + i, y, cells[i], styleId);
+                    }
+                    break;
+                }
+                case OP_CLEAR:
+                    this.symbols.fill(' ');
+                    this.styleIds.fill(-1);
+                    this.redrawAll();
+                    break;
+                case OP_CURSOR:
+                    this.cursor.x = readVarint(reader);
+                    this.cursor.y = readVarint(reader);
+                    break;
+                case OP_CURSOR_VISIBLE:
+                    this.cursor.visible = view.getUint8(reader.pos++) !== 0;
+                    break;
+                case OP_MOUSE:
+                    this.mouse = view.getUint8(reader.pos++) !== 0;
+                    break;
+                case OP_RESET_STYLES:
+                    this.styles = [];
+                    break;
+                default:
+                    console.error('tamboui: unknown operation ' + op);
+                    return;
+            }
+        }
+        this.drawCursor(true);
+    };
+
+    function readVarint(reader) {
+        var value = 0;
+        var shift = 0;
+        var b;
+        do {
+            b = reader.view.getUint8(reader.pos++);
+            value |= (b & 0x7f) << shift;
+            shift += 7;
+        } while (b & 0x80);
+        return value >>> 0;
+    }
+
+    function readColor(reader) {
+        var view = reader.view;
+        var kind = view.getUint8(reader.pos++);
+        if (kind === 1) {
+            return indexedColor(view.getUint8(reader.pos++));
+        }
+        if (kind === 2) {
+            var color = rgb(view.getUint8(reader.pos), view.getUint8(reader.pos + 1), view.getUint8(reader.pos + 2));
+            reader.pos += 3;
+            return color;
+        }
+        return null;
+    }
+
+    Terminal.prototype.setCell = function (x, y, symbol, styleId) {
+        if (x >= this.columns || y >= this.rows) {
+            return;
+        }
+        var index = y * this.columns + x;
+        this.symbols[index] = symbol;
+        this.styleIds[index] = styleId;
+        this.drawCell(x, y);
+        if (symbol === CONTINUATION && x > 0) {
+            // Let the wide character extend over this cell
+            this.drawCell(x - 1, y);
+        }
+    };
+
+    Terminal.prototype.redrawAll = function () {
+        for (var y = 0; y < this.rows; y++) {
+            for (var x = 0; x < this.columns; x++) {
+                this.drawCell(x, y);
+            }
+        }
+        this.drawCursor(true);
+    };
+
+    Terminal.prototype.drawCell = function (x, y) {
+        var index = y * this.columns + x;
+        var symbol = this.symbols[index];
+        var style = this.styles[this.styleIds[index]] || DEFAULT_STYLE;
+        var wide = x + 1 < this.columns && this.symbols[index + 1] === CONTINUATION;
+        var fg = style.fg || DEFAULT_FG;
+        var bg = style.bg || DEFAULT_BG;
+        if (style.modifiers & REVERSED) {
+            var swap = fg; fg = bg; bg = swap;
+        }
+        var ctx = this.ctx;
+        var px = x * this.cellWidth;
+        var py = y * this.cellHeight;
+        var width = this.cellWidth * (wide ? 2 : 1);
+        ctx.fillStyle = bg;
+        ctx.fillRect(px, py, width, this.cellHeight);
+        if (symbol === CONTINUATION || symbol === ' ' || (style.modifiers & HIDDEN)) {
+            return;
+        }
+        ctx.save();
+        ctx.beginPath();
+        ctx.rect(px, py, width, this.cellHeight);
+        ctx.clip();
+        ctx.font = ((style.modifiers & ITALIC) ? 'italic ' : '') + ((style.modifiers & BOLD) ? 'bold ' : '')
+            + this.fontSize + 'px ' + this.fontFamily;
+        ctx.globalAlpha = (style.modifiers & DIM) ? 0.6 : 1;
+        ctx.fillStyle = fg;
+        ctx.fillText(symbol, px, py + (this.cellHeight - this.fontSize) / 2);
+        if (style.modifiers & UNDERLINED) {
+            ctx.fillStyle = style.underline || fg;
+            ctx.fillRect(px, py + this.cellHeight - 2, width, 1);
+        }
+        if (style.modifiers & CROSSED_OUT) {
+            ctx.fillStyle = fg;
+            ctx.fillRect(px, py + Math.floor(this.cellHeight / 2), width, 1);
+        }
+        ctx.restore();
+    };
+
+    Terminal.prototype.drawCursor = function (show) {
+        var c = this.cursor;
+        if (!c.visible || c.x >= this.columns || c.y >= this.rows) {
+            return;
+        }
+        this.drawCell(c.x, c.y);
+        if (show) {
+            this.ctx.fillStyle = 'rgba(208,208,208,0.5)';
+            this.ctx.fillRect(c.x * this.cellWidth, c.y * this.cellHeight, this.cellWidth, this.cellHeight);
+        }
+    };
+
+    var KEYS = {
+        Enter: '\r', Backspace: '\x7f', Tab: '\t', Escape: '\x1b',
+        ArrowUp: '\x1b[A', ArrowDown: '\x1b[B', ArrowRight: '\x1b[C', ArrowLeft: '\x1b[D',
+        Home: '\x1b[H', End: '\x1b[F', Insert: '\x1b[2~', Delete: '\x1b[3~',
+        PageUp: '\x1b[5~', PageDown: '\x1b[6~',
+        F1: '\x1bOP', F2: '\x1bOQ', F3: '\x1bOR', F4: '\x1bOS',
+        F5: '\x1b[15~', F6: '\x1b[17~', F7: '\x1b[18~', F8: '\x1b[19~',
+        F9: '\x1b[20~', F10: '\x1b[21~', F11: '\x1b[23~', F12: '\x1b[24~'
+    };
+
+    function keyToInput(event) {
+        if (event.key === 'Tab' && event.shiftKey) {
+            return '\x1b[Z';
+        }
+        var data = KEYS[event.key];
+        if (data === undefined && event.key.length === 1) {
+            data = event.key;
+            if (event.ctrlKey) {
+                var code = event.key.toUpperCase().charCodeAt(0);
+                if (code >= 64 && code <= 95) {
+                    data = String.fromCharCode(code - 64);
+                } else if (event.key === ' ') {
+                    data = '\x00';
+                }
+            }
+        }
+        if (data === undefined) {
+            return null;
+        }
+        return event.altKey ? '\x1b' + data : data;
+    }
+
+    Terminal.prototype.bindInput = function () {
+        var self = this;
+        this.canvas.tabIndex = 0;
+        this.canvas.focus();
+        this.canvas.addEventListener('keydown', function (event) {
+            var data = keyToInput(event);
+            if (data !== null) {
+                event.preventDefault();
+                self.send('i' + data);
+            }
+        });
+        this.canvas.addEventListener('paste', function (event) {
+            self.send('i' + event.clipboardData.getData('text'));
+        });
+
+        function mouseReport(event, button, release) {
+            var rect = self.canvas.getBoundingClientRect();
+            var x = Math.floor((event.clientX - rect.left) / self.cellWidth) + 1;
+            var y = Math.floor((event.clientY - rect.top) / self.cellHeight) + 1;
+            if (event.shiftKey) { button |= 4; }
+            if (event.altKey) { button |= 8; }
+            if (event.ctrlKey) { button |= 16; }
+            self.send('i\x1b[<' + button + ';' + x + ';' + y + (release ? 'm' : 'M'));
+        }
+
+        this.canvas.addEventListener('mousedown', function (event) {
+            self.canvas.focus();
+            if (!self.mouse) { return; }
+            event.preventDefault();
+            self.mouseButton = event.button;
+            mouseReport(event, event.button, false);
+        });
+        this.canvas.addEventListener('mouseup', function (event) {
+            if (!self.mouse) { return; }
+            self.mouseButton = -1;
+            mouseReport(event, event.button, true);
+        });
+        this.canvas.addEventListener('mousemove', function (event) {
+            if (self.mouse && self.mouseButton >= 0) {
+                mouseReport(event, self.mouseButton + 32, false);
+            }
+        });
+        this.canvas.addEventListener('wheel', function (event) {
+            if (!self.mouse) { return; }
+            event.preventDefault();
+            mouseReport(event, event.deltaY < 0 ? 64 : 65, false);
+        }, { passive: false });
+        this.canvas.addEventListener('contextmenu', function (event) {
+            if (self.mouse) { event.preventDefault(); }
+        });
+    };
+
+    global.TamboUI = {
+        /**
+         * Attaches a renderer to the canvas and connects it to the given WebSocket URL.
+         */
+        connect: function (canvas, url, options) {
+            var terminal = new Terminal(canvas, options);
+            terminal.connect(url);
+            return terminal;
+        }
+    };
+})(window);
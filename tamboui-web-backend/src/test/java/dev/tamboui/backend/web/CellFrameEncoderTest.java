@@ -0,0 +1,148 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.web;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.buffer.Buffer;
+import dev.tamboui.buffer.Cell;
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.layout.Rect;
+import dev.tamboui.style.Color;
+import dev.tamboui.style.Style;
+import dev.tamboui.terminal.AnsiCellWriter;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CellFrameEncoderTest {
+
+    private static final Style TITLE = Style.EMPTY.fg(Color.CYAN).bold();
+    private static final Style BODY = Style.EMPTY.fg(Color.rgb(200, 200, 200)).bg(Color.indexed(236));
+
+    @Test
+    @DisplayName("adjacent cells of one style are encoded as a single run")
+    void coalescesRuns() {
+        Buffer buffer = Buffer.empty(Rect.of(10, 1));
+        buffer.setString(2, 0, "Hi", Style.EMPTY);
+
+        CellFrameEncoder encoder = new CellFrameEncoder();
+        encoder.encodeCells(Buffer.empty(buffer.area()).diff(buffer));
+        byte[] frame = encoder.takeFrame();
+
+        byte[] style = {CellFrameEncoder.OP_STYLE, 0, 0,
+            CellFrameEncoder.COLOR_DEFAULT, CellFrameEncoder.COLOR_DEFAULT, CellFrameEncoder.COLOR_DEFAULT};
+        byte[] run = {CellFrameEncoder.OP_RUN, 2, 0, 0, 2 << 1, 'H', 'i'};
+        assertThat(frame).hasSize(style.length + run.length);
+        assertThat(frame).startsWith(style).endsWith(run);
+    }
+
+    @Test
+    @DisplayName("styles are sent once and referred to by id afterwards")
+    void internsStyles() {
+        CellFrameEncoder encoder = new CellFrameEncoder();
+        encoder.encodeCells(Collections.singletonList(new CellUpdate(0, 0, new Cell("a", TITLE))));
+        byte[] first = encoder.takeFrame();
+        encoder.encodeCells(Collections.singletonList(new CellUpdate(5, 3, new Cell("b", TITLE))));
+        byte[] second = encoder.takeFrame();
+
+        assertThat(first[0]).isEqualTo((byte) CellFrameEncoder.OP_STYLE);
+        assertThat(second[0]).isEqualTo((byte) CellFrameEncoder.OP_RUN);
+        assertThat(second).containsExactly(CellFrameEncoder.OP_RUN, 5, 3, 0, 1 << 1, 'b');
+        assertThat(encoder.styleCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("runs with wide characters separate their cells")
+    void separatesWideCharacters() {
+        Buffer buffer = Buffer.empty(Rect.of(6, 1));
+        buffer.setString(0, 0, "a世b", Style.EMPTY);
+
+        CellFrameEncoder encoder = new CellFrameEncoder();
+        encoder.encodeCells(Buffer.empty(buffer.area()).diff(buffer));
+        byte[] frame = encoder.takeFrame();
+
+        int run = 6;
+        assertThat(frame[run]).isEqualTo((byte) CellFrameEncoder.OP_RUN);
+        assertThat(frame[run + 4] & CellFrameEncoder.RUN_SEPARATED).isEqualTo(CellFrameEncoder.RUN_SEPARATED);
+        String text = new String(frame, run + 5, frame.length - run - 5, StandardCharsets.UTF_8);
+        assertThat(text).isEqualTo("a\u0000世\u0000\u0000b");
+    }
+
+    @Test
+    @DisplayName("runs on the row of the previous run omit the row")
+    void rowRuns() {
+        CellFrameEncoder encoder = new CellFrameEncoder();
+        encoder.encodeCells(Collections.singletonList(new CellUpdate(0, 0, new Cell("a", TITLE))));
+        encoder.takeFrame();
+        encoder.encodeCells(Arrays.asList(
+            new CellUpdate(1, 4, new Cell("b", TITLE)),
+            new CellUpdate(9, 4, new Cell("c", TITLE))));
+
+        assertThat(encoder.takeFrame()).containsExactly(
+            CellFrameEncoder.OP_RUN, 1, 4, 0, 1 << 1, 'b',
+            CellFrameEncoder.OP_ROW_RUN, 9, 0, 1 << 1, 'c');
+    }
+
+    @Test
+    @DisplayName("binary frames are smaller than the ANSI output for the same updates")
+    void smallerThanAnsi() {
+        Buffer previous = dashboard(120, 40, 0);
+        Buffer next = dashboard(120, 40, 1);
+        List<CellUpdate> fullRepaint = Buffer.empty(previous.area()).diff(previous);
+        List<CellUpdate> incremental = previous.diff(next);
+
+        CellFrameEncoder encoder = new CellFrameEncoder();
+        encoder.encodeCells(fullRepaint);
+        int fullBinary = encoder.takeFrame().length;
+        encoder.encodeCells(incremental);
+        int incrementalBinary = encoder.takeFrame().length;
+
+        int fullAnsi = ansiLength(fullRepaint);
+        int incrementalAnsi = ansiLength(incremental);
+
+        assertThat(fullBinary).isLessThan(fullAnsi / 4);
+        assertThat(incrementalBinary).isLessThan(incrementalAnsi * 2 / 3);
+    }
+
+    private static Buffer dashboard(int width, int height, int tick) {
+        Buffer buffer = Buffer.empty(Rect.of(width, height));
+        buffer.setString(0, 0, pad(" Dashboard", width), TITLE);
+        for (int y = 1; y < height; y++) {
+            buffer.setString(0, y, pad(String.format(" row %3d  value %6d  status %s", y, y * 31 + tick, y % 3 == 0 ? "ok" : "idle"), width), BODY);
+        }
+        return buffer;
+    }
+
+    private static String pad(String s, int width) {
+        StringBuilder sb = new StringBuilder(s);
+        while (sb.length() < width) {
+            sb.append(' ');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Size of the output of the ANSI backends for the same updates.
+     */
+    private static int ansiLength(List<CellUpdate> updates) {
+        StringBuilder out = new StringBuilder();
+        try (AnsiCellWriter writer = new AnsiCellWriter(out::append)) {
+            for (CellUpdate update : updates) {
+                if (update.cell().isContinuation()) {
+                    continue;
+                }
+                out.append("\u001b[").append(update.y() + 1).append(';').append(update.x() + 1).append('H');
+                writer.writeCell(update.cell());
+            }
+        }
+        return out.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.backend.web;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.buffer.Cell;
+import dev.tamboui.buffer.CellUpdate;
+import dev.tamboui.layout.Size;
+import dev.tamboui.style.Style;
+
+import static org.assertj.core.api.Assertions.*;
+
+class WebSocketServerTest {
+
+    @Test
+    @DisplayName("accept key matches the RFC 6455 example")
+    void acceptKey() {
+        assertThat(WebSocketServer.acceptKey("dGhlIHNhbXBsZSBub25jZQ=="))
+            .isEqualTo("s3pPLMBiTxaQ9kYGzzhZRbK+xOo=");
+    }
+
+    @Test
+    @DisplayName("origins must designate the requested host")
+    void sameOrigin() {
+        assertThat(WebSocketServer.sameOrigin("http://localhost:8081", "localhost:8081")).isTrue();
+        assertThat(WebSocketServer.sameOrigin("https://Example.com", "example.com")).isTrue();
+        assertThat(WebSocketServer.sameOrigin("https://evil.example", "localhost:8081")).isFalse();
+        assertThat(WebSocketServer.sameOrigin("http://localhost:9000", "localhost:8081")).isFalse();
+        assertThat(WebSocketServer.sameOrigin("null", "localhost:8081")).isFalse();
+        assertThat(WebSocketServer.sameOrigin("http://localhost:8081", null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("upgrades from another origin are rejected unless allowed")
+    void rejectsCrossOriginUpgrades() throws Exception {
+        String request = "GET /ws HTTP/1.1\r\nHost: localhost\r\nOrigin: https://evil.example\r\n"
+            + "Upgrade: websocket\r\nConnection: Upgrade\r\n"
+            + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\nSec-WebSocket-Version: 13\r\n\r\n";
+        try (WebSocketServer server = WebSocketServer.start("localhost", 0, backend -> { });
+             Socket socket = new Socket("localhost", server.port())) {
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.ISO_8859_1));
+
+            assertThat(readHeaders(socket.getInputStream())).startsWith("HTTP/1.1 403");
+        }
+        try (WebSocketServer server = WebSocketServer.start("localhost", 0, true, backend -> { });
+             Socket socket = new Socket("localhost", server.port())) {
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.ISO_8859_1));
+
+            assertThat(readHeaders(socket.getInputStream())).startsWith("HTTP/1.1 101");
+        }
+    }
+
+    @Test
+    @DisplayName("frames with a negative 64-bit length are rejected")
+    void rejectsNegativeLength() {
+        byte[] frame = {(byte) 0x81, (byte) 0xFF, (byte) 0x80, 0, 0, 0,
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 1, 2, 3, 4};
+        WebSocketConnection connection = new WebSocketConnection(null,
+            new ByteArrayInputStream(frame), new ByteArrayOutputStream());
+
+        assertThatThrownBy(connection::readTextMessage).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("serves the renderer page")
+    void servesPage() throws Exception {
+        try (WebSocketServer server = WebSocketServer.start("localhost", 0, backend -> { });
+             Socket socket = new Socket("localhost", server.port())) {
+            socket.getOutputStream().write("GET / HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            String response = readAll(socket.getInputStream());
+
+            assertThat(response).startsWith("HTTP/1.1 200 OK").contains("tamboui-web.js");
+        }
+    }
+
+    @Test
+    @DisplayName("session receives size and input, and streams frames back")
+    void roundTrip() throws Exception {
+        BlockingQueue<Object> seen = new ArrayBlockingQueue<>(10);
+        CountDownLatch disconnected = new CountDownLatch(1);
+        try (WebSocketServer server = WebSocketServer.start("localhost", 0, backend -> {
+            try {
+                backend.onDisconnect(disconnected::countDown);
+                seen.add(backend.size());
+                backend.draw(Collections.singletonList(new CellUpdate(0, 0, new Cell("x", Style.EMPTY))));
+                backend.flush();
+                seen.add(backend.read(5000));
+                disconnected.await(5, TimeUnit.SECONDS);
+            } catch (IOException | InterruptedException e) {
+                seen.add(e);
+            }
+        })) {
+            try (Socket socket = new Socket("localhost", server.port())) {
+                OutputStream out = socket.getOutputStream();
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                out.write(("GET /ws HTTP/1.1\r\nHost: localhost\r\nUpgrade: websocket\r\nConnection: Upgrade\r\n"
+                    + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\nSec-WebSocket-Version: 13\r\n\r\n")
+                    .getBytes(StandardCharsets.ISO_8859_1));
+                assertThat(readHeaders(in)).startsWith("HTTP/1.1 101").contains("s3pPLMBiTxaQ9kYGzzhZRbK+xOo=");
+
+                sendText(out, "r100,30");
+                assertThat(seen.poll(5, TimeUnit.SECONDS)).isEqualTo(new Size(100, 30));
+
+                int opcode = in.readUnsignedByte() & 0x0F;
+                int length = in.readUnsignedByte();
+                byte[] frame = new byte[length];
+                in.readFully(frame);
+                assertThat(opcode).isEqualTo(0x2);
+                assertThat(frame[0]).isEqualTo((byte) CellFrameEncoder.OP_STYLE);
+                assertThat(frame[frame.length - 1]).isEqualTo((byte) 'x');
+
+                sendText(out, "iq");
+                assertThat(seen.poll(5, TimeUnit.SECONDS)).isEqualTo((int) 'q');
+            }
+            assertThat(disconnected.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private static void sendText(OutputStream out, String text) throws IOException {
+        byte[] payload = text.getBytes(StandardCharsets.UTF_8);
+        byte[] mask = {1, 2, 3, 4};
+        out.write(0x81);
+        out.write(0x80 | payload.length);
+        out.write(mask);
+        for (int i = 0; i < payload.length; i++) {
+            out.write(payload[i] ^ mask[i & 3]);
+        }
+        out.flush();
+    }
+
+    private static String readHeaders(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int matched = 0;
+        while (matched < 4) {
+            int b = in.read();
+            if (b < 0) {
+                break;
+            }
+            bytes.write(b);
+            matched = (b == (matched % 2 == 0 ? '\r' : '\n')) ? matched + 1 : 0;
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1);
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[4096];
+        int n;
+        while ((n = in.read(chunk)) > 0) {
+            bytes.write(chunk, 0, n);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -13,6 +13,7 @@ import dev.tamboui.buffer.Buffer;
 import dev.tamboui.layout.Constraint;
 import dev.tamboui.layout.Layout;
 import dev.tamboui.layout.Rect;
+import dev.tamboui.layout.SplitResult;
 import dev.tamboui.style.Color;
 import dev.tamboui.style.ColorConverter;
 import dev.tamboui.style.PropertyDefinition;
@@ -72,6 +73,7 @@ public final class Table implements StatefulWidget<TableState> {
 
     private final List<Row> rows;
     private final List<Constraint> widths;
+    private final Layout columnLayout;
     private final Row header;
     private final Row footer;
     private final Block block;
@@ -83,6 +85,7 @@ public final class Table implements StatefulWidget<TableState> {
 
     private Table(Builder builder) {
         this.widths = listCopyOf(builder.widths);
+        this.columnLayout = Layout.horizontal().constraints(widths);
         this.header = builder.header;
         this.footer = builder.footer;
         this.block = builder.block;
@@ -174,8 +177,15 @@ public final class Table implements StatefulWidget<TableState> {
         int totalSpacing = columnSpacing * Math.max(0, widths.size() - 1);
         availableWidth = Math.max(0, availableWidth - totalSpacing);
 
-        List<Integer> columnWidths = calculateColumnWidths(availableWidth);
+        try (SplitResult columnWidths = SplitResult.acquire()) {
+            // Use Layout to calculate column widths based on constraints
+            columnLayout.split(new Rect(0, 0, availableWidth, 1), columnWidths);
+            renderRows(buffer, tableArea, state, columnWidths, highlightWidth);
+        }
+    }
 
+    private void renderRows(Buffer buffer, Rect tableArea, TableState state,
+                            SplitResult columnWidths, int highlightWidth) {
         // Ensure selected row is visible
         if (state.selected() != null) {
             int visibleHeight = tableArea.height();
@@ -246,22 +256,8 @@ public final class Table implements StatefulWidget<TableState> {
         }
     }
 
-    private List<Integer> calculateColumnWidths(int availableWidth) {
-        // Use Layout to calculate column widths based on constraints
-        Rect fakeArea = new Rect(0, 0, availableWidth, 1);
-        List<Rect> columnRects = Layout.horizontal()
-            .constraints(widths)
-            .split(fakeArea);
-
-        List<Integer> widthList = new ArrayList<>(columnRects.size());
-        for (Rect rect : columnRects) {
-            widthList.add(rect.width());
-        }
-        return widthList;
-    }
-
     private int renderRow(Buffer buffer, Rect tableArea, int y, Row row,
-                          List<Integer> columnWidths, int highlightWidth,
+                          SplitResult columnWidths, int highlightWidth,
                           boolean isSelected, Style highlightStyle) {
         int rowHeight = row.height();
         Style rowStyle = row.style().patch(highlightStyle);
@@ -276,8 +272,8 @@ public final class Table implements StatefulWidget<TableState> {
         int x = tableArea.left() + highlightWidth;
         List<Cell> cells = row.cells();
 
-        for (int col = 0; col < columnWidths.size(); col++) {
-            int colWidth = columnWidths.get(col);
+        for (int col = 0; col < columnWidths.count(); col++) {
+            int colWidth = columnWidths.size(col);
 
             if (col < cells.size()) {
                 Cell cell = cells.get(col);
@@ -0,0 +1,118 @@
+/*
+ * Copyright TamboUI Contributors
+ * SPDX-License-Identifier: MIT
+ */
+package dev.tamboui.widgets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.tamboui.layout.Constraint;
+import dev.tamboui.style.Color;
+import dev.tamboui.style.Style;
+import dev.tamboui.terminal.AllocationBudget;
+import dev.tamboui.text.Text;
+import dev.tamboui.widgets.block.Block;
+import dev.tamboui.widgets.block.BorderType;
+import dev.tamboui.widgets.block.Borders;
+import dev.tamboui.widgets.gauge.Gauge;
+import dev.tamboui.widgets.list.ListState;
+import dev.tamboui.widgets.list.ListWidget;
+import dev.tamboui.widgets.paragraph.Paragraph;
+import dev.tamboui.widgets.sparkline.Sparkline;
+import dev.tamboui.widgets.table.Row;
+import dev.tamboui.widgets.table.Table;
+import dev.tamboui.widgets.table.TableState;
+import dev.tamboui.widgets.tabs.Tabs;
+import dev.tamboui.widgets.tabs.TabsState;
+
+/**
+ * Allocation budgets of the steady-state render loop of the core widgets.
+ * <p>
+ * Budgets are set at about one and a half times the allocations measured on
+ * an 80x24 terminal, so they only trip on real regressions. Lower them when
+ * allocations are removed.
+ */
+class WidgetAllocationBudgetTest {
+
+    private static final Block BLOCK = Block.builder()
+            .borders(Borders.ALL)
+            .borderType(BorderType.ROUNDED)
+            .title("Title")
+            .build();
+
+    @Test
+    @DisplayName("an empty frame only allocates terminal bookkeeping")
+    void emptyFrame() {
+        AllocationBudget.forRenderer(frame -> { }).assertAtMost(1_024);
+    }
+
+    @Test
+    @DisplayName("Block stays within its allocation budget")
+    void block() {
+        AllocationBudget.forWidget(BLOCK).assertAtMost(80_000);
+    }
+
+    @Test
+    @DisplayName("Paragraph stays within its allocation budget")
+    void paragraph() {
+        Paragraph paragraph = Paragraph.builder()
+                .text(Text.from("The quick brown fox jumps over the lazy dog.\nSecond line"))
+                .block(BLOCK)
+                .build();
+        AllocationBudget.forWidget(paragraph).assertAtMost(220_000);
+    }
+
+    @Test
+    @DisplayName("Gauge stays within its allocation budget")
+    void gauge() {
+        Gauge gauge = Gauge.builder().percent(42).block(BLOCK).gaugeStyle(Style.EMPTY.fg(Color.GREEN)).build();
+        AllocationBudget.forWidget(gauge).assertAtMost(176_000);
+    }
+
+    @Test
+    @DisplayName("Sparkline stays within its allocation budget")
+    void sparkline() {
+        Sparkline sparkline = Sparkline.from(1, 4, 2, 8, 5, 7, 3, 6, 2, 9, 4, 1);
+        AllocationBudget.forWidget(sparkline).assertAtMost(4_096);
+    }
+
+    @Test
+    @DisplayName("Tabs stays within its allocation budget")
+    void tabs() {
+        Tabs tabs = Tabs.from("Overview", "Logs", "Metrics", "Settings");
+        TabsState state = new TabsState(1);
+        AllocationBudget.forRenderer(frame -> frame.renderStatefulWidget(tabs, frame.area(), state))
+                .assertAtMost(80_000);
+    }
+
+    @Test
+    @DisplayName("ListWidget stays within its allocation budget")
+    void list() {
+        ListWidget list = ListWidget.builder()
+                .items("alpha", "beta", "gamma", "delta", "epsilon", "zeta", "eta", "theta")
+                .block(BLOCK)
+                .build();
+        ListState state = new ListState();
+        state.select(2);
+        AllocationBudget.forRenderer(frame -> frame.renderStatefulWidget(list, frame.area(), state))
+                .assertAtMost(212_000);
+    }
+
+    @Test
+    @DisplayName("Table stays within its allocation budget")
+    void table() {
+        Table table = Table.builder()
+                .header(Row.from("Name", "Status", "CPU"))
+                .rows(Row.from("api", "running", "12%"),
+                        Row.from("worker", "running", "48%"),
+                        Row.from("cron", "stopped", "0%"))
+                .widths(Constraint.length(10), Constraint.fill(), Constraint.length(5))
+                .block(BLOCK)
+                .build();
+        TableState state = new TableState();
+        state.select(1);
+        AllocationBudget.forRenderer(frame -> frame.renderStatefulWidget(table, frame.area(), state))
+                .assertAtMost(176_000);
+    }
+}